@@ -0,0 +1,66 @@
+package org.apereo.cas.authentication.principal;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * This is {@link PrincipalAttributesCache} that holds principal attributes retrieved
+ * from attribute repositories, outside of the registered service definitions that
+ * declare the caching policy. Entries are grouped into named caches, where the name
+ * is derived from the configuration of the attribute repository, so that identical
+ * policies share cached attributes and entries survive service reloads.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public interface PrincipalAttributesCache {
+
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "principalAttributesCache";
+
+    /**
+     * Gets cached attributes for the principal.
+     *
+     * @param cacheName   the cache name
+     * @param principalId the principal id
+     * @return the cached attributes, or {@code null} if none are cached or the entry has expired.
+     */
+    Map<String, Object> getCachedAttributes(String cacheName, String principalId);
+
+    /**
+     * Put attributes into the cache for the principal.
+     *
+     * @param cacheName    the cache name
+     * @param principalId  the principal id
+     * @param attributes   the attributes
+     * @param maximumSize  the maximum number of entries the named cache may hold, where the backend supports it
+     * @param timeToLive   the duration after which the entry expires
+     */
+    void putCachedAttributes(String cacheName, String principalId, Map<String, Object> attributes,
+                             long maximumSize, Duration timeToLive);
+
+    /**
+     * Remove cached attributes of the principal from the named cache.
+     *
+     * @param cacheName   the cache name
+     * @param principalId the principal id
+     */
+    void removeCachedAttributes(String cacheName, String principalId);
+
+    /**
+     * Gets the names of the caches that currently hold attributes.
+     *
+     * @return the cache names
+     */
+    Collection<String> getCacheNames();
+
+    /**
+     * Remove all cached attributes held by the named cache.
+     *
+     * @param cacheName the cache name
+     */
+    void removeCache(String cacheName);
+}
@@ -28,4 +28,16 @@ public interface PrincipalAttributesRepository extends Serializable {
      * @return the attributes
      */
     Map<String, Object> getAttributes(Principal p);
+
+    /**
+     * Gets attributes for the given principal id, on behalf of the registered service
+     * whose attribute release policy declares this repository.
+     *
+     * @param p                   the principal whose attributes need to be retrieved.
+     * @param registeredServiceId the identifier of the registered service, or {@code null}.
+     * @return the attributes
+     */
+    default Map<String, Object> getAttributes(final Principal p, final String registeredServiceId) {
+        return getAttributes(p);
+    }
 }
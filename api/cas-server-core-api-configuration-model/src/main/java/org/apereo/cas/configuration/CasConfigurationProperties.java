@@ -12,6 +12,7 @@ import org.apereo.cas.configuration.model.core.authentication.PersonDirectoryPri
 import org.apereo.cas.configuration.model.core.events.EventsProperties;
 import org.apereo.cas.configuration.model.core.logout.LogoutProperties;
 import org.apereo.cas.configuration.model.core.monitor.MonitorProperties;
+import org.apereo.cas.configuration.model.core.notifications.NotificationsProperties;
 import org.apereo.cas.configuration.model.core.rest.RestProperties;
 import org.apereo.cas.configuration.model.core.services.ServiceRegistryProperties;
 import org.apereo.cas.configuration.model.core.slo.SloProperties;
@@ -210,6 +211,12 @@ public class CasConfigurationProperties implements Serializable {
     @NestedConfigurationProperty
     private SmsProvidersProperties smsProvider = new SmsProvidersProperties();
 
+    /**
+     * Settings that control how email and sms notifications are delivered.
+     */
+    @NestedConfigurationProperty
+    private NotificationsProperties notifications = new NotificationsProperties();
+
     /**
      * AUP settings.
      */
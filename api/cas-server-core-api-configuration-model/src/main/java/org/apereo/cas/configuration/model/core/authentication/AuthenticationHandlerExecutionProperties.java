@@ -0,0 +1,65 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import java.io.Serializable;
+
+/**
+ * Configuration properties class for cas.authn.handlerExecution.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+public class AuthenticationHandlerExecutionProperties implements Serializable {
+
+    private static final long serialVersionUID = -7310375493118592164L;
+
+    /**
+     * Strategies for executing the authentication handlers that support a credential.
+     */
+    public enum HandlerExecutionStrategies {
+        /**
+         * Execute handlers one at a time, in order, until the authentication policy is satisfied.
+         */
+        ORDERED,
+        /**
+         * Execute all handlers concurrently and wait for all of them to complete or for the timeout to pass.
+         */
+        PARALLEL,
+        /**
+         * Execute all handlers concurrently and stop as soon as the authentication policy is satisfied.
+         */
+        FIRST_SUCCESS
+    }
+
+    /**
+     * Strategy used to execute the authentication handlers eligible for a transaction.
+     * Accepted values are:
+     * <ul>
+     * <li>{@code ORDERED}: Handlers are executed sequentially in order; this is the default.</li>
+     * <li>{@code PARALLEL}: Handlers are executed concurrently and all results are collected,
+     * subject to the timeout.</li>
+     * <li>{@code FIRST_SUCCESS}: Handlers are executed concurrently and the first set of results that
+     * satisfies the authentication policy wins; outstanding handlers are cancelled.</li>
+     * </ul>
+     */
+    private HandlerExecutionStrategies strategy = HandlerExecutionStrategies.ORDERED;
+
+    /**
+     * Maximum amount of time to wait for the handlers that support a credential, when handlers are executed concurrently.
+     * The timeout applies to all handlers of the credential together, starting when they are submitted for execution,
+     * so a handler that waits for a free thread has less time to complete. Handlers that have not completed
+     * once the timeout passes are cancelled and recorded as failures.
+     */
+    private String timeout = "PT10S";
+
+    /**
+     * Size of the thread pool used to execute handlers concurrently.
+     */
+    private int poolSize = 20;
+}
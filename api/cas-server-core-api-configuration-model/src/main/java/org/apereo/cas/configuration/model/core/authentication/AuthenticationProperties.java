@@ -167,6 +167,12 @@ public class AuthenticationProperties implements Serializable {
     @NestedConfigurationProperty
     private AuthenticationPolicyProperties policy = new AuthenticationPolicyProperties();
 
+    /**
+     * Authentication handler execution strategy settings.
+     */
+    @NestedConfigurationProperty
+    private AuthenticationHandlerExecutionProperties handlerExecution = new AuthenticationHandlerExecutionProperties();
+
     /**
      * Accepting authentication based on statically defined users.
      */
@@ -29,6 +29,35 @@ public class HttpClientProperties implements Serializable {
      */
     private String readTimeout = "PT5S";
 
+    /**
+     * Maximum amount of time to wait for a pooled connection to become available
+     * for outbound calls made by the shared HTTP client.
+     */
+    private String connectionRequestTimeout = "PT5S";
+
+    /**
+     * Maximum number of pooled connections kept by the shared HTTP client
+     * used for outbound calls to REST-backed integrations.
+     */
+    private int maxPooledConnections = 200;
+
+    /**
+     * Maximum number of pooled connections kept by the shared HTTP client for a single route (host).
+     */
+    private int maxConnectionsPerRoute = 20;
+
+    /**
+     * How long idle connections of the shared HTTP client are kept alive,
+     * unless the remote endpoint requests a shorter duration.
+     */
+    private String keepAliveTimeout = "PT30S";
+
+    /**
+     * Maximum size, in bytes, of a response body that is read into memory
+     * by the shared HTTP client. Larger responses are rejected and their connection is closed.
+     */
+    private long maxResponseSize = 10 * 1024 * 1024;
+
     /**
      * Indicates timeout for async operations.
      */
@@ -35,6 +35,20 @@ public class EventsProperties implements Serializable {
      */
     private boolean trackConfigurationModifications = true;
 
+    /**
+     * Whether event repositories that support it should maintain a per-principal risk profile,
+     * summarizing authentication history by client ip address, user agent, geolocation and hour of day,
+     * as events are recorded. Risk-based authentication uses profiles to avoid loading the full
+     * authentication history of a principal.
+     */
+    private boolean trackRiskProfiles = true;
+
+    /**
+     * Number of days of authentication history kept in risk profiles.
+     * This should be at least as large as the number of days examined by risk-based authentication.
+     */
+    private long riskProfileRetentionDays = 365;
+
     /**
      * Track authentication events inside a database.
      */
@@ -0,0 +1,112 @@
+package org.apereo.cas.configuration.model.core.monitor;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apereo.cas.configuration.model.support.quartz.SchedulingProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link MonitorMetricsProperties} that controls which CAS subsystems
+ * are instrumented with timers and gauges once metrics support is available.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RequiresModule(name = "cas-server-support-metrics")
+@Getter
+@Setter
+public class MonitorMetricsProperties implements Serializable {
+
+    private static final long serialVersionUID = 6381923442317213421L;
+
+    /**
+     * Publish a percentile histogram for every timer, suitable for aggregable
+     * percentile approximations in monitoring systems that support them (i.e. Prometheus).
+     */
+    private boolean percentileHistogram;
+
+    /**
+     * Percentiles computed in the application and published for every timer, i.e. {@code 0.5,0.95,0.99}.
+     * These are not aggregable across nodes. Leave empty to skip client-side percentiles.
+     */
+    private List<Double> percentiles = new ArrayList<>();
+
+    /**
+     * Time ticket registry operations, and publish the number of active sessions and service tickets.
+     */
+    private TicketRegistryInstrumentation ticketRegistry = new TicketRegistryInstrumentation();
+
+    /**
+     * Time authentication handler executions, tagged by handler name and outcome.
+     */
+    private Instrumentation authenticationHandlers = new Instrumentation();
+
+    /**
+     * Time principal resolution and attribute retrieval.
+     */
+    private Instrumentation principalResolution = new Instrumentation();
+
+    /**
+     * Time registered service lookups.
+     */
+    private Instrumentation servicesManager = new Instrumentation();
+
+    /**
+     * Time resolution of SAML2 service provider metadata.
+     */
+    private Instrumentation samlMetadata = new Instrumentation();
+
+    /**
+     * Time encoding and decoding operations of cipher executors registered as beans.
+     */
+    private Instrumentation ciphers = new Instrumentation();
+
+    /**
+     * Publish size, hit and miss statistics of in-memory caches.
+     */
+    private Instrumentation caches = new Instrumentation();
+
+    /**
+     * Publish pool size, active thread counts and queue depths of executors registered as beans.
+     */
+    private Instrumentation executors = new Instrumentation();
+
+    @RequiresModule(name = "cas-server-support-metrics")
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Instrumentation implements Serializable {
+        private static final long serialVersionUID = -2385125178384361127L;
+
+        /**
+         * Whether instrumentation of this subsystem is enabled.
+         * When disabled, no proxies or meters are created for the subsystem.
+         */
+        private boolean enabled = true;
+    }
+
+    @RequiresModule(name = "cas-server-support-metrics")
+    @Getter
+    @Setter
+    public static class TicketRegistryInstrumentation extends Instrumentation {
+        private static final long serialVersionUID = 3370457342286235463L;
+
+        /**
+         * Scheduler settings to count the tickets held by the ticket registry.
+         * Gauges report the counts as of the last run. When disabled, ticket counts are not published.
+         */
+        @NestedConfigurationProperty
+        private SchedulingProperties schedule = new SchedulingProperties();
+
+        public TicketRegistryInstrumentation() {
+            schedule.setStartDelay("PT15S");
+            schedule.setRepeatInterval("PT1M");
+        }
+    }
+}
@@ -53,6 +53,12 @@ public class MonitorProperties implements Serializable {
     @NestedConfigurationProperty
     private MonitorWarningProperties warn = new MonitorWarningProperties();
 
+    /**
+     * Options that control instrumentation of CAS subsystems with metrics.
+     */
+    @NestedConfigurationProperty
+    private MonitorMetricsProperties metrics = new MonitorMetricsProperties();
+
     /**
      * Options for monitoring JDBC resources.
      */
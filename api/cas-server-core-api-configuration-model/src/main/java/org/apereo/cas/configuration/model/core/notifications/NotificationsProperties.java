@@ -0,0 +1,109 @@
+package org.apereo.cas.configuration.model.core.notifications;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import java.io.Serializable;
+
+/**
+ * Configuration properties that control how email and sms notifications are delivered.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RequiresModule(name = "cas-server-core-util", automated = true)
+@Getter
+@Setter
+public class NotificationsProperties implements Serializable {
+
+    private static final long serialVersionUID = 4361806525617342517L;
+
+    /**
+     * Whether notifications should be delivered in the background by a pool of workers,
+     * rather than on the thread that handles the request.
+     */
+    private boolean asynchronous = true;
+
+    /**
+     * Number of workers that deliver notifications.
+     */
+    private int poolSize = 4;
+
+    /**
+     * Number of notifications that may wait for a worker. Once the queue is full,
+     * notifications are delivered on the thread that handles the request.
+     */
+    private int queueCapacity = 1_000;
+
+    /**
+     * Maximum number of attempts to deliver a notification before giving up.
+     */
+    private int maximumAttempts = 3;
+
+    /**
+     * Delay before the first retry of a failed delivery. The delay doubles with each further attempt.
+     */
+    private String retryDelay = "PT2S";
+
+    /**
+     * Upper bound for the delay between attempts.
+     */
+    private String maximumRetryDelay = "PT1M";
+
+    /**
+     * Directory where notifications are kept until they are delivered, so that notifications pending
+     * when the server stops are delivered once it starts again. Notifications hold the message text in plain form,
+     * which may include tokens and links that must be kept secret. Where supported, the directory and its files are
+     * only accessible to the owner; the directory should not be placed on shared or backed-up storage.
+     * Leave blank to keep notifications in memory only.
+     */
+    private String outboxLocation;
+
+    /**
+     * How long notifications that could not be delivered after all attempts are kept in the outbox
+     * for operators to inspect. Zero removes them right away.
+     */
+    private String outboxFailedRetention = "P7D";
+
+    /**
+     * Email delivery settings.
+     */
+    private Mail mail = new Mail();
+
+    /**
+     * Sms delivery settings.
+     */
+    private Sms sms = new Sms();
+
+    @RequiresModule(name = "cas-server-core-util", automated = true)
+    @Getter
+    @Setter
+    public static class Mail implements Serializable {
+
+        private static final long serialVersionUID = -1942634104381924795L;
+
+        /**
+         * Maximum number of emails handed to the mail server per second. Zero or negative means no limit.
+         */
+        private double permitsPerSecond;
+
+        /**
+         * Maximum number of emails sent together over a single connection to the mail server.
+         */
+        private int batchSize = 20;
+    }
+
+    @RequiresModule(name = "cas-server-core-util", automated = true)
+    @Getter
+    @Setter
+    public static class Sms implements Serializable {
+
+        private static final long serialVersionUID = 6412019471250368401L;
+
+        /**
+         * Maximum number of messages handed to the sms provider per second. Zero or negative means no limit.
+         */
+        private double permitsPerSecond;
+    }
+}
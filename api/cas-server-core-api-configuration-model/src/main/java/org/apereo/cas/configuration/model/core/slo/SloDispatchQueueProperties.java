@@ -0,0 +1,94 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link SloDispatchQueueProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+public class SloDispatchQueueProperties implements Serializable {
+
+    private static final long serialVersionUID = -2493615123745271618L;
+
+    /**
+     * Whether back-channel logout messages should be placed onto a dispatch queue
+     * and delivered by background workers, rather than being sent directly by the request thread.
+     * Each session index is delivered in a logout request of its own.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of concurrent logout requests that may be in flight for a single host.
+     */
+    private int maxConcurrentRequestsPerHost = 4;
+
+    /**
+     * Size of the worker pool that delivers logout messages.
+     */
+    private int workerPoolSize = 10;
+
+    /**
+     * Maximum number of queued messages picked up by a single dispatch cycle.
+     * This is also the number of messages that may wait for a free worker; messages
+     * beyond that are returned to the queue for the next cycle.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum number of delivery attempts for a message, after which it is written to the dead-letter log.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Delay before the first retry of a failed delivery.
+     */
+    private String initialRetryDelay = "PT2S";
+
+    /**
+     * Upper bound for the delay between retries.
+     */
+    private String maxRetryDelay = "PT5M";
+
+    /**
+     * Multiplier applied to the retry delay after each failed attempt.
+     */
+    private double retryMultiplier = 2;
+
+    /**
+     * How often the queue is checked for messages that are due for delivery.
+     */
+    private String dispatchInterval = "PT1S";
+
+    /**
+     * Backing storage for queued messages.
+     */
+    private StorageTypes storage = StorageTypes.MEMORY;
+
+    /**
+     * Directory used to persist queued messages when the storage type is {@link StorageTypes#FILE}.
+     */
+    private String location;
+
+    /**
+     * Backing storage types for the dispatch queue.
+     */
+    public enum StorageTypes {
+        /**
+         * Keep queued messages in memory.
+         */
+        MEMORY,
+        /**
+         * Persist queued messages to the local file system so they survive restarts.
+         */
+        FILE
+    }
+}
@@ -28,4 +28,9 @@ public class SloProperties implements Serializable {
      * Whether SLO should be entirely disabled globally for the CAS deployment.
      */
     private boolean disabled;
+
+    /**
+     * Settings that control the durable, batched dispatch queue for back-channel logout messages.
+     */
+    private SloDispatchQueueProperties dispatchQueue = new SloDispatchQueueProperties();
 }
@@ -35,6 +35,14 @@ public class ViewProperties implements Serializable {
      */
     private List<String> templatePrefixes = new ArrayList<>();
 
+    /**
+     * Whether CAS2/CAS3 validation and proxy responses should be rendered via
+     * their templates. When false, responses are streamed directly without
+     * template processing; enable this only when the protocol templates are customized.
+     * SAML1 responses of {@code /samlValidate} are always produced by their own view and are not affected.
+     */
+    private boolean templatedProtocolResponses;
+
     /**
      * CAS2 views and locations.
      */
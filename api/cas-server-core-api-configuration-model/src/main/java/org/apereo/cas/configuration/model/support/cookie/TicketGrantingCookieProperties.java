@@ -24,6 +24,19 @@ public class TicketGrantingCookieProperties extends CookieProperties {
      */
     private String rememberMeMaxAge = "P14D";
 
+    /**
+     * Maximum number of decoded cookie values to keep in memory,
+     * so that repeated requests carrying the same cookie skip signature verification and decryption.
+     * A value of zero disables the cache.
+     */
+    private long decodedValueCacheSize = 10_000;
+
+    /**
+     * How long decoded cookie values should be kept in memory.
+     * This setting supports the {@code java.time.Duration} syntax.
+     */
+    private String decodedValueCacheTimeToLive = "PT30S";
+
     /**
      * Crypto settings that determine how the cookie should be signed and encrypted.
      */
@@ -50,6 +50,19 @@ public class EhcacheProperties implements Serializable {
      */
     private String replicationInterval = "PT10S";
 
+    /**
+     * Whether cache events should be replicated to peers in the background rather than on the request thread.
+     * Events are queued and replicated in batches of {@link #maximumBatchSize}, and only the
+     * latest event for a given ticket within a batch is replicated. Each peer receives a batch in a single remote call.
+     */
+    private boolean replicateAsynchronously;
+
+    /**
+     * Maximum number of cache events waiting to be replicated when replicating asynchronously.
+     * Once the queue is full, further events are dropped, and counted, rather than holding up requests.
+     */
+    private int replicationQueueCapacity = 10_000;
+
     /**
      * Whether to replicate puts.
      */
@@ -134,6 +147,24 @@ public class EhcacheProperties implements Serializable {
      */
     private int maxElementsOnDisk;
 
+    /**
+     * Maximum amount of local disk that may be used by each cache, such as {@code 512M} or {@code 2G}.
+     * Applies when {@link #persistence} is {@code LOCALTEMPSWAP} and takes precedence over {@link #maxElementsOnDisk}.
+     */
+    private String maxBytesLocalDisk;
+
+    /**
+     * Size, in megabytes, of the buffer that holds entries on their way to the disk tier.
+     * Zero uses the Ehcache default.
+     */
+    private int diskSpoolBufferSizeMb;
+
+    /**
+     * Number of stripes used to access the disk tier concurrently.
+     * Zero uses the Ehcache default.
+     */
+    private int diskAccessStripes;
+
     /**
      * Builder which Sets the eviction policy. An invalid argument will set it to null.
      * <ul>
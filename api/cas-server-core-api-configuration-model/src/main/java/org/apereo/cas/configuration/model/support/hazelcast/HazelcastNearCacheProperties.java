@@ -0,0 +1,76 @@
+package org.apereo.cas.configuration.model.support.hazelcast;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link HazelcastNearCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RequiresModule(name = "cas-server-support-hazelcast-ticket-registry")
+@Getter
+@Setter
+public class HazelcastNearCacheProperties implements Serializable {
+
+    private static final long serialVersionUID = 7261404245431286471L;
+
+    /**
+     * Whether a near cache should be kept locally in front of the distributed maps
+     * listed in {@link #storageNames}. Reads of cached entries are served locally without
+     * a network round-trip, and entries are invalidated when updated elsewhere in the cluster.
+     */
+    private boolean enabled;
+
+    /**
+     * Names of the distributed maps that should be fronted by a near cache.
+     * Near caches are best suited for ticket types that are read far more often than they are written.
+     */
+    private List<String> storageNames = Stream.of("ticketGrantingTicketsCache").collect(Collectors.toList());
+
+    /**
+     * Maximum number of entries kept in each near cache.
+     */
+    private int maxSize = 10_000;
+
+    /**
+     * Maximum number of seconds an entry can stay in the near cache.
+     * Zero means infinite.
+     */
+    private int timeToLiveSeconds;
+
+    /**
+     * Maximum number of seconds an entry can stay in the near cache without being read.
+     * Zero means infinite.
+     */
+    private int maxIdleSeconds;
+
+    /**
+     * Eviction policy applied once the near cache reaches its maximum size.
+     * Accepted values are {@code LRU, LFU, RANDOM, NONE}.
+     */
+    private String evictionPolicy = "LRU";
+
+    /**
+     * Format in which entries are kept in the near cache.
+     * Accepted values are {@code BINARY, OBJECT}.
+     */
+    private String inMemoryFormat = "BINARY";
+
+    /**
+     * Whether cached entries should be invalidated when the entry is updated or removed.
+     */
+    private boolean invalidateOnChange = true;
+
+    /**
+     * Whether entries owned by the local member should also be kept in the near cache.
+     */
+    private boolean cacheLocalEntries = true;
+}
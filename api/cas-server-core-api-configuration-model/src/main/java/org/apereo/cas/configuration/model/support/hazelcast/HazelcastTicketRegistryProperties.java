@@ -25,6 +25,12 @@ public class HazelcastTicketRegistryProperties extends BaseHazelcastProperties {
      */
     private long pageSize = 500;
 
+    /**
+     * Near cache settings for read-mostly ticket maps.
+     */
+    @NestedConfigurationProperty
+    private HazelcastNearCacheProperties nearCache = new HazelcastNearCacheProperties();
+
     /**
      * Crypto settings for the registry.
      */
@@ -68,5 +68,17 @@ public class InterruptProperties implements Serializable {
     public static class Rest extends RestEndpointProperties {
 
         private static final long serialVersionUID = 1833594332973137011L;
+
+        /**
+         * How long a response of the endpoint that does not interrupt the flow for a given principal and service
+         * is cached before the endpoint is asked again. Interrupting responses are never cached.
+         * A value of zero disables caching.
+         */
+        private String cacheExpiration = "PT30S";
+
+        /**
+         * Maximum number of responses kept in the cache.
+         */
+        private long cacheMaximumSize = 10_000;
     }
 }
@@ -21,6 +21,33 @@ public class JmsTicketRegistryProperties implements Serializable {
 
     private static final long serialVersionUID = -2600525447128979994L;
 
+    /**
+     * Interval during which ticket operations are collected before they are published
+     * to other nodes as a single compressed message. Operations on the same ticket within the interval
+     * are coalesced so that only the most recent one is published. If left undefined,
+     * every ticket operation is published immediately.
+     */
+    private String batchInterval;
+
+    /**
+     * Maximum number of ticket operations, or tickets in a snapshot, carried by a single message.
+     * Pending operations are published early once this many are collected.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Whether a node should ask a peer for the tickets it holds once it starts,
+     * so that sessions established before the node joined the cluster are recognized,
+     * and answer such requests from other nodes. Should be enabled on all nodes or none.
+     */
+    private boolean snapshotEnabled;
+
+    /**
+     * How long a node waits for each portion of a requested snapshot
+     * before it gives up and starts with the tickets it has.
+     */
+    private String snapshotTimeout = "PT30S";
+
     /**
      * Crypto settings for the registry.
      */
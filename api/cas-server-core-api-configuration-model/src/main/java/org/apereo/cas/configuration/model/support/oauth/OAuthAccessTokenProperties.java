@@ -1,6 +1,8 @@
 package org.apereo.cas.configuration.model.support.oauth;
 
+import org.apereo.cas.configuration.model.core.util.EncryptionOptionalSigningOptionalJwtCryptographyProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import java.io.Serializable;
 import lombok.Getter;
 import lombok.Setter;
@@ -35,4 +37,12 @@ public class OAuthAccessTokenProperties implements Serializable {
      * should be released as part of this access token's validation.
      */
     private boolean releaseProtocolAttributes = true;
+
+    /**
+     * Crypto settings for access tokens issued as self-contained JWTs
+     * to services that are configured for JWT access tokens.
+     * Such tokens are always signed; encryption is optional.
+     */
+    @NestedConfigurationProperty
+    private EncryptionOptionalSigningOptionalJwtCryptographyProperties crypto = new EncryptionOptionalSigningOptionalJwtCryptographyProperties();
 }
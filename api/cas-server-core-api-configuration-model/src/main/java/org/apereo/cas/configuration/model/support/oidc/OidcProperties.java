@@ -50,6 +50,21 @@ public class OidcProperties implements Serializable {
     @RequiredProperty
     private transient Resource jwksFile = new FileSystemResource("/etc/cas/keystore.jwks");
 
+    /**
+     * The type of key that is generated when the JWKS file does not exist.
+     * Accepted values are {@code RSA} and {@code EC}. Elliptic-curve keys
+     * sign id tokens considerably faster than RSA keys of comparable strength.
+     */
+    private String jwksType = "RSA";
+
+    /**
+     * The size of the key that is generated when the JWKS file does not exist.
+     * For {@code RSA} keys, this is the modulus length in bits and defaults to {@code 2048}.
+     * For {@code EC} keys, this is the curve size, one of {@code 256}, {@code 384} or {@code 521},
+     * and defaults to {@code 256}.
+     */
+    private int jwksKeySize;
+
     /**
      * Whether dynamic registration operates in {@code OPEN} or {@code PROTECTED} mode.
      */
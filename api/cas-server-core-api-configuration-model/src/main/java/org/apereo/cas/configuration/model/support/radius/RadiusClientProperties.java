@@ -46,4 +46,28 @@ public class RadiusClientProperties implements Serializable {
      * The accounting port.
      */
     private int accountingPort = 1813;
+
+    /**
+     * Maximum number of idle client sockets kept open per RADIUS server
+     * and reused across requests. A value of zero disables pooling.
+     */
+    private int maxPooledClients = 8;
+
+    /**
+     * Number of consecutive failures, such as timeouts, after which a RADIUS server
+     * is considered unavailable and is skipped. A value of zero disables health tracking.
+     */
+    private int failureThreshold = 3;
+
+    /**
+     * How long an unavailable RADIUS server is skipped before
+     * a single request is allowed through to probe it again.
+     */
+    private String failureRetryInterval = "PT30S";
+
+    /**
+     * Try the available RADIUS server with the lowest average response time first,
+     * rather than following the configured order.
+     */
+    private boolean preferFastestServer;
 }
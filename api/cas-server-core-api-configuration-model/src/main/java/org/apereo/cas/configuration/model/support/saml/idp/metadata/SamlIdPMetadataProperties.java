@@ -94,6 +94,13 @@ public class SamlIdPMetadataProperties implements Serializable {
      */
     private List<String> supportedContentTypes = new ArrayList<>();
 
+    /**
+     * Connect and read timeout, in milliseconds, when fetching metadata from a URL, an MDQ server
+     * or a REST endpoint. Zero waits indefinitely. Metadata downloads are not subject
+     * to the response size limit of the shared HTTP client.
+     */
+    private int fetchTimeout;
+
     public SamlIdPMetadataProperties() {
         supportedContentTypes.add("application/xml");
         supportedContentTypes.add("text/xml");
@@ -135,6 +135,27 @@ public class SpnegoProperties implements Serializable {
      */
     private String dnsTimeout = "PT2S";
 
+    /**
+     * Maximum number of threads used to look up client host names.
+     */
+    private int dnsResolverPoolSize = 10;
+
+    /**
+     * Maximum number of client host name lookups waiting for a thread.
+     * Lookups beyond this limit fall back to the client IP address.
+     */
+    private int dnsResolverQueueSize = 100;
+
+    /**
+     * How long a resolved client host name is cached.
+     */
+    private String dnsCacheTimeToLive = "PT10M";
+
+    /**
+     * How long a client address that could not be resolved to a host name is cached.
+     */
+    private String dnsNegativeCacheTimeToLive = "PT1M";
+
     /**
      * A regex pattern that indicates whether the client host name is allowed for spnego.
      */
@@ -65,6 +65,11 @@ public class SurrogateAuthenticationProperties implements Serializable {
      */
     private Tgt tgt = new Tgt();
 
+    /**
+     * Settings that control how long answers of the LDAP, JDBC and REST account stores are cached.
+     */
+    private Cache cache = new Cache();
+
     /**
      * Principal construction settings.
      */
@@ -156,6 +161,31 @@ public class SurrogateAuthenticationProperties implements Serializable {
         private long timeToKillInSeconds = 1_800;
     }
 
+    @RequiresModule(name = "cas-server-support-surrogate-authentication")
+    @Getter
+    @Setter
+    public static class Cache implements Serializable {
+
+        private static final long serialVersionUID = 3126467215930163726L;
+
+        /**
+         * How long eligible accounts and positive eligibility decisions for a principal are cached
+         * before the account store is asked again. A value of zero disables caching.
+         */
+        private String expiration = "PT2M";
+
+        /**
+         * How long negative answers, such as an empty list of eligible accounts or a refused surrogate,
+         * are cached before the account store is asked again.
+         */
+        private String negativeExpiration = "PT30S";
+
+        /**
+         * Maximum number of entries kept in each cache.
+         */
+        private long maximumSize = 10_000;
+    }
+
     @RequiresModule(name = "cas-server-support-surrogate-authentication-jdbc")
     @Getter
     @Setter
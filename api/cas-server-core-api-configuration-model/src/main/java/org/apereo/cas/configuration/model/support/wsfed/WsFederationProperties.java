@@ -91,6 +91,19 @@ public class WsFederationProperties implements Serializable {
         @NestedConfigurationProperty
         private EncryptionJwtSigningJwtCryptographyProperties crypto = new EncryptionJwtSigningJwtCryptographyProperties();
 
+        /**
+         * Maximum number of idle security token service clients kept per relying party.
+         * Reusing clients avoids parsing the STS WSDL and building its service model for every request.
+         * A value of zero disables pooling.
+         */
+        private int clientPoolSize = 10;
+
+        /**
+         * Issue relying party tokens by invoking the embedded STS issue operation directly,
+         * rather than calling the STS endpoint over SOAP/HTTP.
+         */
+        private boolean issueTokensInProcess;
+
         /**
          * Realm definition settings that define this CAS server.
          */
@@ -1,6 +1,7 @@
 package org.apereo.cas.support.events;
 
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventRiskProfile;
 
 import java.time.ZonedDateTime;
 import java.util.Collection;
@@ -86,4 +87,17 @@ public interface CasEventRepository {
      * @return the events for principal
      */
     Collection<CasEvent> getEventsForPrincipal(String id, ZonedDateTime dateTime);
+
+    /**
+     * Gets the risk profile that summarizes the events of type recorded for the principal.
+     * Repositories that maintain profiles as events are saved should override this
+     * to avoid reading the full event history of the principal.
+     *
+     * @param type      the type
+     * @param principal the principal
+     * @return the risk profile
+     */
+    default CasEventRiskProfile getRiskProfile(final String type, final String principal) {
+        return CasEventRiskProfile.from(type, principal, getEventsOfTypeForPrincipal(type, principal));
+    }
 }
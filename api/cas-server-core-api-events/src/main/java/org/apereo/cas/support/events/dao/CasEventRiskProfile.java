@@ -0,0 +1,270 @@
+package org.apereo.cas.support.events.dao;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.util.DigestUtils;
+
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.MapKeyColumn;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * This is {@link CasEventRiskProfile}, an incrementally-maintained summary of the
+ * events of a given type recorded for a principal. Events are bucketed by day and
+ * counted per client ip address, user agent, geolocation and hour of day, so that
+ * the authentication history of a principal can be examined without loading every event.
+ * Entries are keyed by day, dimension and a digest of the value, so recording an event
+ * only touches the entries it counts into. Profiles are versioned so that concurrent
+ * updates to the same profile are detected rather than lost.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Entity
+@Table(name = "CasEventRiskProfile")
+@ToString
+@Getter
+@Setter
+@NoArgsConstructor
+public class CasEventRiskProfile implements Serializable {
+
+    private static final long serialVersionUID = 4415729836522390361L;
+
+    private static final String ALL_EVENTS = "*";
+
+    @org.springframework.data.annotation.Id
+    @Id
+    @Column(nullable = false, length = 64)
+    private String id;
+
+    @Column(nullable = false)
+    private String type;
+
+    @Column(nullable = false)
+    private String principalId;
+
+    @org.springframework.data.annotation.Version
+    @Version
+    private Long version;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "events_risk_profile_entries", joinColumns = @JoinColumn(name = "id"))
+    @MapKeyColumn(name = "entryKey", length = 128)
+    private Map<String, CasEventRiskProfileEntry> entries = new HashMap<>();
+
+    public CasEventRiskProfile(final String type, final String principalId) {
+        this.id = buildId(type, principalId);
+        this.type = type;
+        this.principalId = principalId;
+    }
+
+    /**
+     * Build the profile identifier for the given event type and principal,
+     * as a digest of the type and the lowercased principal id.
+     *
+     * @param type        the type
+     * @param principalId the principal id
+     * @return the id
+     */
+    public static String buildId(final String type, final String principalId) {
+        return DigestUtils.sha256(type + ':' + StringUtils.defaultString(principalId).toLowerCase());
+    }
+
+    /**
+     * Build a profile from the given events.
+     *
+     * @param type        the type
+     * @param principalId the principal id
+     * @param events      the events
+     * @return the profile
+     */
+    public static CasEventRiskProfile from(final String type, final String principalId, final Collection<CasEvent> events) {
+        final var profile = new CasEventRiskProfile(type, principalId);
+        events.forEach(profile::record);
+        return profile;
+    }
+
+    /**
+     * Build the key used to track a geolocation.
+     *
+     * @param location the location
+     * @return the key, or null if the location has no coordinates.
+     */
+    public static String toGeoLocationKey(final GeoLocationRequest location) {
+        if (location == null || StringUtils.isBlank(location.getLatitude()) || StringUtils.isBlank(location.getLongitude())) {
+            return null;
+        }
+        return location.getLatitude() + ',' + location.getLongitude();
+    }
+
+    /**
+     * Copy this profile.
+     *
+     * @return the copy
+     */
+    public CasEventRiskProfile copy() {
+        final var copy = new CasEventRiskProfile();
+        copy.setId(this.id);
+        copy.setType(this.type);
+        copy.setPrincipalId(this.principalId);
+        copy.setVersion(this.version);
+        this.entries.forEach((key, e) ->
+            copy.getEntries().put(key, new CasEventRiskProfileEntry(e.getDay(), e.getDimension(), e.getValue(), e.getCount())));
+        return copy;
+    }
+
+    /**
+     * Record the event into this profile.
+     *
+     * @param event the event
+     */
+    public void record(final CasEvent event) {
+        final var created = event.getCreationTime().withZoneSameInstant(ZoneOffset.UTC);
+        final var day = created.toLocalDate().toString();
+        increment(day, Dimensions.EVENTS, ALL_EVENTS);
+        increment(day, Dimensions.HOUR_OF_DAY, String.valueOf(created.getHour()));
+        if (StringUtils.isNotBlank(event.getClientIpAddress())) {
+            increment(day, Dimensions.CLIENT_IP_ADDRESS, event.getClientIpAddress().toLowerCase());
+        }
+        if (StringUtils.isNotBlank(event.getAgent())) {
+            increment(day, Dimensions.USER_AGENT, event.getAgent().toLowerCase());
+        }
+        final var location = toGeoLocationKey(event.getGeoLocation());
+        if (location != null) {
+            increment(day, Dimensions.GEO_LOCATION, location);
+        }
+    }
+
+    /**
+     * Remove all entries recorded before the given date.
+     *
+     * @param dateTime the date time
+     */
+    public void prune(final ZonedDateTime dateTime) {
+        final var cutoff = dateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        this.entries.values().removeIf(e -> LocalDate.parse(e.getDay()).isBefore(cutoff));
+    }
+
+    /**
+     * Summarize the entries recorded on or after the given date.
+     *
+     * @param dateTime the date time
+     * @return the histogram
+     */
+    public Histogram getHistogram(final ZonedDateTime dateTime) {
+        final var cutoff = dateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        final var histogram = new Histogram();
+        this.entries
+            .values()
+            .stream()
+            .filter(e -> !LocalDate.parse(e.getDay()).isBefore(cutoff))
+            .forEach(histogram::add);
+        return histogram;
+    }
+
+    private void increment(final String day, final Dimensions dimension, final String value) {
+        final var name = dimension.name();
+        final var key = day + ':' + name + ':' + DigestUtils.sha256(value);
+        final var entry = this.entries.get(key);
+        if (entry != null) {
+            entry.setCount(entry.getCount() + 1);
+        } else {
+            this.entries.put(key, new CasEventRiskProfileEntry(day, name, value, 1));
+        }
+    }
+
+    /**
+     * The dimensions tracked by the profile.
+     */
+    public enum Dimensions {
+        /**
+         * Total number of events.
+         */
+        EVENTS,
+        /**
+         * Client ip address, lowercased.
+         */
+        CLIENT_IP_ADDRESS,
+        /**
+         * User agent, lowercased.
+         */
+        USER_AGENT,
+        /**
+         * Geolocation as {@code latitude,longitude}.
+         */
+        GEO_LOCATION,
+        /**
+         * Hour of day in UTC.
+         */
+        HOUR_OF_DAY
+    }
+
+    /**
+     * Frequency counts of a profile, aggregated over a period of time.
+     */
+    @ToString
+    public static class Histogram {
+        private final Map<Dimensions, Map<String, Long>> counts = new EnumMap<>(Dimensions.class);
+
+        private void add(final CasEventRiskProfileEntry entry) {
+            final var dimension = Dimensions.valueOf(entry.getDimension());
+            counts.computeIfAbsent(dimension, k -> new HashMap<>()).merge(entry.getValue(), entry.getCount(), Long::sum);
+        }
+
+        /**
+         * Total number of events.
+         *
+         * @return the total
+         */
+        public long getTotal() {
+            return getCount(Dimensions.EVENTS, ALL_EVENTS);
+        }
+
+        /**
+         * Number of events recorded with the given value.
+         *
+         * @param dimension the dimension
+         * @param value     the value
+         * @return the count
+         */
+        public long getCount(final Dimensions dimension, final String value) {
+            return counts.getOrDefault(dimension, new HashMap<>(0)).getOrDefault(value, 0L);
+        }
+
+        /**
+         * Number of events recorded with a value that matches the given predicate.
+         *
+         * @param dimension the dimension
+         * @param predicate the predicate
+         * @return the count
+         */
+        public long getCount(final Dimensions dimension, final Predicate<String> predicate) {
+            return counts.getOrDefault(dimension, new HashMap<>(0))
+                .entrySet()
+                .stream()
+                .filter(e -> predicate.test(e.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        }
+    }
+}
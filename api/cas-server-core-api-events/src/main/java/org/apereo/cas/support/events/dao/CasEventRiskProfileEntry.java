@@ -0,0 +1,41 @@
+package org.apereo.cas.support.events.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+
+/**
+ * This is {@link CasEventRiskProfileEntry}, which records how many events
+ * were observed for a given dimension value on a given day.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Embeddable
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CasEventRiskProfileEntry implements Serializable {
+
+    private static final long serialVersionUID = -2318417226318270357L;
+
+    @Column(name = "eventDay", nullable = false)
+    private String day;
+
+    @Column(nullable = false)
+    private String dimension;
+
+    @Column(name = "dimensionValue", nullable = false, length = 2048)
+    private String value;
+
+    @Column(name = "eventCount", nullable = false)
+    private long count;
+}
@@ -5,6 +5,7 @@ import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 
 /**
  * Interface for a registry that stores tickets. The underlying registry can be
@@ -77,6 +78,19 @@ public interface TicketRegistry {
         return getTicketsStream().filter(predicate);
     }
     
+    /**
+     * Gets the ticket-granting tickets that are not expired and are issued to the given principal.
+     * Principal ids are compared case-insensitively. Registries that can look up tickets by principal
+     * should override this to avoid going through every ticket in the registry.
+     *
+     * @param principalId the principal id
+     * @return the ticket-granting tickets
+     */
+    default Stream<Ticket> getTicketGrantingTickets(final String principalId) {
+        return getTickets(t -> t instanceof TicketGrantingTicket && !t.isExpired()
+            && principalId.equalsIgnoreCase(TicketGrantingTicket.class.cast(t).getAuthentication().getPrincipal().getId()));
+    }
+
     /**
      * Update the received ticket.
      *
@@ -3,6 +3,7 @@ package org.apereo.cas.authentication;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -11,21 +12,34 @@ import org.apereo.cas.authentication.exceptions.UnresolvedPrincipalException;
 import org.apereo.cas.authentication.principal.NullPrincipal;
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
+import org.apereo.cas.configuration.model.core.authentication.AuthenticationHandlerExecutionProperties.HandlerExecutionStrategies;
 import org.apereo.cas.support.events.authentication.CasAuthenticationPolicyFailureEvent;
 import org.apereo.cas.support.events.authentication.CasAuthenticationPrincipalResolvedEvent;
 import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionFailureEvent;
 import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionStartedEvent;
 import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionSuccessfulEvent;
 import org.apereo.inspektr.audit.annotation.Audit;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.lang.reflect.UndeclaredThrowableException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -46,6 +60,24 @@ public class PolicyBasedAuthenticationManager implements AuthenticationManager {
 
     private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Strategy used to execute the authentication handlers eligible for a credential.
+     */
+    @Setter
+    private HandlerExecutionStrategies handlerExecutionStrategy = HandlerExecutionStrategies.ORDERED;
+
+    /**
+     * Executor used when handlers are executed concurrently.
+     */
+    @Setter
+    private ExecutorService handlerExecutor;
+
+    /**
+     * Maximum amount of time to wait for all handlers that support a credential when handlers are executed concurrently.
+     */
+    @Setter
+    private Duration handlerExecutionTimeout = Duration.ofSeconds(10);
+
     /**
      * Populate authentication metadata attributes.
      *
@@ -195,12 +227,30 @@ public class PolicyBasedAuthenticationManager implements AuthenticationManager {
                                                    final Credential credential,
                                                    final PrincipalResolver resolver,
                                                    final AuthenticationHandler handler) throws GeneralSecurityException, PreventedException {
+        final var outcome = authenticateAndResolvePrincipal(credential, resolver, handler);
+        applyAuthenticationOutcome(builder, handler, outcome.getKey(), outcome.getValue());
+    }
+
+    /**
+     * Authenticate the credential and resolve the principal, without touching any shared state
+     * so that it can be safely executed by multiple handlers concurrently.
+     *
+     * @param credential the credential
+     * @param resolver   the resolver
+     * @param handler    the handler
+     * @return the handler result and the resolved principal, which may be null.
+     * @throws GeneralSecurityException the general security exception
+     * @throws PreventedException       the prevented exception
+     */
+    protected Pair<AuthenticationHandlerExecutionResult, Principal> authenticateAndResolvePrincipal(final Credential credential,
+                                                                                                  final PrincipalResolver resolver,
+                                                                                                  final AuthenticationHandler handler)
+        throws GeneralSecurityException, PreventedException {
 
         publishEvent(new CasAuthenticationTransactionStartedEvent(this, credential));
 
         final var result = handler.authenticate(credential);
         final var authenticationHandlerName = handler.getName();
-        builder.addSuccess(authenticationHandlerName, result);
         LOGGER.debug("Authentication handler [{}] successfully authenticated [{}]", authenticationHandlerName, credential);
 
         publishEvent(new CasAuthenticationTransactionSuccessfulEvent(this, credential));
@@ -222,9 +272,14 @@ public class PolicyBasedAuthenticationManager implements AuthenticationManager {
                     + "produced by the authentication handler, if any.", resolver.getClass().getSimpleName());
             }
         }
+        return Pair.of(result, principal);
+    }
 
+    private void applyAuthenticationOutcome(final AuthenticationBuilder builder, final AuthenticationHandler handler,
+                                            final AuthenticationHandlerExecutionResult result, final Principal principal) {
+        builder.addSuccess(handler.getName(), result);
         if (principal == null) {
-            LOGGER.warn("Principal resolution for authentication by [{}] produced a null principal.", authenticationHandlerName);
+            LOGGER.warn("Principal resolution for authentication by [{}] produced a null principal.", handler.getName());
         } else {
             builder.setPrincipal(principal);
         }
@@ -327,37 +382,24 @@ public class PolicyBasedAuthenticationManager implements AuthenticationManager {
         }
 
         try {
-            final var it = credentials.iterator();
             AuthenticationCredentialsThreadLocalBinder.clearInProgressAuthentication();
-            while (it.hasNext()) {
-                final var credential = it.next();
+            for (final var credential : credentials) {
                 LOGGER.debug("Attempting to authenticate credential [{}]", credential);
-
-                final var itHandlers = handlerSet.iterator();
-                var proceedWithNextHandler = true;
-                while (proceedWithNextHandler && itHandlers.hasNext()) {
-                    final var handler = itHandlers.next();
-                    if (handler.supports(credential)) {
-                        try {
-                            final var resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
-                            LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
-                            authenticateAndResolvePrincipal(builder, credential, resolver, handler);
-                            AuthenticationCredentialsThreadLocalBinder.bindInProgress(builder.build());
-
-                            final var failures = evaluateAuthenticationPolicies(builder.build(), transaction);
-                            proceedWithNextHandler = !failures.getKey();
-                        } catch (final Exception e) {
-                            LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
-                                + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
-                                + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
-                                + "the authentication event.", credential, credential.getClass().getSimpleName());
-
-                            handleAuthenticationException(e, handler.getName(), builder);
-                            proceedWithNextHandler = true;
+                final var handlers = handlerSet
+                    .stream()
+                    .filter(handler -> {
+                        final var supported = handler.supports(credential);
+                        if (!supported) {
+                            LOGGER.debug("Authentication handler [{}] does not support the credential type [{}]. Trying next...",
+                                handler.getName(), credential);
                         }
-                    } else {
-                        LOGGER.debug("Authentication handler [{}] does not support the credential type [{}]. Trying next...", handler.getName(), credential);
-                    }
+                        return supported;
+                    })
+                    .collect(Collectors.toList());
+                if (handlerExecutor == null || handlers.size() < 2 || handlerExecutionStrategy == HandlerExecutionStrategies.ORDERED) {
+                    authenticateInOrder(builder, credential, handlers, transaction);
+                } else {
+                    authenticateConcurrently(builder, credential, handlers, transaction);
                 }
             }
             evaluateFinalAuthentication(builder, transaction);
@@ -367,6 +409,152 @@ public class PolicyBasedAuthenticationManager implements AuthenticationManager {
         }
     }
 
+    /**
+     * Execute the supporting handlers one at a time, in order, until the authentication policy is satisfied.
+     *
+     * @param builder     the builder
+     * @param credential  the credential
+     * @param handlers    the handlers that support the credential
+     * @param transaction the transaction
+     */
+    protected void authenticateInOrder(final AuthenticationBuilder builder, final Credential credential,
+                                       final Collection<AuthenticationHandler> handlers,
+                                       final AuthenticationTransaction transaction) {
+        final var itHandlers = handlers.iterator();
+        var proceedWithNextHandler = true;
+        while (proceedWithNextHandler && itHandlers.hasNext()) {
+            final var handler = itHandlers.next();
+            try {
+                final var resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), handler.getName());
+                authenticateAndResolvePrincipal(builder, credential, resolver, handler);
+                proceedWithNextHandler = !isAuthenticationPolicySatisfied(builder, transaction);
+            } catch (final Exception e) {
+                handleHandlerFailure(e, credential, handler, builder);
+                proceedWithNextHandler = true;
+            }
+        }
+    }
+
+    /**
+     * Execute the supporting handlers concurrently. Handlers only authenticate and resolve principals on the
+     * executor threads; results are always applied to the builder on the calling thread. With
+     * {@link HandlerExecutionStrategies#PARALLEL}, results are applied in handler order once all handlers
+     * complete or time out. With {@link HandlerExecutionStrategies#FIRST_SUCCESS}, results are applied
+     * as they arrive and outstanding handlers are cancelled once the authentication policy is satisfied.
+     * All handlers of the credential share a single deadline, set by the handler execution timeout
+     * when they are submitted. Executor threads are given the credentials, the in-progress authentication,
+     * the client info and the request attributes of the calling thread for the duration of the handler.
+     *
+     * @param builder     the builder
+     * @param credential  the credential
+     * @param handlers    the handlers that support the credential
+     * @param transaction the transaction
+     */
+    protected void authenticateConcurrently(final AuthenticationBuilder builder, final Credential credential,
+                                            final List<AuthenticationHandler> handlers,
+                                            final AuthenticationTransaction transaction) {
+        final var completionService = new ExecutorCompletionService<Pair<AuthenticationHandlerExecutionResult, Principal>>(handlerExecutor);
+        final Map<Future<Pair<AuthenticationHandlerExecutionResult, Principal>>, AuthenticationHandler> futures = new LinkedHashMap<>();
+        final var credentials = transaction.getCredentials();
+        final var inProgressAuthentication = AuthenticationCredentialsThreadLocalBinder.getInProgressAuthentication();
+        final var clientInfo = ClientInfoHolder.getClientInfo();
+        final var requestAttributes = RequestContextHolder.getRequestAttributes();
+        handlers.forEach(handler -> {
+            final var resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+            LOGGER.debug("Submitting authentication of [{}] using [{}]", credential.getId(), handler.getName());
+            futures.put(completionService.submit(() -> {
+                AuthenticationCredentialsThreadLocalBinder.bindCurrent(credentials);
+                AuthenticationCredentialsThreadLocalBinder.bindInProgress(inProgressAuthentication);
+                ClientInfoHolder.setClientInfo(clientInfo);
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    return authenticateAndResolvePrincipal(credential, resolver, handler);
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                    ClientInfoHolder.clear();
+                    AuthenticationCredentialsThreadLocalBinder.clear();
+                }
+            }), handler);
+        });
+
+        final var deadline = System.nanoTime() + handlerExecutionTimeout.toNanos();
+        var policySatisfied = false;
+        try {
+            if (handlerExecutionStrategy == HandlerExecutionStrategies.FIRST_SUCCESS) {
+                for (var i = 0; i < futures.size() && !policySatisfied; i++) {
+                    final var future = completionService.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (future == null) {
+                        break;
+                    }
+                    final var handler = futures.get(future);
+                    policySatisfied = applyFutureOutcome(builder, credential, handler, future)
+                        && isAuthenticationPolicySatisfied(builder, transaction);
+                    if (policySatisfied) {
+                        LOGGER.debug("Authentication policy is satisfied by [{}]; cancelling outstanding handlers", handler.getName());
+                    }
+                }
+            } else {
+                for (final var entry : futures.entrySet()) {
+                    try {
+                        entry.getKey().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    } catch (final TimeoutException | ExecutionException e) {
+                        LOGGER.trace("Authentication handler [{}] did not complete successfully: [{}]", entry.getValue().getName(), e.getMessage());
+                    }
+                }
+                futures.forEach((future, handler) -> applyFutureOutcome(builder, credential, handler, future));
+                policySatisfied = !builder.getSuccesses().isEmpty() && isAuthenticationPolicySatisfied(builder, transaction);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Authentication of [{}] was interrupted", credential.getId());
+        } finally {
+            final var satisfied = policySatisfied;
+            futures.forEach((future, handler) -> {
+                if (!future.isDone()) {
+                    future.cancel(true);
+                    if (!satisfied) {
+                        handleAuthenticationException(new PreventedException("Authentication handler did not complete within " + handlerExecutionTimeout,
+                            new TimeoutException()), handler.getName(), builder);
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean applyFutureOutcome(final AuthenticationBuilder builder, final Credential credential,
+                                       final AuthenticationHandler handler,
+                                       final Future<Pair<AuthenticationHandlerExecutionResult, Principal>> future) {
+        if (!future.isDone() || future.isCancelled()) {
+            return false;
+        }
+        try {
+            final var outcome = future.get();
+            applyAuthenticationOutcome(builder, handler, outcome.getKey(), outcome.getValue());
+            return true;
+        } catch (final ExecutionException e) {
+            handleHandlerFailure(e.getCause(), credential, handler, builder);
+        } catch (final Exception e) {
+            handleHandlerFailure(e, credential, handler, builder);
+        }
+        return false;
+    }
+
+    private boolean isAuthenticationPolicySatisfied(final AuthenticationBuilder builder, final AuthenticationTransaction transaction) {
+        final var inProgress = builder.build();
+        AuthenticationCredentialsThreadLocalBinder.bindInProgress(inProgress);
+        return evaluateAuthenticationPolicies(inProgress, transaction).getKey();
+    }
+
+    private void handleHandlerFailure(final Throwable e, final Credential credential,
+                                      final AuthenticationHandler handler, final AuthenticationBuilder builder) {
+        LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
+            + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
+            + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
+            + "the authentication event.", credential, credential.getClass().getSimpleName());
+        handleAuthenticationException(e, handler.getName(), builder);
+    }
+
     /**
      * Evaluate produced authentication context.
      * We apply an implicit security policy of at least one successful authentication.
@@ -449,4 +637,5 @@ public class PolicyBasedAuthenticationManager implements AuthenticationManager {
             builder.addFailure(name, e);
         }
     }
+
 }
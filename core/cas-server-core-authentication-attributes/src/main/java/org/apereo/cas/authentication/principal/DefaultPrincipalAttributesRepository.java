@@ -22,12 +22,12 @@ public class DefaultPrincipalAttributesRepository extends AbstractPrincipalAttri
     private static final long serialVersionUID = -4535358847021241725L;
 
     @Override
-    protected void addPrincipalAttributes(final String id, final Map<String, Object> attributes) {
+    protected void addPrincipalAttributes(final String id, final Map<String, Object> attributes, final String registeredServiceId) {
         LOGGER.debug("Using [{}], no caching takes place for [{}] to add attributes.", id, this.getClass().getSimpleName());
     }
 
     @Override
-    protected Map<String, Object> getPrincipalAttributes(final Principal p) {
+    protected Map<String, Object> getPrincipalAttributes(final Principal p, final String registeredServiceId) {
         final var attributes = p.getAttributes();
         LOGGER.debug("[{}] will return the collection of attributes directly associated with the principal object which are [{}]",
             this.getClass().getSimpleName(), attributes);
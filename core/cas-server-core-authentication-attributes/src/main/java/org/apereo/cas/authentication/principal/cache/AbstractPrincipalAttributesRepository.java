@@ -106,7 +106,11 @@ public abstract class AbstractPrincipalAttributesRepository implements Principal
         }
     }
 
-    private transient IPersonAttributeDao attributeRepository;
+    /**
+     * The attribute repository explicitly assigned to this instance, if any.
+     * Otherwise, the repository is located in the application context.
+     */
+    protected transient IPersonAttributeDao attributeRepository;
 
     /**
      * Instantiates a new principal attributes repository.
@@ -181,7 +185,12 @@ public abstract class AbstractPrincipalAttributesRepository implements Principal
 
     @Override
     public Map<String, Object> getAttributes(final Principal p) {
-        final var cachedAttributes = getPrincipalAttributes(p);
+        return getAttributes(p, null);
+    }
+
+    @Override
+    public Map<String, Object> getAttributes(final Principal p, final String registeredServiceId) {
+        final var cachedAttributes = getPrincipalAttributes(p, registeredServiceId);
         if (cachedAttributes != null && !cachedAttributes.isEmpty()) {
             LOGGER.debug("Found [{}] cached attributes for principal [{}] that are [{}]", cachedAttributes.size(), p.getId(), cachedAttributes);
             return cachedAttributes;
@@ -194,13 +203,13 @@ public abstract class AbstractPrincipalAttributesRepository implements Principal
         LOGGER.debug("Found [{}] attributes for principal [{}] from the attribute repository.", sourceAttributes.size(), p.getId());
         if (this.mergingStrategy == null || this.mergingStrategy.getAttributeMerger() == null) {
             LOGGER.debug("No merging strategy found, so attributes retrieved from the repository will be used instead.");
-            return convertAttributesToPrincipalAttributesAndCache(p, sourceAttributes);
+            return convertAttributesToPrincipalAttributesAndCache(p, sourceAttributes, registeredServiceId);
         }
         final var principalAttributes = convertPrincipalAttributesToPersonAttributes(p);
         LOGGER.debug("Merging current principal attributes with that of the repository via strategy [{}]", this.mergingStrategy);
         try {
             final var mergedAttributes = this.mergingStrategy.getAttributeMerger().mergeAttributes(principalAttributes, sourceAttributes);
-            return convertAttributesToPrincipalAttributesAndCache(p, mergedAttributes);
+            return convertAttributesToPrincipalAttributesAndCache(p, mergedAttributes, registeredServiceId);
         } catch (final Exception e) {
             final var builder = new StringBuilder();
             builder.append(e.getClass().getName().concat("-"));
@@ -211,39 +220,43 @@ public abstract class AbstractPrincipalAttributesRepository implements Principal
                 + "This usually is indicative of a bug and/or configuration mismatch. CAS will skip the merging process "
                 + "and will return the original collection of principal attributes [{}]", this.mergingStrategy, p.getId(),
                 builder.toString(), principalAttributes);
-            return convertAttributesToPrincipalAttributesAndCache(p, principalAttributes);
+            return convertAttributesToPrincipalAttributesAndCache(p, principalAttributes, registeredServiceId);
         }
     }
 
     /**
      * Convert attributes to principal attributes and cache.
      *
-     * @param p                the p
-     * @param sourceAttributes the source attributes
+     * @param p                   the p
+     * @param sourceAttributes    the source attributes
+     * @param registeredServiceId the registered service id, or null
      * @return the map
      */
-    private Map<String, Object> convertAttributesToPrincipalAttributesAndCache(final Principal p, final Map<String, List<Object>> sourceAttributes) {
+    private Map<String, Object> convertAttributesToPrincipalAttributesAndCache(final Principal p, final Map<String, List<Object>> sourceAttributes,
+                                                                              final String registeredServiceId) {
         final var finalAttributes = convertPersonAttributesToPrincipalAttributes(sourceAttributes);
-        addPrincipalAttributes(p.getId(), finalAttributes);
+        addPrincipalAttributes(p.getId(), finalAttributes, registeredServiceId);
         return finalAttributes;
     }
 
     /**
      * Add principal attributes into the underlying cache instance.
      *
-     * @param id         identifier used by the cache as key.
-     * @param attributes attributes to cache
+     * @param id                  identifier used by the cache as key.
+     * @param attributes          attributes to cache
+     * @param registeredServiceId the identifier of the registered service the attributes are retrieved for, or null
      * @since 4.2
      */
-    protected abstract void addPrincipalAttributes(String id, Map<String, Object> attributes);
+    protected abstract void addPrincipalAttributes(String id, Map<String, Object> attributes, String registeredServiceId);
 
     /**
      * Gets principal attributes from cache.
      *
-     * @param p the principal
+     * @param p                   the principal
+     * @param registeredServiceId the identifier of the registered service the attributes are retrieved for, or null
      * @return the principal attributes from cache
      */
-    protected abstract Map<String, Object> getPrincipalAttributes(Principal p);
+    protected abstract Map<String, Object> getPrincipalAttributes(Principal p, String registeredServiceId);
 
     private IPersonAttributeDao getAttributeRepository() {
         try {
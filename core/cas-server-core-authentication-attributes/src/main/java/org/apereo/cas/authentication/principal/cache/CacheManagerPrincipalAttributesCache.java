@@ -0,0 +1,144 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.principal.PrincipalAttributesCache;
+import org.springframework.cache.CacheManager;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CacheManagerPrincipalAttributesCache} that keeps principal attributes in caches
+ * obtained from a Spring {@link CacheManager}, which allows attributes to be shared by all CAS nodes
+ * when the cache manager is backed by a distributed store such as Hazelcast or Redis.
+ * Cache managers do not generally support per-cache expiration or size limits, so each per-service cache
+ * is built along with a bounded, expiring index of the entries this node wrote into it; entries that
+ * expire or are evicted from the index because the cache exceeds its maximum size are evicted from the store.
+ * Each entry also carries its own expiration time that is checked on read, which covers entries written by other nodes.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheManagerPrincipalAttributesCache implements PrincipalAttributesCache {
+    private final Map<String, Cache<String, Boolean>> indexes = new ConcurrentHashMap<>();
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public Map<String, Object> getCachedAttributes(final String cacheName, final String principalId) {
+        final var cache = this.cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return null;
+        }
+        final var entry = cache.get(principalId, CachedPrincipalAttributes.class);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            LOGGER.debug("Cached attributes for [{}] in cache [{}] have expired", principalId, cacheName);
+            cache.evict(principalId);
+            return null;
+        }
+        return entry.getAttributes();
+    }
+
+    @Override
+    public void putCachedAttributes(final String cacheName, final String principalId, final Map<String, Object> attributes,
+                                    final long maximumSize, final Duration timeToLive) {
+        final var cache = this.cacheManager.getCache(cacheName);
+        if (cache == null) {
+            LOGGER.warn("Cache manager provides no cache named [{}]; attributes for [{}] are not cached", cacheName, principalId);
+            return;
+        }
+        final var index = this.indexes.computeIfAbsent(cacheName, name -> buildIndex(cache, maximumSize, timeToLive));
+        cache.put(principalId, new CachedPrincipalAttributes(new HashMap<>(attributes),
+            System.currentTimeMillis() + timeToLive.toMillis()));
+        index.put(principalId, Boolean.TRUE);
+    }
+
+    @Override
+    public void removeCachedAttributes(final String cacheName, final String principalId) {
+        final var cache = this.cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(principalId);
+        }
+        final var index = this.indexes.get(cacheName);
+        if (index != null) {
+            index.invalidate(principalId);
+        }
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.cacheManager.getCacheNames();
+    }
+
+    @Override
+    public void removeCache(final String cacheName) {
+        final var cache = this.cacheManager.getCache(cacheName);
+        if (cache != null) {
+            LOGGER.debug("Clearing principal attributes cache [{}]", cacheName);
+            cache.clear();
+        }
+        final var index = this.indexes.remove(cacheName);
+        if (index != null) {
+            index.invalidateAll();
+        }
+    }
+
+    private static Cache<String, Boolean> buildIndex(final org.springframework.cache.Cache cache,
+                                                     final long maximumSize, final Duration timeToLive) {
+        LOGGER.debug("Creating principal attributes cache [{}] with maximum size [{}] and expiration [{}]",
+            cache.getName(), maximumSize, timeToLive);
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive.toMillis(), TimeUnit.MILLISECONDS)
+            .executor(Runnable::run)
+            .removalListener((String principalId, Boolean value, RemovalCause cause) -> {
+                if (principalId != null && cause.wasEvicted() && (cause != RemovalCause.EXPIRED || isExpired(cache, principalId))) {
+                    LOGGER.trace("Evicting cached attributes for [{}] from cache [{}] since they are [{}]", principalId, cache.getName(), cause);
+                    cache.evict(principalId);
+                }
+            })
+            .build();
+    }
+
+    private static boolean isExpired(final org.springframework.cache.Cache cache, final String principalId) {
+        final var entry = cache.get(principalId, CachedPrincipalAttributes.class);
+        return entry == null || entry.isExpired();
+    }
+
+    /**
+     * Cached attributes along with their expiration time.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class CachedPrincipalAttributes implements Serializable {
+        private static final long serialVersionUID = -3418251392638492751L;
+
+        private final HashMap<String, Object> attributes;
+
+        private final long expirationTime;
+
+        /**
+         * Whether this entry has expired.
+         *
+         * @return true if expired
+         */
+        public boolean isExpired() {
+            return System.currentTimeMillis() >= this.expirationTime;
+        }
+    }
+}
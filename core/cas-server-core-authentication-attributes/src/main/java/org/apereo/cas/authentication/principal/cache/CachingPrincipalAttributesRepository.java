@@ -1,37 +1,41 @@
 package org.apereo.cas.authentication.principal.cache;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.CacheLoader;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.PrincipalAttributesCache;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 import org.springframework.data.annotation.Transient;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Wrapper around an attribute repository where attributes cached for a configurable period
- * based on google guava's caching library.
+ * Wrapper around an attribute repository where attributes cached for a configurable period.
+ * Attributes are kept by the shared {@link PrincipalAttributesCache} defined in the application context,
+ * in a cache named after the configuration of this repository. Cached attributes are thus shared by
+ * all services with the same caching policy and are not discarded when services are reloaded.
+ * If no shared cache is available, or if an attribute repository is explicitly assigned to this instance
+ * while no registered service is known, attributes are cached locally by this instance.
  *
  * @author Misagh Moayyed
  * @since 4.2
  */
 @Slf4j
 public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttributesRepository {
+    /**
+     * Marks the part of a cache name that carries the identifier of the registered service.
+     */
+    public static final String REGISTERED_SERVICE_CACHE_NAME_MARKER = ":service-";
+
     private static final long serialVersionUID = 6350244643948535906L;
     private static final long DEFAULT_MAXIMUM_CACHE_SIZE = 1000;
 
     @JsonIgnore
     @Transient
-    private final transient Cache<String, Map<String, Object>> cache;
-
-    @JsonIgnore
-    @Transient
-    private final transient PrincipalAttributesCacheLoader cacheLoader = new PrincipalAttributesCacheLoader();
+    private transient PrincipalAttributesCache localCache;
 
     private long maxCacheSize = DEFAULT_MAXIMUM_CACHE_SIZE;
 
@@ -39,10 +43,6 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
      * Used for serialization only.
      */
     private CachingPrincipalAttributesRepository() {
-        this.cache = Caffeine.newBuilder()
-            .maximumSize(this.maxCacheSize)
-            .expireAfterWrite(getExpiration(), TimeUnit.valueOf(getTimeUnit()))
-            .build(this.cacheLoader);
     }
 
     /**
@@ -68,40 +68,79 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
                                                 final long expiryDuration) {
         super(expiryDuration, timeUnit);
         this.maxCacheSize = maxCacheSize;
-        this.cache = Caffeine.newBuilder()
-            .maximumSize(maxCacheSize)
-            .expireAfterWrite(getExpiration(), TimeUnit.valueOf(getTimeUnit()))
-            .build(this.cacheLoader);
     }
 
     @Override
-    protected void addPrincipalAttributes(final String id, final Map<String, Object> attributes) {
-        this.cache.put(id, attributes);
+    protected void addPrincipalAttributes(final String id, final Map<String, Object> attributes, final String registeredServiceId) {
+        final var timeToLive = Duration.ofMillis(TimeUnit.valueOf(getTimeUnit()).toMillis(getExpiration()));
+        getPrincipalAttributesCache(registeredServiceId)
+            .putCachedAttributes(getCacheName(registeredServiceId), id, attributes, this.maxCacheSize, timeToLive);
         LOGGER.debug("Cached attributes for [{}]", id);
     }
 
     @Override
-    protected Map<String, Object> getPrincipalAttributes(final Principal p) {
+    protected Map<String, Object> getPrincipalAttributes(final Principal p, final String registeredServiceId) {
         try {
-            return this.cache.get(p.getId(), s -> {
-                LOGGER.debug("No cached attributes could be found for [{}]", p.getId());
-                return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-            });
+            final var attributes = getPrincipalAttributesCache(registeredServiceId)
+                .getCachedAttributes(getCacheName(registeredServiceId), p.getId());
+            if (attributes != null) {
+                return attributes;
+            }
+            LOGGER.debug("No cached attributes could be found for [{}]", p.getId());
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
         return new HashMap<>(0);
     }
 
-    @Override
-    public void close() {
-        this.cache.cleanUp();
+    /**
+     * Gets the name of the cache that holds attributes for this repository, which is
+     * built from the caching and merging configuration. Repositories with identical configuration
+     * share the same cache. If an attribute repository is explicitly assigned to this instance,
+     * its attributes may not be shared with other services, so the registered service is part of the name.
+     *
+     * @param registeredServiceId the registered service id, or null
+     * @return the cache name
+     */
+    protected String getCacheName(final String registeredServiceId) {
+        final var name = String.join(":", getClass().getSimpleName(),
+            String.valueOf(this.maxCacheSize),
+            String.valueOf(getExpiration()),
+            String.valueOf(getTimeUnit()),
+            String.valueOf(getMergingStrategy()));
+        if (this.attributeRepository == null) {
+            return name.concat(":default");
+        }
+        return name.concat(getRegisteredServiceCacheNameSuffix(registeredServiceId));
     }
 
-    private static class PrincipalAttributesCacheLoader implements CacheLoader<String, Map<String, Object>> {
-        @Override
-        public Map<String, Object> load(final String key) {
-            return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    /**
+     * Gets the suffix of the names of caches that hold attributes for the given registered service only.
+     *
+     * @param registeredServiceId the registered service id
+     * @return the cache name suffix
+     */
+    public static String getRegisteredServiceCacheNameSuffix(final String registeredServiceId) {
+        return REGISTERED_SERVICE_CACHE_NAME_MARKER + registeredServiceId;
+    }
+
+    private PrincipalAttributesCache getPrincipalAttributesCache(final String registeredServiceId) {
+        final var context = ApplicationContextProvider.getApplicationContext();
+        final var sharable = this.attributeRepository == null || registeredServiceId != null;
+        if (sharable && context != null && context.containsBean(PrincipalAttributesCache.BEAN_NAME)) {
+            return context.getBean(PrincipalAttributesCache.BEAN_NAME, PrincipalAttributesCache.class);
+        }
+        if (this.localCache == null) {
+            LOGGER.trace("No shared principal attributes cache is available or applicable; attributes are cached locally");
+            this.localCache = new DefaultPrincipalAttributesCache();
+        }
+        return this.localCache;
+    }
+
+    @Override
+    public void close() {
+        if (this.localCache instanceof DefaultPrincipalAttributesCache) {
+            DefaultPrincipalAttributesCache.class.cast(this.localCache).getCaches().values().forEach(cache -> cache.cleanUp());
         }
     }
 }
@@ -0,0 +1,69 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.principal.PrincipalAttributesCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link DefaultPrincipalAttributesCache} that keeps principal attributes in local,
+ * in-memory caches. Each named cache is bounded and expires entries after write, based on
+ * the settings supplied when the first entry is put into it.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@Getter
+public class DefaultPrincipalAttributesCache implements PrincipalAttributesCache {
+    private final Map<String, Cache<String, Map<String, Object>>> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<String, Object> getCachedAttributes(final String cacheName, final String principalId) {
+        final var cache = this.caches.get(cacheName);
+        return cache == null ? null : cache.getIfPresent(principalId);
+    }
+
+    @Override
+    public void putCachedAttributes(final String cacheName, final String principalId, final Map<String, Object> attributes,
+                                    final long maximumSize, final Duration timeToLive) {
+        final var cache = this.caches.computeIfAbsent(cacheName, name -> {
+            LOGGER.debug("Creating principal attributes cache [{}] with maximum size [{}] and expiration [{}]", name, maximumSize, timeToLive);
+            return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        });
+        cache.put(principalId, attributes);
+    }
+
+    @Override
+    public void removeCachedAttributes(final String cacheName, final String principalId) {
+        final var cache = this.caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidate(principalId);
+        }
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.caches.keySet();
+    }
+
+    @Override
+    public void removeCache(final String cacheName) {
+        final var cache = this.caches.remove(cacheName);
+        if (cache != null) {
+            LOGGER.debug("Removing principal attributes cache [{}]", cacheName);
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.principal.PrincipalAttributesCache;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link PrincipalAttributesCacheEvictionListener} that removes the caches
+ * which hold principal attributes for a single registered service, once that service is saved or deleted,
+ * or is no longer found when services are reloaded. Caches shared by services with the same caching policy
+ * are left alone.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PrincipalAttributesCacheEvictionListener {
+    private final PrincipalAttributesCache principalAttributesCache;
+
+    /**
+     * Handle registered service saved event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        evictCaches(event.getRegisteredService());
+    }
+
+    /**
+     * Handle registered service deleted event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        evictCaches(event.getRegisteredService());
+    }
+
+    /**
+     * Handle registered services loaded event,
+     * removing caches of services that are no longer defined.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        final var suffixes = event.getServices()
+            .stream()
+            .map(service -> CachingPrincipalAttributesRepository.getRegisteredServiceCacheNameSuffix(String.valueOf(service.getId())))
+            .collect(Collectors.toSet());
+        new ArrayList<>(this.principalAttributesCache.getCacheNames())
+            .stream()
+            .filter(name -> name.contains(CachingPrincipalAttributesRepository.REGISTERED_SERVICE_CACHE_NAME_MARKER))
+            .filter(name -> suffixes.stream().noneMatch(name::endsWith))
+            .forEach(this::evictCache);
+    }
+
+    private void evictCaches(final RegisteredService service) {
+        if (service == null) {
+            return;
+        }
+        final var suffix = CachingPrincipalAttributesRepository.getRegisteredServiceCacheNameSuffix(String.valueOf(service.getId()));
+        new ArrayList<>(this.principalAttributesCache.getCacheNames())
+            .stream()
+            .filter(name -> name.endsWith(suffix))
+            .forEach(this::evictCache);
+    }
+
+    private void evictCache(final String cacheName) {
+        LOGGER.debug("Evicting principal attributes cache [{}]", cacheName);
+        this.principalAttributesCache.removeCache(cacheName);
+    }
+}
@@ -100,7 +100,7 @@ public abstract class AbstractRegisteredServiceAttributeReleasePolicy implements
         LOGGER.debug("Initiating attributes release phase for principal [{}] accessing service [{}] defined by registered service [{}]...",
             principal.getId(), selectedService.getId(), registeredService.getServiceId());
         LOGGER.debug("Locating principal attributes for [{}]", principal.getId());
-        final var principalAttributes = resolveAttributesFromPrincipalAttributeRepository(principal);
+        final var principalAttributes = resolveAttributesFromPrincipalAttributeRepository(principal, registeredService);
         LOGGER.debug("Found principal attributes [{}] for [{}]", principalAttributes, principal.getId());
         LOGGER.debug("Calling attribute policy [{}] to process attributes for [{}]", getClass().getSimpleName(), principal.getId());
         final var policyAttributes = getAttributesInternal(principal, principalAttributes, registeredService);
@@ -131,10 +131,12 @@ public abstract class AbstractRegisteredServiceAttributeReleasePolicy implements
     /**
      * Resolve attributes from principal attribute repository.
      *
-     * @param principal the principal
+     * @param principal         the principal
+     * @param registeredService the registered service
      * @return the map
      */
-    protected Map<String, Object> resolveAttributesFromPrincipalAttributeRepository(final Principal principal) {
+    protected Map<String, Object> resolveAttributesFromPrincipalAttributeRepository(final Principal principal,
+                                                                                   final RegisteredService registeredService) {
         var repository = getPrincipalAttributesRepository();
         if (repository == null) {
             LOGGER.debug("No principal attribute repository is defined for the service. Evaluating global attribute caching policy...");
@@ -150,7 +152,7 @@ public abstract class AbstractRegisteredServiceAttributeReleasePolicy implements
         }
         if (repository != null) {
             LOGGER.debug("Using principal attribute repository [{}] to retrieve attributes", repository);
-            return repository.getAttributes(principal);
+            return repository.getAttributes(principal, String.valueOf(registeredService.getId()));
         }
         return principal.getAttributes();
     }
@@ -14,6 +14,8 @@ import org.apereo.cas.authentication.DefaultAuthenticationTransactionManager;
 import org.apereo.cas.authentication.PolicyBasedAuthenticationManager;
 import org.apereo.cas.authentication.RememberMeCredential;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.authentication.AuthenticationHandlerExecutionProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -25,6 +27,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * This is {@link CasCoreAuthenticationConfiguration}.
@@ -55,11 +59,25 @@ public class CasCoreAuthenticationConfiguration {
     @Bean
     public AuthenticationManager casAuthenticationManager(@Qualifier("authenticationEventExecutionPlan")
                                                           final AuthenticationEventExecutionPlan authenticationEventExecutionPlan) {
-        return new PolicyBasedAuthenticationManager(
+        final var manager = new PolicyBasedAuthenticationManager(
             authenticationEventExecutionPlan,
             casProperties.getPersonDirectory().isPrincipalResolutionFailureFatal(),
             applicationEventPublisher
         );
+        final var execution = casProperties.getAuthn().getHandlerExecution();
+        final var strategy = execution.getStrategy();
+        manager.setHandlerExecutionStrategy(strategy);
+        manager.setHandlerExecutionTimeout(Beans.newDuration(execution.getTimeout()));
+        if (strategy != AuthenticationHandlerExecutionProperties.HandlerExecutionStrategies.ORDERED) {
+            manager.setHandlerExecutor(authenticationHandlerExecutor());
+        }
+        return manager;
+    }
+
+    @ConditionalOnMissingBean(name = "authenticationHandlerExecutor")
+    @Bean
+    public ExecutorService authenticationHandlerExecutor() {
+        return Executors.newFixedThreadPool(casProperties.getAuthn().getHandlerExecution().getPoolSize());
     }
 
     @ConditionalOnMissingBean(name = "authenticationEventExecutionPlan")
@@ -4,21 +4,27 @@ import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.authentication.DefaultPrincipalElectionStrategy;
 import org.apereo.cas.authentication.PrincipalElectionStrategy;
 import org.apereo.cas.authentication.principal.DefaultPrincipalAttributesRepository;
+import org.apereo.cas.authentication.principal.PrincipalAttributesCache;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepository;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
+import org.apereo.cas.authentication.principal.cache.CacheManagerPrincipalAttributesCache;
 import org.apereo.cas.authentication.principal.cache.CachingPrincipalAttributesRepository;
+import org.apereo.cas.authentication.principal.cache.DefaultPrincipalAttributesCache;
+import org.apereo.cas.authentication.principal.cache.PrincipalAttributesCacheEvictionListener;
 import org.apereo.cas.authentication.principal.resolvers.ChainingPrincipalResolver;
 import org.apereo.cas.authentication.principal.resolvers.EchoingPrincipalResolver;
 import org.apereo.cas.authentication.principal.resolvers.PersonDirectoryPrincipalResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.services.persondir.IPersonAttributeDao;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -47,6 +53,10 @@ public class CasCoreAuthenticationPrincipalConfiguration {
     @Qualifier("attributeRepository")
     private IPersonAttributeDao attributeRepository;
 
+    @Autowired
+    @Qualifier("principalAttributesCacheManager")
+    private ObjectProvider<CacheManager> principalAttributesCacheManager;
+
     @ConditionalOnMissingBean(name = "principalElectionStrategy")
     @Bean
     @RefreshScope
@@ -99,4 +109,21 @@ public class CasCoreAuthenticationPrincipalConfiguration {
         }
         return new CachingPrincipalAttributesRepository(props.getExpirationTimeUnit().toUpperCase(), cacheTime);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = PrincipalAttributesCache.BEAN_NAME)
+    public PrincipalAttributesCache principalAttributesCache() {
+        final var cacheManager = principalAttributesCacheManager.getIfAvailable();
+        if (cacheManager != null) {
+            LOGGER.debug("Principal attributes are cached by cache manager [{}]", cacheManager.getClass().getSimpleName());
+            return new CacheManagerPrincipalAttributesCache(cacheManager);
+        }
+        return new DefaultPrincipalAttributesCache();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "principalAttributesCacheEvictionListener")
+    public PrincipalAttributesCacheEvictionListener principalAttributesCacheEvictionListener() {
+        return new PrincipalAttributesCacheEvictionListener(principalAttributesCache());
+    }
 }
@@ -7,19 +7,27 @@ import org.apereo.cas.authentication.policy.RequiredHandlerAuthenticationPolicy;
 import org.apereo.cas.authentication.principal.DefaultPrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.configuration.model.core.authentication.AuthenticationHandlerExecutionProperties;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import javax.security.auth.login.FailedLoginException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -183,6 +191,132 @@ public class PolicyBasedAuthenticationManagerTests {
         assertEquals(2, auth.getCredentials().size());
     }
 
+    @Test
+    public void verifyAuthenticateParallelAllSuccess() throws Exception {
+        final Map<AuthenticationHandler, PrincipalResolver> map = new LinkedHashMap<>();
+        map.put(newMockHandler(HANDLER_A, true), null);
+        map.put(newMockHandler(HANDLER_B, true), null);
+
+        final var authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AllAuthenticationPolicy());
+        final var manager = newConcurrentManager(authenticationExecutionPlan,
+            AuthenticationHandlerExecutionProperties.HandlerExecutionStrategies.PARALLEL);
+
+        final var auth = manager.authenticate(transaction);
+        assertEquals(2, auth.getSuccesses().size());
+        assertEquals(0, auth.getFailures().size());
+        assertEquals(2, auth.getCredentials().size());
+    }
+
+    @Test
+    public void verifyAuthenticateParallelTimesOutSlowHandler() throws Exception {
+        final Map<AuthenticationHandler, PrincipalResolver> map = new LinkedHashMap<>();
+        map.put(newMockHandler(HANDLER_A, true), null);
+        map.put(newSlowMockHandler(HANDLER_B, 5000), null);
+
+        final var authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new RequiredHandlerAuthenticationPolicy(HANDLER_A, true));
+        final var manager = newConcurrentManager(authenticationExecutionPlan,
+            AuthenticationHandlerExecutionProperties.HandlerExecutionStrategies.PARALLEL);
+        manager.setHandlerExecutionTimeout(Duration.ofMillis(200));
+
+        final var auth = manager.authenticate(transaction);
+        assertEquals(1, auth.getSuccesses().size());
+        assertTrue(auth.getSuccesses().containsKey(HANDLER_A));
+        assertTrue(auth.getFailures().get(HANDLER_B) instanceof PreventedException);
+    }
+
+    @Test
+    public void verifyAuthenticateFirstSuccessCancelsOutstandingHandlers() throws Exception {
+        final Map<AuthenticationHandler, PrincipalResolver> map = new LinkedHashMap<>();
+        map.put(newSlowMockHandler(HANDLER_B, 5000), null);
+        map.put(newMockHandler(HANDLER_A, true), null);
+
+        final var authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AnyAuthenticationPolicy());
+        final var manager = newConcurrentManager(authenticationExecutionPlan,
+            AuthenticationHandlerExecutionProperties.HandlerExecutionStrategies.FIRST_SUCCESS);
+
+        final var start = System.currentTimeMillis();
+        final var auth = manager.authenticate(transaction);
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        assertEquals(1, auth.getSuccesses().size());
+        assertTrue(auth.getSuccesses().containsKey(HANDLER_A));
+        assertTrue(auth.getFailures().isEmpty());
+    }
+
+    @Test
+    public void verifyAuthenticateFirstSuccessFailure() throws Exception {
+        final Map<AuthenticationHandler, PrincipalResolver> map = new LinkedHashMap<>();
+        map.put(newMockHandler(false), null);
+        map.put(newMockHandler(false), null);
+
+        final var authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AnyAuthenticationPolicy());
+        final var manager = newConcurrentManager(authenticationExecutionPlan,
+            AuthenticationHandlerExecutionProperties.HandlerExecutionStrategies.FIRST_SUCCESS);
+
+        this.thrown.expect(AuthenticationException.class);
+        manager.authenticate(transaction);
+        throw new AssertionError("Should have thrown AuthenticationException");
+    }
+
+    @Test
+    public void verifyAuthenticateParallelPropagatesThreadLocals() throws Exception {
+        final var clientInfo = mock(ClientInfo.class);
+        final var requestAttributes = mock(RequestAttributes.class);
+        final var handlerClientInfo = new AtomicReference<ClientInfo>();
+        final var handlerRequestAttributes = new AtomicReference<RequestAttributes>();
+
+        final var handler = newMockHandler(HANDLER_A, true);
+        final var result = handler.authenticate(mock(Credential.class));
+        when(handler.authenticate(any(Credential.class))).thenAnswer(invocation -> {
+            handlerClientInfo.set(ClientInfoHolder.getClientInfo());
+            handlerRequestAttributes.set(RequestContextHolder.getRequestAttributes());
+            return result;
+        });
+        final Map<AuthenticationHandler, PrincipalResolver> map = new LinkedHashMap<>();
+        map.put(handler, null);
+        map.put(newMockHandler(HANDLER_B, true), null);
+
+        final var authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AllAuthenticationPolicy());
+        final var manager = newConcurrentManager(authenticationExecutionPlan,
+            AuthenticationHandlerExecutionProperties.HandlerExecutionStrategies.PARALLEL);
+
+        ClientInfoHolder.setClientInfo(clientInfo);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            manager.authenticate(transaction);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            ClientInfoHolder.clear();
+        }
+        assertSame(clientInfo, handlerClientInfo.get());
+        assertSame(requestAttributes, handlerRequestAttributes.get());
+    }
+
+    private static PolicyBasedAuthenticationManager newConcurrentManager(final AuthenticationEventExecutionPlan plan,
+                                                                         final AuthenticationHandlerExecutionProperties.HandlerExecutionStrategies strategy) {
+        final var manager = new PolicyBasedAuthenticationManager(plan, false, mock(ApplicationEventPublisher.class));
+        manager.setHandlerExecutionStrategy(strategy);
+        manager.setHandlerExecutor(Executors.newFixedThreadPool(4));
+        return manager;
+    }
+
+    private static AuthenticationHandler newSlowMockHandler(final String name, final long delay) throws Exception {
+        final var mock = mock(AuthenticationHandler.class);
+        when(mock.getName()).thenReturn(name);
+        when(mock.supports(any(Credential.class))).thenReturn(true);
+        final var p = new DefaultPrincipalFactory().createPrincipal("nobody");
+        final AuthenticationHandlerExecutionResult result = new DefaultAuthenticationHandlerExecutionResult(mock, mock(CredentialMetaData.class), p);
+        when(mock.authenticate(any(Credential.class))).thenAnswer(invocation -> {
+            Thread.sleep(delay);
+            return result;
+        });
+        return mock;
+    }
+
     /**
      * Creates a new mock authentication handler that either successfully validates all credentials or fails to
      * validate all credentials.
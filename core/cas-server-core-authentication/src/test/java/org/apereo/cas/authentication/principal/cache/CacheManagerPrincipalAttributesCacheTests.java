@@ -0,0 +1,77 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.authentication.principal.PrincipalAttributesCache;
+import org.apereo.cas.util.CollectionUtils;
+import org.junit.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link CacheManagerPrincipalAttributesCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class CacheManagerPrincipalAttributesCacheTests {
+    private static final String CACHE_NAME = "CachingPrincipalAttributesRepository:1000:2:HOURS:null:default";
+
+    @Test
+    public void verifyAttributesSharedAcrossInstances() {
+        final var cacheManager = new ConcurrentMapCacheManager();
+        final PrincipalAttributesCache first = new CacheManagerPrincipalAttributesCache(cacheManager);
+        first.putCachedAttributes(CACHE_NAME, "casuser", CollectionUtils.wrap("mail", "casuser@example.org"),
+            1000, Duration.ofHours(2));
+
+        final PrincipalAttributesCache second = new CacheManagerPrincipalAttributesCache(cacheManager);
+        final var attributes = second.getCachedAttributes(CACHE_NAME, "casuser");
+        assertNotNull(attributes);
+        assertEquals("casuser@example.org", attributes.get("mail"));
+        assertNull(second.getCachedAttributes("OtherCache", "casuser"));
+
+        second.removeCachedAttributes(CACHE_NAME, "casuser");
+        assertNull(first.getCachedAttributes(CACHE_NAME, "casuser"));
+    }
+
+    @Test
+    public void verifyExpiredAttributesAreNotReturned() throws Exception {
+        final PrincipalAttributesCache cache = new CacheManagerPrincipalAttributesCache(new ConcurrentMapCacheManager());
+        cache.putCachedAttributes(CACHE_NAME, "casuser", CollectionUtils.wrap("mail", "casuser@example.org"),
+            1000, Duration.ofMillis(50));
+        assertNotNull(cache.getCachedAttributes(CACHE_NAME, "casuser"));
+        Thread.sleep(100);
+        assertNull(cache.getCachedAttributes(CACHE_NAME, "casuser"));
+    }
+
+    @Test
+    public void verifyStoreIsBoundedAndExpired() throws Exception {
+        final var cacheManager = new ConcurrentMapCacheManager();
+        final PrincipalAttributesCache cache = new CacheManagerPrincipalAttributesCache(cacheManager);
+        cache.putCachedAttributes(CACHE_NAME, "casuser", CollectionUtils.wrap("mail", "casuser@example.org"),
+            1, Duration.ofMillis(50));
+        cache.putCachedAttributes(CACHE_NAME, "casadmin", CollectionUtils.wrap("mail", "casadmin@example.org"),
+            1, Duration.ofMillis(50));
+        final var store = (Map<?, ?>) cacheManager.getCache(CACHE_NAME).getNativeCache();
+        assertEquals(1, store.size());
+
+        Thread.sleep(100);
+        cache.putCachedAttributes(CACHE_NAME, "casguest", CollectionUtils.wrap("mail", "casguest@example.org"),
+            1, Duration.ofMillis(50));
+        assertEquals(1, store.size());
+        assertTrue(store.containsKey("casguest"));
+    }
+
+    @Test
+    public void verifyDefaultCacheKeepsNamedCaches() {
+        final var cache = new DefaultPrincipalAttributesCache();
+        cache.putCachedAttributes(CACHE_NAME, "casuser", CollectionUtils.wrap("mail", "casuser@example.org"),
+            1000, Duration.ofHours(2));
+        assertEquals("casuser@example.org", cache.getCachedAttributes(CACHE_NAME, "casuser").get("mail"));
+        assertNull(cache.getCachedAttributes(CACHE_NAME, "unknown"));
+        assertNull(cache.getCachedAttributes("OtherCache", "casuser"));
+        assertEquals(1, cache.getCaches().size());
+    }
+}
@@ -0,0 +1,67 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link PrincipalAttributesCacheEvictionListenerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class PrincipalAttributesCacheEvictionListenerTests {
+
+    private static RegisteredService getRegisteredService(final long id) {
+        final var service = mock(RegisteredService.class);
+        when(service.getId()).thenReturn(id);
+        return service;
+    }
+
+    private static String getCacheName(final long registeredServiceId) {
+        final var repository = new CachingPrincipalAttributesRepository("HOURS", 2);
+        repository.setAttributeRepository(mock(IPersonAttributeDao.class));
+        return repository.getCacheName(String.valueOf(registeredServiceId));
+    }
+
+    private static void put(final DefaultPrincipalAttributesCache cache, final String cacheName) {
+        cache.putCachedAttributes(cacheName, "casuser", CollectionUtils.wrap("mail", "casuser@example.org"),
+            1000, Duration.ofHours(2));
+    }
+
+    @Test
+    public void verifyCacheNameStableAcrossInstances() {
+        assertEquals(getCacheName(100), getCacheName(100));
+        assertNotEquals(getCacheName(100), getCacheName(200));
+        assertEquals(new CachingPrincipalAttributesRepository("HOURS", 2).getCacheName("100"),
+            new CachingPrincipalAttributesRepository("HOURS", 2).getCacheName("200"));
+    }
+
+    @Test
+    public void verifyCachesOfRemovedServicesEvictedOnReload() {
+        final var cache = new DefaultPrincipalAttributesCache();
+        final var shared = new CachingPrincipalAttributesRepository("HOURS", 2).getCacheName("100");
+        put(cache, shared);
+        put(cache, getCacheName(100));
+        put(cache, getCacheName(200));
+
+        final var listener = new PrincipalAttributesCacheEvictionListener(cache);
+        listener.handleRegisteredServicesLoadedEvent(new CasRegisteredServicesLoadedEvent(this, List.of(getRegisteredService(100))));
+        assertTrue(cache.getCacheNames().contains(shared));
+        assertTrue(cache.getCacheNames().contains(getCacheName(100)));
+        assertFalse(cache.getCacheNames().contains(getCacheName(200)));
+
+        listener.handleRegisteredServiceSavedEvent(new CasRegisteredServiceSavedEvent(this, getRegisteredService(100)));
+        assertFalse(cache.getCacheNames().contains(getCacheName(100)));
+        assertTrue(cache.getCacheNames().contains(shared));
+    }
+}
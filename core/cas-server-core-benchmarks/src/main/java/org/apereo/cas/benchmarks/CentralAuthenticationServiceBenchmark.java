@@ -0,0 +1,157 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.DefaultCentralAuthenticationService;
+import org.apereo.cas.authentication.AuthenticationResult;
+import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.authentication.DefaultAuthenticationResult;
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionStrategy;
+import org.apereo.cas.authentication.policy.AcceptAnyAuthenticationPolicyFactory;
+import org.apereo.cas.authentication.principal.DefaultPrincipalFactory;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
+import org.apereo.cas.services.DefaultServicesManager;
+import org.apereo.cas.services.InMemoryServiceRegistry;
+import org.apereo.cas.services.RegexRegisteredService;
+import org.apereo.cas.services.RegisteredServiceAccessStrategyAuditableEnforcer;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.factory.DefaultServiceTicketFactory;
+import org.apereo.cas.ticket.factory.DefaultTicketFactory;
+import org.apereo.cas.ticket.factory.DefaultTicketGrantingTicketFactory;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.support.MultiTimeUseOrTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.support.TicketGrantingTicketExpirationPolicy;
+import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+import org.apereo.cas.validation.Assertion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CentralAuthenticationServiceBenchmark}, which measures ticket-granting ticket creation,
+ * service ticket issuance and validation against in-memory components, without auditing or transactions.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CentralAuthenticationServiceBenchmark {
+    private static final long MAX_TIME_TO_LIVE_SECONDS = 28_800;
+
+    private static final long TIME_TO_IDLE_SECONDS = 7_200;
+
+    private static final long SERVICE_TICKET_TIME_TO_LIVE_SECONDS = 10;
+
+    private TicketRegistry ticketRegistry;
+
+    private CentralAuthenticationService centralAuthenticationService;
+
+    private Service service;
+
+    private AuthenticationResult authenticationResult;
+
+    private String ticketGrantingTicketId;
+
+    /**
+     * Build the central authentication service.
+     *
+     * @throws Exception the exception
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.ticketRegistry = new DefaultTicketRegistry();
+
+        final var registeredService = new RegexRegisteredService();
+        registeredService.setId(1);
+        registeredService.setName("Application");
+        registeredService.setServiceId("^https://app\\.example\\.org/.*");
+        final var serviceRegistry = new InMemoryServiceRegistry();
+        serviceRegistry.save(registeredService);
+        final var servicesManager = new DefaultServicesManager(serviceRegistry, null);
+        servicesManager.load();
+
+        final var ticketFactory = new DefaultTicketFactory()
+            .addTicketFactory(TicketGrantingTicket.class,
+                new DefaultTicketGrantingTicketFactory(new DefaultUniqueTicketIdGenerator(),
+                    new TicketGrantingTicketExpirationPolicy(MAX_TIME_TO_LIVE_SECONDS, TIME_TO_IDLE_SECONDS), null))
+            .addTicketFactory(ServiceTicket.class,
+                new DefaultServiceTicketFactory(new MultiTimeUseOrTimeoutExpirationPolicy(1, SERVICE_TICKET_TIME_TO_LIVE_SECONDS),
+                    new HashMap<>(0), true, null));
+
+        this.centralAuthenticationService = new DefaultCentralAuthenticationService(null,
+            this.ticketRegistry, servicesManager, null, ticketFactory,
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()),
+            new AcceptAnyAuthenticationPolicyFactory(),
+            new DefaultPrincipalFactory(), null,
+            new RegisteredServiceAccessStrategyAuditableEnforcer());
+
+        this.service = new WebApplicationServiceFactory().createService("https://app.example.org/login");
+        final var authentication = DefaultAuthenticationBuilder.newInstance()
+            .setPrincipal(new DefaultPrincipalFactory().createPrincipal("casuser"))
+            .build();
+        this.authenticationResult = new DefaultAuthenticationResult(authentication, this.service);
+    }
+
+    /**
+     * Establish a fresh single sign-on session for each iteration, so that the services
+     * recorded by the session while granting service tickets do not pile up across iterations.
+     *
+     * @throws Exception the exception
+     */
+    @Setup(Level.Iteration)
+    public void createTicketGrantingTicket() throws Exception {
+        if (this.ticketGrantingTicketId != null) {
+            this.ticketRegistry.deleteTicket(this.ticketGrantingTicketId);
+        }
+        this.ticketGrantingTicketId = this.centralAuthenticationService.createTicketGrantingTicket(this.authenticationResult).getId();
+    }
+
+    /**
+     * Grant a service ticket for an existing single sign-on session and validate it.
+     *
+     * @return the assertion
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public Assertion grantAndValidateServiceTicket() throws Exception {
+        final var serviceTicket = this.centralAuthenticationService.grantServiceTicket(this.ticketGrantingTicketId,
+            this.service, this.authenticationResult);
+        return this.centralAuthenticationService.validateServiceTicket(serviceTicket.getId(), this.service);
+    }
+
+    /**
+     * Establish a single sign-on session, grant a service ticket, validate it,
+     * and remove the session again so that the registry does not grow.
+     *
+     * @return the assertion
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public Assertion loginRoundTrip() throws Exception {
+        final var ticketGrantingTicket = this.centralAuthenticationService.createTicketGrantingTicket(this.authenticationResult);
+        final var serviceTicket = this.centralAuthenticationService.grantServiceTicket(ticketGrantingTicket.getId(),
+            this.service, this.authenticationResult);
+        final var assertion = this.centralAuthenticationService.validateServiceTicket(serviceTicket.getId(), this.service);
+        this.ticketRegistry.deleteTicket(ticketGrantingTicket.getId());
+        return assertion;
+    }
+}
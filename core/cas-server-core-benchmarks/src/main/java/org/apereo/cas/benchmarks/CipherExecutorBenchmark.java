@@ -0,0 +1,114 @@
+package org.apereo.cas.benchmarks;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apereo.cas.util.cipher.BaseBinaryCipherExecutor;
+import org.apereo.cas.util.cipher.BaseStringCipherExecutor;
+import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutor;
+import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CipherExecutorBenchmark}, which measures the binary cipher used for webflow
+ * conversation state and the string cipher used for the ticket-granting cookie. Keys are generated
+ * once per trial. Binary cipher executors are not thread-safe, so the state is kept per thread.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CipherExecutorBenchmark {
+    private static final int SIGNING_KEY_SIZE = 512;
+
+    private static final int ENCRYPTION_KEY_SIZE = 16;
+
+    /**
+     * Size of the content to encode.
+     */
+    @Param({"64", "4096"})
+    protected int payloadSize;
+
+    private BaseBinaryCipherExecutor binaryCipherExecutor;
+
+    private BaseStringCipherExecutor stringCipherExecutor;
+
+    private byte[] binaryPayload;
+
+    private byte[] encodedBinaryPayload;
+
+    private String stringPayload;
+
+    private String encodedStringPayload;
+
+    /**
+     * Generate keys and payloads.
+     */
+    @Setup
+    public void setup() {
+        this.binaryCipherExecutor = new WebflowConversationStateCipherExecutor(null, null, "AES",
+            SIGNING_KEY_SIZE, ENCRYPTION_KEY_SIZE);
+        this.stringCipherExecutor = new TicketGrantingCookieCipherExecutor();
+
+        this.stringPayload = RandomStringUtils.randomAlphanumeric(this.payloadSize);
+        this.binaryPayload = this.stringPayload.getBytes(StandardCharsets.UTF_8);
+        this.encodedBinaryPayload = this.binaryCipherExecutor.encode(this.binaryPayload);
+        this.encodedStringPayload = this.stringCipherExecutor.encode(this.stringPayload);
+    }
+
+    /**
+     * Encrypt and sign binary content.
+     *
+     * @return the encoded content
+     */
+    @Benchmark
+    public byte[] encodeBinary() {
+        return this.binaryCipherExecutor.encode(this.binaryPayload);
+    }
+
+    /**
+     * Verify and decrypt binary content.
+     *
+     * @return the decoded content
+     */
+    @Benchmark
+    public byte[] decodeBinary() {
+        return this.binaryCipherExecutor.decode(this.encodedBinaryPayload);
+    }
+
+    /**
+     * Encrypt and sign string content as a JWT.
+     *
+     * @return the encoded content
+     */
+    @Benchmark
+    public String encodeString() {
+        return this.stringCipherExecutor.encode(this.stringPayload);
+    }
+
+    /**
+     * Verify and decrypt string content from a JWT.
+     *
+     * @return the decoded content
+     */
+    @Benchmark
+    public String decodeString() {
+        return this.stringCipherExecutor.decode(this.encodedStringPayload);
+    }
+}
@@ -0,0 +1,113 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
+import org.apereo.cas.services.DefaultServicesManager;
+import org.apereo.cas.services.InMemoryServiceRegistry;
+import org.apereo.cas.services.RegexRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link ServicesManagerBenchmark}, which measures locating the registered service
+ * for a request among thousands of regular-expression service definitions.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServicesManagerBenchmark {
+
+    /**
+     * Number of registered services.
+     */
+    @Param({"1000", "5000"})
+    protected int serviceCount;
+
+    private ServicesManager servicesManager;
+
+    private Service firstService;
+
+    private Service lastService;
+
+    private Service unknownService;
+
+    /**
+     * Register and load the services.
+     */
+    @Setup
+    public void setup() {
+        final var serviceRegistry = new InMemoryServiceRegistry();
+        for (var i = 0; i < this.serviceCount; i++) {
+            serviceRegistry.save(newRegisteredService(i));
+        }
+        this.servicesManager = new DefaultServicesManager(serviceRegistry, null);
+        this.servicesManager.load();
+
+        final var factory = new WebApplicationServiceFactory();
+        this.firstService = factory.createService(getServiceUrl(0));
+        this.lastService = factory.createService(getServiceUrl(this.serviceCount - 1));
+        this.unknownService = factory.createService("https://unknown.example.net/login");
+    }
+
+    /**
+     * Find the service that is evaluated first.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findFirstService() {
+        return this.servicesManager.findServiceBy(this.firstService);
+    }
+
+    /**
+     * Find the service that is evaluated last.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findLastService() {
+        return this.servicesManager.findServiceBy(this.lastService);
+    }
+
+    /**
+     * Find a service that matches no definition.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findUnknownService() {
+        return this.servicesManager.findServiceBy(this.unknownService);
+    }
+
+    private static RegisteredService newRegisteredService(final int index) {
+        final var service = new RegexRegisteredService();
+        service.setId(index);
+        service.setName("Application " + index);
+        service.setServiceId("^https://app" + index + "\\.example\\.org/.*");
+        service.setEvaluationOrder(index);
+        return service;
+    }
+
+    private static String getServiceUrl(final int index) {
+        return "https://app" + index + ".example.org/login";
+    }
+}
@@ -0,0 +1,153 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.authentication.principal.DefaultPrincipalFactory;
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.logout.LogoutRequest;
+import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TicketState;
+import org.apereo.cas.ticket.registry.CachingTicketRegistry;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.support.TicketGrantingTicketExpirationPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link TicketRegistryBenchmark}, which measures adding, retrieving and updating
+ * ticket-granting tickets in the in-memory ticket registries. The registry is pre-populated,
+ * and added tickets reuse a bounded set of ids so that the registry size stays constant.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TicketRegistryBenchmark {
+    private static final int TICKET_COUNT = 100_000;
+
+    private static final long MAX_TIME_TO_LIVE_SECONDS = 28_800;
+
+    private static final long TIME_TO_IDLE_SECONDS = 7_200;
+
+    /**
+     * Registry implementation to measure.
+     */
+    @Param({"default", "caching"})
+    protected String registryType;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private TicketRegistry ticketRegistry;
+
+    private Authentication authentication;
+
+    private ExpirationPolicy expirationPolicy;
+
+    private String[] ticketIds;
+
+    /**
+     * Build and populate the registry.
+     */
+    @Setup
+    public void setup() {
+        this.ticketRegistry = "caching".equals(this.registryType)
+            ? new CachingTicketRegistry(new NoOpLogoutManager())
+            : new DefaultTicketRegistry();
+        this.authentication = DefaultAuthenticationBuilder.newInstance()
+            .setPrincipal(new DefaultPrincipalFactory().createPrincipal("casuser"))
+            .build();
+        this.expirationPolicy = new TicketGrantingTicketExpirationPolicy(MAX_TIME_TO_LIVE_SECONDS, TIME_TO_IDLE_SECONDS);
+        this.ticketIds = new String[TICKET_COUNT];
+        for (var i = 0; i < TICKET_COUNT; i++) {
+            this.ticketIds[i] = getTicketId(i);
+            this.ticketRegistry.addTicket(newTicket(this.ticketIds[i]));
+        }
+    }
+
+    /**
+     * Add a ticket, replacing an existing one with the same id.
+     */
+    @Benchmark
+    public void addTicket() {
+        final var index = this.counter.getAndIncrement() % TICKET_COUNT;
+        this.ticketRegistry.addTicket(newTicket(this.ticketIds[(int) index]));
+    }
+
+    /**
+     * Get a random ticket.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public Ticket getTicket() {
+        return this.ticketRegistry.getTicket(randomTicketId());
+    }
+
+    /**
+     * Get a random ticket and update it.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public Ticket updateTicket() {
+        final var ticket = this.ticketRegistry.getTicket(randomTicketId());
+        if (ticket != null) {
+            TicketState.class.cast(ticket).update();
+            return this.ticketRegistry.updateTicket(ticket);
+        }
+        return null;
+    }
+
+    private String randomTicketId() {
+        return this.ticketIds[ThreadLocalRandom.current().nextInt(TICKET_COUNT)];
+    }
+
+    private TicketGrantingTicket newTicket(final String id) {
+        return new TicketGrantingTicketImpl(id, this.authentication, this.expirationPolicy);
+    }
+
+    private static String getTicketId(final int index) {
+        return TicketGrantingTicket.PREFIX + '-' + index + "-benchmark";
+    }
+
+    /**
+     * Logout manager that does nothing, for tickets evicted from the caching registry.
+     */
+    private static class NoOpLogoutManager implements LogoutManager {
+        @Override
+        public List<LogoutRequest> performLogout(final TicketGrantingTicket ticket) {
+            return new ArrayList<>(0);
+        }
+
+        @Override
+        public String createFrontChannelLogoutMessage(final LogoutRequest logoutRequest) {
+            return null;
+        }
+    }
+}
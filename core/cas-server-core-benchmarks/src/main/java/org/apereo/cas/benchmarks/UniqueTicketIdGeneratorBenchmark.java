@@ -0,0 +1,68 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link UniqueTicketIdGeneratorBenchmark}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UniqueTicketIdGeneratorBenchmark {
+    private final UniqueTicketIdGenerator generator = new DefaultUniqueTicketIdGenerator();
+
+    private final UniqueTicketIdGenerator generatorWithSuffix = new DefaultUniqueTicketIdGenerator(50, "cas01.example.org");
+
+    /**
+     * Generate ticket-granting ticket ids.
+     *
+     * @return the ticket id
+     */
+    @Benchmark
+    public String generateTicketGrantingTicketId() {
+        return this.generator.getNewTicketId(TicketGrantingTicket.PREFIX);
+    }
+
+    /**
+     * Generate service ticket ids with a host name suffix.
+     *
+     * @return the ticket id
+     */
+    @Benchmark
+    public String generateServiceTicketIdWithSuffix() {
+        return this.generatorWithSuffix.getNewTicketId(ServiceTicket.PREFIX);
+    }
+
+    /**
+     * Generate ticket-granting ticket ids from concurrent threads,
+     * which share the underlying random and numeric generators.
+     *
+     * @return the ticket id
+     */
+    @Benchmark
+    @Threads(4)
+    public String generateTicketGrantingTicketIdConcurrently() {
+        return this.generator.getNewTicketId(TicketGrantingTicket.PREFIX);
+    }
+}
@@ -9,6 +9,7 @@ import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import javax.servlet.http.HttpServletRequest;
 import java.io.Serializable;
+import java.time.Duration;
 
 /**
  * The {@link DefaultCasCookieValueManager} is responsible creating
@@ -26,6 +27,16 @@ public class DefaultCasCookieValueManager extends EncryptedCookieValueManager {
         super(cipherExecutor);
     }
 
+    public DefaultCasCookieValueManager(final CipherExecutor<Serializable, Serializable> cipherExecutor,
+                                        final long maximumCacheSize, final Duration cacheTimeToLive) {
+        super(cipherExecutor, maximumCacheSize, cacheTimeToLive);
+    }
+
+    @Override
+    protected String getCookieValueFromCompoundValue(final String compoundValue) {
+        return StringUtils.substringBefore(compoundValue, String.valueOf(COOKIE_FIELD_SEPARATOR));
+    }
+
     @Override
     protected String buildCompoundCookieValue(final String givenCookieValue, final HttpServletRequest request) {
         final var clientInfo = ClientInfoHolder.getClientInfo();
@@ -1,28 +1,74 @@
 package org.apereo.cas.web.support;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.springframework.context.event.EventListener;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Provides basic encryption/decryption support for cookie values.
+ * Decoded cookie values may be kept in a bounded, short-lived cache keyed by the raw cookie value,
+ * so that a cookie presented repeatedly is not verified and decrypted on every request.
+ * The compound value checks are always performed against the current request.
+ * Raw cookie values are also indexed by the cookie value they carry, so that cached values
+ * can be evicted by key when the ticket-granting ticket they point to is destroyed.
  *
  * @author Daniel Frett
  * @since 5.3.0
  */
 @Slf4j
-@RequiredArgsConstructor
 public class EncryptedCookieValueManager implements CookieValueManager {
     /**
      * The cipher exec that is responsible for encryption and signing of the cookie.
      */
     private final CipherExecutor<Serializable, Serializable> cipherExecutor;
 
+    /**
+     * Decoded cookie values keyed by the raw cookie value, or {@code null} when caching is disabled.
+     */
+    @Getter
+    private final Cache<String, String> decodedCookieValues;
+
+    /**
+     * Raw cookie values keyed by the cookie value they carry, or {@code null} when caching is disabled.
+     */
+    private final Cache<String, Set<String>> rawCookieValues;
+
+    public EncryptedCookieValueManager(final CipherExecutor<Serializable, Serializable> cipherExecutor) {
+        this(cipherExecutor, 0, Duration.ZERO);
+    }
+
+    public EncryptedCookieValueManager(final CipherExecutor<Serializable, Serializable> cipherExecutor,
+                                       final long maximumCacheSize, final Duration cacheTimeToLive) {
+        this.cipherExecutor = cipherExecutor;
+        if (maximumCacheSize > 0 && !cacheTimeToLive.isZero() && !cacheTimeToLive.isNegative()) {
+            this.decodedCookieValues = Caffeine.newBuilder()
+                .maximumSize(maximumCacheSize)
+                .expireAfterWrite(cacheTimeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+            this.rawCookieValues = Caffeine.newBuilder()
+                .maximumSize(maximumCacheSize)
+                .expireAfterWrite(cacheTimeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        } else {
+            this.decodedCookieValues = null;
+            this.rawCookieValues = null;
+        }
+    }
+
     @Override
     public final String buildCookieValue(final String givenCookieValue, final HttpServletRequest request) {
         final var res = buildCompoundCookieValue(givenCookieValue, request);
@@ -32,7 +78,7 @@ public class EncryptedCookieValueManager implements CookieValueManager {
 
     @Override
     public final String obtainCookieValue(final Cookie cookie, final HttpServletRequest request) {
-        final var cookieValue = cipherExecutor.decode(cookie.getValue(), new Object[]{}).toString();
+        final var cookieValue = decodeCookieValue(cookie.getValue());
         LOGGER.debug("Decoded cookie value is [{}]", cookieValue);
         if (StringUtils.isBlank(cookieValue)) {
             LOGGER.debug("Retrieved decoded cookie value is blank. Failed to decode cookie [{}]", cookie.getName());
@@ -42,6 +88,72 @@ public class EncryptedCookieValueManager implements CookieValueManager {
         return obtainValueFromCompoundCookie(cookieValue, request);
     }
 
+    /**
+     * Remove decoded cookie values that carry the given value from the cache.
+     *
+     * @param cookieValue the raw cookie value that was stored, i.e. the ticket-granting ticket id
+     */
+    public void evictCookieValue(final String cookieValue) {
+        if (this.decodedCookieValues != null && StringUtils.isNotBlank(cookieValue)) {
+            final var rawValues = this.rawCookieValues.asMap().remove(cookieValue);
+            if (rawValues != null) {
+                this.decodedCookieValues.invalidateAll(rawValues);
+            }
+        }
+    }
+
+    /**
+     * Handle ticket granting ticket destroyed event,
+     * and evict decoded cookie values that point to the destroyed ticket.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleTicketGrantingTicketDestroyedEvent(final CasTicketGrantingTicketDestroyedEvent event) {
+        final var ticketGrantingTicket = event.getTicketGrantingTicket();
+        if (ticketGrantingTicket != null) {
+            evictCookieValue(ticketGrantingTicket.getId());
+        }
+    }
+
+    private String decodeCookieValue(final String value) {
+        if (this.decodedCookieValues == null || StringUtils.isBlank(value)) {
+            return decode(value);
+        }
+        return this.decodedCookieValues.get(value, this::decodeAndIndex);
+    }
+
+    private String decodeAndIndex(final String value) {
+        final var decoded = decode(value);
+        if (StringUtils.isNotBlank(decoded)) {
+            final var cookieValue = getCookieValueFromCompoundValue(decoded);
+            if (StringUtils.isNotBlank(cookieValue)) {
+                this.rawCookieValues.asMap().compute(cookieValue, (key, values) -> {
+                    final Set<String> rawValues = values != null ? values : ConcurrentHashMap.newKeySet();
+                    rawValues.add(value);
+                    return rawValues;
+                });
+            }
+        }
+        return decoded;
+    }
+
+    private String decode(final String value) {
+        final var decoded = cipherExecutor.decode(value, new Object[]{});
+        return decoded == null ? null : decoded.toString();
+    }
+
+    /**
+     * Gets the raw cookie value the compound cookie value was built from,
+     * without checking the compound value against the current request.
+     *
+     * @param compoundValue the compound cookie value
+     * @return the raw cookie value carried by the compound value
+     */
+    protected String getCookieValueFromCompoundValue(final String compoundValue) {
+        return compoundValue;
+    }
+
     /**
      * Build the compound cookie value.
      *
@@ -4,6 +4,8 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.inspektr.common.web.ClientInfo;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.junit.Test;
@@ -15,6 +17,8 @@ import org.mockito.stubbing.OngoingStubbing;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
+import java.io.Serializable;
+import java.time.Duration;
 import java.util.regex.Pattern;
 
 /**
@@ -63,6 +67,75 @@ public class DefaultCasCookieValueManagerTests {
         assertEquals(VALUE, decoded);
     }
 
+    @Test
+    public void verifyDecodedCookieValueCached() {
+        whenGettingClientIp().thenReturn(CLIENT_IP);
+        whenGettingUserAgent().thenReturn(USER_AGENT);
+
+        final var cipher = getCipherExecutor();
+        final var manager = new DefaultCasCookieValueManager(cipher, 100, Duration.ofMinutes(1));
+        final var encoded = manager.buildCookieValue(VALUE, request);
+        when(cookie.getValue()).thenReturn(encoded);
+        for (var i = 0; i < 3; i++) {
+            assertEquals(VALUE, manager.obtainCookieValue(cookie, request));
+        }
+        verify(cipher, times(1)).decode(eq(encoded), any());
+
+        whenGettingClientIp().thenReturn("10.0.0.1");
+        try {
+            manager.obtainCookieValue(cookie, request);
+            fail("Cookie presented from a different address must be rejected");
+        } catch (final IllegalStateException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void verifyDecodedCookieValueEvicted() {
+        whenGettingClientIp().thenReturn(CLIENT_IP);
+        whenGettingUserAgent().thenReturn(USER_AGENT);
+
+        final var cipher = getCipherExecutor();
+        final var manager = new DefaultCasCookieValueManager(cipher, 100, Duration.ofMinutes(1));
+        final var encoded = manager.buildCookieValue(VALUE, request);
+        when(cookie.getValue()).thenReturn(encoded);
+        assertEquals(VALUE, manager.obtainCookieValue(cookie, request));
+
+        final var tgt = mock(TicketGrantingTicket.class);
+        when(tgt.getId()).thenReturn(VALUE);
+        manager.handleTicketGrantingTicketDestroyedEvent(new CasTicketGrantingTicketDestroyedEvent(this, tgt));
+        assertEquals(VALUE, manager.obtainCookieValue(cookie, request));
+        verify(cipher, times(2)).decode(eq(encoded), any());
+    }
+
+    @Test
+    public void verifyOnlyDecodedCookieValuesOfDestroyedTicketEvicted() {
+        whenGettingClientIp().thenReturn(CLIENT_IP);
+        whenGettingUserAgent().thenReturn(USER_AGENT);
+
+        final var cipher = getCipherExecutor();
+        final var manager = new DefaultCasCookieValueManager(cipher, 100, Duration.ofMinutes(1));
+        final var encoded = manager.buildCookieValue(VALUE, request);
+        final var other = manager.buildCookieValue("TGT-2-other", request);
+        final var otherCookie = mock(Cookie.class);
+        when(cookie.getValue()).thenReturn(encoded);
+        when(otherCookie.getValue()).thenReturn(other);
+        assertEquals(VALUE, manager.obtainCookieValue(cookie, request));
+        assertEquals("TGT-2-other", manager.obtainCookieValue(otherCookie, request));
+
+        manager.evictCookieValue(VALUE);
+        assertNull(manager.getDecodedCookieValues().getIfPresent(encoded));
+        assertNotNull(manager.getDecodedCookieValues().getIfPresent(other));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CipherExecutor<Serializable, Serializable> getCipherExecutor() {
+        final CipherExecutor<Serializable, Serializable> cipher = mock(CipherExecutor.class);
+        when(cipher.encode(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cipher.decode(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        return cipher;
+    }
+
     private OngoingStubbing<String> whenGettingClientIp() {
         return when(clientInfo.getClientIpAddress());
     }
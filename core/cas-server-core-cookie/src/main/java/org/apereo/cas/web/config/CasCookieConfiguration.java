@@ -45,8 +45,11 @@ public class CasCookieConfiguration {
     @ConditionalOnMissingBean(name = "cookieValueManager")
     @Bean
     public CookieValueManager cookieValueManager() {
-        if (casProperties.getTgc().getCrypto().isEnabled()) {
-            return new DefaultCasCookieValueManager(cookieCipherExecutor());
+        final var tgc = casProperties.getTgc();
+        if (tgc.getCrypto().isEnabled()) {
+            return new DefaultCasCookieValueManager(cookieCipherExecutor(),
+                tgc.getDecodedValueCacheSize(),
+                Beans.newDuration(tgc.getDecodedValueCacheTimeToLive()));
         }
         return new NoOpCookieValueManager();
     }
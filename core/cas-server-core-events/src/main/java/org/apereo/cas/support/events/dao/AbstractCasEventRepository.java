@@ -1,10 +1,16 @@
 package org.apereo.cas.support.events.dao;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -14,6 +20,7 @@ import java.util.stream.Collectors;
  * @since 5.0.0
  */
 @Slf4j
+@Setter
 public abstract class AbstractCasEventRepository implements CasEventRepository {
 
     /**
@@ -29,6 +36,28 @@ public abstract class AbstractCasEventRepository implements CasEventRepository {
      */
     protected static final String PRINCIPAL_ID_PARAM = "principalId";
 
+    /**
+     * Number of times a risk profile update is attempted when the profile is modified concurrently.
+     */
+    protected static final int MAX_RISK_PROFILE_UPDATE_ATTEMPTS = 5;
+
+    /**
+     * Whether risk profiles should be maintained as events are saved,
+     * if the repository supports them.
+     */
+    private boolean trackRiskProfiles = true;
+
+    /**
+     * Number of days of history kept in risk profiles.
+     */
+    private long riskProfileRetentionDays = 365;
+
+    /**
+     * Event types for which risk profiles are maintained. These are the authentication events
+     * that risk calculators examine; profiles of other event types are built from recorded events on demand.
+     */
+    private Set<String> riskProfileEventTypes = Set.of(CasTicketGrantingTicketCreatedEvent.class.getName());
+
     @Override
     public Collection<CasEvent> getEventsOfType(final String type) {
         final Collection<? extends CasEvent> events = load();
@@ -76,7 +105,118 @@ public abstract class AbstractCasEventRepository implements CasEventRepository {
 
     @Override
     public Collection<CasEvent> getEventsForPrincipal(final String id) {
-        return load().stream().filter(e -> e.getPrincipalId().equalsIgnoreCase(id)).collect(Collectors.toSet());
+        return load().stream().filter(e -> StringUtils.equalsIgnoreCase(e.getPrincipalId(), id)).collect(Collectors.toSet());
+    }
+
+    @Override
+    public CasEventRiskProfile getRiskProfile(final String type, final String principal) {
+        if (StringUtils.isBlank(principal)) {
+            return new CasEventRiskProfile(type, StringUtils.EMPTY);
+        }
+        if (!isRiskProfileTrackingEnabled(type)) {
+            return CasEventRepository.super.getRiskProfile(type, principal);
+        }
+        return findRiskProfile(CasEventRiskProfile.buildId(type, principal))
+            .orElseGet(() -> {
+                LOGGER.debug("No risk profile is found for [{}] with event type [{}]; building it from recorded events", principal, type);
+                final var profile = CasEventRepository.super.getRiskProfile(type, principal);
+                if (!profile.getEntries().isEmpty()) {
+                    try {
+                        executeRiskProfileUpdate(() -> saveRiskProfile(profile));
+                    } catch (final Exception e) {
+                        LOGGER.debug("Risk profile for [{}] was not saved; it may have been created concurrently: [{}]", principal, e.getMessage());
+                    }
+                }
+                return profile;
+            });
+    }
+
+    /**
+     * Record the event into the risk profile of its principal.
+     * Events without a principal, or of a type for which profiles are not maintained, are skipped.
+     * Repositories should call this once the event is saved and visible to queries. Profiles that
+     * do not exist yet are seeded from the recorded events, which already include this event.
+     * Profiles are versioned; if the profile is modified by another login between reading and saving it,
+     * saving fails and the update is attempted again from a fresh copy of the profile.
+     *
+     * @param event the event
+     */
+    protected void updateRiskProfile(final CasEvent event) {
+        if (StringUtils.isBlank(event.getPrincipalId()) || !isRiskProfileTrackingEnabled(event.getType())) {
+            return;
+        }
+        for (var attempt = 1; attempt <= MAX_RISK_PROFILE_UPDATE_ATTEMPTS; attempt++) {
+            try {
+                executeRiskProfileUpdate(() -> recordRiskProfileEvent(event));
+                return;
+            } catch (final Exception e) {
+                if (attempt < MAX_RISK_PROFILE_UPDATE_ATTEMPTS) {
+                    LOGGER.debug("Risk profile for [{}] could not be updated on attempt [{}]; retrying: [{}]",
+                        event.getPrincipalId(), attempt, e.getMessage());
+                } else {
+                    LOGGER.warn("Unable to update risk profile for [{}]: [{}]", event.getPrincipalId(), e.getMessage());
+                    LOGGER.debug(e.getMessage(), e);
+                }
+            }
+        }
     }
 
+    /**
+     * Execute a risk profile update, which reads and saves a profile.
+     * Repositories should run the update in its own unit of work so that a failure to save the profile
+     * is reported to the caller and does not affect the events being saved.
+     *
+     * @param update the update
+     */
+    protected void executeRiskProfileUpdate(final Runnable update) {
+        update.run();
+    }
+
+    /**
+     * Whether this repository maintains risk profiles.
+     *
+     * @return true/false
+     */
+    protected boolean supportsRiskProfiles() {
+        return false;
+    }
+
+    /**
+     * Find the risk profile with the given id.
+     * Returned profiles may be modified and saved back by the caller.
+     *
+     * @param id the id
+     * @return the risk profile
+     */
+    protected Optional<CasEventRiskProfile> findRiskProfile(final String id) {
+        return Optional.empty();
+    }
+
+    /**
+     * Save the risk profile. Implementations must reject the profile if it was
+     * modified since it was found, or created since it was found missing.
+     *
+     * @param profile the profile
+     */
+    protected void saveRiskProfile(final CasEventRiskProfile profile) {
+    }
+
+    private void recordRiskProfileEvent(final CasEvent event) {
+        final var id = CasEventRiskProfile.buildId(event.getType(), event.getPrincipalId());
+        final var found = findRiskProfile(id);
+        final CasEventRiskProfile profile;
+        if (found.isPresent()) {
+            profile = found.get();
+            profile.record(event);
+        } else {
+            profile = CasEventRiskProfile.from(event.getType(), event.getPrincipalId(),
+                getEventsOfTypeForPrincipal(event.getType(), event.getPrincipalId()));
+        }
+        profile.prune(ZonedDateTime.now(ZoneOffset.UTC).minusDays(riskProfileRetentionDays));
+        saveRiskProfile(profile);
+    }
+
+    private boolean isRiskProfileTrackingEnabled(final String type) {
+        return this.trackRiskProfiles && supportsRiskProfiles() && this.riskProfileEventTypes.contains(type);
+    }
 }
@@ -1,10 +1,11 @@
 package org.apereo.cas.logout;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.logout.queue.SingleLogoutMessageDispatcher;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.http.HttpClient;
@@ -24,7 +25,6 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Getter
-@AllArgsConstructor
 public class DefaultSingleLogoutServiceMessageHandler implements SingleLogoutServiceMessageHandler {
     private final HttpClient httpClient;
     private final LogoutMessageCreator logoutMessageBuilder;
@@ -33,6 +33,27 @@ public class DefaultSingleLogoutServiceMessageHandler implements SingleLogoutSer
     private boolean asynchronous = true;
     private final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies;
 
+    /**
+     * Optional dispatcher; when defined, back-channel logout messages
+     * are queued for delivery rather than sent by the calling thread.
+     */
+    @Setter
+    private SingleLogoutMessageDispatcher messageDispatcher;
+
+    public DefaultSingleLogoutServiceMessageHandler(final HttpClient httpClient,
+                                                    final LogoutMessageCreator logoutMessageBuilder,
+                                                    final ServicesManager servicesManager,
+                                                    final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder,
+                                                    final boolean asynchronous,
+                                                    final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies) {
+        this.httpClient = httpClient;
+        this.logoutMessageBuilder = logoutMessageBuilder;
+        this.servicesManager = servicesManager;
+        this.singleLogoutServiceLogoutUrlBuilder = singleLogoutServiceLogoutUrlBuilder;
+        this.asynchronous = asynchronous;
+        this.authenticationRequestServiceSelectionStrategies = authenticationRequestServiceSelectionStrategies;
+    }
+
     /**
      * Handle logout for slo service.
      *
@@ -113,6 +134,12 @@ public class DefaultSingleLogoutServiceMessageHandler implements SingleLogoutSer
      */
     public boolean performBackChannelLogout(final LogoutRequest request) {
         try {
+            if (this.messageDispatcher != null) {
+                request.getService().setLoggedOutAlready(true);
+                LOGGER.debug("Queuing back-channel logout request [{}] for delivery", request);
+                this.messageDispatcher.enqueue(request);
+                return true;
+            }
             LOGGER.debug("Creating back-channel logout request based on [{}]", request);
             final var logoutRequest = this.logoutMessageBuilder.create(request);
             final var logoutService = request.getService();
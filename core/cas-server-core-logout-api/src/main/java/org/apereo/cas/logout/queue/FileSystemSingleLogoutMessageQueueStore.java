@@ -0,0 +1,73 @@
+package org.apereo.cas.logout.queue;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.apereo.cas.util.serialization.SerializationUtils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * This is {@link FileSystemSingleLogoutMessageQueueStore} that keeps the queue in memory
+ * and writes every queued message through to a local directory, so that undelivered
+ * logout messages survive a restart of the server.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class FileSystemSingleLogoutMessageQueueStore extends InMemorySingleLogoutMessageQueueStore {
+
+    private static final String FILE_EXTENSION = ".slo";
+
+    private final File directory;
+
+    @SneakyThrows
+    public FileSystemSingleLogoutMessageQueueStore(final File directory) {
+        this.directory = directory;
+        FileUtils.forceMkdir(directory);
+        load();
+    }
+
+    private void load() {
+        final var files = Objects.requireNonNull(directory.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION)));
+        Arrays.stream(files)
+            .map(this::read)
+            .filter(Objects::nonNull)
+            .sorted(Comparator.comparingLong(SingleLogoutQueuedMessage::getCreationTime))
+            .forEach(this::restore);
+        LOGGER.debug("Restored [{}] queued logout message(s) from [{}]", size(), directory);
+    }
+
+    private SingleLogoutQueuedMessage read(final File file) {
+        try {
+            return SerializationUtils.deserialize(FileUtils.readFileToByteArray(file), SingleLogoutQueuedMessage.class);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to read queued logout message from [{}]: [{}]", file, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    protected void store(final SingleLogoutQueuedMessage message) {
+        final var target = getFile(message);
+        final var temp = new File(directory, message.getId() + ".tmp");
+        FileUtils.writeByteArrayToFile(temp, SerializationUtils.serialize(message));
+        Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    protected void discard(final SingleLogoutQueuedMessage message) {
+        FileUtils.deleteQuietly(getFile(message));
+    }
+
+    private File getFile(final SingleLogoutQueuedMessage message) {
+        return new File(directory, message.getId() + FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,117 @@
+package org.apereo.cas.logout.queue;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link InMemorySingleLogoutMessageQueueStore}.
+ * Only messages that have not been attempted yet are indexed by their logout url for coalescing;
+ * messages that are being retried are kept apart, so new session indexes do not inherit their
+ * attempt count and backoff.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class InMemorySingleLogoutMessageQueueStore implements SingleLogoutMessageQueueStore {
+
+    private final Map<String, SingleLogoutQueuedMessage> messages = new LinkedHashMap<>();
+
+    private final Map<String, String> pendingByUrl = new HashMap<>();
+
+    private final Set<String> claimed = new HashSet<>();
+
+    @Override
+    public synchronized SingleLogoutQueuedMessage offer(final String logoutUrl, final String sessionIndex,
+                                                        final WebApplicationService service) {
+        final var pendingId = pendingByUrl.get(logoutUrl);
+        final SingleLogoutQueuedMessage message;
+        if (pendingId != null) {
+            message = messages.get(pendingId);
+            LOGGER.debug("Coalescing session index [{}] into queued logout message [{}]", sessionIndex, message.getId());
+        } else {
+            message = new SingleLogoutQueuedMessage(logoutUrl);
+            messages.put(message.getId(), message);
+            pendingByUrl.put(logoutUrl, message.getId());
+        }
+        message.getSessionIndexes().add(sessionIndex);
+        message.getServices().put(sessionIndex, service);
+        store(message);
+        return message;
+    }
+
+    @Override
+    public synchronized Collection<SingleLogoutQueuedMessage> claimDue(final long now, final int limit) {
+        final var due = messages.values()
+            .stream()
+            .filter(m -> !claimed.contains(m.getId()) && m.getNextAttemptTime() <= now)
+            .limit(limit)
+            .collect(Collectors.toList());
+        due.forEach(m -> {
+            claimed.add(m.getId());
+            pendingByUrl.remove(m.getLogoutUrl(), m.getId());
+        });
+        return due;
+    }
+
+    @Override
+    public synchronized void reschedule(final SingleLogoutQueuedMessage message) {
+        claimed.remove(message.getId());
+        messages.put(message.getId(), message);
+        indexForCoalescing(message);
+        store(message);
+    }
+
+    @Override
+    public synchronized void remove(final SingleLogoutQueuedMessage message) {
+        claimed.remove(message.getId());
+        messages.remove(message.getId());
+        pendingByUrl.remove(message.getLogoutUrl(), message.getId());
+        discard(message);
+    }
+
+    @Override
+    public synchronized int size() {
+        return messages.size();
+    }
+
+    /**
+     * Restore a previously-persisted message into the queue.
+     *
+     * @param message the message
+     */
+    protected synchronized void restore(final SingleLogoutQueuedMessage message) {
+        messages.put(message.getId(), message);
+        indexForCoalescing(message);
+    }
+
+    private void indexForCoalescing(final SingleLogoutQueuedMessage message) {
+        if (message.getAttempts() == 0) {
+            pendingByUrl.putIfAbsent(message.getLogoutUrl(), message.getId());
+        }
+    }
+
+    /**
+     * Hook invoked whenever a message is created or changed.
+     *
+     * @param message the message
+     */
+    protected void store(final SingleLogoutQueuedMessage message) {
+    }
+
+    /**
+     * Hook invoked whenever a message is removed.
+     *
+     * @param message the message
+     */
+    protected void discard(final SingleLogoutQueuedMessage message) {
+    }
+}
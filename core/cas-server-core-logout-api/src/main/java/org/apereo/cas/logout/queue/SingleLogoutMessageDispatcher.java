@@ -0,0 +1,221 @@
+package org.apereo.cas.logout.queue;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.logout.DefaultLogoutRequest;
+import org.apereo.cas.logout.LogoutHttpMessage;
+import org.apereo.cas.logout.LogoutMessageCreator;
+import org.apereo.cas.logout.LogoutRequest;
+import org.apereo.cas.util.http.HttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher} that delivers back-channel logout messages
+ * from a {@link SingleLogoutMessageQueueStore} using a bounded pool of workers.
+ * Deliveries are limited per host, failed deliveries are retried with exponential backoff,
+ * and messages that exhaust all attempts are recorded in the dead-letter log.
+ * Session indexes coalesced into a message are each sent in a logout request of their own,
+ * since clients are not expected to handle several indexes in one request; indexes that
+ * are delivered are removed from the message, so only the failed ones are retried.
+ * The worker pool is expected to be bounded; messages it rejects are returned to the queue.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class SingleLogoutMessageDispatcher implements DisposableBean {
+
+    private static final Logger DEAD_LETTER_LOGGER = LoggerFactory.getLogger(SingleLogoutMessageDispatcher.class.getName() + ".DeadLetter");
+
+    private final SingleLogoutMessageQueueStore queueStore;
+
+    private final HttpClient httpClient;
+
+    private final LogoutMessageCreator logoutMessageCreator;
+
+    private final ExecutorService workers;
+
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    private int maxConcurrentRequestsPerHost = 4;
+
+    private int batchSize = 100;
+
+    private int maxAttempts = 5;
+
+    private Duration initialRetryDelay = Duration.ofSeconds(2);
+
+    private Duration maxRetryDelay = Duration.ofMinutes(5);
+
+    private double retryMultiplier = 2;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Queue the logout request for delivery.
+     *
+     * @param request the request
+     */
+    public void enqueue(final LogoutRequest request) {
+        final var message = queueStore.offer(request.getLogoutUrl().toExternalForm(), request.getTicketId(), request.getService());
+        LOGGER.debug("Queued logout request for [{}] as part of message [{}]", request.getLogoutUrl(), message.getId());
+    }
+
+    /**
+     * Start dispatching queued messages periodically.
+     *
+     * @param interval the interval
+     */
+    public void start(final Duration interval) {
+        if (this.scheduler == null) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                final var thread = new Thread(r, "SingleLogoutMessageDispatcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final var period = interval.toMillis();
+            this.scheduler.scheduleWithFixedDelay(this::dispatch, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Claim due messages and hand them to the workers, subject to per-host concurrency limits.
+     * Messages whose host has no capacity left are returned to the queue for the next cycle.
+     */
+    public void dispatch() {
+        try {
+            final var due = queueStore.claimDue(System.currentTimeMillis(), batchSize);
+            due.forEach(message -> {
+                final var permits = getHostPermits(message.getLogoutUrl());
+                if (!permits.tryAcquire()) {
+                    LOGGER.trace("Host for [{}] is at capacity; deferring message [{}]", message.getLogoutUrl(), message.getId());
+                    queueStore.reschedule(message);
+                    return;
+                }
+                try {
+                    workers.execute(() -> {
+                        try {
+                            deliver(message);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (final RejectedExecutionException e) {
+                    permits.release();
+                    queueStore.reschedule(message);
+                }
+            });
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deliver the message to its logout endpoint. Errors raised while building or sending
+     * the logout requests count as a failed attempt.
+     *
+     * @param message the message
+     */
+    protected void deliver(final SingleLogoutQueuedMessage message) {
+        message.setAttempts(message.getAttempts() + 1);
+        var delivered = false;
+        try {
+            delivered = send(message);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to deliver logout message [{}] to [{}]: [{}]", message.getId(), message.getLogoutUrl(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+        if (delivered) {
+            LOGGER.debug("Delivered logout message [{}] to [{}] after [{}] attempt(s)",
+                message.getId(), message.getLogoutUrl(), message.getAttempts());
+            queueStore.remove(message);
+            return;
+        }
+        if (message.getAttempts() >= maxAttempts) {
+            DEAD_LETTER_LOGGER.warn("Abandoned logout message [{}] to [{}] for session indexes [{}] after [{}] attempt(s)",
+                message.getId(), message.getLogoutUrl(), message.getSessionIndexes(), message.getAttempts());
+            queueStore.remove(message);
+            return;
+        }
+        final var delay = getRetryDelay(message.getAttempts());
+        LOGGER.debug("Failed to deliver logout message [{}] to [{}] for session indexes [{}]; retrying in [{}]",
+            message.getId(), message.getLogoutUrl(), message.getSessionIndexes(), delay);
+        message.setNextAttemptTime(System.currentTimeMillis() + delay.toMillis());
+        queueStore.reschedule(message);
+    }
+
+    /**
+     * Compute the delay before the next attempt.
+     *
+     * @param attempts the number of attempts made so far
+     * @return the delay
+     */
+    protected Duration getRetryDelay(final int attempts) {
+        final var delay = initialRetryDelay.toMillis() * Math.pow(retryMultiplier, Math.max(0, attempts - 1));
+        return Duration.ofMillis((long) Math.min(delay, maxRetryDelay.toMillis()));
+    }
+
+    /**
+     * Send one logout request per session index of the message, and remove
+     * the session indexes that were delivered from the message.
+     *
+     * @param message the message
+     * @return true if all session indexes were delivered
+     * @throws Exception if the logout requests cannot be built or sent
+     */
+    private boolean send(final SingleLogoutQueuedMessage message) throws Exception {
+        final var url = new URL(message.getLogoutUrl());
+        for (final var index : new ArrayList<>(message.getSessionIndexes())) {
+            final var service = message.getServices().get(index);
+            final var body = logoutMessageCreator.create(new DefaultLogoutRequest(index, service, url));
+            if (httpClient.sendMessageToEndPoint(new LogoutHttpMessage(url, body, false))) {
+                message.getSessionIndexes().remove(index);
+                message.getServices().remove(index);
+            } else {
+                LOGGER.trace("Failed to deliver session index [{}] of logout message [{}]", index, message.getId());
+            }
+        }
+        return message.getSessionIndexes().isEmpty();
+    }
+
+    private Semaphore getHostPermits(final String logoutUrl) {
+        final var host = getHost(logoutUrl);
+        return hostPermits.computeIfAbsent(host, k -> new Semaphore(maxConcurrentRequestsPerHost));
+    }
+
+    private static String getHost(final String logoutUrl) {
+        try {
+            final var url = new URL(logoutUrl);
+            return url.getHost().toLowerCase() + ':' + (url.getPort() == -1 ? url.getDefaultPort() : url.getPort());
+        } catch (final Exception e) {
+            return logoutUrl;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+        this.workers.shutdown();
+    }
+}
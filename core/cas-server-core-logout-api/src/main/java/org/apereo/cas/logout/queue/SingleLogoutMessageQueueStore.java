@@ -0,0 +1,58 @@
+package org.apereo.cas.logout.queue;
+
+import org.apereo.cas.authentication.principal.WebApplicationService;
+
+import java.util.Collection;
+
+/**
+ * This is {@link SingleLogoutMessageQueueStore} that acts as the backing storage
+ * for queued back-channel logout messages.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public interface SingleLogoutMessageQueueStore {
+
+    /**
+     * Queue a session index for the given logout endpoint. If a message for the same endpoint
+     * is waiting for its first delivery attempt, the session index is coalesced into that message.
+     * Messages that are being retried never receive new session indexes.
+     *
+     * @param logoutUrl    the logout url
+     * @param sessionIndex the session index
+     * @param service      the service the session index was issued for
+     * @return the queued message
+     */
+    SingleLogoutQueuedMessage offer(String logoutUrl, String sessionIndex, WebApplicationService service);
+
+    /**
+     * Claim messages whose next delivery attempt is due. Claimed messages are no longer
+     * eligible for coalescing until they are either completed or rescheduled.
+     *
+     * @param now   the current time in milliseconds
+     * @param limit the maximum number of messages to claim
+     * @return the claimed messages
+     */
+    Collection<SingleLogoutQueuedMessage> claimDue(long now, int limit);
+
+    /**
+     * Return a claimed message to the queue so it may be picked up on a later cycle.
+     *
+     * @param message the message
+     */
+    void reschedule(SingleLogoutQueuedMessage message);
+
+    /**
+     * Remove a message from the queue, once delivered or abandoned.
+     *
+     * @param message the message
+     */
+    void remove(SingleLogoutQueuedMessage message);
+
+    /**
+     * Number of messages held by the queue, including claimed ones.
+     *
+     * @return the size
+     */
+    int size();
+}
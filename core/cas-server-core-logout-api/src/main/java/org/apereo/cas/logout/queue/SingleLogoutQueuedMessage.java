@@ -0,0 +1,51 @@
+package org.apereo.cas.logout.queue;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * This is {@link SingleLogoutQueuedMessage}. It represents a pending back-channel
+ * logout notification for a single logout endpoint, carrying the session indexes
+ * (service ticket ids) of all sessions that should be terminated by that endpoint,
+ * along with the service each session index was issued for.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Getter
+@Setter
+@ToString
+public class SingleLogoutQueuedMessage implements Serializable {
+
+    private static final long serialVersionUID = 5316718302437012855L;
+
+    private final String id;
+
+    private final String logoutUrl;
+
+    private final Set<String> sessionIndexes = new LinkedHashSet<>();
+
+    private final Map<String, WebApplicationService> services = new HashMap<>();
+
+    private int attempts;
+
+    private long nextAttemptTime;
+
+    private final long creationTime;
+
+    public SingleLogoutQueuedMessage(final String logoutUrl) {
+        this.id = UUID.randomUUID().toString();
+        this.logoutUrl = logoutUrl;
+        this.creationTime = System.currentTimeMillis();
+        this.nextAttemptTime = this.creationTime;
+    }
+}
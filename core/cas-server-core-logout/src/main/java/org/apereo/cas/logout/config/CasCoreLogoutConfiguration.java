@@ -4,6 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.slo.SloDispatchQueueProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.DefaultLogoutExecutionPlan;
 import org.apereo.cas.logout.DefaultLogoutManager;
 import org.apereo.cas.logout.DefaultSingleLogoutServiceLogoutUrlBuilder;
@@ -15,6 +17,10 @@ import org.apereo.cas.logout.LogoutMessageCreator;
 import org.apereo.cas.logout.SamlCompliantLogoutMessageCreator;
 import org.apereo.cas.logout.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.SingleLogoutServiceMessageHandler;
+import org.apereo.cas.logout.queue.FileSystemSingleLogoutMessageQueueStore;
+import org.apereo.cas.logout.queue.InMemorySingleLogoutMessageQueueStore;
+import org.apereo.cas.logout.queue.SingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.queue.SingleLogoutMessageQueueStore;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.http.HttpClient;
@@ -23,12 +29,17 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.File;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link CasCoreLogoutConfiguration}.
@@ -73,12 +84,50 @@ public class CasCoreLogoutConfiguration implements LogoutExecutionPlanConfigurer
     @ConditionalOnMissingBean(name = "defaultSingleLogoutServiceMessageHandler")
     @Bean
     public SingleLogoutServiceMessageHandler defaultSingleLogoutServiceMessageHandler() {
-        return new DefaultSingleLogoutServiceMessageHandler(httpClient,
+        final var handler = new DefaultSingleLogoutServiceMessageHandler(httpClient,
             logoutBuilder(),
             servicesManager,
             singleLogoutServiceLogoutUrlBuilder(),
             casProperties.getSlo().isAsynchronous(),
             authenticationServiceSelectionPlan.getIfAvailable());
+        if (casProperties.getSlo().getDispatchQueue().isEnabled()) {
+            handler.setMessageDispatcher(singleLogoutMessageDispatcher());
+        }
+        return handler;
+    }
+
+    @ConditionalOnMissingBean(name = "singleLogoutMessageQueueStore")
+    @ConditionalOnProperty(prefix = "cas.slo.dispatchQueue", name = "enabled", havingValue = "true")
+    @Bean
+    public SingleLogoutMessageQueueStore singleLogoutMessageQueueStore() {
+        final var queue = casProperties.getSlo().getDispatchQueue();
+        if (queue.getStorage() == SloDispatchQueueProperties.StorageTypes.FILE) {
+            if (StringUtils.isBlank(queue.getLocation())) {
+                throw new IllegalArgumentException("Location of the single logout dispatch queue must be defined for file storage");
+            }
+            LOGGER.debug("Queued logout messages will be persisted to [{}]", queue.getLocation());
+            return new FileSystemSingleLogoutMessageQueueStore(new File(queue.getLocation()));
+        }
+        return new InMemorySingleLogoutMessageQueueStore();
+    }
+
+    @ConditionalOnMissingBean(name = "singleLogoutMessageDispatcher")
+    @ConditionalOnProperty(prefix = "cas.slo.dispatchQueue", name = "enabled", havingValue = "true")
+    @Bean
+    public SingleLogoutMessageDispatcher singleLogoutMessageDispatcher() {
+        final var queue = casProperties.getSlo().getDispatchQueue();
+        final var workers = new ThreadPoolExecutor(queue.getWorkerPoolSize(), queue.getWorkerPoolSize(),
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, queue.getBatchSize())));
+        final var dispatcher = new SingleLogoutMessageDispatcher(singleLogoutMessageQueueStore(), httpClient,
+            logoutBuilder(), workers);
+        dispatcher.setMaxConcurrentRequestsPerHost(queue.getMaxConcurrentRequestsPerHost());
+        dispatcher.setBatchSize(queue.getBatchSize());
+        dispatcher.setMaxAttempts(queue.getMaxAttempts());
+        dispatcher.setInitialRetryDelay(Beans.newDuration(queue.getInitialRetryDelay()));
+        dispatcher.setMaxRetryDelay(Beans.newDuration(queue.getMaxRetryDelay()));
+        dispatcher.setRetryMultiplier(queue.getRetryMultiplier());
+        dispatcher.start(Beans.newDuration(queue.getDispatchInterval()));
+        return dispatcher;
     }
 
     @ConditionalOnMissingBean(name = "logoutManager")
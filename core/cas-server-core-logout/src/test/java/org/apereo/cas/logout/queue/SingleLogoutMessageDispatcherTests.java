@@ -0,0 +1,199 @@
+package org.apereo.cas.logout.queue;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.logout.DefaultLogoutRequest;
+import org.apereo.cas.logout.LogoutMessageCreator;
+import org.apereo.cas.logout.LogoutRequest;
+import org.apereo.cas.logout.SamlCompliantLogoutMessageCreator;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
+
+import java.net.URL;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RunWith(JUnit4.class)
+@Slf4j
+public class SingleLogoutMessageDispatcherTests {
+    private static final String LOGOUT_URL = "https://app.example.org/logout";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private HttpClient httpClient;
+
+    private InMemorySingleLogoutMessageQueueStore store;
+
+    private SingleLogoutMessageDispatcher dispatcher;
+
+    @Before
+    public void initialize() {
+        this.httpClient = mock(HttpClient.class);
+        this.store = new InMemorySingleLogoutMessageQueueStore();
+        this.dispatcher = new SingleLogoutMessageDispatcher(store, httpClient,
+            new SamlCompliantLogoutMessageCreator(), MoreExecutors.newDirectExecutorService());
+    }
+
+    private static DefaultLogoutRequest getLogoutRequest(final String ticketId) throws Exception {
+        return new DefaultLogoutRequest(ticketId, mock(WebApplicationService.class), new URL(LOGOUT_URL));
+    }
+
+    @Test
+    public void verifyMessagesCoalescedPerEndpoint() throws Exception {
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        dispatcher.enqueue(getLogoutRequest("ST-1"));
+        dispatcher.enqueue(getLogoutRequest("ST-2"));
+        dispatcher.enqueue(getLogoutRequest("ST-3"));
+        assertEquals(1, store.size());
+
+        dispatcher.dispatch();
+        final var captor = ArgumentCaptor.forClass(HttpMessage.class);
+        verify(httpClient, times(3)).sendMessageToEndPoint(captor.capture());
+        final var bodies = captor.getAllValues();
+        for (var i = 0; i < bodies.size(); i++) {
+            final var body = bodies.get(i).getMessage();
+            assertEquals(1, StringUtils.countMatches(body, "<samlp:SessionIndex>"));
+            assertTrue(body.contains("ST-" + (i + 1)));
+            assertFalse(bodies.get(i).isAsynchronous());
+        }
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void verifyOnlyFailedSessionIndexesRetried() throws Exception {
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation ->
+            !HttpMessage.class.cast(invocation.getArgument(0)).getMessage().contains("ST-2"));
+        dispatcher.enqueue(getLogoutRequest("ST-1"));
+        dispatcher.enqueue(getLogoutRequest("ST-2"));
+        dispatcher.enqueue(getLogoutRequest("ST-3"));
+        dispatcher.dispatch();
+        verify(httpClient, times(3)).sendMessageToEndPoint(any(HttpMessage.class));
+
+        final var message = store.claimDue(Long.MAX_VALUE, 1).iterator().next();
+        assertEquals(Set.of("ST-2"), message.getSessionIndexes());
+        assertEquals(1, message.getAttempts());
+    }
+
+    @Test
+    public void verifyRejectedMessageReturnedToQueue() throws Exception {
+        final var workers = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException()).when(workers).execute(any(Runnable.class));
+        final var rejecting = new SingleLogoutMessageDispatcher(store, httpClient, new SamlCompliantLogoutMessageCreator(), workers);
+        rejecting.enqueue(getLogoutRequest("ST-1"));
+        rejecting.dispatch();
+        verify(httpClient, never()).sendMessageToEndPoint(any(HttpMessage.class));
+        assertEquals(1, store.claimDue(System.currentTimeMillis(), 10).size());
+    }
+
+    @Test
+    public void verifyFailedDeliveryRetriedWithBackoff() throws Exception {
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        dispatcher.enqueue(getLogoutRequest("ST-1"));
+        dispatcher.dispatch();
+        assertEquals(1, store.size());
+
+        dispatcher.dispatch();
+        verify(httpClient, times(1)).sendMessageToEndPoint(any(HttpMessage.class));
+
+        final var message = store.claimDue(Long.MAX_VALUE, 1).iterator().next();
+        assertEquals(1, message.getAttempts());
+        assertTrue(message.getNextAttemptTime() > System.currentTimeMillis());
+    }
+
+    @Test
+    public void verifyDeadLetterAfterMaxAttempts() throws Exception {
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        dispatcher.setMaxAttempts(1);
+        dispatcher.enqueue(getLogoutRequest("ST-1"));
+        dispatcher.dispatch();
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void verifyMessageRescheduledWhenSendingFails() throws Exception {
+        final var creator = mock(LogoutMessageCreator.class);
+        when(creator.create(any(LogoutRequest.class))).thenThrow(new IllegalStateException("Unable to create message"));
+        final var failing = new SingleLogoutMessageDispatcher(store, httpClient, creator, MoreExecutors.newDirectExecutorService());
+        failing.enqueue(getLogoutRequest("ST-1"));
+        failing.dispatch();
+        verify(httpClient, never()).sendMessageToEndPoint(any(HttpMessage.class));
+
+        final var message = store.claimDue(Long.MAX_VALUE, 1).iterator().next();
+        assertEquals(1, message.getAttempts());
+        assertEquals(Set.of("ST-1"), message.getSessionIndexes());
+    }
+
+    @Test
+    public void verifyServicePassedToLogoutMessageCreator() throws Exception {
+        final var creator = mock(LogoutMessageCreator.class);
+        when(creator.create(any(LogoutRequest.class))).thenReturn("message");
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        final var request = getLogoutRequest("ST-1");
+        final var sending = new SingleLogoutMessageDispatcher(store, httpClient, creator, MoreExecutors.newDirectExecutorService());
+        sending.enqueue(request);
+        sending.dispatch();
+
+        final var captor = ArgumentCaptor.forClass(LogoutRequest.class);
+        verify(creator).create(captor.capture());
+        assertSame(request.getService(), captor.getValue().getService());
+        assertEquals("ST-1", captor.getValue().getTicketId());
+    }
+
+    @Test
+    public void verifyNewSessionIndexesNotCoalescedIntoRetriedMessage() throws Exception {
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        dispatcher.enqueue(getLogoutRequest("ST-1"));
+        dispatcher.dispatch();
+        dispatcher.enqueue(getLogoutRequest("ST-2"));
+        assertEquals(2, store.size());
+
+        final var messages = store.claimDue(Long.MAX_VALUE, 10);
+        assertEquals(2, messages.size());
+        final var fresh = messages.stream().filter(m -> m.getAttempts() == 0).findFirst().orElseThrow();
+        assertEquals(Set.of("ST-2"), fresh.getSessionIndexes());
+        assertTrue(fresh.getNextAttemptTime() <= System.currentTimeMillis());
+    }
+
+    @Test
+    public void verifyRetryDelayIsBounded() {
+        assertEquals(2000, dispatcher.getRetryDelay(1).toMillis());
+        assertEquals(4000, dispatcher.getRetryDelay(2).toMillis());
+        assertEquals(dispatcher.getMaxRetryDelay(), dispatcher.getRetryDelay(100));
+    }
+
+    @Test
+    public void verifyFileStoreSurvivesRestart() throws Exception {
+        final var directory = folder.newFolder();
+        final var fileStore = new FileSystemSingleLogoutMessageQueueStore(directory);
+        fileStore.offer(LOGOUT_URL, "ST-1", null);
+        fileStore.offer(LOGOUT_URL, "ST-2", null);
+        fileStore.offer("https://other.example.org/logout", "ST-3", null);
+
+        final var restored = new FileSystemSingleLogoutMessageQueueStore(directory);
+        assertEquals(2, restored.size());
+        final var messages = restored.claimDue(System.currentTimeMillis(), 10);
+        assertEquals(2, messages.size());
+        messages.forEach(restored::remove);
+        assertEquals(0, new FileSystemSingleLogoutMessageQueueStore(directory).size());
+    }
+}
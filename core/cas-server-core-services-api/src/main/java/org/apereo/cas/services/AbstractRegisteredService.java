@@ -1,6 +1,7 @@
 package org.apereo.cas.services;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -20,11 +21,14 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Inheritance;
 import javax.persistence.JoinTable;
 import javax.persistence.Lob;
 import javax.persistence.OneToMany;
 import javax.persistence.OrderColumn;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 import java.net.URL;
 import java.util.ArrayList;
@@ -45,13 +49,13 @@ import java.util.Map;
 @Entity
 @Inheritance
 @DiscriminatorColumn(name = "expression_type", length = 50, discriminatorType = DiscriminatorType.STRING, columnDefinition = "VARCHAR(50) DEFAULT 'regex'")
-@Table(name = "RegexRegisteredService")
+@Table(name = "RegexRegisteredService", indexes = @Index(name = "idx_matching_key", columnList = "matching_key"))
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
 @Slf4j
-@ToString
+@ToString(exclude = "matchingKey")
 @Getter
 @Setter
-@EqualsAndHashCode(exclude = {"id"})
+@EqualsAndHashCode(exclude = {"id", "matchingKey"})
 public abstract class AbstractRegisteredService implements RegisteredService {
 
     private static final long serialVersionUID = 7645279151115635245L;
@@ -139,6 +143,17 @@ public abstract class AbstractRegisteredService implements RegisteredService {
     @OrderColumn
     private List<DefaultRegisteredServiceContact> contacts = new ArrayList<>();
 
+    /**
+     * Denormalized from the service id so the JPA registry can query candidate services.
+     *
+     * @see RegisteredServiceMatchingKeys
+     */
+    @Column(name = "matching_key")
+    @org.springframework.data.annotation.Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String matchingKey;
+
     /**
      * Initializes the registered service with default values
      * for fields that are unspecified. Only triggered by JPA.
@@ -159,6 +174,15 @@ public abstract class AbstractRegisteredService implements RegisteredService {
         this.expirationPolicy = ObjectUtils.defaultIfNull(this.expirationPolicy, new DefaultRegisteredServiceExpirationPolicy());
     }
 
+    /**
+     * Computes the matching key of this service before it's stored. Only triggered by JPA.
+     */
+    @PrePersist
+    @PreUpdate
+    protected void initializeMatchingKey() {
+        this.matchingKey = RegisteredServiceMatchingKeys.getMatchingKey(this);
+    }
+
     /**
      * Sets the service identifier. Extensions are to define the format.
      *
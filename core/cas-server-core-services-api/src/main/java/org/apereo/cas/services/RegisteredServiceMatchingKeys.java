@@ -0,0 +1,193 @@
+package org.apereo.cas.services;
+
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.util.RegexUtils;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * This is {@link RegisteredServiceMatchingKeys}, which lets service registries backed by a database
+ * look up the service that matches a service url without loading and evaluating every definition.
+ * <p>
+ * The matching key of a definition is built from the literal text its {@code serviceId} pattern begins with:
+ * <ul>
+ * <li>if the pattern is a literal, the key is the lookup key of that literal;</li>
+ * <li>if the literal prefix contains the scheme and the complete host of a url,
+ * the key is the scheme and host, i.e. {@code https://app.example.org};</li>
+ * <li>otherwise, the definition has no key and must be evaluated for every lookup.</li>
+ * </ul>
+ * The lookup key of a service url is its scheme and host, or the complete (lower-cased) identifier if it is not a url.
+ * A definition can only match a service url whose lookup key is equal to the matching key of the definition,
+ * so registries only need to evaluate definitions whose key is equal to the lookup key or is undefined.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@UtilityClass
+public class RegisteredServiceMatchingKeys {
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private static final String HOST_DELIMITERS = "/:?#";
+
+    private static final String METACHARACTERS = "\\.[]{}()*+?|^$";
+
+    private static final String OPTIONAL_QUANTIFIERS = "?*{";
+
+    /**
+     * Gets the matching key of the registered service.
+     *
+     * @param service the service
+     * @return the matching key, or null if the service must be evaluated for every lookup.
+     */
+    public static String getMatchingKey(final RegisteredService service) {
+        if (!(service instanceof RegexRegisteredService)) {
+            return null;
+        }
+        final var pattern = service.getServiceId();
+        if (StringUtils.isBlank(pattern) || !RegexUtils.isValidRegex(pattern) || hasTopLevelAlternation(pattern)) {
+            return null;
+        }
+        final var prefix = new StringBuilder();
+        if (readLiteralPrefix(pattern, prefix)) {
+            return getLookupKey(prefix.toString());
+        }
+        return getHostKey(prefix.toString(), false);
+    }
+
+    /**
+     * Gets the lookup key of the service url.
+     *
+     * @param serviceId the service id
+     * @return the lookup key, or null if the service id is blank.
+     */
+    public static String getLookupKey(final String serviceId) {
+        if (StringUtils.isBlank(serviceId)) {
+            return null;
+        }
+        final var key = getHostKey(serviceId, true);
+        return key != null ? key : serviceId.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Find the first service, by evaluation order, that matches the service id.
+     *
+     * @param candidates the candidates found by matching key
+     * @param serviceId  the service id
+     * @return the registered service, or null.
+     */
+    public static RegisteredService findMatchingService(final Collection<? extends RegisteredService> candidates,
+                                                        final String serviceId) {
+        return candidates.stream()
+            .sorted(Comparator.comparingInt(RegisteredService::getEvaluationOrder))
+            .filter(r -> r.matches(serviceId))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Gets the scheme and host of the given value, if it contains both.
+     *
+     * @param value    the value
+     * @param complete whether the value is complete, in which case the host may end with the value
+     * @return the key or null
+     */
+    private static String getHostKey(final String value, final boolean complete) {
+        final var scheme = value.indexOf(SCHEME_SEPARATOR);
+        if (scheme < 0) {
+            return null;
+        }
+        for (var i = scheme + SCHEME_SEPARATOR.length(); i < value.length(); i++) {
+            if (HOST_DELIMITERS.indexOf(value.charAt(i)) >= 0) {
+                return value.substring(0, i).toLowerCase(Locale.ROOT);
+            }
+        }
+        return complete ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Read the literal text every match of the pattern begins with.
+     *
+     * @param pattern the pattern
+     * @param prefix  the literal prefix
+     * @return true if the entire pattern is literal
+     */
+    private static boolean readLiteralPrefix(final String pattern, final StringBuilder prefix) {
+        var i = pattern.startsWith("^") ? 1 : 0;
+        while (i < pattern.length()) {
+            final var c = pattern.charAt(i);
+            if (c == '$' && i == pattern.length() - 1) {
+                return true;
+            }
+            if (OPTIONAL_QUANTIFIERS.indexOf(c) >= 0) {
+                if (prefix.length() > 0) {
+                    prefix.setLength(prefix.length() - 1);
+                }
+                return false;
+            }
+            if (c == '\\') {
+                if (i + 1 >= pattern.length() || Character.isLetterOrDigit(pattern.charAt(i + 1))) {
+                    return false;
+                }
+                prefix.append(pattern.charAt(i + 1));
+                i += 2;
+            } else if (METACHARACTERS.indexOf(c) >= 0) {
+                return false;
+            } else {
+                prefix.append(c);
+                i++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the pattern is made of alternatives, in which case its literal prefix only applies to the first one.
+     *
+     * @param pattern the pattern
+     * @return true/false
+     */
+    private static boolean hasTopLevelAlternation(final String pattern) {
+        var groups = 0;
+        var classes = 0;
+        var i = 0;
+        while (i < pattern.length()) {
+            final var c = pattern.charAt(i);
+            if (c == '\\') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == 'Q') {
+                    final var end = pattern.indexOf("\\E", i + 2);
+                    i = end < 0 ? pattern.length() : end + 2;
+                } else {
+                    i += 2;
+                }
+                continue;
+            }
+            if (c == '[') {
+                classes++;
+                i++;
+                if (i < pattern.length() && pattern.charAt(i) == '^') {
+                    i++;
+                }
+                if (i < pattern.length() && pattern.charAt(i) == ']') {
+                    i++;
+                }
+                continue;
+            }
+            if (classes > 0) {
+                if (c == ']') {
+                    classes--;
+                }
+            } else if (c == '(') {
+                groups++;
+            } else if (c == ')') {
+                groups--;
+            } else if (c == '|' && groups == 0) {
+                return true;
+            }
+            i++;
+        }
+        return false;
+    }
+}
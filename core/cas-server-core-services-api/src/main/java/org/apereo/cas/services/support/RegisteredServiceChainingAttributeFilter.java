@@ -1,11 +1,15 @@
 package org.apereo.cas.services.support;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.services.RegisteredServiceAttributeFilter;
 import org.springframework.core.OrderComparator;
+
+import javax.persistence.Transient;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,12 +19,14 @@ import lombok.NoArgsConstructor;
 
 /**
  * The filter that chains other filters inside it.
+ * Filters are sorted once into an ordered snapshot that is shared by all invocations,
+ * and sorted again only when filters are added, removed or replaced, or when the order of a filter changes.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
 @Slf4j
-@ToString
+@ToString(exclude = "sortedFilters")
 @Setter
 @NoArgsConstructor
 @Getter
@@ -31,12 +37,71 @@ public class RegisteredServiceChainingAttributeFilter implements RegisteredServi
 
     private List<RegisteredServiceAttributeFilter> filters = new ArrayList<>();
 
+    @JsonIgnore
+    @Transient
+    private transient SortedFilters sortedFilters;
+
+    /**
+     * Sets filters and discards the previously sorted chain.
+     *
+     * @param filters the filters
+     */
+    public void setFilters(final List<RegisteredServiceAttributeFilter> filters) {
+        this.filters = filters;
+        this.sortedFilters = null;
+    }
+
     @Override
     public Map<String, Object> filter(final Map<String, Object> givenAttributes) {
-        OrderComparator.sort(this.filters);
         final Map<String, Object> attributes = new HashMap<>();
-        filters.forEach(policy -> attributes.putAll(policy.filter(givenAttributes)));
+        getSortedFilters().forEach(policy -> attributes.putAll(policy.filter(givenAttributes)));
         return attributes;
     }
 
+    /**
+     * Gets the filters sorted by their order. The snapshot is rebuilt when the chain
+     * or the order of any filter no longer matches the snapshot.
+     *
+     * @return the sorted filters
+     */
+    protected List<RegisteredServiceAttributeFilter> getSortedFilters() {
+        var sorted = this.sortedFilters;
+        if (sorted == null || !sorted.isSortedFrom(this.filters)) {
+            sorted = new SortedFilters(this.filters);
+            this.sortedFilters = sorted;
+        }
+        return sorted.getFilters();
+    }
+
+    /**
+     * The filters of the chain, sorted, along with the chain and orders they were sorted from.
+     */
+    private static class SortedFilters {
+        private final List<RegisteredServiceAttributeFilter> source;
+        private final int[] orders;
+        @Getter
+        private final List<RegisteredServiceAttributeFilter> filters;
+
+        SortedFilters(final List<RegisteredServiceAttributeFilter> filters) {
+            this.source = new ArrayList<>(filters);
+            this.orders = this.source.stream().mapToInt(RegisteredServiceAttributeFilter::getOrder).toArray();
+            final List<RegisteredServiceAttributeFilter> results = new ArrayList<>(this.source);
+            OrderComparator.sort(results);
+            this.filters = Collections.unmodifiableList(results);
+        }
+
+        boolean isSortedFrom(final List<RegisteredServiceAttributeFilter> filters) {
+            if (filters.size() != this.source.size()) {
+                return false;
+            }
+            for (var i = 0; i < this.orders.length; i++) {
+                final var filter = filters.get(i);
+                if (filter != this.source.get(i) || filter.getOrder() != this.orders[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
 }
@@ -1,19 +1,26 @@
 package org.apereo.cas.services.support;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apereo.cas.services.RegisteredServiceAttributeFilter;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.RegexUtils;
 
+import javax.persistence.Transient;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -22,6 +29,8 @@ import java.util.stream.Collectors;
  * A filtering policy that selectively applies patterns to attributes mapped in the config.
  * If an attribute is mapped, it's only allowed to be released if it matches the linked pattern.
  * If an attribute is not mapped, it may optionally be excluded from the released set of attributes.
+ * Patterns are compiled once per attribute, on first use, and recompiled when the definition of the attribute
+ * is replaced or the patterns are set again.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -45,11 +54,34 @@ public class RegisteredServiceMappedRegexAttributeFilter implements RegisteredSe
 
     private int order;
 
+    @JsonIgnore
+    @Transient
+    private transient Map<String, Pair<Object, Collection<Pattern>>> compiledPatterns;
 
     public RegisteredServiceMappedRegexAttributeFilter(final Map<String, Object> patterns) {
         this.patterns = patterns;
     }
 
+    /**
+     * Sets patterns and discards patterns compiled from previous definitions.
+     *
+     * @param patterns the patterns
+     */
+    public void setPatterns(final Map<String, Object> patterns) {
+        this.patterns = patterns;
+        resetCompiledPatterns();
+    }
+
+    /**
+     * Sets case insensitive and discards patterns compiled with previous flags.
+     *
+     * @param caseInsensitive the case insensitive
+     */
+    public void setCaseInsensitive(final boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+        resetCompiledPatterns();
+    }
+
     @Override
     public Map<String, Object> filter(final Map<String, Object> givenAttributes) {
         final Map<String, Object> attributesToRelease = new HashMap<>();
@@ -58,7 +90,7 @@ public class RegisteredServiceMappedRegexAttributeFilter implements RegisteredSe
             if (patterns.containsKey(attributeName)) {
                 final var attributeValues = CollectionUtils.toCollection(entry.getValue());
                 LOGGER.debug("Found attribute [{}] in pattern definitions with value(s) [{}]", attributeName, attributeValues);
-                final var patterns = createPatternForMappedAttribute(attributeName);
+                final var patterns = getCompiledPatternsForMappedAttribute(attributeName);
                 patterns.forEach(pattern -> {
                     LOGGER.debug("Found attribute [{}] in the pattern definitions. Processing pattern [{}]", attributeName, pattern.pattern());
                     final var filteredValues = filterAttributeValuesByPattern(attributeValues, pattern);
@@ -94,6 +126,67 @@ public class RegisteredServiceMappedRegexAttributeFilter implements RegisteredSe
         }
     }
 
+    /**
+     * Discard compiled patterns, so they are compiled again from the current definitions on next use.
+     */
+    protected void resetCompiledPatterns() {
+        this.compiledPatterns = null;
+    }
+
+    /**
+     * Gets the compiled patterns for mapped attribute, compiling the pattern definition of the attribute
+     * if it was not compiled yet or has been replaced since.
+     *
+     * @param attributeName the attribute name
+     * @return the patterns
+     */
+    protected Collection<Pattern> getCompiledPatternsForMappedAttribute(final String attributeName) {
+        var compiled = this.compiledPatterns;
+        if (compiled == null) {
+            compiled = new ConcurrentHashMap<>(patterns.size());
+            this.compiledPatterns = compiled;
+        }
+        return getCompiledDefinition(compiled, attributeName, this::createPatternForMappedAttribute);
+    }
+
+    /**
+     * Gets the compiled form of the pattern definition of the attribute from the given cache,
+     * compiling the definition on a cache miss or if the cached form was compiled from a different definition.
+     *
+     * @param <T>           the type of the compiled definition
+     * @param compiled      the compiled definitions, keyed by attribute name, along with the definitions they were compiled from
+     * @param attributeName the attribute name
+     * @param compiler      the function that compiles the definition of the attribute
+     * @return the compiled definition
+     */
+    protected <T> T getCompiledDefinition(final Map<String, Pair<Object, T>> compiled, final String attributeName,
+                                          final Function<String, T> compiler) {
+        final var definition = getPatternDefinitionSnapshot(attributeName);
+        final var entry = compiled.get(attributeName);
+        if (entry != null && Objects.equals(entry.getLeft(), definition)) {
+            return entry.getRight();
+        }
+        LOGGER.trace("Compiling pattern definition [{}] for attribute [{}]", definition, attributeName);
+        final var result = compiler.apply(attributeName);
+        compiled.put(attributeName, Pair.of(definition, result));
+        return result;
+    }
+
+    /**
+     * Gets a copy of the pattern definition of the attribute, so that definitions
+     * given as collections and changed in place are not mistaken for the ones already compiled.
+     *
+     * @param attributeName the attribute name
+     * @return the pattern definition
+     */
+    private Object getPatternDefinitionSnapshot(final String attributeName) {
+        final var definition = patterns.get(attributeName);
+        if (definition instanceof Collection) {
+            return new ArrayList<>((Collection<?>) definition);
+        }
+        return definition;
+    }
+
     /**
      * Create pattern for mapped attribute pattern.
      *
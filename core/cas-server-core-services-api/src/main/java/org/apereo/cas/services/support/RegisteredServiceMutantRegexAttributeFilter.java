@@ -1,5 +1,6 @@
 package org.apereo.cas.services.support;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -7,17 +8,21 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.RegexUtils;
 
+import javax.persistence.Transient;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link RegisteredServiceMutantRegexAttributeFilter}.
+ * Patterns and their return value templates are parsed and compiled once per attribute, on first use,
+ * and again when the definition of the attribute is replaced or the patterns are set again.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
@@ -28,6 +33,10 @@ public class RegisteredServiceMutantRegexAttributeFilter extends RegisteredServi
 
     private static final long serialVersionUID = 543145306984660628L;
 
+    @JsonIgnore
+    @Transient
+    private transient Map<String, Pair<Object, Collection<Pair<Pattern, String>>>> compiledPatternsAndReturnValues;
+
     @Override
     public Map<String, Object> filter(final Map<String, Object> givenAttributes) {
         final Map<String, Object> attributesToRelease = new HashMap<>();
@@ -36,7 +45,7 @@ public class RegisteredServiceMutantRegexAttributeFilter extends RegisteredServi
             if (getPatterns().containsKey(attributeName)) {
                 final var attributeValues = CollectionUtils.toCollection(entry.getValue());
                 LOGGER.debug("Found attribute [{}] in pattern definitions with value(s) [{}]", attributeName, attributeValues);
-                final var patterns = createPatternsAndReturnValue(attributeName);
+                final var patterns = getCompiledPatternsAndReturnValues(attributeName);
                 final var finalValues = patterns.stream().map(patternDefn -> {
                     final var pattern = patternDefn.getLeft();
                     LOGGER.debug("Found attribute [{}] in the pattern definitions. Processing pattern [{}]", attributeName, pattern.pattern());
@@ -57,6 +66,21 @@ public class RegisteredServiceMutantRegexAttributeFilter extends RegisteredServi
         return attributesToRelease;
     }
 
+    @Override
+    protected void resetCompiledPatterns() {
+        super.resetCompiledPatterns();
+        this.compiledPatternsAndReturnValues = null;
+    }
+
+    private Collection<Pair<Pattern, String>> getCompiledPatternsAndReturnValues(final String attributeName) {
+        var compiled = this.compiledPatternsAndReturnValues;
+        if (compiled == null) {
+            compiled = new ConcurrentHashMap<>(getPatterns().size());
+            this.compiledPatternsAndReturnValues = compiled;
+        }
+        return getCompiledDefinition(compiled, attributeName, this::createPatternsAndReturnValue);
+    }
+
     private Collection<Pair<Pattern, String>> createPatternsAndReturnValue(final String attributeName) {
         final var patternDef = getPatterns().get(attributeName);
         final List<Object> patternAndReturnVal = new ArrayList<>(CollectionUtils.toCollection(patternDef));
@@ -21,6 +21,7 @@ import org.apereo.cas.services.RefuseRegisteredServiceProxyPolicyTests;
 import org.apereo.cas.services.RegexMatchingRegisteredServiceProxyPolicyTests;
 import org.apereo.cas.services.RegexRegisteredServiceTests;
 import org.apereo.cas.services.RegisteredServiceAuthenticationHandlerResolverTests;
+import org.apereo.cas.services.RegisteredServiceMatchingKeysTests;
 import org.apereo.cas.services.RegisteredServicePublicKeyImplTests;
 import org.apereo.cas.services.RemoteEndpointServiceAccessStrategyTests;
 import org.apereo.cas.services.ScriptedRegisteredServiceUsernameProviderTests;
@@ -29,6 +30,7 @@ import org.apereo.cas.services.TimeBasedRegisteredServiceAccessStrategyTests;
 import org.apereo.cas.services.UnauthorizedProxyingExceptionTests;
 import org.apereo.cas.services.UnauthorizedServiceExceptionTests;
 import org.apereo.cas.services.UnauthorizedSsoServiceExceptionTests;
+import org.apereo.cas.services.support.RegisteredServiceChainingAttributeFilterTests;
 import org.apereo.cas.services.support.RegisteredServiceMappedRegexAttributeFilterTests;
 import org.apereo.cas.services.support.RegisteredServiceRegexAttributeFilterTests;
 import org.apereo.cas.util.services.DefaultRegisteredServiceJsonSerializerTests;
@@ -58,8 +60,10 @@ import org.junit.runners.Suite;
         RefuseRegisteredServiceProxyPolicyTests.class,
         GroovyRegisteredServiceUsernameProviderTests.class,
         RegisteredServiceAuthenticationHandlerResolverTests.class,
+        RegisteredServiceMatchingKeysTests.class,
         SimpleServiceTests.class,
         RegisteredServiceMappedRegexAttributeFilterTests.class,
+        RegisteredServiceChainingAttributeFilterTests.class,
         RegisteredServiceRegexAttributeFilterTests.class,
         RegisteredServicePublicKeyImplTests.class,
         TimeBasedRegisteredServiceAccessStrategyTests.class,
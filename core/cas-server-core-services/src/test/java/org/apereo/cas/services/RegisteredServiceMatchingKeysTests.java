@@ -0,0 +1,97 @@
+package org.apereo.cas.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link RegisteredServiceMatchingKeysTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class RegisteredServiceMatchingKeysTests {
+
+    @Test
+    public void verifyHostKeyFromLiteralPrefix() {
+        assertEquals("https://app.example.org", getMatchingKey("^https://app\\.example\\.org/.*"));
+        assertEquals("https://app.example.org", getMatchingKey("https://APP\\.example\\.org:8443/cas/.*"));
+        assertEquals("https://app.example.org", getMatchingKey("^https://app\\.example\\.org/(cas|login)/.*"));
+    }
+
+    @Test
+    public void verifyKeyOfLiteralPattern() {
+        assertEquals("https://app.example.org", getMatchingKey("https://app\\.example\\.org"));
+        assertEquals("urn:example:sp", getMatchingKey("^urn:example:SP$"));
+    }
+
+    @Test
+    public void verifyNoKeyWhenHostIsNotLiteral() {
+        assertNull(getMatchingKey("^https?://app\\.example\\.org/.*"));
+        assertNull(getMatchingKey("^https://app\\.example\\.org.*"));
+        assertNull(getMatchingKey("^https://app\\.example\\.orgx?/.*"));
+        assertNull(getMatchingKey("^http://www.example.org/.*"));
+        assertNull(getMatchingKey("^(https|imaps)://.*"));
+        assertNull(getMatchingKey("https://\\w+\\.example\\.org/.*"));
+        assertNull(getMatchingKey(".*"));
+    }
+
+    @Test
+    public void verifyNoKeyForAlternatives() {
+        assertNull(getMatchingKey("https://a\\.example\\.org/.*|https://b\\.example\\.org/.*"));
+        assertEquals("https://a.example.org", getMatchingKey("https://a\\.example\\.org/[|].*"));
+    }
+
+    @Test
+    public void verifyNoKeyForInvalidPattern() {
+        assertNull(getMatchingKey("https://app\\.example\\.org/(.*"));
+        assertNull(getMatchingKey(null));
+    }
+
+    @Test
+    public void verifyLookupKey() {
+        assertEquals("https://app.example.org", RegisteredServiceMatchingKeys.getLookupKey("https://App.Example.org/cas?x=y"));
+        assertEquals("https://app.example.org", RegisteredServiceMatchingKeys.getLookupKey("https://app.example.org:8443"));
+        assertEquals("https://app.example.org", RegisteredServiceMatchingKeys.getLookupKey("https://app.example.org"));
+        assertEquals("urn:example:sp", RegisteredServiceMatchingKeys.getLookupKey("urn:example:SP"));
+        assertNull(RegisteredServiceMatchingKeys.getLookupKey(" "));
+    }
+
+    @Test
+    public void verifyMatchingServiceHasLookupKey() {
+        final var services = List.of("^https://app\\.example\\.org/.*", "https://app\\.example\\.org:8443/cas/.*",
+            "^https://app\\.example\\.org/(cas|login)/.*", "https://app\\.example\\.org", "^urn:example:SP$");
+        final var urls = List.of("https://APP.example.org/cas/login", "https://app.example.org:8443/cas/x",
+            "https://app.example.org", "URN:example:sp", "https://other.example.org/cas/login");
+        services.forEach(id -> {
+            final var service = RegisteredServiceTestUtils.getRegisteredService(id);
+            final var key = RegisteredServiceMatchingKeys.getMatchingKey(service);
+            urls.stream().filter(service::matches)
+                .forEach(url -> assertEquals(id + " matches " + url, key, RegisteredServiceMatchingKeys.getLookupKey(url)));
+        });
+    }
+
+    @Test
+    public void verifyFirstMatchingServiceByEvaluationOrder() {
+        final var first = RegisteredServiceTestUtils.getRegisteredService("^https://app\\.example\\.org/.*");
+        first.setEvaluationOrder(10);
+        final var second = RegisteredServiceTestUtils.getRegisteredService("^https?://.*");
+        second.setEvaluationOrder(100);
+        final var other = RegisteredServiceTestUtils.getRegisteredService("^https://other\\.example\\.org/.*");
+        other.setEvaluationOrder(1);
+        final List<RegisteredService> candidates = List.of(second, other, first);
+        assertSame(first, RegisteredServiceMatchingKeys.findMatchingService(candidates, "https://app.example.org/cas"));
+        assertSame(second, RegisteredServiceMatchingKeys.findMatchingService(candidates, "http://app.example.org/cas"));
+        assertNull(RegisteredServiceMatchingKeys.findMatchingService(candidates, "imaps://app.example.org"));
+    }
+
+    private static String getMatchingKey(final String serviceId) {
+        final var service = new RegexRegisteredService();
+        service.setServiceId(serviceId);
+        return RegisteredServiceMatchingKeys.getMatchingKey(service);
+    }
+}
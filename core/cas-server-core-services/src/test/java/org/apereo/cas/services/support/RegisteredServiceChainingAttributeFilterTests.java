@@ -0,0 +1,44 @@
+package org.apereo.cas.services.support;
+
+import org.apereo.cas.util.CollectionUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link RegisteredServiceChainingAttributeFilterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class RegisteredServiceChainingAttributeFilterTests {
+
+    private static RegisteredServiceMappedRegexAttributeFilter getFilter(final String pattern, final int order) {
+        final var filter = new RegisteredServiceMappedRegexAttributeFilter(Collections.singletonMap("memberOf", pattern));
+        filter.setOrder(order);
+        return filter;
+    }
+
+    @Test
+    public void verifyFiltersSortedAgainWhenOrderChanges() {
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put("memberOf", Arrays.asList("math", "science", "marathon"));
+
+        final var first = getFilter("^m", 1);
+        final var second = getFilter("^s", 2);
+        final var chain = new RegisteredServiceChainingAttributeFilter();
+        chain.setFilters(CollectionUtils.wrapList(first, second));
+        assertEquals(1, CollectionUtils.toCollection(chain.filter(attributes).get("memberOf")).size());
+
+        first.setOrder(3);
+        assertEquals(2, CollectionUtils.toCollection(chain.filter(attributes).get("memberOf")).size());
+
+        chain.getFilters().add(getFilter("^sc", 4));
+        assertEquals(1, CollectionUtils.toCollection(chain.filter(attributes).get("memberOf")).size());
+    }
+}
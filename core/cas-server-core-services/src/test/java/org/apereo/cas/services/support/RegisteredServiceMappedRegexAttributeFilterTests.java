@@ -97,6 +97,37 @@ public class RegisteredServiceMappedRegexAttributeFilterTests {
         assertFalse(attrs.containsKey("memberOf"));
     }
 
+    @Test
+    public void verifyPatternsRecompiledWhenChanged() {
+        this.filter.setPatterns(Collections.singletonMap("memberOf", "^m"));
+        this.filter.setExcludeUnmappedAttributes(true);
+        assertEquals(2, CollectionUtils.toCollection(this.filter.filter(this.givenAttributesMap).get("memberOf")).size());
+        assertEquals(2, CollectionUtils.toCollection(this.filter.filter(this.givenAttributesMap).get("memberOf")).size());
+
+        this.filter.setPatterns(Collections.singletonMap("memberOf", "^s"));
+        assertEquals(1, CollectionUtils.toCollection(this.filter.filter(this.givenAttributesMap).get("memberOf")).size());
+
+        this.filter.setPatterns(Collections.singletonMap("memberOf", "^M"));
+        this.filter.setCaseInsensitive(false);
+        assertTrue(this.filter.filter(this.givenAttributesMap).isEmpty());
+    }
+
+    @Test
+    public void verifyPatternsChangedInPlace() {
+        final Map<String, Object> patterns = new HashMap<>();
+        patterns.put("memberOf", "^m");
+        this.filter.setPatterns(patterns);
+        this.filter.setExcludeUnmappedAttributes(true);
+        assertEquals(1, this.filter.filter(this.givenAttributesMap).size());
+
+        patterns.put(UID, "^logged");
+        patterns.put("memberOf", "^s");
+        final var attrs = this.filter.filter(this.givenAttributesMap);
+        assertEquals(2, attrs.size());
+        assertTrue(attrs.containsKey(UID));
+        assertEquals(1, CollectionUtils.toCollection(attrs.get("memberOf")).size());
+    }
+
     @Test
     public void verifySerialization() {
         final var data = SerializationUtils.serialize(this.filter);
@@ -2,24 +2,31 @@ package org.apereo.cas.util;
 
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.BasicCredentialsProvider;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.apereo.cas.util.http.SharedHttpClient;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
@@ -36,6 +43,15 @@ import java.util.Map;
 @Slf4j
 @UtilityClass
 public class HttpUtils {
+    /**
+     * Response size that lifts the limit of the shared client.
+     */
+    public static final long UNLIMITED_RESPONSE_SIZE = -1;
+
+    /**
+     * Timeout that keeps the timeouts of the shared client.
+     */
+    public static final int DEFAULT_TIMEOUT = -1;
 
     /**
      * Execute http response.
@@ -116,10 +132,40 @@ public class HttpUtils {
                                        final Map<String, Object> parameters,
                                        final Map<String, Object> headers,
                                        final String entity) {
+        final var settings = SharedHttpClient.getInstance().getSettings();
+        return execute(url, method, basicAuthUsername, basicAuthPassword, parameters, headers, entity,
+            settings.getMaxResponseSize(), DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Execute http request and produce a response, overriding the response size limit
+     * and the timeouts of the shared client for this call only.
+     *
+     * @param url               the url
+     * @param method            the method
+     * @param basicAuthUsername the basic auth username
+     * @param basicAuthPassword the basic auth password
+     * @param parameters        the parameters
+     * @param headers           the headers
+     * @param entity            the entity
+     * @param maxResponseSize   the maximum size of the response body in bytes, or {@link #UNLIMITED_RESPONSE_SIZE}
+     * @param timeout           the connect and read timeout in milliseconds, {@code 0} to wait indefinitely,
+     *                          or {@link #DEFAULT_TIMEOUT} to use the timeouts of the shared client
+     * @return the http response
+     */
+    public static HttpResponse execute(final String url, final String method,
+                                       final String basicAuthUsername,
+                                       final String basicAuthPassword,
+                                       final Map<String, Object> parameters,
+                                       final Map<String, Object> headers,
+                                       final String entity,
+                                       final long maxResponseSize,
+                                       final int timeout) {
         try {
-            final var client = buildHttpClient(basicAuthUsername, basicAuthPassword);
+            final var sharedHttpClient = SharedHttpClient.getInstance();
+            final var client = sharedHttpClient.getHttpClient();
             final var uri = buildHttpUri(url, parameters);
-            final HttpUriRequest request;
+            final HttpRequestBase request;
             switch (method.toLowerCase()) {
                 case "post":
                     request = new HttpPost(uri);
@@ -138,7 +184,15 @@ public class HttpUtils {
             }
             headers.forEach((k, v) -> request.addHeader(k, v.toString()));
             prepareHttpRequest(request, basicAuthUsername, basicAuthPassword, parameters);
-            return client.execute(request);
+            if (timeout != DEFAULT_TIMEOUT) {
+                request.setConfig(RequestConfig.custom()
+                    .setConnectTimeout(timeout)
+                    .setSocketTimeout(timeout)
+                    .setConnectionRequestTimeout(sharedHttpClient.getSettings().getConnectionRequestTimeout())
+                    .build());
+            }
+            final var response = client.execute(request, buildHttpClientContext(basicAuthUsername, basicAuthPassword));
+            return bufferResponseEntity(response, maxResponseSize);
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -294,22 +348,64 @@ public class HttpUtils {
     }
 
     /**
-     * Prepare credentials if needed.
+     * Build the context of the request, carrying credentials if needed.
      *
-     * @param builder           the builder
      * @param basicAuthUsername username for basic auth
      * @param basicAuthPassword password for basic auth
-     * @return the http client builder
+     * @return the http client context
      */
-    private static HttpClientBuilder prepareCredentialsIfNeeded(final HttpClientBuilder builder, final String basicAuthUsername,
-                                                                final String basicAuthPassword) {
+    private static HttpClientContext buildHttpClientContext(final String basicAuthUsername, final String basicAuthPassword) {
+        final var context = HttpClientContext.create();
         if (StringUtils.isNotBlank(basicAuthUsername) && StringUtils.isNotBlank(basicAuthPassword)) {
             final CredentialsProvider provider = new BasicCredentialsProvider();
             final var credentials = new UsernamePasswordCredentials(basicAuthUsername, basicAuthPassword);
             provider.setCredentials(AuthScope.ANY, credentials);
-            return builder.setDefaultCredentialsProvider(provider);
+            context.setCredentialsProvider(provider);
+        }
+        return context;
+    }
+
+    /**
+     * Read the response entity into memory, which releases the underlying
+     * pooled connection so it can be reused by subsequent requests.
+     * Callers are then free to consume the response at their own pace, or not at all.
+     * Responses larger than the given size are rejected, and their connection is closed
+     * rather than read to the end.
+     *
+     * @param response the response
+     * @param maxSize  the maximum size of the response body, in bytes, or a negative value for no limit
+     * @return the http response
+     * @throws IOException the exception
+     */
+    private static HttpResponse bufferResponseEntity(final HttpResponse response, final long maxSize) throws IOException {
+        final var entity = response.getEntity();
+        if (entity == null) {
+            return response;
+        }
+        try {
+            final var limited = maxSize >= 0;
+            if (limited && entity.getContentLength() > maxSize) {
+                throw new IOException("Response body of " + entity.getContentLength() + " bytes exceeds the maximum of " + maxSize + " bytes");
+            }
+            final var content = entity.getContent();
+            final var body = content == null
+                ? new byte[0]
+                : IOUtils.toByteArray(limited ? new BoundedInputStream(content, maxSize + 1) : content);
+            if (limited && body.length > maxSize) {
+                throw new IOException("Response body exceeds the maximum of " + maxSize + " bytes");
+            }
+            final var buffered = new ByteArrayEntity(body);
+            buffered.setContentType(entity.getContentType());
+            buffered.setContentEncoding(entity.getContentEncoding());
+            response.setEntity(buffered);
+            IOUtils.closeQuietly(content);
+            return response;
+        } catch (final IOException e) {
+            if (response instanceof Closeable) {
+                Closeable.class.cast(response).close();
+            }
+            throw e;
         }
-        return builder;
     }
 
     /**
@@ -336,11 +432,6 @@ public class HttpUtils {
         return uriBuilder.build();
     }
 
-    private static HttpClient buildHttpClient(final String basicAuthUsername, final String basicAuthPassword) {
-        final var builder = HttpClientBuilder.create();
-        return prepareCredentialsIfNeeded(builder, basicAuthUsername, basicAuthPassword).build();
-    }
-
 
     /**
      * Create headers org . springframework . http . http headers.
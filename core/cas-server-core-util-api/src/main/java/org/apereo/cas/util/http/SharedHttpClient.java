@@ -0,0 +1,240 @@
+package org.apereo.cas.util.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is {@link SharedHttpClient}, a process-wide pooled HTTP client used for outbound calls
+ * made by {@link org.apereo.cas.util.HttpUtils} and REST-backed components.
+ * Connections are pooled per route and kept alive between requests, so that repeated calls to
+ * the same endpoint reuse established TCP connections and TLS sessions instead of opening new ones.
+ * <p>
+ * A default client is created on first use; the CAS runtime reconfigures it at startup
+ * via {@link #configure(Settings)}. {@link RestTemplate} instances created by {@link #newRestTemplate()}
+ * always execute against the currently-configured client. A client that is replaced is retired:
+ * it keeps serving requests already in flight, and is closed once its connections are returned
+ * to the pool or the longest a request may take has passed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@Getter
+public class SharedHttpClient implements Closeable {
+
+    private static final AtomicReference<SharedHttpClient> INSTANCE = new AtomicReference<>();
+
+    private static final long DRAIN_CHECK_INTERVAL = 500;
+
+    private final Settings settings;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final CloseableHttpClient httpClient;
+
+    public SharedHttpClient(final Settings settings) {
+        this.settings = settings;
+        final var registry = RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", settings.getSslSocketFactory())
+            .build();
+        this.connectionManager = new PoolingHttpClientConnectionManager(registry, null, null, null,
+            settings.getTimeToLive(), TimeUnit.MILLISECONDS);
+        this.connectionManager.setMaxTotal(settings.getMaxPooledConnections());
+        this.connectionManager.setDefaultMaxPerRoute(settings.getMaxConnectionsPerRoute());
+        this.connectionManager.setValidateAfterInactivity(settings.getValidateAfterInactivity());
+
+        final var requestConfig = RequestConfig.custom()
+            .setConnectTimeout(settings.getConnectionTimeout())
+            .setSocketTimeout(settings.getReadTimeout())
+            .setConnectionRequestTimeout(settings.getConnectionRequestTimeout())
+            .build();
+
+        final var keepAlive = settings.getKeepAlive();
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(this.connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy((response, context) -> {
+                final var duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return duration > 0 ? Math.min(duration, keepAlive) : keepAlive;
+            })
+            .evictExpiredConnections()
+            .evictIdleConnections(keepAlive, TimeUnit.MILLISECONDS)
+            .disableConnectionState()
+            .useSystemProperties()
+            .build();
+        LOGGER.debug("Created shared HTTP client with [{}]", settings);
+    }
+
+    /**
+     * Gets the shared client, creating one with default settings if none is configured.
+     *
+     * @return the instance
+     */
+    public static SharedHttpClient getInstance() {
+        final var current = INSTANCE.get();
+        if (current != null) {
+            return current;
+        }
+        final var created = new SharedHttpClient(new Settings());
+        if (INSTANCE.compareAndSet(null, created)) {
+            return created;
+        }
+        created.close();
+        return INSTANCE.get();
+    }
+
+    /**
+     * Replace the shared client with one built from the given settings.
+     * The previous client, if any, is retired once its in-flight requests complete.
+     * This is intended to run once at startup.
+     *
+     * @param settings the settings
+     * @return the shared client
+     */
+    public static SharedHttpClient configure(final Settings settings) {
+        final var client = new SharedHttpClient(settings);
+        final var previous = INSTANCE.getAndSet(client);
+        if (previous != null) {
+            previous.retire();
+        }
+        return client;
+    }
+
+    /**
+     * Build a request factory that executes requests against the shared client.
+     *
+     * @return the client http request factory
+     */
+    public static ClientHttpRequestFactory newClientHttpRequestFactory() {
+        return new SharedHttpComponentsClientHttpRequestFactory();
+    }
+
+    /**
+     * Build a rest template that executes requests against the shared client.
+     *
+     * @return the rest template
+     */
+    public static RestTemplate newRestTemplate() {
+        return new RestTemplate(newClientHttpRequestFactory());
+    }
+
+    /**
+     * Point-in-time statistics of the connection pool.
+     *
+     * @return the pool stats
+     */
+    public PoolStats getPoolStats() {
+        return this.connectionManager.getTotalStats();
+    }
+
+    /**
+     * Close this client. If it is the shared client, it is no longer handed out,
+     * and the next call to {@link #getInstance()} creates a new one.
+     */
+    @Override
+    public void close() {
+        INSTANCE.compareAndSet(this, null);
+        closeHttpClient();
+    }
+
+    /**
+     * Close this client once requests that leased a connection from its pool have completed,
+     * waiting no longer than the combined timeouts of a single request.
+     */
+    private void retire() {
+        final var deadline = System.currentTimeMillis() + this.settings.getConnectionRequestTimeout()
+            + this.settings.getConnectionTimeout() + this.settings.getReadTimeout();
+        final var drain = new Thread(() -> {
+            try {
+                do {
+                    Thread.sleep(DRAIN_CHECK_INTERVAL);
+                } while (this.connectionManager.getTotalStats().getLeased() > 0 && System.currentTimeMillis() < deadline);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                LOGGER.debug("Closing retired shared HTTP client with [{}]", getPoolStats());
+                closeHttpClient();
+            }
+        }, "SharedHttpClientDrain");
+        drain.setDaemon(true);
+        drain.start();
+    }
+
+    private void closeHttpClient() {
+        try {
+            this.httpClient.close();
+        } catch (final Exception e) {
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Settings of the shared client. Timeouts are expressed in milliseconds, and sizes in bytes.
+     */
+    @Getter
+    @Setter
+    @ToString(exclude = "sslSocketFactory")
+    public static class Settings {
+        private static final int DEFAULT_TIMEOUT = 5000;
+
+        private int maxPooledConnections = 200;
+
+        private int maxConnectionsPerRoute = 20;
+
+        private int connectionTimeout = DEFAULT_TIMEOUT;
+
+        private int readTimeout = DEFAULT_TIMEOUT;
+
+        private int connectionRequestTimeout = DEFAULT_TIMEOUT;
+
+        private long keepAlive = 30_000;
+
+        private long timeToLive = -1;
+
+        private int validateAfterInactivity = 2000;
+
+        private long maxResponseSize = 10 * 1024 * 1024;
+
+        private SSLConnectionSocketFactory sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+    }
+
+    /**
+     * Request factory that always resolves the currently-configured shared client,
+     * so that components created before the client is configured pick up the final settings.
+     */
+    private static class SharedHttpComponentsClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+        SharedHttpComponentsClientHttpRequestFactory() {
+            super(SharedHttpClient.getInstance().getHttpClient());
+        }
+
+        @Override
+        public org.apache.http.client.HttpClient getHttpClient() {
+            return SharedHttpClient.getInstance().getHttpClient();
+        }
+
+        @Override
+        public void destroy() {
+            LOGGER.trace("Shared HTTP client is not closed by individual request factories");
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package org.apereo.cas.util.io;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link AsynchronousNotificationDispatcher}, which delivers email and sms notifications
+ * off the request thread using a bounded pool of workers.
+ * <ul>
+ * <li>Once all workers are busy and the queue is full, the delivery is handed to the retry scheduler
+ * and submitted again after the retry delay, so the calling thread never delivers notifications itself
+ * and no notification is dropped.</li>
+ * <li>Emails waiting to be delivered are sent in batches, so a batch reuses a single connection to the mail server.</li>
+ * <li>Failed deliveries are retried with exponential backoff, up to the maximum number of attempts.</li>
+ * <li>Each channel may be limited to a number of messages per second.</li>
+ * <li>If an outbox is defined, notifications are kept there until delivered and
+ * are picked up again once the dispatcher starts.</li>
+ * </ul>
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class AsynchronousNotificationDispatcher implements InitializingBean, DisposableBean {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final JavaMailSender mailSender;
+
+    private final SmsSender smsSender;
+
+    private final ThreadPoolExecutor executor;
+
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Queue<Notification> pendingEmails = new ConcurrentLinkedQueue<>();
+
+    private final int emailBatchSize;
+
+    private final NotificationRateLimiter emailRateLimiter;
+
+    private final NotificationRateLimiter smsRateLimiter;
+
+    private final int maximumAttempts;
+
+    private final Duration retryDelay;
+
+    private final Duration maximumRetryDelay;
+
+    private final NotificationOutbox outbox;
+
+    private final AtomicBoolean disposed = new AtomicBoolean();
+
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    private final AtomicLong deliveredCount = new AtomicLong();
+
+    private final AtomicLong retriedCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicLong deferredCount = new AtomicLong();
+
+    public AsynchronousNotificationDispatcher(final JavaMailSender mailSender, final SmsSender smsSender,
+                                              final int poolSize, final int queueCapacity, final int emailBatchSize,
+                                              final double emailPermitsPerSecond, final double smsPermitsPerSecond,
+                                              final int maximumAttempts, final Duration retryDelay,
+                                              final Duration maximumRetryDelay, final NotificationOutbox outbox) {
+        this.mailSender = mailSender;
+        this.smsSender = smsSender;
+        this.emailBatchSize = Math.max(1, emailBatchSize);
+        this.emailRateLimiter = new NotificationRateLimiter(emailPermitsPerSecond);
+        this.smsRateLimiter = new NotificationRateLimiter(smsPermitsPerSecond);
+        this.maximumAttempts = Math.max(1, maximumAttempts);
+        this.retryDelay = retryDelay;
+        this.maximumRetryDelay = maximumRetryDelay;
+        this.outbox = outbox;
+
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(newThreadFactory("notification-retry"));
+        final var threads = Math.max(1, poolSize);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), newThreadFactory("notification-dispatcher"),
+            (task, pool) -> deferred(task));
+    }
+
+    /**
+     * Deliver notifications that were left in the outbox the last time the dispatcher stopped.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (this.outbox != null) {
+            final var notifications = this.outbox.load();
+            if (!notifications.isEmpty()) {
+                LOGGER.info("Delivering [{}] notification(s) found in outbox [{}]", notifications.size(), this.outbox.getDirectory());
+                notifications.forEach(this::submit);
+            }
+        }
+    }
+
+    /**
+     * Queue the notification for delivery.
+     *
+     * @param notification the notification
+     */
+    public void dispatch(final Notification notification) {
+        if (this.outbox != null) {
+            this.outbox.store(notification);
+        }
+        submit(notification);
+    }
+
+    /**
+     * Stop accepting notifications and wait for queued notifications to be delivered.
+     * Notifications that are still waiting for a retry remain in the outbox, if one is defined.
+     */
+    @Override
+    public void destroy() {
+        if (!this.disposed.compareAndSet(false, true)) {
+            return;
+        }
+        final var waitingRetries = this.retryScheduler.shutdownNow();
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final var undelivered = waitingRetries.size() + this.pendingEmails.size();
+        if (undelivered > 0) {
+            LOGGER.warn("[{}] notification(s) could not be delivered before shutdown{}", undelivered,
+                this.outbox != null ? " and will be delivered from the outbox once started again" : StringUtils.EMPTY);
+        }
+    }
+
+    /**
+     * Gets the number of notifications waiting to be delivered.
+     *
+     * @return the queue size
+     */
+    public int getQueueSize() {
+        return this.queueSize.get();
+    }
+
+    /**
+     * Gets the number of notifications delivered.
+     *
+     * @return the delivered count
+     */
+    public long getDeliveredCount() {
+        return this.deliveredCount.get();
+    }
+
+    /**
+     * Gets the number of failed deliveries that were scheduled to be retried.
+     *
+     * @return the retried count
+     */
+    public long getRetriedCount() {
+        return this.retriedCount.get();
+    }
+
+    /**
+     * Gets the number of notifications that could not be delivered after all attempts.
+     *
+     * @return the failed count
+     */
+    public long getFailedCount() {
+        return this.failedCount.get();
+    }
+
+    /**
+     * Gets the number of deliveries that were deferred because all workers were busy and the queue was full.
+     *
+     * @return the deferred count
+     */
+    public long getDeferredCount() {
+        return this.deferredCount.get();
+    }
+
+    private void submit(final Notification notification) {
+        if (this.disposed.get()) {
+            LOGGER.warn("Notification dispatcher is stopped; [{}] is not delivered", notification);
+            return;
+        }
+        this.queueSize.incrementAndGet();
+        if (notification.getType() == Notification.NotificationType.EMAIL) {
+            this.pendingEmails.add(notification);
+            this.executor.execute(this::deliverEmails);
+        } else {
+            this.executor.execute(() -> deliverSms(notification));
+        }
+    }
+
+    /**
+     * Hand a delivery that the workers cannot accept to the retry scheduler, which submits it again
+     * once the retry delay passes. Deferred deliveries do not count as failed attempts.
+     *
+     * @param task the delivery task
+     */
+    private void deferred(final Runnable task) {
+        if (this.disposed.get()) {
+            LOGGER.warn("Notification dispatcher is stopped; a pending delivery is not executed");
+            return;
+        }
+        LOGGER.debug("Notification workers are busy; deferring delivery by [{}]", this.retryDelay);
+        this.deferredCount.incrementAndGet();
+        try {
+            this.retryScheduler.schedule(() -> this.executor.execute(task), this.retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.warn("Notification dispatcher is stopped; a pending delivery is not executed");
+        }
+    }
+
+    private void deliverEmails() {
+        final List<Notification> batch = new ArrayList<>(this.emailBatchSize);
+        while (batch.size() < this.emailBatchSize) {
+            final var notification = this.pendingEmails.poll();
+            if (notification == null) {
+                break;
+            }
+            this.queueSize.decrementAndGet();
+            batch.add(notification);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        final Map<MimeMessage, Notification> messages = new LinkedHashMap<>();
+        batch.forEach(notification -> {
+            try {
+                messages.put(CommunicationsManager.createMimeMessage(this.mailSender, notification), notification);
+            } catch (final Exception e) {
+                LOGGER.error("Unable to prepare email [{}]: [{}]", notification, e.getMessage());
+                failed(notification);
+            }
+        });
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            this.emailRateLimiter.acquire(messages.size());
+            LOGGER.debug("Sending [{}] email(s) over a single connection", messages.size());
+            this.mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            messages.values().forEach(this::delivered);
+        } catch (final MailSendException e) {
+            final var failedMessages = e.getFailedMessages();
+            messages.forEach((message, notification) -> {
+                if (failedMessages.isEmpty() || failedMessages.containsKey(message)) {
+                    retry(notification, e);
+                } else {
+                    delivered(notification);
+                }
+            });
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.queueSize.addAndGet(messages.size());
+            this.pendingEmails.addAll(messages.values());
+            resubmitEmails();
+        } catch (final Exception e) {
+            messages.values().forEach(notification -> retry(notification, e));
+        }
+    }
+
+    /**
+     * Schedule another delivery of the pending emails, from a thread other than the interrupted worker,
+     * so the emails are not left waiting until another email happens to be dispatched.
+     */
+    private void resubmitEmails() {
+        try {
+            this.retryScheduler.execute(() -> this.executor.execute(this::deliverEmails));
+        } catch (final RejectedExecutionException e) {
+            LOGGER.warn("Notification dispatcher is stopped; [{}] pending email(s) are not delivered", this.pendingEmails.size());
+        }
+    }
+
+    private void deliverSms(final Notification notification) {
+        this.queueSize.decrementAndGet();
+        try {
+            this.smsRateLimiter.acquire(1);
+            if (this.smsSender.send(notification.getFrom(), notification.getTo(), notification.getText())) {
+                delivered(notification);
+            } else {
+                retry(notification, null);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while delivering [{}]", notification);
+        } catch (final Exception e) {
+            retry(notification, e);
+        }
+    }
+
+    private void delivered(final Notification notification) {
+        LOGGER.trace("Delivered [{}]", notification);
+        this.deliveredCount.incrementAndGet();
+        if (this.outbox != null) {
+            this.outbox.remove(notification);
+        }
+    }
+
+    private void retry(final Notification notification, final Exception cause) {
+        final var attempts = notification.getAttempts() + 1;
+        notification.setAttempts(attempts);
+        final var reason = cause != null ? cause.getMessage() : "provider refused the message";
+        if (attempts >= this.maximumAttempts) {
+            LOGGER.error("Unable to deliver [{}] after [{}] attempt(s): [{}]", notification, attempts, reason);
+            LOGGER.debug(reason, cause);
+            failed(notification);
+            return;
+        }
+        final var backoff = this.retryDelay.multipliedBy(1L << Math.min(attempts - 1, Integer.SIZE - 2));
+        final var delay = backoff.compareTo(this.maximumRetryDelay) > 0 ? this.maximumRetryDelay : backoff;
+        LOGGER.warn("Unable to deliver [{}]: [{}]. Retrying in [{}]", notification, reason, delay);
+        this.retriedCount.incrementAndGet();
+        if (this.outbox != null) {
+            this.outbox.store(notification);
+        }
+        try {
+            this.retryScheduler.schedule(() -> submit(notification), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.warn("Notification dispatcher is stopped; [{}] is not retried", notification);
+        }
+    }
+
+    private void failed(final Notification notification) {
+        this.failedCount.incrementAndGet();
+        if (this.outbox != null) {
+            this.outbox.fail(notification);
+        }
+    }
+
+    private static ThreadFactory newThreadFactory(final String prefix) {
+        final var count = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, prefix + '-' + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
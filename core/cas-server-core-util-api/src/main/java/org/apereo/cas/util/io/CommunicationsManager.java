@@ -8,10 +8,14 @@ import org.apereo.cas.util.CollectionUtils;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 
+import javax.mail.internet.MimeMessage;
 import java.util.Optional;
 
 /**
  * This is {@link CommunicationsManager}.
+ * If an {@link AsynchronousNotificationDispatcher} is available, messages are handed to it and delivered
+ * in the background, in which case a successful outcome only indicates that the message is accepted for delivery.
+ * Otherwise, messages are delivered on the calling thread.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -21,6 +25,11 @@ import java.util.Optional;
 public class CommunicationsManager {
     private final SmsSender smsSender;
     private final JavaMailSender mailSender;
+    private final AsynchronousNotificationDispatcher notificationDispatcher;
+
+    public CommunicationsManager(final SmsSender smsSender, final JavaMailSender mailSender) {
+        this(smsSender, mailSender, null);
+    }
 
     public boolean isMailSenderDefined() {
         return this.mailSender != null;
@@ -90,23 +99,12 @@ public class CommunicationsManager {
                 LOGGER.warn("Could not send email to [{}] because either no address/subject/text is found or email settings are not configured.", to);
                 return false;
             }
-
-            final var message = this.mailSender.createMimeMessage();
-            final var helper = new MimeMessageHelper(message);
-            helper.setTo(to);
-            helper.setText(text);
-            helper.setSubject(subject);
-            helper.setFrom(from);
-            helper.setPriority(1);
-
-            if (StringUtils.isNotBlank(cc)) {
-                helper.setCc(cc);
+            final var notification = Notification.email(text, from, subject, to, cc, bcc);
+            if (this.notificationDispatcher != null) {
+                this.notificationDispatcher.dispatch(notification);
+                return true;
             }
-
-            if (StringUtils.isNotBlank(bcc)) {
-                helper.setBcc(bcc);
-            }
-            this.mailSender.send(message);
+            this.mailSender.send(createMimeMessage(this.mailSender, notification));
             return true;
         } catch (final Exception ex) {
             LOGGER.error(ex.getMessage(), ex);
@@ -148,9 +146,40 @@ public class CommunicationsManager {
             LOGGER.warn("Could not send email to [{}] because either no address/subject/text is found or email settings are not configured.", to);
             return false;
         }
+        if (this.notificationDispatcher != null) {
+            this.notificationDispatcher.dispatch(Notification.sms(from, to, text));
+            return true;
+        }
         return this.smsSender.send(from, to, text);
     }
 
+    /**
+     * Create the email message for the given notification.
+     *
+     * @param mailSender   the mail sender
+     * @param notification the notification
+     * @return the message
+     * @throws Exception the exception
+     */
+    static MimeMessage createMimeMessage(final JavaMailSender mailSender, final Notification notification) throws Exception {
+        final var message = mailSender.createMimeMessage();
+        final var helper = new MimeMessageHelper(message);
+        helper.setTo(notification.getTo());
+        helper.setText(notification.getText());
+        helper.setSubject(notification.getSubject());
+        helper.setFrom(notification.getFrom());
+        helper.setPriority(1);
+
+        if (StringUtils.isNotBlank(notification.getCc())) {
+            helper.setCc(notification.getCc());
+        }
+
+        if (StringUtils.isNotBlank(notification.getBcc())) {
+            helper.setBcc(notification.getBcc());
+        }
+        return message;
+    }
+
     private Optional<Object> getFirstAttributeByName(final Principal principal, final String attribute) {
         final var value = principal.getAttributes().get(attribute);
         return CollectionUtils.firstElement(value);
@@ -0,0 +1,85 @@
+package org.apereo.cas.util.io;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * This is {@link Notification}, an email or sms message that is waiting to be delivered.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(of = {"id", "type", "to", "attempts"})
+public class Notification implements Serializable {
+    private static final long serialVersionUID = -2917456238412034862L;
+
+    private String id;
+
+    private NotificationType type;
+
+    private String from;
+
+    private String to;
+
+    private String subject;
+
+    private String text;
+
+    private String cc;
+
+    private String bcc;
+
+    private int attempts;
+
+    /**
+     * Create an email notification.
+     *
+     * @param text    the text
+     * @param from    the from
+     * @param subject the subject
+     * @param to      the to
+     * @param cc      the cc
+     * @param bcc     the bcc
+     * @return the notification
+     */
+    public static Notification email(final String text, final String from, final String subject,
+                                     final String to, final String cc, final String bcc) {
+        return new Notification(UUID.randomUUID().toString(), NotificationType.EMAIL, from, to, subject, text, cc, bcc, 0);
+    }
+
+    /**
+     * Create an sms notification.
+     *
+     * @param from the from
+     * @param to   the to
+     * @param text the text
+     * @return the notification
+     */
+    public static Notification sms(final String from, final String to, final String text) {
+        return new Notification(UUID.randomUUID().toString(), NotificationType.SMS, from, to, null, text, null, null, 0);
+    }
+
+    /**
+     * Notification channels.
+     */
+    public enum NotificationType {
+        /**
+         * Email message.
+         */
+        EMAIL,
+        /**
+         * Sms message.
+         */
+        SMS
+    }
+}
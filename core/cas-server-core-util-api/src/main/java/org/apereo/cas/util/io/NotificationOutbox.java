@@ -0,0 +1,171 @@
+package org.apereo.cas.util.io;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link NotificationOutbox}, which keeps notifications on disk until they are delivered,
+ * so that notifications pending at the time the server stops are delivered once it starts again.
+ * Each notification is kept as a JSON file named after its id. Notifications that could not be delivered
+ * after all attempts are renamed with a {@code .failed} extension and are left for operators to inspect
+ * until the retention period passes.
+ * <p>
+ * Notifications hold the message text in plain form, which may include tokens and links that must be kept secret.
+ * On file systems that support POSIX permissions, the directory and its files are only accessible to the owner.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@Getter
+public class NotificationOutbox {
+    private static final String EXTENSION_PENDING = ".json";
+
+    private static final String EXTENSION_FAILED = ".failed";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .findAndRegisterModules()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final boolean POSIX = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+
+    private final Path directory;
+
+    private final Duration failedRetention;
+
+    public NotificationOutbox(final Path directory, final Duration failedRetention) throws Exception {
+        this.directory = directory;
+        this.failedRetention = failedRetention;
+        if (POSIX) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwx------"));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+
+    /**
+     * Store the notification, replacing any earlier state of the same notification.
+     *
+     * @param notification the notification
+     */
+    public void store(final Notification notification) {
+        try {
+            final var temp = POSIX
+                ? Files.createTempFile(this.directory, notification.getId(), ".tmp", ownerOnly())
+                : Files.createTempFile(this.directory, notification.getId(), ".tmp");
+            MAPPER.writeValue(temp.toFile(), notification);
+            Files.move(temp, pendingFile(notification), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final Exception e) {
+            LOGGER.error("Unable to store notification [{}] in outbox [{}]: [{}]", notification, this.directory, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Remove the delivered notification.
+     *
+     * @param notification the notification
+     */
+    public void remove(final Notification notification) {
+        try {
+            Files.deleteIfExists(pendingFile(notification));
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to remove notification [{}] from outbox [{}]: [{}]", notification, this.directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Set aside the notification that could not be delivered, and remove
+     * notifications that were set aside for longer than the retention period.
+     *
+     * @param notification the notification
+     */
+    public void fail(final Notification notification) {
+        try {
+            if (this.failedRetention.isZero() || this.failedRetention.isNegative()) {
+                Files.deleteIfExists(pendingFile(notification));
+            } else {
+                final var failed = this.directory.resolve(notification.getId() + EXTENSION_FAILED);
+                Files.move(pendingFile(notification), failed, StandardCopyOption.REPLACE_EXISTING);
+                Files.setLastModifiedTime(failed, FileTime.from(Instant.now()));
+            }
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to set aside notification [{}] in outbox [{}]: [{}]", notification, this.directory, e.getMessage());
+        }
+        purgeFailed();
+    }
+
+    /**
+     * Remove notifications that were set aside for longer than the retention period.
+     */
+    public void purgeFailed() {
+        final var cutoff = Instant.now().minus(this.failedRetention);
+        try (var files = Files.list(this.directory)) {
+            final var expired = files.filter(f -> f.getFileName().toString().endsWith(EXTENSION_FAILED))
+                .filter(f -> isModifiedBefore(f, cutoff))
+                .collect(Collectors.toList());
+            for (final var file : expired) {
+                LOGGER.debug("Removing failed notification [{}] after retention period [{}]", file, this.failedRetention);
+                Files.deleteIfExists(file);
+            }
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to remove failed notifications from outbox [{}]: [{}]", this.directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Load all notifications that are waiting to be delivered.
+     *
+     * @return the notifications
+     */
+    public List<Notification> load() {
+        purgeFailed();
+        final List<Notification> results = new ArrayList<>();
+        try (var files = Files.list(this.directory)) {
+            final var pending = files.filter(f -> f.getFileName().toString().endsWith(EXTENSION_PENDING)).collect(Collectors.toList());
+            for (final var file : pending) {
+                try {
+                    results.add(MAPPER.readValue(file.toFile(), Notification.class));
+                } catch (final Exception e) {
+                    LOGGER.error("Unable to read notification from [{}]: [{}]", file, e.getMessage());
+                }
+            }
+        } catch (final Exception e) {
+            LOGGER.error("Unable to list notifications in outbox [{}]: [{}]", this.directory, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+        return results;
+    }
+
+    private static boolean isModifiedBefore(final Path file, final Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (final Exception e) {
+            return false;
+        }
+    }
+
+    private static FileAttribute<?> ownerOnly() {
+        return PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+    }
+
+    private Path pendingFile(final Notification notification) {
+        return this.directory.resolve(notification.getId() + EXTENSION_PENDING);
+    }
+}
@@ -0,0 +1,43 @@
+package org.apereo.cas.util.io;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link NotificationRateLimiter}, which spaces out deliveries on a channel
+ * so that no more than the given number of messages are handed to the provider per second.
+ * Callers that exceed the rate wait for their turn.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class NotificationRateLimiter {
+    private final long intervalNanos;
+
+    private long nextPermitNanos = System.nanoTime();
+
+    public NotificationRateLimiter(final double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    /**
+     * Wait until the given number of messages may be delivered.
+     *
+     * @param permits the number of messages
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire(final int permits) throws InterruptedException {
+        if (this.intervalNanos <= 0) {
+            return;
+        }
+        final long waitNanos;
+        synchronized (this) {
+            final var now = System.nanoTime();
+            final var start = Math.max(now, this.nextPermitNanos);
+            this.nextPermitNanos = start + this.intervalNanos * permits;
+            waitNanos = start - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.apereo.cas.util.http;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.apereo.cas.util.HttpUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link SharedHttpClientTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class SharedHttpClientTests {
+    private static final String RESPONSE = "{\"result\":\"ok\"}";
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private HttpServer server;
+
+    private String url;
+
+    @Before
+    public void setup() throws Exception {
+        SharedHttpClient.configure(new SharedHttpClient.Settings());
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            final var body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (var out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        this.server.start();
+        this.url = "http://localhost:" + this.server.getAddress().getPort() + "/test";
+    }
+
+    @After
+    public void shutdown() {
+        this.server.stop(0);
+    }
+
+    @Test
+    public void verifyHttpUtilsReusesConnections() throws Exception {
+        for (var i = 0; i < 5; i++) {
+            final var response = HttpUtils.executeGet(url);
+            assertNotNull(response);
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            assertEquals(RESPONSE, EntityUtils.toString(response.getEntity()));
+        }
+        assertEquals(1, clientPorts.size());
+        final var stats = SharedHttpClient.getInstance().getPoolStats();
+        assertEquals(0, stats.getLeased());
+        assertEquals(1, stats.getAvailable());
+    }
+
+    @Test
+    public void verifyUnconsumedResponsesReleaseConnections() {
+        for (var i = 0; i < 30; i++) {
+            assertNotNull(HttpUtils.executePost(url, null, null, "{}"));
+        }
+        assertEquals(0, SharedHttpClient.getInstance().getPoolStats().getLeased());
+        assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    public void verifyRestTemplateUsesSharedClient() {
+        final var restTemplate = SharedHttpClient.newRestTemplate();
+        for (var i = 0; i < 3; i++) {
+            assertEquals(RESPONSE, restTemplate.getForObject(url, String.class));
+        }
+        assertEquals(1, clientPorts.size());
+
+        final var settings = new SharedHttpClient.Settings();
+        settings.setMaxConnectionsPerRoute(1);
+        final var reconfigured = SharedHttpClient.configure(settings);
+        assertEquals(RESPONSE, restTemplate.getForObject(url, String.class));
+        assertEquals(1, reconfigured.getPoolStats().getAvailable());
+    }
+
+    @Test
+    public void verifyOversizedResponseRejected() {
+        final var settings = new SharedHttpClient.Settings();
+        settings.setMaxResponseSize(RESPONSE.length() - 1);
+        SharedHttpClient.configure(settings);
+        assertNull(HttpUtils.executeGet(url));
+        assertEquals(0, SharedHttpClient.getInstance().getPoolStats().getLeased());
+
+        settings.setMaxResponseSize(RESPONSE.length());
+        SharedHttpClient.configure(settings);
+        assertNotNull(HttpUtils.executeGet(url));
+    }
+
+    @Test
+    public void verifyResponseSizeAndTimeoutPerCall() throws Exception {
+        final var settings = new SharedHttpClient.Settings();
+        settings.setMaxResponseSize(RESPONSE.length() - 1);
+        SharedHttpClient.configure(settings);
+        assertNull(HttpUtils.executeGet(url));
+
+        final var response = HttpUtils.execute(url, "GET", null, null, new HashMap<>(), new HashMap<>(), null,
+            HttpUtils.UNLIMITED_RESPONSE_SIZE, 30_000);
+        assertNotNull(response);
+        assertEquals(RESPONSE, EntityUtils.toString(response.getEntity()));
+        assertNull(HttpUtils.execute(url, "GET", null, null, new HashMap<>(), new HashMap<>(), null,
+            RESPONSE.length() - 1, HttpUtils.DEFAULT_TIMEOUT));
+        assertEquals(0, SharedHttpClient.getInstance().getPoolStats().getLeased());
+    }
+
+    @Test
+    public void verifyClosedClientIsReplaced() {
+        final var client = SharedHttpClient.getInstance();
+        client.close();
+        final var replacement = SharedHttpClient.getInstance();
+        assertNotSame(client, replacement);
+        assertNotNull(HttpUtils.executeGet(url));
+    }
+
+    @Test
+    public void verifyReconfiguredClientServesInFlightRequests() throws Exception {
+        final var previous = SharedHttpClient.getInstance();
+        SharedHttpClient.configure(new SharedHttpClient.Settings());
+        try (var response = previous.getHttpClient().execute(new HttpGet(url))) {
+            assertEquals(RESPONSE, EntityUtils.toString(response.getEntity()));
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package org.apereo.cas.config;
 
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.CasEmbeddedValueResolver;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.SchedulingUtils;
+import org.apereo.cas.util.io.AsynchronousNotificationDispatcher;
 import org.apereo.cas.util.io.CommunicationsManager;
+import org.apereo.cas.util.io.NotificationOutbox;
 import org.apereo.cas.util.io.SmsSender;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 import org.apereo.cas.util.spring.Converters;
@@ -15,6 +21,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,6 +40,7 @@ import org.springframework.util.StringValueResolver;
 import org.springframework.validation.beanvalidation.BeanValidationPostProcessor;
 
 import javax.validation.MessageInterpolator;
+import java.nio.file.Paths;
 import java.time.ZonedDateTime;
 
 /**
@@ -43,6 +52,7 @@ import java.time.ZonedDateTime;
 @Configuration("casCoreUtilConfiguration")
 @AutoConfigureOrder(Ordered.HIGHEST_PRECEDENCE)
 @EnableScheduling
+@EnableConfigurationProperties(CasConfigurationProperties.class)
 @Slf4j
 public class CasCoreUtilConfiguration implements InitializingBean {
 
@@ -54,9 +64,16 @@ public class CasCoreUtilConfiguration implements InitializingBean {
     @Qualifier("mailSender")
     private ObjectProvider<JavaMailSender> mailSender;
 
+    @Autowired
+    @Qualifier("notificationDispatcher")
+    private ObjectProvider<AsynchronousNotificationDispatcher> notificationDispatcher;
+
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
     @Bean
     public ApplicationContextProvider applicationContextProvider() {
         return new ApplicationContextProvider();
@@ -69,7 +86,24 @@ public class CasCoreUtilConfiguration implements InitializingBean {
 
     @Bean
     public CommunicationsManager communicationsManager() {
-        return new CommunicationsManager(smsSender.getIfAvailable(), mailSender.getIfAvailable());
+        return new CommunicationsManager(smsSender.getIfAvailable(), mailSender.getIfAvailable(), notificationDispatcher.getIfAvailable());
+    }
+
+    @ConditionalOnMissingBean(name = "notificationDispatcher")
+    @ConditionalOnProperty(prefix = "cas.notifications", name = "asynchronous", havingValue = "true", matchIfMissing = true)
+    @Bean
+    @SneakyThrows
+    public AsynchronousNotificationDispatcher notificationDispatcher() {
+        final var notifications = casProperties.getNotifications();
+        final var outbox = StringUtils.isNotBlank(notifications.getOutboxLocation())
+            ? new NotificationOutbox(Paths.get(notifications.getOutboxLocation()), Beans.newDuration(notifications.getOutboxFailedRetention()))
+            : null;
+        return new AsynchronousNotificationDispatcher(mailSender.getIfAvailable(), smsSender.getIfAvailable(),
+            notifications.getPoolSize(), notifications.getQueueCapacity(),
+            notifications.getMail().getBatchSize(), notifications.getMail().getPermitsPerSecond(),
+            notifications.getSms().getPermitsPerSecond(), notifications.getMaximumAttempts(),
+            Beans.newDuration(notifications.getRetryDelay()), Beans.newDuration(notifications.getMaximumRetryDelay()),
+            outbox);
     }
 
     @Bean
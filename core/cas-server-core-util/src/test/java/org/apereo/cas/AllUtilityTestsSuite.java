@@ -22,6 +22,7 @@ import org.apereo.cas.util.gen.HexRandomStringGeneratorTests;
 import org.apereo.cas.util.http.HttpClientMultiThreadedDownloaderTests;
 import org.apereo.cas.util.http.HttpMessageTests;
 import org.apereo.cas.util.http.SimpleHttpClientTests;
+import org.apereo.cas.util.io.AsynchronousNotificationDispatcherTests;
 import org.apereo.cas.util.io.CommunicationsManagerTests;
 import org.apereo.cas.util.io.CopyServletOutputStreamTests;
 import org.junit.runner.RunWith;
@@ -44,6 +45,7 @@ import org.junit.runners.Suite;
     HttpMessageTests.class,
     SimpleHttpClientTests.class,
     CommunicationsManagerTests.class,
+    AsynchronousNotificationDispatcherTests.class,
     CopyServletOutputStreamTests.class,
     Base64RandomStringGeneratorTests.class,
     ChainingPrincipalNameTransformerTests.class,
@@ -0,0 +1,213 @@
+package org.apereo.cas.util.io;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import lombok.SneakyThrows;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link AsynchronousNotificationDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class AsynchronousNotificationDispatcherTests {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private GreenMail mailServer;
+
+    private JavaMailSenderImpl mailSender;
+
+    private StubSmsSender smsSender;
+
+    private AsynchronousNotificationDispatcher dispatcher;
+
+    @Before
+    public void initialize() {
+        this.mailServer = new GreenMail(ServerSetupTest.SMTP);
+        this.mailServer.start();
+        this.mailSender = new JavaMailSenderImpl();
+        this.mailSender.setHost("localhost");
+        this.mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        this.smsSender = new StubSmsSender();
+    }
+
+    @After
+    public void shutdown() {
+        if (this.dispatcher != null) {
+            this.dispatcher.destroy();
+        }
+        this.mailServer.stop();
+    }
+
+    @Test
+    public void verifyEmailsDeliveredInBackground() {
+        this.dispatcher = newDispatcher(3, 0, null);
+        final var communicationsManager = new CommunicationsManager(this.smsSender, this.mailSender, this.dispatcher);
+        for (var i = 0; i < 5; i++) {
+            assertTrue(communicationsManager.email("Body " + i, "cas@example.org", "Subject", "user" + i + "@example.org"));
+        }
+        assertTrue(this.mailServer.waitForIncomingEmail(TIMEOUT_MILLIS, 5));
+        waitFor(() -> this.dispatcher.getDeliveredCount() == 5);
+        assertEquals(0, this.dispatcher.getQueueSize());
+    }
+
+    @Test
+    public void verifyInvalidEmailIsNotQueued() {
+        this.dispatcher = newDispatcher(3, 0, null);
+        final var communicationsManager = new CommunicationsManager(this.smsSender, this.mailSender, this.dispatcher);
+        assertFalse(communicationsManager.email("Body", "cas@example.org", "Subject", null));
+        assertEquals(0, this.dispatcher.getQueueSize());
+    }
+
+    @Test
+    public void verifyEmailRetriedOnceServerIsBack() {
+        this.mailServer.stop();
+        this.dispatcher = newDispatcher(5, 0, null);
+        this.dispatcher.dispatch(Notification.email("Body", "cas@example.org", "Subject", "casuser@example.org", null, null));
+        waitFor(() -> this.dispatcher.getRetriedCount() >= 1);
+        this.mailServer = new GreenMail(ServerSetupTest.SMTP);
+        this.mailServer.start();
+        assertTrue(this.mailServer.waitForIncomingEmail(TIMEOUT_MILLIS, 1));
+        waitFor(() -> this.dispatcher.getDeliveredCount() == 1);
+    }
+
+    @Test
+    public void verifySmsRetriedWithBackoff() {
+        this.smsSender.failures.set(2);
+        this.dispatcher = newDispatcher(3, 0, null);
+        final var communicationsManager = new CommunicationsManager(this.smsSender, this.mailSender, this.dispatcher);
+        assertTrue(communicationsManager.sms("CAS", "+15551234567", "Token"));
+        waitFor(() -> this.dispatcher.getDeliveredCount() == 1);
+        assertEquals(2, this.dispatcher.getRetriedCount());
+        assertEquals(List.of("+15551234567"), this.smsSender.delivered);
+    }
+
+    @Test
+    public void verifyFailedNotificationSetAsideInOutbox() throws Exception {
+        this.smsSender.failures.set(Integer.MAX_VALUE);
+        final var outbox = new NotificationOutbox(this.temporaryFolder.newFolder().toPath(), Duration.ofDays(1));
+        this.dispatcher = newDispatcher(2, 0, outbox);
+        final var notification = Notification.sms("CAS", "+15551234567", "Token");
+        this.dispatcher.dispatch(notification);
+        waitFor(() -> this.dispatcher.getFailedCount() == 1);
+        assertTrue(outbox.load().isEmpty());
+        assertTrue(Files.exists(outbox.getDirectory().resolve(notification.getId() + ".failed")));
+    }
+
+    @Test
+    public void verifyOutboxRestrictedAndFailedNotificationsPurged() throws Exception {
+        final var outbox = new NotificationOutbox(this.temporaryFolder.newFolder().toPath(), Duration.ZERO);
+        final var notification = Notification.sms("CAS", "+15551234567", "Token");
+        outbox.store(notification);
+        final var file = outbox.getDirectory().resolve(notification.getId() + ".json");
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file)));
+            assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(outbox.getDirectory())));
+        }
+        outbox.fail(notification);
+        assertFalse(Files.exists(file));
+        assertFalse(Files.exists(outbox.getDirectory().resolve(notification.getId() + ".failed")));
+    }
+
+    @Test
+    public void verifyPendingNotificationsDeliveredFromOutbox() throws Exception {
+        final var outbox = new NotificationOutbox(this.temporaryFolder.newFolder().toPath(), Duration.ofDays(1));
+        outbox.store(Notification.sms("CAS", "+15551234567", "Token"));
+        outbox.store(Notification.email("Body", "cas@example.org", "Subject", "casuser@example.org", null, null));
+        assertEquals(2, outbox.load().size());
+
+        this.dispatcher = newDispatcher(3, 0, outbox);
+        this.dispatcher.afterPropertiesSet();
+        assertTrue(this.mailServer.waitForIncomingEmail(TIMEOUT_MILLIS, 1));
+        waitFor(() -> this.dispatcher.getDeliveredCount() == 2);
+        assertTrue(outbox.load().isEmpty());
+        assertEquals(List.of("+15551234567"), this.smsSender.delivered);
+    }
+
+    @Test
+    public void verifySmsRateLimited() {
+        this.dispatcher = newDispatcher(1, 20, null);
+        final var start = System.nanoTime();
+        for (var i = 0; i < 5; i++) {
+            this.dispatcher.dispatch(Notification.sms("CAS", "+1555000000" + i, "Token"));
+        }
+        waitFor(() -> this.dispatcher.getDeliveredCount() == 5);
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertTrue("Deliveries took " + elapsed, elapsed.toMillis() >= 150);
+    }
+
+    @Test
+    public void verifySaturatedDispatcherDefersDeliveries() throws Exception {
+        final var release = new CountDownLatch(1);
+        this.smsSender.gate = release;
+        this.dispatcher = new AsynchronousNotificationDispatcher(this.mailSender, this.smsSender, 1, 1, 10,
+            0, 0, 3, Duration.ofMillis(50), Duration.ofMillis(500), null);
+        for (var i = 0; i < 5; i++) {
+            this.dispatcher.dispatch(Notification.sms("CAS", "+1555000000" + i, "Token"));
+        }
+        assertTrue(this.dispatcher.getDeferredCount() >= 3);
+        release.countDown();
+        waitFor(() -> this.dispatcher.getDeliveredCount() == 5);
+        assertEquals(0, this.dispatcher.getRetriedCount());
+        assertFalse(this.smsSender.threads.contains(Thread.currentThread().getName()));
+    }
+
+    private AsynchronousNotificationDispatcher newDispatcher(final int maximumAttempts, final double smsPermitsPerSecond,
+                                                            final NotificationOutbox outbox) {
+        return new AsynchronousNotificationDispatcher(this.mailSender, this.smsSender, 2, 10, 10,
+            0, smsPermitsPerSecond, maximumAttempts, Duration.ofMillis(50), Duration.ofMillis(500), outbox);
+    }
+
+    @SneakyThrows
+    private static void waitFor(final BooleanSupplier condition) {
+        final var deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within " + TIMEOUT_MILLIS + "ms");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static class StubSmsSender implements SmsSender {
+        private final AtomicInteger failures = new AtomicInteger();
+        private final List<String> delivered = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate;
+
+        @Override
+        @SneakyThrows
+        public boolean send(final String from, final String to, final String message) {
+            this.threads.add(Thread.currentThread().getName());
+            if (this.gate != null) {
+                this.gate.await();
+            }
+            if (this.failures.getAndDecrement() > 0) {
+                return false;
+            }
+            this.delivered.add(to);
+            return true;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.apereo.cas.authentication.DefaultCasSslContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.SharedHttpClient;
 import org.apereo.cas.util.http.SimpleHttpClient;
 import org.apereo.cas.util.http.SimpleHttpClientFactoryBean;
 import org.springframework.beans.factory.FactoryBean;
@@ -84,6 +85,22 @@ public class CasCoreHttpConfiguration {
         return getHttpClient(true);
     }
 
+    @ConditionalOnMissingBean(name = "sharedHttpClient")
+    @Bean(destroyMethod = "close")
+    public SharedHttpClient sharedHttpClient() {
+        final var httpClient = casProperties.getHttpClient();
+        final var settings = new SharedHttpClient.Settings();
+        settings.setConnectionTimeout((int) Beans.newDuration(httpClient.getConnectionTimeout()).toMillis());
+        settings.setReadTimeout((int) Beans.newDuration(httpClient.getReadTimeout()).toMillis());
+        settings.setConnectionRequestTimeout((int) Beans.newDuration(httpClient.getConnectionRequestTimeout()).toMillis());
+        settings.setKeepAlive(Beans.newDuration(httpClient.getKeepAliveTimeout()).toMillis());
+        settings.setMaxPooledConnections(httpClient.getMaxPooledConnections());
+        settings.setMaxConnectionsPerRoute(httpClient.getMaxConnectionsPerRoute());
+        settings.setMaxResponseSize(httpClient.getMaxResponseSize());
+        settings.setSslSocketFactory(trustStoreSslSocketFactory());
+        return SharedHttpClient.configure(settings);
+    }
+
     @ConditionalOnMissingBean(name = "hostnameVerifier")
     @Bean
     public HostnameVerifier hostnameVerifier() {
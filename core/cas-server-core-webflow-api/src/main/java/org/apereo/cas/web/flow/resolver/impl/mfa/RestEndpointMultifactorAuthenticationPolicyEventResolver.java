@@ -17,11 +17,11 @@ import org.apereo.cas.services.MultifactorAuthenticationProviderSelector;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.http.SharedHttpClient;
 import org.apereo.cas.web.flow.authentication.BaseMultifactorAuthenticationProviderEventResolver;
 import org.apereo.cas.web.support.WebUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.CookieGenerator;
 import org.springframework.webflow.execution.Event;
 import org.springframework.webflow.execution.RequestContext;
@@ -115,7 +115,7 @@ public class RestEndpointMultifactorAuthenticationPolicyEventResolver extends Ba
      * @return return the rest response, typically the mfa id.
      */
     protected String callRestEndpointForMultifactor(final Principal principal, final RequestContext context) {
-        final var restTemplate = new RestTemplate();
+        final var restTemplate = SharedHttpClient.newRestTemplate();
         final var resolvedService = resolveServiceFromAuthenticationRequest(context);
         final var entity = new RestEndpointEntity(principal.getId(), resolvedService.getId());
         final var responseEntity = restTemplate.postForEntity(restEndpoint, entity, String.class);
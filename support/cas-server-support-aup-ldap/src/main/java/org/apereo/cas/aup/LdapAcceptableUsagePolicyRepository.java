@@ -10,6 +10,7 @@ import org.ldaptive.LdapException;
 import org.ldaptive.Response;
 import org.ldaptive.SearchResult;
 import org.springframework.webflow.execution.RequestContext;
+import org.springframework.beans.factory.DisposableBean;
 
 /**
  * This is {@link LdapAcceptableUsagePolicyRepository}.
@@ -22,7 +23,7 @@ import org.springframework.webflow.execution.RequestContext;
  * @since 4.2
  */
 @Slf4j
-public class LdapAcceptableUsagePolicyRepository extends AbstractPrincipalAttributeAcceptableUsagePolicyRepository {
+public class LdapAcceptableUsagePolicyRepository extends AbstractPrincipalAttributeAcceptableUsagePolicyRepository implements DisposableBean {
     private static final long serialVersionUID = 1600024683199961892L;
 
     private final transient ConnectionFactory connectionFactory;
@@ -39,6 +40,11 @@ public class LdapAcceptableUsagePolicyRepository extends AbstractPrincipalAttrib
         this.baseDn = baseDn;
     }
 
+    @Override
+    public void destroy() {
+        LdapUtils.releaseLdaptiveConnectionFactory(this.connectionFactory);
+    }
+
     @Override
     public boolean submit(final RequestContext requestContext, final Credential credential) {
         try {
@@ -13,6 +13,7 @@ import org.ldaptive.ConnectionFactory;
 import org.ldaptive.LdapAttribute;
 import org.ldaptive.LdapEntry;
 import org.ldaptive.LdapException;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -30,7 +31,7 @@ import java.util.stream.Collectors;
  * @since 5.2.0
  */
 @Slf4j
-public class LdapConsentRepository implements ConsentRepository {
+public class LdapConsentRepository implements ConsentRepository, DisposableBean {
     private static final long serialVersionUID = 8561763114482490L;
 
     private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
@@ -45,6 +46,11 @@ public class LdapConsentRepository implements ConsentRepository {
         this.searchFilter = '(' + this.ldap.getSearchFilter() + ')';
     }
 
+    @Override
+    public void destroy() {
+        LdapUtils.releaseLdaptiveConnectionFactory(this.connectionFactory);
+    }
+
     @Override
     public ConsentDecision findConsentDecision(final Service service,
                                                final RegisteredService registeredService,
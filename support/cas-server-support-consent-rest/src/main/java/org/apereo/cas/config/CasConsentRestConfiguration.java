@@ -4,11 +4,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.consent.ConsentRepository;
 import org.apereo.cas.consent.RestConsentRepository;
+import org.apereo.cas.util.http.SharedHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * This is {@link CasConsentRestConfiguration}.
@@ -26,6 +26,6 @@ public class CasConsentRestConfiguration {
 
     @Bean
     public ConsentRepository consentRepository() {
-        return new RestConsentRepository(new RestTemplate(), casProperties.getConsent().getRest().getEndpoint());
+        return new RestConsentRepository(SharedHttpClient.newRestTemplate(), casProperties.getConsent().getRest().getEndpoint());
     }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceMatchingKeys;
 import org.ektorp.support.CouchDbDocument;
 
 /**
@@ -18,9 +19,11 @@ import org.ektorp.support.CouchDbDocument;
 public class RegisteredServiceDocument extends CouchDbDocument {
     private static final long serialVersionUID = -6787906520673248670L;
     private RegisteredService service;
+    private String matchingKey;
 
     public RegisteredServiceDocument(final RegisteredService service) {
         this.setId(String.valueOf(service.getId()));
         this.service = service;
+        this.matchingKey = RegisteredServiceMatchingKeys.getMatchingKey(service);
     }
 }
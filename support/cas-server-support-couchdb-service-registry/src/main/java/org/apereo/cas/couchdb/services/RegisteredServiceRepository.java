@@ -4,6 +4,9 @@ import org.ektorp.CouchDbConnector;
 import org.ektorp.support.CouchDbRepositorySupport;
 import org.ektorp.support.View;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * This is {@link RegisteredServiceRepository}. Typed interface to CouchDB.
  *
@@ -40,6 +43,17 @@ public class RegisteredServiceRepository extends CouchDbRepositorySupport<Regist
         return queryView("by_serviceName", serviceName).stream().findFirst().orElse(null);
     }
 
+    /**
+     * Implements search by matching key. Documents without a matching key are always returned.
+     * @param matchingKey The lookup key of the service url.
+     * @return The documents of services that may match the service url.
+     */
+    @View(name = "by_matchingKey", map = "function(doc) { emit(doc.matchingKey ? doc.matchingKey : null, doc._id) }")
+    public List<RegisteredServiceDocument> findByMatchingKey(final String matchingKey) {
+        return db.queryView(createQuery("by_matchingKey").includeDocs(true).keys(Arrays.asList(matchingKey, null)),
+            RegisteredServiceDocument.class);
+    }
+
     /**
      * Overload wrapper for long type. Get service by ID.
      * @param id Service ID
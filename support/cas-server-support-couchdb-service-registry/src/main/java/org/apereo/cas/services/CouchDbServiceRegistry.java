@@ -71,7 +71,13 @@ public class CouchDbServiceRegistry extends AbstractServiceRegistry {
 
     @Override
     public RegisteredService findServiceById(final String id) {
-        return dbClient.get(id).getService();
+        val key = RegisteredServiceMatchingKeys.getLookupKey(id);
+        if (key == null) {
+            return null;
+        }
+        val candidates = dbClient.findByMatchingKey(key).stream().map(RegisteredServiceDocument::getService).collect(Collectors.toList());
+        LOGGER.trace("Evaluating [{}] candidate service(s) for [{}]", candidates.size(), id);
+        return RegisteredServiceMatchingKeys.findMatchingService(candidates, id);
     }
 
     @Override
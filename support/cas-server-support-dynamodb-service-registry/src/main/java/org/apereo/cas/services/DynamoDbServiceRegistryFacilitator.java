@@ -1,6 +1,7 @@
 package org.apereo.cas.services;
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AmazonDynamoDBException;
 import com.amazonaws.services.dynamodbv2.model.AttributeDefinition;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.CreateTableRequest;
@@ -8,10 +9,14 @@ import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
 import com.amazonaws.services.dynamodbv2.model.DeleteTableRequest;
 import com.amazonaws.services.dynamodbv2.model.DescribeTableRequest;
 import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GlobalSecondaryIndex;
 import com.amazonaws.services.dynamodbv2.model.KeySchemaElement;
 import com.amazonaws.services.dynamodbv2.model.KeyType;
+import com.amazonaws.services.dynamodbv2.model.Projection;
+import com.amazonaws.services.dynamodbv2.model.ProjectionType;
 import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughput;
 import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import com.amazonaws.services.dynamodbv2.model.ScalarAttributeType;
 import com.amazonaws.services.dynamodbv2.model.ScanRequest;
 import com.amazonaws.services.dynamodbv2.util.TableUtils;
@@ -26,9 +31,11 @@ import org.apereo.cas.util.serialization.StringSerializer;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -41,12 +48,20 @@ import java.util.stream.Collectors;
 @Getter
 public class DynamoDbServiceRegistryFacilitator {
 
+    private static final String MATCHING_KEY_INDEX_NAME = "matchingKeyIndex";
+
+    /**
+     * Matching key of services that cannot be keyed, so that they are part of the matching key index.
+     * Lookup keys never contain {@code #}, so this cannot collide with a real key.
+     */
+    private static final String UNKEYED_MATCHING_KEY = "#";
+
     private final StringSerializer<RegisteredService> jsonSerializer = new DefaultRegisteredServiceJsonSerializer();
 
     @Getter
     private enum ColumnNames {
 
-        ID("id"), NAME("name"), DESCRIPTION("description"), SERVICE_ID("serviceId"), ENCODED("encoded");
+        ID("id"), NAME("name"), DESCRIPTION("description"), SERVICE_ID("serviceId"), ENCODED("encoded"), MATCHING_KEY("matchingKey");
 
         private final String columnName;
 
@@ -114,15 +129,48 @@ public class DynamoDbServiceRegistryFacilitator {
     }
 
     /**
-     * Get registered service.
+     * Get the registered service that matches the service url.
+     * Only items whose matching key is equal to the lookup key of the url, or that have no matching key,
+     * are read from the matching key index of the table and evaluated. If none of them matches, or the table
+     * has no such index, every item in the table is evaluated, so that items saved before the index existed are still found.
      *
      * @param id the id
      * @return the registered service
      */
     public RegisteredService get(final String id) {
-        final Map<String, AttributeValue> keys = new HashMap<>();
-        keys.put(ColumnNames.SERVICE_ID.getColumnName(), new AttributeValue(id));
-        return getRegisteredServiceByKeys(keys);
+        final var key = RegisteredServiceMatchingKeys.getLookupKey(id);
+        if (key == null) {
+            return null;
+        }
+        try {
+            final List<RegisteredService> candidates = queryByMatchingKey(key);
+            candidates.addAll(queryByMatchingKey(UNKEYED_MATCHING_KEY));
+            LOGGER.trace("Evaluating [{}] candidate service(s) for [{}]", candidates.size(), id);
+            final var match = RegisteredServiceMatchingKeys.findMatchingService(candidates, id);
+            if (match != null) {
+                return match;
+            }
+        } catch (final AmazonDynamoDBException e) {
+            LOGGER.warn("Unable to query index [{}] of table [{}]: [{}]", MATCHING_KEY_INDEX_NAME, dynamoDbProperties.getTableName(), e.getMessage());
+        }
+        LOGGER.trace("No indexed service matches [{}]; examining all services", id);
+        return RegisteredServiceMatchingKeys.findMatchingService(getAll(), id);
+    }
+
+    private List<RegisteredService> queryByMatchingKey(final String key) {
+        final var query = new QueryRequest(dynamoDbProperties.getTableName())
+            .withIndexName(MATCHING_KEY_INDEX_NAME)
+            .withKeyConditionExpression("#key = :key")
+            .withExpressionAttributeNames(CollectionUtils.wrap("#key", ColumnNames.MATCHING_KEY.getColumnName()))
+            .withExpressionAttributeValues(CollectionUtils.wrap(":key", new AttributeValue(key)));
+        final List<RegisteredService> services = new ArrayList<>();
+        do {
+            LOGGER.debug("Querying table with request [{}] to find candidate services", query);
+            final var result = this.amazonDynamoDBClient.query(query);
+            result.getItems().stream().map(this::deserializeServiceFromBinaryBlob).filter(Objects::nonNull).forEach(services::add);
+            query.setExclusiveStartKey(result.getLastEvaluatedKey());
+        } while (query.getExclusiveStartKey() != null && !query.getExclusiveStartKey().isEmpty());
+        return services;
     }
 
     /**
@@ -182,11 +230,18 @@ public class DynamoDbServiceRegistryFacilitator {
     @SneakyThrows
     public void createServicesTable(final boolean deleteTables) {
         LOGGER.debug("Attempting to create DynamoDb services table");
+        final var throughput = new ProvisionedThroughput(dynamoDbProperties.getReadCapacity(), dynamoDbProperties.getWriteCapacity());
+        final var matchingKeyIndex = new GlobalSecondaryIndex()
+            .withIndexName(MATCHING_KEY_INDEX_NAME)
+            .withKeySchema(new KeySchemaElement(ColumnNames.MATCHING_KEY.getColumnName(), KeyType.HASH))
+            .withProjection(new Projection().withProjectionType(ProjectionType.ALL))
+            .withProvisionedThroughput(throughput);
         final var request = new CreateTableRequest().withAttributeDefinitions(
-            new AttributeDefinition(ColumnNames.ID.getColumnName(), ScalarAttributeType.S))
+            new AttributeDefinition(ColumnNames.ID.getColumnName(), ScalarAttributeType.S),
+            new AttributeDefinition(ColumnNames.MATCHING_KEY.getColumnName(), ScalarAttributeType.S))
             .withKeySchema(new KeySchemaElement(ColumnNames.ID.getColumnName(), KeyType.HASH))
-            .withProvisionedThroughput(new ProvisionedThroughput(dynamoDbProperties.getReadCapacity(),
-                dynamoDbProperties.getWriteCapacity())).withTableName(dynamoDbProperties.getTableName());
+            .withGlobalSecondaryIndexes(matchingKeyIndex)
+            .withProvisionedThroughput(throughput).withTableName(dynamoDbProperties.getTableName());
         if (deleteTables) {
             final var delete = new DeleteTableRequest(request.getTableName());
             LOGGER.debug("Sending delete request [{}] to remove table if necessary", delete);
@@ -214,6 +269,8 @@ public class DynamoDbServiceRegistryFacilitator {
         values.put(ColumnNames.NAME.getColumnName(), new AttributeValue(service.getName()));
         values.put(ColumnNames.DESCRIPTION.getColumnName(), new AttributeValue(service.getDescription()));
         values.put(ColumnNames.SERVICE_ID.getColumnName(), new AttributeValue(service.getServiceId()));
+        final var matchingKey = RegisteredServiceMatchingKeys.getMatchingKey(service);
+        values.put(ColumnNames.MATCHING_KEY.getColumnName(), new AttributeValue(matchingKey != null ? matchingKey : UNKEYED_MATCHING_KEY));
         final var out = new ByteArrayOutputStream();
         jsonSerializer.to(out, service);
         values.put(ColumnNames.ENCODED.getColumnName(), new AttributeValue().withB(ByteBuffer.wrap(out.toByteArray())));
@@ -3,9 +3,13 @@ package org.apereo.cas.monitor;
 import lombok.extern.slf4j.Slf4j;
 import net.sf.ehcache.Cache;
 import net.sf.ehcache.CacheManager;
+import org.apereo.cas.ticket.registry.BoundedAsynchronousCacheReplicator;
+import org.springframework.boot.actuate.health.Health;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -24,9 +28,36 @@ public class EhCacheHealthIndicator extends AbstractCacheHealthIndicator {
      */
     private final CacheManager ehcacheTicketsCache;
 
+    /**
+     * The replicator that replicates ticket caches asynchronously, if any.
+     */
+    private final BoundedAsynchronousCacheReplicator replicator;
+
     public EhCacheHealthIndicator(final CacheManager ehcacheTicketsCache, final long evictionThreshold, final long threshold) {
+        this(ehcacheTicketsCache, evictionThreshold, threshold, null);
+    }
+
+    public EhCacheHealthIndicator(final CacheManager ehcacheTicketsCache, final long evictionThreshold, final long threshold,
+                                  final BoundedAsynchronousCacheReplicator replicator) {
         super(evictionThreshold, threshold);
         this.ehcacheTicketsCache = ehcacheTicketsCache;
+        this.replicator = replicator;
+    }
+
+    @Override
+    protected void doHealthCheck(final Health.Builder builder) {
+        super.doHealthCheck(builder);
+        if (this.replicator != null) {
+            final Map<String, Object> map = new HashMap<>();
+            map.put("queueSize", this.replicator.getQueueSize());
+            map.put("queueCapacity", this.replicator.getCapacity());
+            map.put("replicationLag", this.replicator.getReplicationLag().toMillis());
+            map.put("lastReplicationLag", this.replicator.getLastReplicationLag().toMillis());
+            map.put("replicatedEvents", this.replicator.getReplicatedCount());
+            map.put("droppedEvents", this.replicator.getDroppedCount());
+            map.put("synchronousRemovals", this.replicator.getSynchronousRemovalCount());
+            builder.withDetail("replication", map);
+        }
     }
 
     @Override
@@ -2,8 +2,11 @@ package org.apereo.cas.monitor.config;
 
 import lombok.extern.slf4j.Slf4j;
 import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.distribution.CacheReplicator;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.monitor.EhCacheHealthIndicator;
+import org.apereo.cas.ticket.registry.BoundedAsynchronousCacheReplicator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -27,9 +30,15 @@ public class EhCacheMonitorConfiguration {
 
     @Autowired
     @Bean
-    public HealthIndicator ehcacheHealthIndicator(@Qualifier("ehcacheTicketCacheManager") final CacheManager ehcacheTicketCacheManager) {
+    public HealthIndicator ehcacheHealthIndicator(@Qualifier("ehcacheTicketCacheManager") final CacheManager ehcacheTicketCacheManager,
+                                                  @Qualifier("ticketBoundedAsynchronousCacheReplicator")
+                                                  final ObjectProvider<CacheReplicator> ticketBoundedAsynchronousCacheReplicator) {
+        final var replicator = casProperties.getTicket().getRegistry().getEhcache().isReplicateAsynchronously()
+            ? ticketBoundedAsynchronousCacheReplicator.getIfAvailable()
+            : null;
         return new EhCacheHealthIndicator(ehcacheTicketCacheManager,
             casProperties.getMonitor().getWarn().getEvictionThreshold(),
-            casProperties.getMonitor().getWarn().getThreshold());
+            casProperties.getMonitor().getWarn().getThreshold(),
+            replicator instanceof BoundedAsynchronousCacheReplicator ? (BoundedAsynchronousCacheReplicator) replicator : null);
     }
 }
@@ -9,10 +9,12 @@ import net.sf.ehcache.distribution.CacheReplicator;
 import net.sf.ehcache.distribution.RMIAsynchronousCacheReplicator;
 import net.sf.ehcache.distribution.RMIBootstrapCacheLoader;
 import net.sf.ehcache.distribution.RMISynchronousCacheReplicator;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.registry.BoundedAsynchronousCacheReplicator;
 import org.apereo.cas.ticket.registry.EhCacheTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CollectionUtils;
@@ -71,6 +73,20 @@ public class EhcacheTicketRegistryConfiguration {
             cache.getMaximumBatchSize());
     }
 
+    @Bean
+    @ConditionalOnMissingBean(name = "ticketBoundedAsynchronousCacheReplicator")
+    public CacheReplicator ticketBoundedAsynchronousCacheReplicator() {
+        final var cache = casProperties.getTicket().getRegistry().getEhcache();
+        return new BoundedAsynchronousCacheReplicator(
+            cache.isReplicatePuts(),
+            cache.isReplicatePutsViaCopy(),
+            cache.isReplicateUpdates(),
+            cache.isReplicateUpdatesViaCopy(),
+            cache.isReplicateRemovals(),
+            cache.getReplicationQueueCapacity(),
+            cache.getMaximumBatchSize());
+    }
+
     @RefreshScope
     @Bean
     @ConditionalOnMissingBean(name = "ticketCacheBootstrapCacheLoader")
@@ -107,7 +123,10 @@ public class EhcacheTicketRegistryConfiguration {
         LOGGER.debug("Constructing Ehcache cache [{}]", bean.getName());
 
         if (configExists) {
-            bean.setCacheEventListeners(CollectionUtils.wrapSet(ticketRMISynchronousCacheReplicator()));
+            final var replicator = ehcacheProperties.isReplicateAsynchronously()
+                ? ticketBoundedAsynchronousCacheReplicator()
+                : ticketRMISynchronousCacheReplicator();
+            bean.setCacheEventListeners(CollectionUtils.wrapSet(replicator));
             bean.setBootstrapCacheLoader(ticketCacheBootstrapCacheLoader());
         } else {
             LOGGER.warn("In registering ticket definition [{}], Ehcache configuration file [{}] cannot be found "
@@ -121,7 +140,17 @@ public class EhcacheTicketRegistryConfiguration {
         bean.setEternal(ehcacheProperties.isEternal());
         bean.setMaxEntriesLocalHeap(ehcacheProperties.getMaxElementsInMemory());
         bean.setMaxEntriesInCache(ehcacheProperties.getMaxElementsInCache());
-        bean.setMaxEntriesLocalDisk(ehcacheProperties.getMaxElementsOnDisk());
+        if (StringUtils.isNotBlank(ehcacheProperties.getMaxBytesLocalDisk())) {
+            bean.setMaxBytesLocalDisk(ehcacheProperties.getMaxBytesLocalDisk());
+        } else {
+            bean.setMaxEntriesLocalDisk(ehcacheProperties.getMaxElementsOnDisk());
+        }
+        if (ehcacheProperties.getDiskSpoolBufferSizeMb() > 0) {
+            bean.setDiskSpoolBufferSizeMB(ehcacheProperties.getDiskSpoolBufferSizeMb());
+        }
+        if (ehcacheProperties.getDiskAccessStripes() > 0) {
+            bean.setDiskAccessStripes(ehcacheProperties.getDiskAccessStripes());
+        }
         bean.setMemoryStoreEvictionPolicy(ehcacheProperties.getMemoryStoreEvictionPolicy());
         final var c = new PersistenceConfiguration();
         c.strategy(ehcacheProperties.getPersistence());
@@ -149,6 +178,7 @@ public class EhcacheTicketRegistryConfiguration {
                 final var config = ehcache.getCacheConfiguration();
                 LOGGER.debug("TicketCache.maxEntriesLocalHeap=[{}]", config.getMaxEntriesLocalHeap());
                 LOGGER.debug("TicketCache.maxEntriesLocalDisk=[{}]", config.getMaxEntriesLocalDisk());
+                LOGGER.debug("TicketCache.maxBytesLocalDisk=[{}]", config.getMaxBytesLocalDisk());
                 LOGGER.debug("TicketCache.maxEntriesInCache=[{}]", config.getMaxEntriesInCache());
                 LOGGER.debug("TicketCache.persistenceConfiguration=[{}]", config.getPersistenceConfiguration().getStrategy());
                 LOGGER.debug("TicketCache.synchronousWrites=[{}]", config.getPersistenceConfiguration().getSynchronousWrites());
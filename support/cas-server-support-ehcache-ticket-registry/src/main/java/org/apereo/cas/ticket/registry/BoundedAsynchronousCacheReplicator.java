@@ -0,0 +1,460 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.ehcache.CacheException;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.distribution.CacheManagerPeerProvider;
+import net.sf.ehcache.distribution.CachePeer;
+import net.sf.ehcache.distribution.CacheReplicator;
+import net.sf.ehcache.distribution.RmiEventMessage;
+import net.sf.ehcache.distribution.RmiEventMessage.RmiEventType;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link BoundedAsynchronousCacheReplicator}, which moves cache replication off the request thread.
+ * Cache events are placed onto a bounded queue and sent to peers over RMI by a background thread,
+ * in batches of at most {@link #maximumBatchSize} events. Events within a batch that target the same cache entry
+ * are coalesced so only the latest state of the entry is replicated, and each peer of a cache receives the
+ * events of a batch in a single remote call.
+ * Once the queue is full, puts and updates are dropped and counted rather than holding up the request thread;
+ * peers catch up with dropped tickets once they are changed again, or when they bootstrap.
+ * Removals are never dropped, since a ticket that is consumed or destroyed must not remain valid on peers:
+ * they wait a short while for room in the queue, and are otherwise sent to peers right away on the calling thread.
+ * Queued events that are older than such a removal are then skipped, so they cannot bring the entry back.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class BoundedAsynchronousCacheReplicator implements CacheReplicator {
+    private static final long POLL_TIMEOUT_SECONDS = 1;
+
+    private static final long REMOVAL_ENQUEUE_TIMEOUT_MILLIS = 500;
+
+    private static final String RMI_PEER_PROVIDER = "RMI";
+
+    private final boolean replicatePuts;
+
+    private final boolean replicatePutsViaCopy;
+
+    private final boolean replicateUpdates;
+
+    private final boolean replicateUpdatesViaCopy;
+
+    private final boolean replicateRemovals;
+
+    private final BlockingQueue<ReplicationEvent> replicationQueue;
+
+    @Getter
+    private final int capacity;
+
+    @Getter
+    private final int maximumBatchSize;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final AtomicBoolean disposed = new AtomicBoolean();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final AtomicLong replicatedCount = new AtomicLong();
+
+    private final AtomicLong lastReplicationLag = new AtomicLong();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AtomicLong synchronousRemovalCount = new AtomicLong();
+
+    /**
+     * Sequence numbers of removals sent on the calling thread, keyed by the cache entry or by the cache for removing all entries.
+     * Queued events with a lower sequence number are superseded by these removals.
+     */
+    private final Map<String, Long> synchronousRemovals = new ConcurrentHashMap<>();
+
+    private final Object sendLock = new Object();
+
+    private Thread replicationThread;
+
+    public BoundedAsynchronousCacheReplicator(final boolean replicatePuts, final boolean replicatePutsViaCopy,
+                                              final boolean replicateUpdates, final boolean replicateUpdatesViaCopy,
+                                              final boolean replicateRemovals, final int capacity, final int maximumBatchSize) {
+        this.replicatePuts = replicatePuts;
+        this.replicatePutsViaCopy = replicatePutsViaCopy;
+        this.replicateUpdates = replicateUpdates;
+        this.replicateUpdatesViaCopy = replicateUpdatesViaCopy;
+        this.replicateRemovals = replicateRemovals;
+        this.capacity = Math.max(1, capacity);
+        this.maximumBatchSize = Math.max(1, maximumBatchSize);
+        this.replicationQueue = new ArrayBlockingQueue<>(this.capacity);
+    }
+
+    @Override
+    public void notifyElementPut(final Ehcache cache, final Element element) throws CacheException {
+        if (this.replicatePuts) {
+            replicateElement(cache, element, this.replicatePutsViaCopy);
+        }
+    }
+
+    @Override
+    public void notifyElementUpdated(final Ehcache cache, final Element element) throws CacheException {
+        if (this.replicateUpdates) {
+            replicateElement(cache, element, this.replicateUpdatesViaCopy);
+        }
+    }
+
+    @Override
+    public void notifyElementRemoved(final Ehcache cache, final Element element) throws CacheException {
+        if (this.replicateRemovals && isKeySerializable(element)) {
+            enqueue(newEvent(RmiEventType.REMOVE, cache, element.getKey(), null));
+        }
+    }
+
+    @Override
+    public void notifyRemoveAll(final Ehcache cache) {
+        if (this.replicateRemovals) {
+            enqueue(newEvent(RmiEventType.REMOVE_ALL, cache, null, null));
+        }
+    }
+
+    @Override
+    public void notifyElementExpired(final Ehcache cache, final Element element) {
+    }
+
+    @Override
+    public void notifyElementEvicted(final Ehcache cache, final Element element) {
+    }
+
+    @Override
+    public boolean isReplicateUpdatesViaCopy() {
+        return this.replicateUpdatesViaCopy;
+    }
+
+    @Override
+    public boolean notAlive() {
+        return !alive();
+    }
+
+    @Override
+    public boolean alive() {
+        return !this.disposed.get();
+    }
+
+    /**
+     * Stop accepting events and replicate the events that are still queued.
+     * The same replicator is usually registered with several caches, so only the first call has an effect.
+     */
+    @Override
+    public void dispose() {
+        if (!this.disposed.compareAndSet(false, true)) {
+            return;
+        }
+        final var thread = this.replicationThread;
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(POLL_TIMEOUT_SECONDS) * 2);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        throw new CloneNotSupportedException("Replicator is shared by all ticket caches and cannot be cloned");
+    }
+
+    /**
+     * Gets the number of events waiting to be replicated.
+     *
+     * @return the queue size
+     */
+    public int getQueueSize() {
+        return this.replicationQueue.size();
+    }
+
+    /**
+     * Gets the age of the oldest event still waiting to be replicated, which is how far behind
+     * peers are at this moment. If no events are waiting, this is zero.
+     *
+     * @return the replication lag
+     */
+    public Duration getReplicationLag() {
+        final var event = this.replicationQueue.peek();
+        return event == null ? Duration.ZERO : Duration.ofMillis(System.currentTimeMillis() - event.getTimestamp());
+    }
+
+    /**
+     * Gets the time the most recently replicated event spent in the queue.
+     *
+     * @return the last replication lag
+     */
+    public Duration getLastReplicationLag() {
+        return Duration.ofMillis(this.lastReplicationLag.get());
+    }
+
+    /**
+     * Gets the number of events that found the queue full and were not replicated.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return this.droppedCount.get();
+    }
+
+    /**
+     * Gets the number of removals that found the queue full and were sent to peers on the calling thread.
+     *
+     * @return the synchronous removal count
+     */
+    public long getSynchronousRemovalCount() {
+        return this.synchronousRemovalCount.get();
+    }
+
+    /**
+     * Gets the number of events sent to peers, after coalescing.
+     *
+     * @return the replicated count
+     */
+    public long getReplicatedCount() {
+        return this.replicatedCount.get();
+    }
+
+    /**
+     * List the remote peers of the given cache.
+     *
+     * @param cache the cache
+     * @return the peers
+     */
+    protected List<CachePeer> listRemoteCachePeers(final Ehcache cache) {
+        final CacheManagerPeerProvider provider = cache.getCacheManager().getCacheManagerPeerProvider(RMI_PEER_PROVIDER);
+        if (provider == null) {
+            return new ArrayList<>(0);
+        }
+        final List<?> peers = provider.listRemoteCachePeers(cache);
+        return peers.stream().map(CachePeer.class::cast).collect(Collectors.toList());
+    }
+
+    private void replicateElement(final Ehcache cache, final Element element, final boolean viaCopy) {
+        if (viaCopy) {
+            if (element.isSerializable()) {
+                enqueue(newEvent(RmiEventType.PUT, cache, element.getKey(), element));
+            } else {
+                LOGGER.warn("Cache entry [{}] of [{}] is not serializable and cannot be replicated", element.getObjectKey(), cache.getName());
+            }
+        } else if (isKeySerializable(element)) {
+            enqueue(newEvent(RmiEventType.REMOVE, cache, element.getKey(), null));
+        }
+    }
+
+    private ReplicationEvent newEvent(final RmiEventType type, final Ehcache cache, final Serializable key, final Element element) {
+        return new ReplicationEvent(type, cache, key, element, System.currentTimeMillis(), this.sequence.incrementAndGet());
+    }
+
+    private static boolean isKeySerializable(final Element element) {
+        if (element.isKeySerializable()) {
+            return true;
+        }
+        LOGGER.warn("Cache key [{}] is not serializable and cannot be replicated", element.getObjectKey());
+        return false;
+    }
+
+    private void enqueue(final ReplicationEvent event) {
+        if (notAlive()) {
+            return;
+        }
+        startIfNecessary();
+        if (this.replicationQueue.offer(event)) {
+            return;
+        }
+        if (event.isRemoval()) {
+            enqueueRemoval(event);
+            return;
+        }
+        final var dropped = this.droppedCount.incrementAndGet();
+        if (dropped == 1 || dropped % this.capacity == 0) {
+            LOGGER.warn("Replication queue is full with [{}] events; [{}] event(s) including [{}] were dropped so far. "
+                + "Peers will not see these changes until the tickets change again", this.capacity, dropped, event);
+        } else {
+            LOGGER.debug("Replication queue is full; dropped [{}]", event);
+        }
+    }
+
+    /**
+     * Wait briefly for room in the queue, and otherwise send the removal to peers right away.
+     */
+    private void enqueueRemoval(final ReplicationEvent event) {
+        try {
+            if (this.replicationQueue.offer(event, REMOVAL_ENQUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final var count = this.synchronousRemovalCount.incrementAndGet();
+        if (count == 1 || count % this.capacity == 0) {
+            LOGGER.warn("Replication queue is full with [{}] events; [{}] removal(s) including [{}] were sent to peers directly so far",
+                this.capacity, count, event);
+        } else {
+            LOGGER.debug("Replication queue is full; sending [{}] to peers directly", event);
+        }
+        this.synchronousRemovals.merge(event.getEntryKey(), event.getSequence(), Math::max);
+        synchronized (this.sendLock) {
+            send(List.of(event));
+        }
+    }
+
+    private void startIfNecessary() {
+        if (this.started.compareAndSet(false, true)) {
+            final var thread = new Thread(this::replicationThreadMain, getClass().getSimpleName());
+            thread.setDaemon(true);
+            this.replicationThread = thread;
+            thread.start();
+            LOGGER.debug("Started asynchronous cache replication with queue capacity [{}] and batch size [{}]",
+                this.capacity, this.maximumBatchSize);
+        }
+    }
+
+    private void replicationThreadMain() {
+        while (!this.disposed.get()) {
+            try {
+                final var event = this.replicationQueue.poll(POLL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (event == null) {
+                    this.synchronousRemovals.clear();
+                } else {
+                    final List<ReplicationEvent> batch = new ArrayList<>(this.maximumBatchSize);
+                    batch.add(event);
+                    this.replicationQueue.drainTo(batch, this.maximumBatchSize - 1);
+                    replicate(batch);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final Exception e) {
+                LOGGER.error("Unable to replicate cache events: [{}]", e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            }
+        }
+    }
+
+    private void drain() {
+        final List<ReplicationEvent> remaining = new ArrayList<>();
+        this.replicationQueue.drainTo(remaining);
+        for (var i = 0; i < remaining.size(); i += this.maximumBatchSize) {
+            replicate(remaining.subList(i, Math.min(remaining.size(), i + this.maximumBatchSize)));
+        }
+        this.synchronousRemovals.clear();
+    }
+
+    /**
+     * Send the coalesced events of the batch to the peers of each cache, with one remote call per peer and cache.
+     * Events superseded by removals that were sent on the calling thread are skipped.
+     */
+    private void replicate(final List<ReplicationEvent> batch) {
+        synchronized (this.sendLock) {
+            final var events = coalesce(batch)
+                .stream()
+                .filter(event -> !isSupersededBySynchronousRemoval(event))
+                .collect(Collectors.toList());
+            LOGGER.trace("Replicating [{}] cache event(s) coalesced from [{}]", events.size(), batch.size());
+            send(events);
+            this.replicatedCount.addAndGet(events.size());
+        }
+        final var newest = batch.get(batch.size() - 1);
+        this.lastReplicationLag.set(System.currentTimeMillis() - newest.getTimestamp());
+    }
+
+    private boolean isSupersededBySynchronousRemoval(final ReplicationEvent event) {
+        if (this.synchronousRemovals.isEmpty()) {
+            return false;
+        }
+        final var removal = this.synchronousRemovals.get(event.getEntryKey());
+        final var removeAll = this.synchronousRemovals.get(event.getCache().getName());
+        return removal != null && removal > event.getSequence() || removeAll != null && removeAll > event.getSequence();
+    }
+
+    private void send(final List<ReplicationEvent> events) {
+        final Map<Ehcache, List<RmiEventMessage>> messages = events.stream()
+            .collect(Collectors.groupingBy(ReplicationEvent::getCache, LinkedHashMap::new,
+                Collectors.mapping(ReplicationEvent::toMessage, Collectors.toList())));
+        messages.forEach((cache, cacheMessages) -> {
+            try {
+                listRemoteCachePeers(cache).forEach(peer -> send(cache, peer, cacheMessages));
+            } catch (final Exception e) {
+                LOGGER.error("Unable to find peers of [{}]: [{}]", cache.getName(), e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            }
+        });
+    }
+
+    private static void send(final Ehcache cache, final CachePeer peer, final List<RmiEventMessage> messages) {
+        try {
+            peer.send(messages);
+        } catch (final Exception e) {
+            LOGGER.error("Unable to send [{}] event(s) of [{}] to peer: [{}]", messages.size(), cache.getName(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Keep the latest event per cache entry, in the order entries were last touched.
+     * Removing all entries of a cache supersedes earlier events for that cache.
+     */
+    private static List<ReplicationEvent> coalesce(final List<ReplicationEvent> batch) {
+        final Map<String, ReplicationEvent> events = new LinkedHashMap<>();
+        batch.forEach(event -> {
+            if (event.getType() == RmiEventType.REMOVE_ALL) {
+                events.values().removeIf(e -> e.getCache() == event.getCache());
+            }
+            final var key = event.getEntryKey();
+            events.remove(key);
+            events.put(key, event);
+        });
+        return new ArrayList<>(events.values());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class ReplicationEvent {
+        private final RmiEventType type;
+        private final Ehcache cache;
+        private final Serializable key;
+        private final Element element;
+        private final long timestamp;
+        private final long sequence;
+
+        boolean isRemoval() {
+            return this.type == RmiEventType.REMOVE || this.type == RmiEventType.REMOVE_ALL;
+        }
+
+        String getEntryKey() {
+            final var name = this.cache.getName();
+            return this.key == null ? name : name + ':' + this.key;
+        }
+
+        RmiEventMessage toMessage() {
+            return new RmiEventMessage(this.cache, this.type, this.key, this.element);
+        }
+
+        @Override
+        public String toString() {
+            return this.type + " " + getEntryKey();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.apereo.cas.ticket.registry;
+
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.distribution.CachePeer;
+import net.sf.ehcache.distribution.RmiEventMessage;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link BoundedAsynchronousCacheReplicatorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class BoundedAsynchronousCacheReplicatorTests {
+    private CachePeer first;
+    private CachePeer second;
+    private Ehcache cache;
+
+    @Before
+    public void initialize() {
+        this.first = mock(CachePeer.class);
+        this.second = mock(CachePeer.class);
+        this.cache = mock(Ehcache.class);
+        when(this.cache.getName()).thenReturn("serviceTicketsCache");
+    }
+
+    private BoundedAsynchronousCacheReplicator newReplicator(final int capacity) {
+        return new BoundedAsynchronousCacheReplicator(true, true, true, true, true, capacity, 10) {
+            @Override
+            protected List<CachePeer> listRemoteCachePeers(final Ehcache cache) {
+                return List.of(first, second);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RmiEventMessage> captureLastSent(final CachePeer peer, final int calls) throws Exception {
+        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(peer, timeout(5000).times(calls)).send(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    public void verifyEventsSentToEachPeerInOneCall() throws Exception {
+        final var latch = new CountDownLatch(1);
+        doAnswer(invocation -> latch.await(5, TimeUnit.SECONDS)).when(this.first).send(anyList());
+        final var replicator = newReplicator(100);
+        replicator.notifyElementPut(this.cache, new Element("ST-0", "ticket"));
+        verify(this.first, timeout(5000)).send(anyList());
+
+        replicator.notifyElementPut(this.cache, new Element("ST-1", "ticket"));
+        replicator.notifyElementRemoved(this.cache, new Element("ST-2", "ticket"));
+        assertEquals(2, replicator.getQueueSize());
+        latch.countDown();
+
+        verify(this.second, timeout(5000).times(2)).send(anyList());
+        replicator.dispose();
+        verify(this.first, times(2)).send(anyList());
+        assertEquals(0, replicator.getQueueSize());
+        assertEquals(Duration.ZERO, replicator.getReplicationLag());
+        assertEquals(3, replicator.getReplicatedCount());
+    }
+
+    @Test
+    public void verifyNoEventsAcceptedOnceDisposed() throws Exception {
+        final var replicator = newReplicator(100);
+        replicator.dispose();
+        assertTrue(replicator.notAlive());
+        replicator.notifyElementPut(this.cache, new Element("ST-1", "ticket"));
+        verify(this.first, never()).send(anyList());
+    }
+
+    @Test
+    public void verifyEventsCoalescedWithinBatch() throws Exception {
+        final var latch = new CountDownLatch(1);
+        doAnswer(invocation -> latch.await(5, TimeUnit.SECONDS)).when(this.first).send(anyList());
+        final var replicator = newReplicator(100);
+        replicator.notifyElementPut(this.cache, new Element("ST-0", "ticket"));
+        verify(this.first, timeout(5000)).send(anyList());
+
+        replicator.notifyElementPut(this.cache, new Element("ST-1", "first"));
+        final var latest = new Element("ST-1", "second");
+        replicator.notifyElementUpdated(this.cache, latest);
+        latch.countDown();
+        replicator.dispose();
+
+        final var sent = captureLastSent(this.second, 2);
+        assertEquals(1, sent.size());
+        assertSame(latest, sent.get(0).getElement());
+        assertEquals(2, replicator.getReplicatedCount());
+    }
+
+    @Test
+    public void verifyEventsDroppedWhenQueueIsFull() throws Exception {
+        final var latch = new CountDownLatch(1);
+        doAnswer(invocation -> latch.await(5, TimeUnit.SECONDS)).when(this.first).send(anyList());
+        final var replicator = newReplicator(1);
+        replicator.notifyElementPut(this.cache, new Element("ST-0", "ticket"));
+        verify(this.first, timeout(5000)).send(anyList());
+
+        replicator.notifyElementPut(this.cache, new Element("ST-1", "ticket"));
+        replicator.notifyElementPut(this.cache, new Element("ST-2", "ticket"));
+        replicator.notifyElementPut(this.cache, new Element("ST-3", "ticket"));
+        assertEquals(1, replicator.getQueueSize());
+        assertEquals(2, replicator.getDroppedCount());
+        latch.countDown();
+        replicator.dispose();
+        assertEquals(2, replicator.getReplicatedCount());
+    }
+
+    @Test
+    public void verifyRemovalsNotDroppedWhenQueueIsFull() throws Exception {
+        final var latch = new CountDownLatch(1);
+        doAnswer(invocation -> latch.await(5, TimeUnit.SECONDS)).when(this.first).send(anyList());
+        final var replicator = newReplicator(1);
+        replicator.notifyElementPut(this.cache, new Element("ST-0", "ticket"));
+        verify(this.first, timeout(5000)).send(anyList());
+
+        replicator.notifyElementPut(this.cache, new Element("ST-1", "ticket"));
+        final var removal = new Thread(() -> replicator.notifyElementRemoved(this.cache, new Element("ST-1", "ticket")));
+        removal.start();
+        for (var i = 0; i < 100 && replicator.getSynchronousRemovalCount() == 0; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(1, replicator.getSynchronousRemovalCount());
+        latch.countDown();
+        removal.join(5000);
+
+        replicator.dispose();
+        assertEquals(0, replicator.getDroppedCount());
+        assertEquals(1, replicator.getSynchronousRemovalCount());
+        final var sent = captureLastSent(this.second, 2);
+        assertEquals(1, sent.size());
+        assertNull(sent.get(0).getElement());
+        assertEquals(1, replicator.getReplicatedCount());
+    }
+
+    @Test
+    public void verifyRemoveAllSupersedesQueuedEvents() throws Exception {
+        final var replicator = newReplicator(100);
+        replicator.notifyRemoveAll(this.cache);
+        final var sent = captureLastSent(this.first, 1);
+        assertEquals(1, sent.size());
+        assertNull(sent.get(0).getElement());
+        replicator.dispose();
+    }
+}
@@ -0,0 +1,26 @@
+package org.apereo.cas.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.services.RegisteredService;
+
+/**
+ * This is {@link AuthenticationRiskNotification}, which describes a single risky authentication attempt
+ * that notifiers should report. A notification is built for each request and handed to every notifier,
+ * so notifiers themselves remain stateless and may be shared by concurrent requests.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@ToString
+@Getter
+@RequiredArgsConstructor
+public class AuthenticationRiskNotification {
+    private final Authentication authentication;
+
+    private final RegisteredService registeredService;
+
+    private final AuthenticationRiskScore authenticationRiskScore;
+}
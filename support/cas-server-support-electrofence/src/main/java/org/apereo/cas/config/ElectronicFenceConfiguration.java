@@ -36,6 +36,11 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This is {@link ElectronicFenceConfiguration}.
@@ -48,6 +53,9 @@ import java.util.Set;
 @EnableScheduling
 @Slf4j
 public class ElectronicFenceConfiguration implements AuditTrailRecordResolutionPlanConfigurer {
+    private static final int NOTIFICATION_THREADS = 2;
+
+    private static final int NOTIFICATION_QUEUE_CAPACITY = 1000;
 
     @Autowired
     @Qualifier("returnValueResourceResolver")
@@ -78,6 +86,18 @@ public class ElectronicFenceConfiguration implements AuditTrailRecordResolutionP
         return new AuthenticationRiskSmsNotifier(communicationsManager);
     }
 
+    @ConditionalOnMissingBean(name = "authenticationRiskNotificationExecutor")
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService authenticationRiskNotificationExecutor() {
+        final var count = new AtomicInteger();
+        return new ThreadPoolExecutor(NOTIFICATION_THREADS, NOTIFICATION_THREADS, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(NOTIFICATION_QUEUE_CAPACITY), runnable -> {
+                final var thread = new Thread(runnable, "risk-notification-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
     @ConditionalOnMissingBean(name = "blockAuthenticationContingencyPlan")
     @Bean
     @RefreshScope
@@ -163,6 +183,7 @@ public class ElectronicFenceConfiguration implements AuditTrailRecordResolutionP
     }
 
     private void configureContingencyPlan(final BaseAuthenticationRiskContingencyPlan b) {
+        b.setNotificationExecutor(authenticationRiskNotificationExecutor());
         final var mail = casProperties.getAuthn().getAdaptive().getRisk().getResponse().getMail();
         if (StringUtils.isNotBlank(mail.getText()) && StringUtils.isNotBlank(mail.getFrom()) && StringUtils.isNotBlank(mail.getSubject())) {
             b.getNotifiers().add(authenticationRiskEmailNotifier());
@@ -7,14 +7,13 @@ import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
-import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventRiskProfile;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
-import java.util.Collection;
 
 /**
  * This is {@link BaseAuthenticationRequestRiskCalculator}.
@@ -43,11 +42,11 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
                                                    final RegisteredService service,
                                                    final HttpServletRequest request) {
         final var principal = authentication.getPrincipal();
-        final var events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId());
-        if (events.isEmpty()) {
+        final var history = getCasTicketGrantingTicketCreatedHistoryFor(principal.getId());
+        if (history.getTotal() == 0) {
             return new AuthenticationRiskScore(HIGHEST_RISK_SCORE);
         }
-        final var score = new AuthenticationRiskScore(calculateScore(request, authentication, service, events));
+        final var score = new AuthenticationRiskScore(calculateScore(request, authentication, service, history));
         LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), score);
         return score;
     }
@@ -58,29 +57,30 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
      * @param request        the request
      * @param authentication the authentication
      * @param service        the service
-     * @param events         the events
+     * @param history        the authentication history of the principal
      * @return the authentication risk score
      */
     protected BigDecimal calculateScore(final HttpServletRequest request,
                                     final Authentication authentication,
                                     final RegisteredService service,
-                                    final Collection<CasEvent> events) {
+                                    final CasEventRiskProfile.Histogram history) {
         return HIGHEST_RISK_SCORE;
     }
 
     /**
-     * Gets cas ticket granting ticket created events.
+     * Gets the history of cas ticket granting ticket created events,
+     * summarized from the risk profile of the principal.
      *
      * @param principal the principal
-     * @return the cas ticket granting ticket created events for
+     * @return the cas ticket granting ticket created history for
      */
-    protected Collection<CasEvent> getCasTicketGrantingTicketCreatedEventsFor(final String principal) {
+    protected CasEventRiskProfile.Histogram getCasTicketGrantingTicketCreatedHistoryFor(final String principal) {
         final var type = CasTicketGrantingTicketCreatedEvent.class.getName();
-        LOGGER.debug("Retrieving events of type [{}] for [{}]", type, principal);
-        
+        LOGGER.debug("Retrieving risk profile of events of type [{}] for [{}]", type, principal);
+
         final var date = ZonedDateTime.now()
                 .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getDaysInRecentHistory());
-        return casEventRepository.getEventsOfTypeForPrincipal(type, principal, date);
+        return casEventRepository.getRiskProfile(type, principal).getHistogram(date);
     }
 
     /**
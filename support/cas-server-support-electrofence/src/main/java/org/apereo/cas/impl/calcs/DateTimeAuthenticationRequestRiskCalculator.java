@@ -4,14 +4,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventRiskProfile;
 
 import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.time.chrono.ChronoZonedDateTime;
-import java.util.Collection;
 
 /**
  * This is {@link DateTimeAuthenticationRequestRiskCalculator}.
@@ -31,28 +29,23 @@ public class DateTimeAuthenticationRequestRiskCalculator extends BaseAuthenticat
 
     @Override
     protected BigDecimal calculateScore(final HttpServletRequest request, final Authentication authentication,
-                                        final RegisteredService service, final Collection<CasEvent> events) {
+                                        final RegisteredService service, final CasEventRiskProfile.Histogram history) {
         final var timestamp = ZonedDateTime.now(ZoneOffset.UTC);
         LOGGER.debug("Filtering authentication events for timestamp [{}]", timestamp);
         
         final var hoursFromNow = timestamp.plusHours(windowInHours).getHour();
         final var hoursBeforeNow = timestamp.minusHours(windowInHours).getHour();
 
-        final var count = events
-            .stream()
-            .map(time -> {
-                final var instant = ChronoZonedDateTime.from(time.getCreationTime()).toInstant();
-                final var zdt = ZonedDateTime.ofInstant(instant, ZoneOffset.UTC);
-                return zdt.getHour();
-            })
-            .filter(hour -> hour <= hoursFromNow && hour >= hoursBeforeNow)
-            .count();
+        final var count = history.getCount(CasEventRiskProfile.Dimensions.HOUR_OF_DAY, value -> {
+            final var hour = Integer.parseInt(value);
+            return hour <= hoursFromNow && hour >= hoursBeforeNow;
+        });
 
         LOGGER.debug("Total authentication events found for [{}] in a [{}]h window: [{}]", timestamp, windowInHours, count);
-        if (count == events.size()) {
+        if (count == history.getTotal()) {
             LOGGER.debug("Principal [{}] has always authenticated from [{}]", authentication.getPrincipal(), timestamp);
             return LOWEST_RISK_SCORE;
         }
-        return getFinalAveragedScore(count, events.size());
+        return getFinalAveragedScore(count, history.getTotal());
     }
 }
@@ -5,7 +5,7 @@ import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventRiskProfile;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.web.support.WebUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
@@ -14,7 +14,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 
 import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
-import java.util.Collection;
 
 /**
  * This is {@link GeoLocationAuthenticationRequestRiskCalculator}.
@@ -38,32 +37,30 @@ public class GeoLocationAuthenticationRequestRiskCalculator extends BaseAuthenti
 
     @Override
     protected BigDecimal calculateScore(final HttpServletRequest request, final Authentication authentication,
-                                        final RegisteredService service, final Collection<CasEvent> events) {
+                                        final RegisteredService service, final CasEventRiskProfile.Histogram history) {
         final var loc = WebUtils.getHttpServletRequestGeoLocation(request);
         if (loc != null && loc.isValid()) {
             LOGGER.debug("Filtering authentication events for geolocation [{}]", loc);
-            final var count = events.stream().filter(e -> e.getGeoLocation().equals(loc)).count();
+            final var count = history.getCount(CasEventRiskProfile.Dimensions.GEO_LOCATION, CasEventRiskProfile.toGeoLocationKey(loc));
             LOGGER.debug("Total authentication events found for [{}]: [{}]", loc, count);
-            if (count == events.size()) {
+            if (count == history.getTotal()) {
                 LOGGER.debug("Principal [{}] has always authenticated from [{}]", authentication.getPrincipal(), loc);
                 return LOWEST_RISK_SCORE;
             }
-            return getFinalAveragedScore(count, events.size());
+            return getFinalAveragedScore(count, history.getTotal());
         }
         final var remoteAddr = ClientInfoHolder.getClientInfo().getClientIpAddress();
         LOGGER.debug("Filtering authentication events for location based on ip [{}]", remoteAddr);
         final var response = this.geoLocationService.locate(remoteAddr);
         if (response != null) {
-            final var count = events
-                .stream()
-                .filter(e -> e.getGeoLocation().equals(new GeoLocationRequest(response.getLatitude(), response.getLongitude())))
-                .count();
+            final var location = new GeoLocationRequest(response.getLatitude(), response.getLongitude());
+            final var count = history.getCount(CasEventRiskProfile.Dimensions.GEO_LOCATION, CasEventRiskProfile.toGeoLocationKey(location));
             LOGGER.debug("Total authentication events found for location of [{}]: [{}]", remoteAddr, count);
-            if (count == events.size()) {
+            if (count == history.getTotal()) {
                 LOGGER.debug("Principal [{}] has always authenticated from [{}]", authentication.getPrincipal(), loc);
                 return LOWEST_RISK_SCORE;
             }
-            return getFinalAveragedScore(count, events.size());
+            return getFinalAveragedScore(count, history.getTotal());
         }
         LOGGER.debug("Request does not contain enough geolocation data");
         return HIGHEST_RISK_SCORE;
@@ -1,15 +1,15 @@
 package org.apereo.cas.impl.calcs;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventRiskProfile;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
-import java.util.Collection;
 
 /**
  * This is {@link IpAddressAuthenticationRequestRiskCalculator}.
@@ -29,15 +29,15 @@ public class IpAddressAuthenticationRequestRiskCalculator extends BaseAuthentica
     protected BigDecimal calculateScore(final HttpServletRequest request,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final Collection<CasEvent> events) {
+                                        final CasEventRiskProfile.Histogram history) {
         final var remoteAddr = ClientInfoHolder.getClientInfo().getClientIpAddress();
         LOGGER.debug("Filtering authentication events for ip address [{}]", remoteAddr);
-        final var count = events.stream().filter(e -> e.getClientIpAddress().equalsIgnoreCase(remoteAddr)).count();
+        final var count = history.getCount(CasEventRiskProfile.Dimensions.CLIENT_IP_ADDRESS, StringUtils.defaultString(remoteAddr).toLowerCase());
         LOGGER.debug("Total authentication events found for [{}]: [{}]", remoteAddr, count);
-        if (count == events.size()) {
+        if (count == history.getTotal()) {
             LOGGER.debug("Principal [{}] has always authenticated from [{}]", authentication.getPrincipal(), remoteAddr);
             return LOWEST_RISK_SCORE;
         }
-        return getFinalAveragedScore(count, events.size());
+        return getFinalAveragedScore(count, history.getTotal());
     }
 }
@@ -1,15 +1,15 @@
 package org.apereo.cas.impl.calcs;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventRiskProfile;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.util.HttpRequestUtils;
 
 import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
-import java.util.Collection;
 
 /**
  * This is {@link UserAgentAuthenticationRequestRiskCalculator}.
@@ -29,16 +29,16 @@ public class UserAgentAuthenticationRequestRiskCalculator extends BaseAuthentica
     protected BigDecimal calculateScore(final HttpServletRequest request,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final Collection<CasEvent> events) {
+                                        final CasEventRiskProfile.Histogram history) {
 
         final var agent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
         LOGGER.debug("Filtering authentication events for user agent [{}]", agent);
-        final var count = events.stream().filter(e -> e.getAgent().equalsIgnoreCase(agent)).count();
+        final var count = history.getCount(CasEventRiskProfile.Dimensions.USER_AGENT, StringUtils.defaultString(agent).toLowerCase());
         LOGGER.debug("Total authentication events found for [{}]: [{}]", agent, count);
-        if (count == events.size()) {
+        if (count == history.getTotal()) {
             LOGGER.debug("Principal [{}] has always authenticated from [{}]", authentication.getPrincipal(), agent);
             return LOWEST_RISK_SCORE;
         }
-        return getFinalAveragedScore(count, events.size());
+        return getFinalAveragedScore(count, history.getTotal());
     }
 }
@@ -2,6 +2,7 @@ package org.apereo.cas.impl.notify;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.api.AuthenticationRiskNotification;
 import org.apereo.cas.util.io.CommunicationsManager;
 
 /**
@@ -16,10 +17,10 @@ public class AuthenticationRiskEmailNotifier extends BaseAuthenticationRiskNotif
     private final CommunicationsManager communicationsManager;
 
     @Override
-    public void publish() {
+    public void publish(final AuthenticationRiskNotification notification) {
         final var mail = casProperties.getAuthn().getAdaptive().getRisk().getResponse().getMail();
 
-        final var principal = authentication.getPrincipal();
+        final var principal = notification.getAuthentication().getPrincipal();
         if (!principal.getAttributes().containsKey(mail.getAttributeName())) {
             LOGGER.debug("Could not send email to [{}]. Either no addresses could be found or email settings are not configured.", principal.getId());
             return;
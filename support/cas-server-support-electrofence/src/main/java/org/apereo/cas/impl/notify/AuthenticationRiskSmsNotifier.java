@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.api.AuthenticationRiskNotification;
 import org.apereo.cas.util.io.CommunicationsManager;
 
 /**
@@ -21,9 +22,9 @@ public class AuthenticationRiskSmsNotifier extends BaseAuthenticationRiskNotifie
     private final CommunicationsManager communicationsManager;
 
     @Override
-    public void publish() {
+    public void publish(final AuthenticationRiskNotification notification) {
         final var sms = casProperties.getAuthn().getAdaptive().getRisk().getResponse().getSms();
-        final var principal = authentication.getPrincipal();
+        final var principal = notification.getAuthentication().getPrincipal();
 
         if (StringUtils.isBlank(sms.getText()) || StringUtils.isBlank(sms.getFrom())
                 || !principal.getAttributes().containsKey(sms.getAttributeName())) {
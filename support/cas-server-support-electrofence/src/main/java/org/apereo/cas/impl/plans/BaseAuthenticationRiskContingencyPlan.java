@@ -1,8 +1,10 @@
 package org.apereo.cas.impl.plans;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.api.AuthenticationRiskContingencyPlan;
 import org.apereo.cas.api.AuthenticationRiskContingencyResponse;
+import org.apereo.cas.api.AuthenticationRiskNotification;
 import org.apereo.cas.api.AuthenticationRiskNotifier;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
@@ -14,6 +16,8 @@ import org.springframework.context.ApplicationContext;
 import javax.servlet.http.HttpServletRequest;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * This is {@link BaseAuthenticationRiskContingencyPlan}.
@@ -39,6 +43,12 @@ public abstract class BaseAuthenticationRiskContingencyPlan implements Authentic
 
     private final Set<AuthenticationRiskNotifier> notifiers = new LinkedHashSet<>();
 
+    /**
+     * Executor that publishes risk notifications off the request thread.
+     */
+    @Setter
+    private Executor notificationExecutor;
+
 
     @Override
     public final AuthenticationRiskContingencyResponse execute(final Authentication authentication,
@@ -47,16 +57,36 @@ public abstract class BaseAuthenticationRiskContingencyPlan implements Authentic
                                                                final HttpServletRequest request) {
         LOGGER.debug("Executing [{}] to produce a risk response", getClass().getSimpleName());
 
-        notifiers.forEach(e -> {
-            e.setAuthentication(authentication);
-            e.setAuthenticationRiskScore(score);
-            e.setRegisteredService(service);
-            LOGGER.debug("Executing risk notification [{}]", e.getClass().getSimpleName());
-            new Thread(e, e.getClass().getSimpleName()).start();
-        });
+        final var notification = new AuthenticationRiskNotification(authentication, service, score);
+        notifiers.forEach(e -> publish(e, notification));
         return executeInternal(authentication, service, score, request);
     }
     
+    /**
+     * Hand the risk notification to the notification executor, so that publishing,
+     * and any delivery the notifier performs on its own, never holds up the request.
+     * Notifications are dropped with a warning when the executor cannot accept them.
+     *
+     * @param notifier     the notifier
+     * @param notification the notification
+     */
+    private void publish(final AuthenticationRiskNotifier notifier, final AuthenticationRiskNotification notification) {
+        final var name = notifier.getClass().getSimpleName();
+        try {
+            this.notificationExecutor.execute(() -> {
+                try {
+                    LOGGER.debug("Executing risk notification [{}]", name);
+                    notifier.publish(notification);
+                } catch (final Exception e) {
+                    LOGGER.error("Unable to execute risk notification [{}]: [{}]", name, e.getMessage());
+                    LOGGER.debug(e.getMessage(), e);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            LOGGER.warn("Risk notification [{}] is not published, since the notification executor is saturated or stopped", name);
+        }
+    }
+
     public Set<AuthenticationRiskNotifier> getNotifiers() {
         return notifiers;
     }
@@ -1,5 +1,6 @@
 package org.apereo.cas.impl.notify;
 
+import org.apereo.cas.api.AuthenticationRiskNotification;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.impl.calcs.BaseAuthenticationRequestRiskCalculatorTests;
@@ -26,12 +27,10 @@ public class AuthenticationRiskEmailNotifierTests extends BaseAuthenticationRequ
     @Test
     public void verifyOperation() {
         try {
-            authenticationRiskEmailNotifier.setRegisteredService(CoreAuthenticationTestUtils.getRegisteredService());
             final var principal = CoreAuthenticationTestUtils.getPrincipal(CollectionUtils.wrap("mail", "cas@example.org"));
             final var authentication = CoreAuthenticationTestUtils.getAuthentication(principal);
-            authenticationRiskEmailNotifier.setAuthentication(authentication);
-            authenticationRiskEmailNotifier.setAuthenticationRiskScore(new AuthenticationRiskScore(BigDecimal.ONE));
-            authenticationRiskEmailNotifier.publish();
+            authenticationRiskEmailNotifier.publish(new AuthenticationRiskNotification(authentication,
+                CoreAuthenticationTestUtils.getRegisteredService(), new AuthenticationRiskScore(BigDecimal.ONE)));
         } catch (final Exception e) {
             throw new AssertionError(e.getMessage(), e);
         }
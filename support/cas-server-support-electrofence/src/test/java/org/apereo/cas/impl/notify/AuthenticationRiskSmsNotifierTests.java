@@ -1,5 +1,6 @@
 package org.apereo.cas.impl.notify;
 
+import org.apereo.cas.api.AuthenticationRiskNotification;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.impl.calcs.BaseAuthenticationRequestRiskCalculatorTests;
@@ -20,12 +21,10 @@ public class AuthenticationRiskSmsNotifierTests extends BaseAuthenticationReques
     @Test
     public void verifyOperation() {
         try {
-            authenticationRiskSmsNotifier.setRegisteredService(CoreAuthenticationTestUtils.getRegisteredService());
             final var principal = CoreAuthenticationTestUtils.getPrincipal(CollectionUtils.wrap("phone", "3487244312"));
             final var authentication = CoreAuthenticationTestUtils.getAuthentication(principal);
-            authenticationRiskSmsNotifier.setAuthentication(authentication);
-            authenticationRiskSmsNotifier.setAuthenticationRiskScore(new AuthenticationRiskScore(BigDecimal.ONE));
-            authenticationRiskSmsNotifier.publish();
+            authenticationRiskSmsNotifier.publish(new AuthenticationRiskNotification(authentication,
+                CoreAuthenticationTestUtils.getRegisteredService(), new AuthenticationRiskScore(BigDecimal.ONE)));
         } catch (final Exception e) {
             throw new AssertionError(e.getMessage(), e);
         }
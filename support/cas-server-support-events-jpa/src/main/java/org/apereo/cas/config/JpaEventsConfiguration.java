@@ -79,8 +79,13 @@ public class JpaEventsConfiguration {
         return mgmr;
     }
     
+    @Autowired
     @Bean
-    public CasEventRepository casEventRepository() {
-        return new JpaCasEventRepository();
+    public CasEventRepository casEventRepository(@Qualifier("transactionManagerEvents") final PlatformTransactionManager transactionManagerEvents) {
+        final var repository = new JpaCasEventRepository();
+        repository.setTransactionManager(transactionManagerEvents);
+        repository.setTrackRiskProfiles(casProperties.getEvents().isTrackRiskProfiles());
+        repository.setRiskProfileRetentionDays(casProperties.getEvents().getRiskProfileRetentionDays());
+        return repository;
     }
 }
@@ -1,18 +1,28 @@
 package org.apereo.cas.support.events.jpa;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventRiskProfile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Optional;
 import lombok.ToString;
 
 /**
  * This is {@link JpaCasEventRepository} that stores event data into a RDBMS database.
+ * Risk profiles are updated once the event is committed, each attempt in a transaction of its own,
+ * so that a conflicting update of the same profile is retried without rolling back the event.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -28,9 +38,22 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
     @PersistenceContext(unitName = "eventsEntityManagerFactory")
     private transient EntityManager entityManager;
 
+    @Setter
+    private transient PlatformTransactionManager transactionManager;
+
     @Override
     public void save(final CasEvent event) {
         this.entityManager.merge(event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    updateRiskProfile(event);
+                }
+            });
+        } else {
+            updateRiskProfile(event);
+        }
     }
 
     @Override
@@ -53,11 +76,15 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
             .setParameter(CREATION_TIME_PARAM, dateTime.toString()).getResultList();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Principal ids are matched case-insensitively, as risk profiles are keyed by the lowercased principal id.</p>
+     */
     @Override
     public Collection<CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        final var query = SELECT_QUERY.concat("where r.type = :type and r.principalId = :principalId");
+        final var query = SELECT_QUERY.concat("where r.type = :type and lower(r.principalId) = :principalId");
         return this.entityManager.createQuery(query, CasEvent.class).setParameter(TYPE_PARAM, type)
-            .setParameter(PRINCIPAL_ID_PARAM, principal).getResultList();
+            .setParameter(PRINCIPAL_ID_PARAM, principal.toLowerCase()).getResultList();
     }
 
     @Override
@@ -86,4 +113,33 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
         final var query = SELECT_QUERY.concat("where r.principalId = :principalId");
         return this.entityManager.createQuery(query, CasEvent.class).setParameter(PRINCIPAL_ID_PARAM, id).getResultList();
     }
+
+    @Override
+    protected void executeRiskProfileUpdate(final Runnable update) {
+        if (this.transactionManager == null) {
+            update.run();
+            return;
+        }
+        final var template = new TransactionTemplate(this.transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.execute(status -> {
+            update.run();
+            return null;
+        });
+    }
+
+    @Override
+    protected boolean supportsRiskProfiles() {
+        return true;
+    }
+
+    @Override
+    protected Optional<CasEventRiskProfile> findRiskProfile(final String id) {
+        return Optional.ofNullable(this.entityManager.find(CasEventRiskProfile.class, id));
+    }
+
+    @Override
+    protected void saveRiskProfile(final CasEventRiskProfile profile) {
+        this.entityManager.merge(profile);
+    }
 }
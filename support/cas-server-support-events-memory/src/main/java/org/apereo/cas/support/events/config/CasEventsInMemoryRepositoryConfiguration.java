@@ -7,6 +7,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.support.events.dao.InMemoryCasEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,6 +29,9 @@ public class CasEventsInMemoryRepositoryConfiguration {
     private static final int INITIAL_CACHE_SIZE = 50;
     private static final long MAX_CACHE_SIZE = 1_000_000;
     private static final long EXPIRATION_TIME = 2;
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
     
     @Bean
     public CasEventRepository casEventRepository() {
@@ -41,6 +45,9 @@ public class CasEventsInMemoryRepositoryConfiguration {
                     return null;
                 });
         LOGGER.debug("Created an in-memory event repository to store CAS events for [{}] hours", EXPIRATION_TIME);
-        return new InMemoryCasEventRepository(storage);
+        final var repository = new InMemoryCasEventRepository(storage);
+        repository.setTrackRiskProfiles(casProperties.getEvents().isTrackRiskProfiles());
+        repository.setRiskProfileRetentionDays(casProperties.getEvents().getRiskProfileRetentionDays());
+        return repository;
     }
 }
@@ -3,9 +3,15 @@ package org.apereo.cas.support.events.dao;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -19,9 +25,12 @@ import java.util.stream.Collectors;
 public class InMemoryCasEventRepository extends AbstractCasEventRepository {
     private final LoadingCache<String, CasEvent> cache;
 
+    private final Map<String, CasEventRiskProfile> riskProfiles = new ConcurrentHashMap<>();
+
     @Override
     public void save(final CasEvent event) {
         cache.put(UUID.randomUUID().toString(), event);
+        updateRiskProfile(event);
     }
 
     @Override
@@ -35,7 +44,30 @@ public class InMemoryCasEventRepository extends AbstractCasEventRepository {
             .asMap()
             .values()
             .stream()
-            .filter(e -> e.getPrincipalId().equalsIgnoreCase(id))
+            .filter(e -> StringUtils.equalsIgnoreCase(e.getPrincipalId(), id))
             .collect(Collectors.toSet());
     }
+
+    @Override
+    protected boolean supportsRiskProfiles() {
+        return true;
+    }
+
+    @Override
+    protected Optional<CasEventRiskProfile> findRiskProfile(final String id) {
+        return Optional.ofNullable(riskProfiles.get(id)).map(CasEventRiskProfile::copy);
+    }
+
+    @Override
+    protected void saveRiskProfile(final CasEventRiskProfile profile) {
+        riskProfiles.compute(profile.getId(), (id, current) -> {
+            final var version = current == null ? null : current.getVersion();
+            if (!Objects.equals(version, profile.getVersion())) {
+                throw new ConcurrentModificationException("Risk profile " + id + " was modified concurrently");
+            }
+            final var saved = profile.copy();
+            saved.setVersion(version == null ? 0L : version + 1);
+            return saved;
+        });
+    }
 }
@@ -0,0 +1,133 @@
+package org.apereo.cas.support.events.dao;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ConcurrentModificationException;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link InMemoryCasEventRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class InMemoryCasEventRepositoryTests {
+    private static final String TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private InMemoryCasEventRepository repository;
+
+    @Before
+    public void setup() {
+        final LoadingCache<String, CasEvent> cache = Caffeine.newBuilder().build(s -> null);
+        this.repository = new InMemoryCasEventRepository(cache);
+    }
+
+    private static CasEvent getCasEvent(final String principal, final String ip, final String agent,
+                                        final ZonedDateTime creationTime) {
+        final var dto = new CasEvent();
+        dto.setType(TYPE);
+        dto.setPrincipalId(principal);
+        dto.setCreationTime(creationTime.toString());
+        dto.putClientIpAddress(ip);
+        dto.putAgent(agent);
+        final var location = new GeoLocationRequest(40.71, -74.005);
+        location.setAccuracy("50");
+        location.setTimestamp(String.valueOf(System.currentTimeMillis()));
+        dto.putGeoLocation(location);
+        return dto;
+    }
+
+    @Test
+    public void verifyRiskProfileMaintainedOnSave() {
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.save(getCasEvent("casuser", "1.2.3.4", "Firefox", now));
+        repository.save(getCasEvent("CASUSER", "1.2.3.4", "Chrome", now.minusDays(2)));
+        repository.save(getCasEvent("casuser", "5.6.7.8", "Firefox", now.minusDays(40)));
+        repository.save(getCasEvent("other", "5.6.7.8", "Firefox", now));
+
+        final var history = repository.getRiskProfile(TYPE, "casuser").getHistogram(now.minusDays(30));
+        assertEquals(2, history.getTotal());
+        assertEquals(2, history.getCount(CasEventRiskProfile.Dimensions.CLIENT_IP_ADDRESS, "1.2.3.4"));
+        assertEquals(0, history.getCount(CasEventRiskProfile.Dimensions.CLIENT_IP_ADDRESS, "5.6.7.8"));
+        assertEquals(1, history.getCount(CasEventRiskProfile.Dimensions.USER_AGENT, "chrome"));
+        assertEquals(2, history.getCount(CasEventRiskProfile.Dimensions.GEO_LOCATION, "40.71,-74.005"));
+        assertEquals(2, history.getCount(CasEventRiskProfile.Dimensions.HOUR_OF_DAY, value -> true));
+
+        final var all = repository.getRiskProfile(TYPE, "casuser").getHistogram(now.minusDays(60));
+        assertEquals(3, all.getTotal());
+    }
+
+    @Test
+    public void verifyRiskProfileMatchesEventHistory() {
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.setTrackRiskProfiles(false);
+        repository.save(getCasEvent("casuser", "1.2.3.4", "Firefox", now));
+        repository.save(getCasEvent("casuser", "5.6.7.8", "Firefox", now));
+        final var fromEvents = repository.getRiskProfile(TYPE, "casuser").getHistogram(now.minusDays(1));
+
+        repository.setTrackRiskProfiles(true);
+        final var tracked = repository.getRiskProfile(TYPE, "casuser").getHistogram(now.minusDays(1));
+        repository.save(getCasEvent("casuser", "1.2.3.4", "Chrome", now));
+        final var updated = repository.getRiskProfile(TYPE, "casuser").getHistogram(now.minusDays(1));
+
+        assertEquals(2, fromEvents.getTotal());
+        assertEquals(2, tracked.getTotal());
+        assertEquals(3, updated.getTotal());
+        assertEquals(2, updated.getCount(CasEventRiskProfile.Dimensions.CLIENT_IP_ADDRESS, "1.2.3.4"));
+    }
+
+    @Test
+    public void verifyRiskProfilePruned() {
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.setRiskProfileRetentionDays(10);
+        repository.save(getCasEvent("casuser", "1.2.3.4", "Firefox", now.minusDays(20)));
+        repository.save(getCasEvent("casuser", "1.2.3.4", "Firefox", now));
+        final var history = repository.getRiskProfile(TYPE, "casuser").getHistogram(now.minusDays(365));
+        assertEquals(1, history.getTotal());
+    }
+
+    @Test
+    public void verifyRiskProfileSkipsUntrackedEvents() {
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.save(getCasEvent(null, "1.2.3.4", "Firefox", now));
+        final var other = getCasEvent("casuser", "1.2.3.4", "Firefox", now);
+        other.setType("AuthenticationTransactionFailed");
+        repository.save(other);
+
+        assertFalse(repository.findRiskProfile(CasEventRiskProfile.buildId("AuthenticationTransactionFailed", "casuser")).isPresent());
+        assertEquals(0, repository.getRiskProfile(TYPE, null).getHistogram(now.minusDays(1)).getTotal());
+        assertEquals(1, repository.getRiskProfile("AuthenticationTransactionFailed", "casuser").getHistogram(now.minusDays(1)).getTotal());
+    }
+
+    @Test
+    public void verifyConcurrentRiskProfileUpdateRejected() {
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.save(getCasEvent("casuser", "1.2.3.4", "Firefox", now));
+        final var id = CasEventRiskProfile.buildId(TYPE, "casuser");
+        final var first = repository.findRiskProfile(id).orElseThrow();
+        final var second = repository.findRiskProfile(id).orElseThrow();
+        first.record(getCasEvent("casuser", "1.2.3.4", "Firefox", now));
+        repository.saveRiskProfile(first);
+        second.record(getCasEvent("casuser", "5.6.7.8", "Firefox", now));
+        try {
+            repository.saveRiskProfile(second);
+            fail("Expected a concurrent modification to be rejected");
+        } catch (final ConcurrentModificationException e) {
+            LOGGER.debug(e.getMessage());
+        }
+        repository.save(getCasEvent("casuser", "5.6.7.8", "Chrome", now));
+        final var history = repository.getRiskProfile(TYPE, "casuser").getHistogram(now.minusDays(1));
+        assertEquals(3, history.getTotal());
+        assertEquals(1, history.getCount(CasEventRiskProfile.Dimensions.CLIENT_IP_ADDRESS, "5.6.7.8"));
+    }
+}
@@ -41,14 +41,23 @@ public class MongoDbEventsConfiguration {
         final var factory = new MongoDbConnectionFactory();
         final var mongoTemplate = factory.buildMongoTemplate(mongo);
         factory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        factory.createCollection(mongoTemplate, getRiskProfilesCollectionName(), mongo.isDropCollection());
         return mongoTemplate;
     }
 
     @Bean
     public CasEventRepository casEventRepository() {
         final var mongo = casProperties.getEvents().getMongo();
-        return new MongoDbCasEventRepository(
+        final var repository = new MongoDbCasEventRepository(
                 mongoEventsTemplate(),
-                mongo.getCollection());
+                mongo.getCollection(),
+                getRiskProfilesCollectionName());
+        repository.setTrackRiskProfiles(casProperties.getEvents().isTrackRiskProfiles());
+        repository.setRiskProfileRetentionDays(casProperties.getEvents().getRiskProfileRetentionDays());
+        return repository;
+    }
+
+    private String getRiskProfilesCollectionName() {
+        return casProperties.getEvents().getMongo().getCollection() + "RiskProfiles";
     }
 }
@@ -4,11 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.CasEventRiskProfile;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.regex.Pattern;
 import lombok.ToString;
 
 /**
@@ -24,10 +27,12 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
 
     private final MongoOperations mongoTemplate;
     private final String collectionName;
+    private final String riskProfilesCollectionName;
 
     @Override
     public void save(final CasEvent event) {
         this.mongoTemplate.save(event, this.collectionName);
+        updateRiskProfile(event);
     }
 
     @Override
@@ -56,17 +61,26 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
         return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Principal ids are matched case-insensitively, as risk profiles are keyed by the lowercased principal id.</p>
+     */
     @Override
     public Collection<CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
         final var query = new Query();
-        query.addCriteria(Criteria.where(TYPE_PARAM).is(type).and(PRINCIPAL_ID_PARAM).is(principal));
+        query.addCriteria(Criteria.where(TYPE_PARAM).is(type).and(PRINCIPAL_ID_PARAM).regex(toCaseInsensitivePattern(principal)));
         return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Principal ids are matched case-insensitively, as risk profiles are keyed by the lowercased principal id.</p>
+     */
     @Override
     public Collection<CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal, final ZonedDateTime dateTime) {
         final var query = new Query();
-        query.addCriteria(Criteria.where(TYPE_PARAM).is(type).and(PRINCIPAL_ID_PARAM).is(principal).and(CREATION_TIME_PARAM).gte(dateTime.toString()));
+        query.addCriteria(Criteria.where(TYPE_PARAM).is(type).and(PRINCIPAL_ID_PARAM).regex(toCaseInsensitivePattern(principal))
+            .and(CREATION_TIME_PARAM).gte(dateTime.toString()));
         return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
     }
 
@@ -83,4 +97,23 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
         query.addCriteria(Criteria.where(PRINCIPAL_ID_PARAM).is(principal).and(CREATION_TIME_PARAM).gte(dateTime.toString()));
         return this.mongoTemplate.find(query, CasEvent.class, this.collectionName);
     }
+
+    private static Pattern toCaseInsensitivePattern(final String principal) {
+        return Pattern.compile('^' + Pattern.quote(principal) + '$', Pattern.CASE_INSENSITIVE);
+    }
+
+    @Override
+    protected boolean supportsRiskProfiles() {
+        return true;
+    }
+
+    @Override
+    protected Optional<CasEventRiskProfile> findRiskProfile(final String id) {
+        return Optional.ofNullable(this.mongoTemplate.findById(id, CasEventRiskProfile.class, this.riskProfilesCollectionName));
+    }
+
+    @Override
+    protected void saveRiskProfile(final CasEventRiskProfile profile) {
+        this.mongoTemplate.save(profile, this.riskProfilesCollectionName);
+    }
 }
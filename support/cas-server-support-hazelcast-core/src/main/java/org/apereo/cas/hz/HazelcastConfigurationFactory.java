@@ -3,11 +3,14 @@ package org.apereo.cas.hz;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.DiscoveryConfig;
 import com.hazelcast.config.DiscoveryStrategyConfig;
+import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.JoinConfig;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MaxSizeConfig;
 import com.hazelcast.config.MulticastConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.NetworkConfig;
 import com.hazelcast.config.PartitionGroupConfig;
 import com.hazelcast.config.TcpIpConfig;
@@ -15,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apereo.cas.configuration.model.support.hazelcast.BaseHazelcastProperties;
 import org.apereo.cas.configuration.model.support.hazelcast.HazelcastClusterProperties;
+import org.apereo.cas.configuration.model.support.hazelcast.HazelcastNearCacheProperties;
 import org.apereo.cas.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -58,6 +62,27 @@ public class HazelcastConfigurationFactory {
             .setMaxSizeConfig(maxSizeConfig);
     }
 
+    /**
+     * Build near cache config for the given map.
+     *
+     * @param nearCache the near cache settings
+     * @param mapName   the storage name
+     * @return the near cache config
+     */
+    public NearCacheConfig buildNearCacheConfig(final HazelcastNearCacheProperties nearCache, final String mapName) {
+        LOGGER.debug("Creating Hazelcast near cache configuration for [{}] with max size [{}]", mapName, nearCache.getMaxSize());
+        final var evictionConfig = new EvictionConfig(nearCache.getMaxSize(), EvictionConfig.MaxSizePolicy.ENTRY_COUNT,
+            EvictionPolicy.valueOf(nearCache.getEvictionPolicy()));
+
+        return new NearCacheConfig(mapName)
+            .setInMemoryFormat(InMemoryFormat.valueOf(nearCache.getInMemoryFormat()))
+            .setInvalidateOnChange(nearCache.isInvalidateOnChange())
+            .setCacheLocalEntries(nearCache.isCacheLocalEntries())
+            .setTimeToLiveSeconds(nearCache.getTimeToLiveSeconds())
+            .setMaxIdleSeconds(nearCache.getMaxIdleSeconds())
+            .setEvictionConfig(evictionConfig);
+    }
+
     /**
      * Build config.
      *
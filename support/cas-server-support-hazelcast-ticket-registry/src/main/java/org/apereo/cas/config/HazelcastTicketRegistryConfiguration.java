@@ -7,12 +7,18 @@ import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
+import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.HazelcastTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.support.BaseDelegatingExpirationPolicy;
+import org.apereo.cas.ticket.support.ThrottledUseAndTimeoutExpirationPolicy;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -21,6 +27,8 @@ import org.springframework.context.annotation.Configuration;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Spring's Java configuration component for {@code HazelcastInstance} that is consumed and used by
@@ -44,6 +52,10 @@ public class HazelcastTicketRegistryConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("grantingTicketExpirationPolicy")
+    private ObjectProvider<ExpirationPolicy> grantingTicketExpirationPolicy;
+
     @Autowired
     @Bean
     public TicketRegistry ticketRegistry(@Qualifier("ticketCatalog") final TicketCatalog ticketCatalog) {
@@ -81,10 +93,65 @@ public class HazelcastTicketRegistryConfiguration {
 
         final var definitions = ticketCatalog.findAll();
         definitions.forEach(t -> {
-            final var mapConfig = factory.buildMapConfig(hz, t.getProperties().getStorageName(), t.getProperties().getStorageTimeout());
+            final var mapName = t.getProperties().getStorageName();
+            final var mapConfig = factory.buildMapConfig(hz, mapName, getMaxIdleSeconds(t));
+            if (hz.getNearCache().isEnabled() && hz.getNearCache().getStorageNames().contains(mapName)) {
+                mapConfig.setNearCacheConfig(factory.buildNearCacheConfig(hz.getNearCache(), mapName));
+            }
             LOGGER.debug("Created Hazelcast map configuration for [{}]", t);
-            mapConfigs.put(t.getProperties().getStorageName(), mapConfig);
+            mapConfigs.put(mapName, mapConfig);
         });
         return mapConfigs;
     }
+
+    /**
+     * Gets the idle timeout of the map that stores tickets of the given definition.
+     * Maps that store ticket-granting tickets use the idle timeout of the granting ticket expiration policy,
+     * so that inactive sessions do not occupy the cluster for their entire lifetime. Other maps,
+     * or policies that do not define an idle timeout, fall back to the storage timeout of the definition.
+     *
+     * @param definition the definition
+     * @return the max idle seconds
+     */
+    private long getMaxIdleSeconds(final TicketDefinition definition) {
+        final var storageTimeout = definition.getProperties().getStorageTimeout();
+        final var policy = grantingTicketExpirationPolicy.getIfAvailable();
+        if (policy == null || !TicketGrantingTicket.class.isAssignableFrom(definition.getImplementationClass())) {
+            return storageTimeout;
+        }
+        final var idle = getMaxIdleSecondsForPolicy(policy);
+        if (idle <= 0) {
+            return storageTimeout;
+        }
+        if (idle >= Integer.MAX_VALUE) {
+            LOGGER.debug("Idle expiration is disabled for [{}] since tickets never expire", definition.getProperties().getStorageName());
+            return 0;
+        }
+        LOGGER.debug("Tickets in [{}] are evicted after [{}] second(s) of inactivity", definition.getProperties().getStorageName(), idle);
+        return idle;
+    }
+
+    /**
+     * Gets the longest period of inactivity tolerated by the policy. Delegating policies tolerate
+     * the longest period of their delegates, so that for example remember-me sessions are not evicted
+     * after the idle timeout of regular sessions. Policies without an idle timeout tolerate inactivity
+     * for their entire time-to-live, and the throttled policy measures its time-to-live from the last use.
+     *
+     * @param policy the policy
+     * @return the max idle seconds
+     */
+    private static long getMaxIdleSecondsForPolicy(final ExpirationPolicy policy) {
+        if (policy instanceof BaseDelegatingExpirationPolicy) {
+            final var delegating = (BaseDelegatingExpirationPolicy) policy;
+            return Stream.concat(Stream.of(delegating.getDefaultExpirationPolicy()), delegating.getPolicies().values().stream())
+                .filter(Objects::nonNull)
+                .mapToLong(HazelcastTicketRegistryConfiguration::getMaxIdleSecondsForPolicy)
+                .max()
+                .orElse(0);
+        }
+        if (policy instanceof ThrottledUseAndTimeoutExpirationPolicy || policy.getTimeToIdle() <= 0) {
+            return policy.getTimeToLive();
+        }
+        return policy.getTimeToIdle();
+    }
 }
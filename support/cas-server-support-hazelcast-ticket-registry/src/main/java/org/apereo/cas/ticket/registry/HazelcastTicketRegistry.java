@@ -2,12 +2,17 @@ package org.apereo.cas.ticket.registry;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
+import com.hazelcast.query.PagingPredicate;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TicketState;
+import org.apereo.cas.ticket.support.ThrottledUseAndTimeoutExpirationPolicy;
 import org.springframework.beans.factory.DisposableBean;
 
 import java.util.Collection;
@@ -21,6 +26,9 @@ import java.util.stream.Collectors;
  * which is an extension of the standard Java's {@code ConcurrentMap}.</p>
  * <p>The heavy lifting of distributed data partitioning, network cluster discovery and
  * join, data replication, etc. is done by Hazelcast's Map implementation.</p>
+ * <p>Entries expire once the time-to-live of the ticket's expiration policy passes. Idle expiration
+ * is configured per map, and updates to ticket-granting tickets are applied in place via
+ * {@link TicketGrantingTicketStateEntryProcessor}.</p>
  *
  * @author Dmitriy Kopylenko
  * @author Jonathan Johnson
@@ -35,13 +43,38 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public Ticket updateTicket(final Ticket ticket) {
+        if (isTicketStateUpdatable(ticket)) {
+            final var ticketMap = getTicketMapInstanceByMetadata(this.ticketCatalog.find(ticket));
+            final var processor = new TicketGrantingTicketStateEntryProcessor((TicketGrantingTicketImpl) ticket);
+            if (BooleanUtils.isTrue((Boolean) ticketMap.executeOnKey(ticket.getId(), processor))) {
+                LOGGER.debug("Updated state of ticket [{}] in place", ticket.getId());
+                return ticket;
+            }
+            LOGGER.debug("Ticket [{}] could not be updated in place and will be stored again", ticket.getId());
+        }
         addTicket(ticket);
         return ticket;
     }
 
+    /**
+     * Determine whether only the mutable state of the ticket needs to be sent to the cluster
+     * instead of the entire ticket. This is only possible for ticket-granting tickets stored as-is,
+     * whose entry expiration does not need to be renewed on update. The throttled expiration policy
+     * measures the lifetime of the ticket from its last use, which requires the entry to be stored again.
+     *
+     * @param ticket the ticket
+     * @return true/false
+     */
+    protected boolean isTicketStateUpdatable(final Ticket ticket) {
+        return !isCipherExecutorEnabled()
+            && ticket instanceof TicketGrantingTicketImpl
+            && !ticket.isExpired()
+            && !(ticket.getExpirationPolicy() instanceof ThrottledUseAndTimeoutExpirationPolicy);
+    }
+
     @Override
     public void addTicket(final Ticket ticket) {
-        final long ttl = ticket.getExpirationPolicy().getTimeToLive();
+        final long ttl = getTimeToLive(ticket);
         if (ttl < 0) {
             throw new IllegalArgumentException("The expiration policy of ticket " + ticket.getId() + "is set to use a negative ttl");
         }
@@ -56,6 +89,14 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         LOGGER.debug("Added ticket [{}] with ttl [{}s]", encTicket.getId(), ttl);
     }
 
+    private static long getTimeToLive(final Ticket ticket) {
+        final var policy = ticket.getExpirationPolicy();
+        if (ticket instanceof TicketState) {
+            return policy.getTimeToLive((TicketState) ticket);
+        }
+        return policy.getTimeToLive();
+    }
+
     private IMap<String, Ticket> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
         final var mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating map name [{}] for ticket definition [{}]", mapName, metadata);
@@ -110,12 +151,13 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
     public Collection<Ticket> getTickets() {
         return this.ticketCatalog.findAll()
             .stream()
-            .map(metadata -> getTicketMapInstanceByMetadata(metadata).values())
-            .flatMap(tickets -> {
+            .map(this::getTicketMapInstanceByMetadata)
+            .filter(Objects::nonNull)
+            .flatMap(map -> {
                 if (pageSize > 0) {
-                    return tickets.stream().limit(pageSize).collect(Collectors.toList()).stream();
+                    return map.values(new PagingPredicate<>((int) pageSize)).stream();
                 }
-                return tickets.stream().collect(Collectors.toList()).stream();
+                return map.values().stream();
             })
             .map(this::decodeTicket)
             .collect(Collectors.toSet());
@@ -0,0 +1,146 @@
+package org.apereo.cas.ticket.registry;
+
+import com.hazelcast.map.AbstractEntryProcessor;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This is {@link TicketGrantingTicketStateEntryProcessor}, which applies the mutable state
+ * of a ticket-granting ticket, such as the services it granted access to and its usage timestamps,
+ * to the copy stored in the Hazelcast cluster. The processor runs on the member that owns the entry
+ * and its backups, so only this state crosses the network rather than the entire serialized ticket along
+ * with its authentication. The processor returns {@code false} if the ticket is no longer found in the map.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@Getter
+@NoArgsConstructor
+public class TicketGrantingTicketStateEntryProcessor extends AbstractEntryProcessor<String, Ticket> implements DataSerializable {
+
+    private Map<String, Service> services = new HashMap<>();
+
+    private Map<String, Service> proxyGrantingTickets = new HashMap<>();
+
+    private Set<String> descendantTickets = new HashSet<>();
+
+    private ZonedDateTime lastTimeUsed;
+
+    private ZonedDateTime previousTimeUsed;
+
+    private int countOfUses;
+
+    public TicketGrantingTicketStateEntryProcessor(final TicketGrantingTicketImpl ticket) {
+        this.services = new HashMap<>(ticket.getServices());
+        this.proxyGrantingTickets = new HashMap<>(ticket.getProxyGrantingTickets());
+        this.descendantTickets = new HashSet<>(ticket.getDescendantTickets());
+        this.lastTimeUsed = ticket.getLastTimeUsed();
+        this.previousTimeUsed = ticket.getPreviousTimeUsed();
+        this.countOfUses = ticket.getCountOfUses();
+    }
+
+    @Override
+    public Object process(final Map.Entry<String, Ticket> entry) {
+        final var value = entry.getValue();
+        if (!(value instanceof TicketGrantingTicketImpl)) {
+            LOGGER.trace("Ticket [{}] cannot be found or is not a ticket-granting ticket and will not be updated", entry.getKey());
+            return Boolean.FALSE;
+        }
+        final var ticket = (TicketGrantingTicketImpl) value;
+        replace(ticket.getServices(), this.services);
+        replace(ticket.getProxyGrantingTickets(), this.proxyGrantingTickets);
+        ticket.getDescendantTickets().clear();
+        ticket.getDescendantTickets().addAll(this.descendantTickets);
+        ticket.setLastTimeUsed(this.lastTimeUsed);
+        ticket.setPreviousTimeUsed(this.previousTimeUsed);
+        ticket.setCountOfUses(this.countOfUses);
+        entry.setValue(ticket);
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public void writeData(final ObjectDataOutput out) throws IOException {
+        writeServices(out, this.services);
+        writeServices(out, this.proxyGrantingTickets);
+        out.writeInt(this.descendantTickets.size());
+        for (final var id : this.descendantTickets) {
+            out.writeUTF(id);
+        }
+        writeDateTime(out, this.lastTimeUsed);
+        writeDateTime(out, this.previousTimeUsed);
+        out.writeInt(this.countOfUses);
+    }
+
+    @Override
+    public void readData(final ObjectDataInput in) throws IOException {
+        this.services = readServices(in);
+        this.proxyGrantingTickets = readServices(in);
+        final var count = in.readInt();
+        this.descendantTickets = new HashSet<>(count);
+        for (var i = 0; i < count; i++) {
+            this.descendantTickets.add(in.readUTF());
+        }
+        this.lastTimeUsed = readDateTime(in);
+        this.previousTimeUsed = readDateTime(in);
+        this.countOfUses = in.readInt();
+    }
+
+    private static void replace(final Map<String, Service> current, final Map<String, Service> state) {
+        current.keySet().retainAll(state.keySet());
+        current.putAll(state);
+    }
+
+    private static void writeServices(final ObjectDataOutput out, final Map<String, Service> services) throws IOException {
+        out.writeInt(services.size());
+        for (final var entry : services.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeObject(entry.getValue());
+        }
+    }
+
+    private static Map<String, Service> readServices(final ObjectDataInput in) throws IOException {
+        final var count = in.readInt();
+        final Map<String, Service> services = new HashMap<>(count);
+        for (var i = 0; i < count; i++) {
+            final var id = in.readUTF();
+            final Service service = in.readObject();
+            services.put(id, service);
+        }
+        return services;
+    }
+
+    private static void writeDateTime(final ObjectDataOutput out, final ZonedDateTime time) throws IOException {
+        out.writeBoolean(time != null);
+        if (time != null) {
+            final var instant = time.toInstant();
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        }
+    }
+
+    private static ZonedDateTime readDateTime(final ObjectDataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        final var seconds = in.readLong();
+        final var nanos = in.readInt();
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), ZoneOffset.UTC);
+    }
+}
@@ -2,8 +2,11 @@ package org.apereo.cas.ticket.registry;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 
+import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.CasCoreAuthenticationConfiguration;
 import org.apereo.cas.config.CasCoreAuthenticationHandlersConfiguration;
 import org.apereo.cas.config.CasCoreAuthenticationMetadataConfiguration;
@@ -23,7 +26,14 @@ import org.apereo.cas.config.CasPersonDirectoryConfiguration;
 import org.apereo.cas.config.HazelcastTicketRegistryConfiguration;
 import org.apereo.cas.config.HazelcastTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TicketState;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +42,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 import org.springframework.test.context.TestPropertySource;
 
+import static org.junit.Assert.*;
+
 /**
  * Unit tests for {@link HazelcastTicketRegistry}.
  *
@@ -63,7 +75,10 @@ import org.springframework.test.context.TestPropertySource;
     CasCoreWebConfiguration.class,
     CasWebApplicationServiceFactoryConfiguration.class
 })
-@TestPropertySource(properties = {"cas.ticket.registry.hazelcast.cluster.instanceName=testlocalhostinstance"})
+@TestPropertySource(properties = {
+    "cas.ticket.registry.hazelcast.cluster.instanceName=testlocalhostinstance",
+    "cas.ticket.registry.hazelcast.nearCache.enabled=true"
+})
 @Slf4j
 public class HazelcastTicketRegistryTests extends BaseSpringRunnableTicketRegistryTests {
 
@@ -71,6 +86,13 @@ public class HazelcastTicketRegistryTests extends BaseSpringRunnableTicketRegist
     @Qualifier("ticketRegistry")
     private TicketRegistry ticketRegistry;
 
+    @Autowired
+    @Qualifier("hazelcast")
+    private HazelcastInstance hazelcastInstance;
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
     public HazelcastTicketRegistryTests(final boolean useEncryption) {
         super(useEncryption);
     }
@@ -84,4 +106,31 @@ public class HazelcastTicketRegistryTests extends BaseSpringRunnableTicketRegist
     public TicketRegistry getNewTicketRegistry() {
         return ticketRegistry;
     }
+
+    @Test
+    public void verifyMapsConfiguredWithIdleTimeoutAndNearCache() {
+        final var tgt = casProperties.getTicket().getTgt();
+        final var tgtMapConfig = hazelcastInstance.getConfig().getMapConfig("ticketGrantingTicketsCache");
+        assertEquals(tgt.getTimeToKillInSeconds(), tgtMapConfig.getMaxIdleSeconds());
+        assertNotNull(tgtMapConfig.getNearCacheConfig());
+
+        final var stMapConfig = hazelcastInstance.getConfig().getMapConfig("serviceTicketsCache");
+        assertEquals(casProperties.getTicket().getSt().getTimeToKillInSeconds(), stMapConfig.getMaxIdleSeconds());
+        assertNull(stMapConfig.getNearCacheConfig());
+    }
+
+    @Test
+    public void verifyUpdateTicketNotInRegistry() {
+        final var tgt = new TicketGrantingTicketImpl("TGT-HZ-UPDATE",
+            CoreAuthenticationTestUtils.getAuthentication(),
+            new NeverExpiresExpirationPolicy());
+        tgt.grantServiceTicket("ST-HZ-UPDATE", RegisteredServiceTestUtils.getService(),
+            new NeverExpiresExpirationPolicy(), false, false);
+        ticketRegistry.updateTicket(tgt);
+
+        final var result = ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertNotNull(result);
+        assertEquals(Collections.singleton("ST-HZ-UPDATE"), result.getServices().keySet());
+        assertEquals(1, TicketState.class.cast(result).getCountOfUses());
+    }
 }
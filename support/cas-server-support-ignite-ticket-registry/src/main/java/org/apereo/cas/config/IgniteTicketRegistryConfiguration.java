@@ -15,6 +15,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.ignite.IgniteProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.registry.IgniteTicketDocument;
 import org.apereo.cas.ticket.registry.IgniteTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CoreTicketUtils;
@@ -133,6 +134,7 @@ public class IgniteTicketRegistryConfiguration {
                 ticketsCache.setWriteSynchronizationMode(writeSync);
                 final var duration = new Duration(TimeUnit.SECONDS, t.getProperties().getStorageTimeout());
                 ticketsCache.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(duration));
+                ticketsCache.setIndexedTypes(String.class, IgniteTicketDocument.class);
                 return ticketsCache;
             })
             .collect(Collectors.toSet());
@@ -0,0 +1,63 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.ignite.cache.query.annotations.QuerySqlField;
+import org.apereo.cas.ticket.Ticket;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link IgniteTicketDocument}, which is what the Ignite ticket registry stores for each ticket.
+ * Along with the (possibly encoded) ticket, it carries the fields by which tickets can be queried,
+ * which are indexed by Ignite's SQL engine.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "ticket")
+public class IgniteTicketDocument implements Serializable {
+
+    /**
+     * Field name to hold the ticket type.
+     */
+    public static final String FIELD_NAME_TYPE = "type";
+
+    /**
+     * Field name to hold the principal id.
+     */
+    public static final String FIELD_NAME_PRINCIPAL = "principal";
+
+    /**
+     * Field name to hold ticket expiration time.
+     */
+    public static final String FIELD_NAME_EXPIRATION_TIME = "expirationTime";
+
+    private static final long serialVersionUID = -2413815362117395474L;
+
+    private final String id;
+
+    /**
+     * The prefix of the ticket definition.
+     */
+    @QuerySqlField(index = true)
+    private final String type;
+
+    /**
+     * The lower-cased id of the principal that the ticket is issued to, encoded the same way as ticket ids.
+     * Only set for ticket-granting tickets.
+     */
+    @QuerySqlField(index = true)
+    private final String principal;
+
+    /**
+     * The time, in milliseconds since the epoch, at which the ticket expires unless it is used again.
+     */
+    @QuerySqlField(index = true)
+    private final long expirationTime;
+
+    private final Ticket ticket;
+}
@@ -7,22 +7,30 @@ import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteState;
 import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.query.QueryCursor;
 import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cache.query.SqlQuery;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apereo.cas.configuration.model.support.ignite.IgniteProperties;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketState;
+import org.apereo.cas.ticket.support.BaseDelegatingExpirationPolicy;
+import org.apereo.cas.ticket.support.ThrottledUseAndTimeoutExpirationPolicy;
 import org.springframework.beans.factory.DisposableBean;
 
-import javax.cache.Cache;
 import javax.cache.expiry.Duration;
 import javax.cache.expiry.ExpiryPolicy;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>
@@ -35,6 +43,12 @@ import java.util.stream.Collectors;
  * <li>Tuning: use cache level time to live with different values for TGT an ST.</li>
  * <li>Monitoring: follow separately the number of TGT and ST.</li>
  * </ul>
+ * <p>
+ * Tickets are stored as {@link IgniteTicketDocument}s whose ticket type, principal and expiration time are indexed,
+ * so that lookups by principal and ticket counts run as SQL queries on the cluster rather than in memory.
+ * Entries expire natively once the ticket's expiration policy would consider them expired, unless they are
+ * updated before then.
+ * </p>
  *
  * @author Timur Duehr timur.duehr@nccgroup.trust
  * @since 5.0.0`
@@ -69,8 +83,11 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         final var encodedTicket = encodeTicket(ticket);
         final var metadata = this.ticketCatalog.find(ticket);
         final var cache = getIgniteCacheFromMetadata(metadata);
+        final var expiryPolicy = new IgniteInternalTicketExpiryPolicy(ticket);
+        final var document = new IgniteTicketDocument(encodedTicket.getId(), metadata.getPrefix(),
+            getPrincipalId(ticket), expiryPolicy.getExpirationTime(), encodedTicket);
         LOGGER.debug("Adding ticket [{}] to the cache [{}]", ticket.getId(), cache.getName());
-        cache.withExpiryPolicy(new IgniteInternalTicketExpiryPolicy(ticket)).put(encodedTicket.getId(), encodedTicket);
+        cache.withExpiryPolicy(expiryPolicy).put(encodedTicket.getId(), document);
     }
 
     @Override
@@ -109,19 +126,66 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
             return null;
         }
         final var cache = getIgniteCacheFromMetadata(metadata);
-        final var ticket = cache.get(ticketId);
-        if (ticket == null) {
+        final var document = cache.get(ticketId);
+        if (document == null) {
             LOGGER.debug("No ticket by id [{}] is found in the ignite ticket registry", ticketId);
             return null;
         }
-        return decodeTicket(ticket);
+        return decodeTicket(document.getTicket());
     }
 
     @Override
     public Collection<Ticket> getTickets() {
-        return this.ticketCatalog.findAll().stream().map(this::getIgniteCacheFromMetadata)
-            .map(cache -> cache.query(new ScanQuery<>()).getAll().stream()).flatMap(Function.identity())
-            .map(Cache.Entry::getValue).map(object -> decodeTicket((Ticket) object)).collect(Collectors.toSet());
+        try (var tickets = getTicketsStream()) {
+            return tickets.collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Tickets are fetched from the cluster page by page as the stream is consumed.</p>
+     */
+    @Override
+    public Stream<Ticket> getTicketsStream() {
+        return this.ticketCatalog.findAll().stream()
+            .map(this::getIgniteCacheFromMetadata)
+            .flatMap(cache -> stream(cache.query(new ScanQuery<String, IgniteTicketDocument>())))
+            .map(entry -> decodeTicket(entry.getValue().getTicket()))
+            .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Stream<Ticket> getTicketGrantingTickets(final String principalId) {
+        final var principal = encodeTicketId(principalId.toLowerCase());
+        final var now = System.currentTimeMillis();
+        return getTicketDefinitions(TicketGrantingTicket.class)
+            .map(this::getIgniteCacheFromMetadata)
+            .flatMap(cache -> {
+                final var query = new SqlQuery<String, IgniteTicketDocument>(IgniteTicketDocument.class,
+                    IgniteTicketDocument.FIELD_NAME_PRINCIPAL + " = ? and " + IgniteTicketDocument.FIELD_NAME_EXPIRATION_TIME + " > ?");
+                query.setArgs(principal, now);
+                return stream(cache.query(query));
+            })
+            .map(entry -> decodeTicket(entry.getValue().getTicket()))
+            .filter(ticket -> ticket != null && !ticket.isExpired());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Only ticket-granting tickets that have not reached their expiration time are counted.</p>
+     */
+    @Override
+    public long sessionCount() {
+        return countTickets(TicketGrantingTicket.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Only service tickets that have not reached their expiration time are counted.</p>
+     */
+    @Override
+    public long serviceTicketCount() {
+        return countTickets(ServiceTicket.class);
     }
 
     @Override
@@ -156,21 +220,70 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         }
     }
 
-    private IgniteCache<String, Ticket> getIgniteCacheFromMetadata(final TicketDefinition metadata) {
+    private long countTickets(final Class<? extends Ticket> type) {
+        try {
+            final var now = System.currentTimeMillis();
+            return getTicketDefinitions(type)
+                .mapToLong(definition -> {
+                    final var query = new SqlFieldsQuery("select count(*) from " + IgniteTicketDocument.class.getSimpleName()
+                        + " where " + IgniteTicketDocument.FIELD_NAME_TYPE + " = ? and " + IgniteTicketDocument.FIELD_NAME_EXPIRATION_TIME + " > ?");
+                    query.setArgs(definition.getPrefix(), now);
+                    try (var cursor = getIgniteCacheFromMetadata(definition).query(query)) {
+                        return ((Number) cursor.getAll().get(0).get(0)).longValue();
+                    }
+                })
+                .sum();
+        } catch (final Exception e) {
+            LOGGER.error("Unable to count tickets of type [{}]: [{}]", type.getSimpleName(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private Stream<TicketDefinition> getTicketDefinitions(final Class<? extends Ticket> type) {
+        return this.ticketCatalog.findAll().stream().filter(definition -> type.isAssignableFrom(definition.getImplementationClass()));
+    }
+
+    private String getPrincipalId(final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket) {
+            final var authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                return encodeTicketId(authentication.getPrincipal().getId().toLowerCase());
+            }
+        }
+        return null;
+    }
+
+    private static <T> Stream<T> stream(final QueryCursor<T> cursor) {
+        return StreamSupport.stream(cursor.spliterator(), false).onClose(cursor::close);
+    }
+
+    private IgniteCache<String, IgniteTicketDocument> getIgniteCacheFromMetadata(final TicketDefinition metadata) {
         final var mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating cache name [{}] for ticket definition [{}]", mapName, metadata);
         return getIgniteCacheInstanceByName(mapName);
     }
 
-    private IgniteCache<String, Ticket> getIgniteCacheInstanceByName(final String name) {
+    private IgniteCache<String, IgniteTicketDocument> getIgniteCacheInstanceByName(final String name) {
         LOGGER.debug("Attempting to get/create cache [{}]", name);
         return this.ignite.getOrCreateCache(name);
     }
 
+    /**
+     * Expires entries once the ticket's expiration policy would consider the ticket expired, unless it is
+     * stored again before then. Tickets whose policy defines an idle timeout expire once that timeout passes,
+     * since tickets are stored again every time they are used, but never later than their creation time
+     * plus the time-to-live of the policy. Delegating and throttled policies
+     * only expire entries once their time-to-live passes. Reading an entry does not change its expiration.
+     */
     private static class IgniteInternalTicketExpiryPolicy implements ExpiryPolicy {
 
         private final Ticket ticket;
 
+        private final long timeToLive;
+
+        private final long maxTimeToLive;
+
         /**
          * Instantiates a new Ignite internal ticket expiry policy.
          *
@@ -178,23 +291,72 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
          */
         IgniteInternalTicketExpiryPolicy(final Ticket ticket) {
             this.ticket = ticket;
+            this.timeToLive = getTimeToLive(ticket);
+            this.maxTimeToLive = getMaxTimeToLive(ticket);
         }
 
         @Override
         public Duration getExpiryForCreation() {
-            return new Duration(TimeUnit.SECONDS, ticket.getExpirationPolicy().getTimeToLive());
+            return getExpiry();
         }
 
         @Override
         public Duration getExpiryForAccess() {
-            final long idleTime = ticket.getExpirationPolicy().getTimeToIdle() <= 0
-                ? ticket.getExpirationPolicy().getTimeToLive() : ticket.getExpirationPolicy().getTimeToIdle();
-            return new Duration(TimeUnit.SECONDS, idleTime);
+            return null;
         }
 
         @Override
         public Duration getExpiryForUpdate() {
-            return new Duration(TimeUnit.SECONDS, ticket.getExpirationPolicy().getTimeToLive());
+            return getExpiry();
+        }
+
+        /**
+         * Gets the time at which the entry expires, in milliseconds since the epoch.
+         *
+         * @return the expiration time
+         */
+        long getExpirationTime() {
+            return getExpirationTime(System.currentTimeMillis());
+        }
+
+        private long getExpirationTime(final long now) {
+            if (this.ticket.isExpired()) {
+                return now;
+            }
+            var expiration = this.timeToLive >= Integer.MAX_VALUE
+                ? Long.MAX_VALUE
+                : now + TimeUnit.SECONDS.toMillis(this.timeToLive);
+            if (this.ticket instanceof TicketState && this.maxTimeToLive < Integer.MAX_VALUE) {
+                final var creationTime = ((TicketState) this.ticket).getCreationTime().toInstant().toEpochMilli();
+                expiration = Math.max(now, Math.min(expiration, creationTime + TimeUnit.SECONDS.toMillis(this.maxTimeToLive)));
+            }
+            return expiration;
+        }
+
+        private Duration getExpiry() {
+            final var now = System.currentTimeMillis();
+            final var expiration = getExpirationTime(now);
+            if (expiration == Long.MAX_VALUE) {
+                return Duration.ETERNAL;
+            }
+            return expiration > now ? new Duration(TimeUnit.MILLISECONDS, expiration - now) : Duration.ZERO;
+        }
+
+        private static long getMaxTimeToLive(final Ticket ticket) {
+            final var policy = ticket.getExpirationPolicy();
+            return ticket instanceof TicketState
+                ? policy.getTimeToLive((TicketState) ticket)
+                : policy.getTimeToLive();
+        }
+
+        private static long getTimeToLive(final Ticket ticket) {
+            final var policy = ticket.getExpirationPolicy();
+            final var timeToLive = getMaxTimeToLive(ticket);
+            if (policy instanceof BaseDelegatingExpirationPolicy || policy instanceof ThrottledUseAndTimeoutExpirationPolicy) {
+                return timeToLive;
+            }
+            final long timeToIdle = policy.getTimeToIdle();
+            return timeToIdle > 0 && timeToIdle < timeToLive ? timeToIdle : timeToLive;
         }
     }
 }
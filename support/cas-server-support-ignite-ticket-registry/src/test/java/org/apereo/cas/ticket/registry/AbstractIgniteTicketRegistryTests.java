@@ -1,5 +1,6 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.category.IgniteCategory;
 import org.apereo.cas.config.CasCoreAuthenticationConfiguration;
 import org.apereo.cas.config.CasCoreAuthenticationHandlersConfiguration;
@@ -21,9 +22,15 @@ import org.apereo.cas.config.IgniteTicketRegistryConfiguration;
 import org.apereo.cas.config.IgniteTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
 import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.support.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.support.TimeoutExpirationPolicy;
 import org.apereo.cas.util.junit.ConditionalIgnoreRule;
 import org.junit.ClassRule;
 import org.junit.Rule;
+import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -33,6 +40,11 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.rules.SpringClassRule;
 import org.springframework.test.context.junit4.rules.SpringMethodRule;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
 /**
  * This is {@link AbstractIgniteTicketRegistryTests}.
  *
@@ -88,4 +100,46 @@ public abstract class AbstractIgniteTicketRegistryTests extends BaseTicketRegist
     protected TicketRegistry getNewTicketRegistry() {
         return ticketRegistry;
     }
+
+    @Test
+    public void verifyTicketGrantingTicketsByPrincipal() {
+        this.ticketRegistry.deleteAll();
+        this.ticketRegistry.addTicket(new TicketGrantingTicketImpl("TGT-P1",
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), new NeverExpiresExpirationPolicy()));
+        this.ticketRegistry.addTicket(new TicketGrantingTicketImpl("TGT-P2",
+            CoreAuthenticationTestUtils.getAuthentication("CASUSER"), new NeverExpiresExpirationPolicy()));
+        this.ticketRegistry.addTicket(new TicketGrantingTicketImpl("TGT-P3",
+            CoreAuthenticationTestUtils.getAuthentication("someone"), new NeverExpiresExpirationPolicy()));
+
+        final var tickets = this.ticketRegistry.getTicketGrantingTickets("CasUser").map(Ticket::getId).collect(Collectors.toSet());
+        assertEquals(Set.of("TGT-P1", "TGT-P2"), tickets);
+        assertEquals(3, this.ticketRegistry.sessionCount());
+        assertEquals(0, this.ticketRegistry.serviceTicketCount());
+        assertEquals(3, this.ticketRegistry.getTicketsStream().count());
+    }
+
+    @Test
+    public void verifyTicketExpiresWhenIdle() throws Exception {
+        this.ticketRegistry.deleteAll();
+        this.ticketRegistry.addTicket(new TicketGrantingTicketImpl("TGT-I1",
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), new TimeoutExpirationPolicy(1)));
+        assertNotNull(this.ticketRegistry.getTicket("TGT-I1"));
+        Thread.sleep(2000);
+        assertNull(this.ticketRegistry.getTicket("TGT-I1"));
+        assertEquals(0, this.ticketRegistry.sessionCount());
+    }
+
+    @Test
+    public void verifyUpdatedTicketExpiresAtHardTimeout() throws Exception {
+        this.ticketRegistry.deleteAll();
+        final var ticket = new TicketGrantingTicketImpl("TGT-H1",
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), new HardTimeoutExpirationPolicy(2));
+        this.ticketRegistry.addTicket(ticket);
+        Thread.sleep(1200);
+        this.ticketRegistry.updateTicket(ticket);
+        assertNotNull(this.ticketRegistry.getTicket("TGT-H1"));
+        Thread.sleep(1200);
+        assertNull(this.ticketRegistry.getTicket("TGT-H1"));
+        assertEquals(0, this.ticketRegistry.sessionCount());
+    }
 }
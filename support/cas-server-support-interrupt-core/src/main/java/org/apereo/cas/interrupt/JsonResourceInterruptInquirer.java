@@ -2,60 +2,105 @@ package org.apereo.cas.interrupt;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.Credential;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.ResourceUtils;
+import org.apereo.cas.util.io.PathWatcherService;
 import org.hjson.JsonValue;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
+import java.io.File;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * This is {@link JsonResourceInterruptInquirer}.
+ * Interrupts are read from the resource once and kept as an immutable snapshot.
+ * If the resource is a file, the file is watched and the snapshot is replaced whenever the file changes.
+ * Should the file fail to parse, the previous snapshot stays in effect.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
 @Slf4j
-public class JsonResourceInterruptInquirer extends BaseInterruptInquirer {
+public class JsonResourceInterruptInquirer extends BaseInterruptInquirer implements DisposableBean {
 
     private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
 
     private final Resource resource;
-    private Map<String, InterruptResponse> interrupts;
+    private final AtomicReference<Map<String, InterruptResponse>> interrupts = new AtomicReference<>(Collections.emptyMap());
+    private PathWatcherService watcherService;
 
     public JsonResourceInterruptInquirer(final Resource resource) {
         this.resource = resource;
+        readResourceForInterrupts();
+        watchResourceForInterrupts();
     }
 
     @Override
     public InterruptResponse inquireInternal(final Authentication authentication, final RegisteredService registeredService,
                                              final Service service, final Credential credential) {
         final var user = authentication.getPrincipal().getId();
-        readResourceForInterrupts();
-        if (interrupts.containsKey(user)) {
-            return interrupts.get(user);
+        final var response = this.interrupts.get().get(user);
+        return response != null ? response : InterruptResponse.none();
+    }
+
+    @Override
+    public void destroy() {
+        if (this.watcherService != null) {
+            this.watcherService.close();
         }
-        return InterruptResponse.none();
     }
 
-    @SneakyThrows
     private void readResourceForInterrupts() {
-        this.interrupts = new LinkedHashMap<>();
-        if (ResourceUtils.doesResourceExist(resource)) {
-            try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
-                final TypeReference<Map<String, InterruptResponse>> personList = new TypeReference<>() {
-                };
-                this.interrupts = MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
+        if (!ResourceUtils.doesResourceExist(resource)) {
+            LOGGER.debug("Interrupt resource [{}] cannot be found", resource);
+            this.interrupts.set(Collections.emptyMap());
+            return;
+        }
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            final TypeReference<Map<String, InterruptResponse>> personList = new TypeReference<>() {
+            };
+            final Map<String, InterruptResponse> results = MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
+            this.interrupts.set(Collections.unmodifiableMap(new LinkedHashMap<>(results)));
+            LOGGER.debug("Loaded [{}] interrupt(s) from [{}]", results.size(), resource);
+        } catch (final Exception e) {
+            LOGGER.error("Unable to read interrupts from [{}]: [{}]", resource, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    private void watchResourceForInterrupts() {
+        try {
+            if (!resource.isFile()) {
+                return;
+            }
+            final var file = resource.getFile();
+            final var parent = file.getAbsoluteFile().getParentFile();
+            if (parent == null || !parent.isDirectory()) {
+                return;
             }
+            final Consumer<File> onChange = changed -> {
+                if (changed.getName().equals(file.getName())) {
+                    LOGGER.debug("Detected change in [{}]; reloading interrupts", changed);
+                    readResourceForInterrupts();
+                }
+            };
+            this.watcherService = new PathWatcherService(parent.toPath(), onChange, onChange, onChange);
+            this.watcherService.start(getClass().getSimpleName());
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to watch [{}] for changes: [{}]", resource, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
         }
     }
 }
@@ -2,13 +2,16 @@ package org.apereo.cas.interrupt;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.CasProtocolConstants;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.Credential;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.model.support.interrupt.InterruptProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.HttpUtils;
 
@@ -17,12 +20,15 @@ import java.util.Map;
 
 /**
  * This is {@link RestEndpointInterruptInquirer}.
+ * Responses of the endpoint that do not interrupt the flow are cached per principal and service
+ * for the configured duration, so that repeated logins do not each wait on the endpoint.
+ * Interrupting responses are never cached, so that an interrupt acknowledged by the user
+ * is not shown again once the endpoint stops reporting it. Failed calls are not cached either.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
 @Slf4j
-@AllArgsConstructor
 public class RestEndpointInterruptInquirer extends BaseInterruptInquirer {
 
     private static final ObjectMapper MAPPER = new ObjectMapper()
@@ -32,9 +38,46 @@ public class RestEndpointInterruptInquirer extends BaseInterruptInquirer {
 
     private final InterruptProperties.Rest restProperties;
 
+    private final Cache<String, InterruptResponse> responses;
+
+    public RestEndpointInterruptInquirer(final InterruptProperties.Rest restProperties) {
+        this.restProperties = restProperties;
+        final var expiration = Beans.newDuration(restProperties.getCacheExpiration());
+        if (expiration.isZero() || expiration.isNegative()) {
+            this.responses = null;
+        } else {
+            this.responses = Caffeine.newBuilder()
+                .maximumSize(restProperties.getCacheMaximumSize())
+                .expireAfterWrite(expiration)
+                .build();
+        }
+    }
+
     @Override
     public InterruptResponse inquireInternal(final Authentication authentication, final RegisteredService registeredService,
                                              final Service service, final Credential credential) {
+        if (this.responses == null) {
+            final var response = inquireEndpoint(authentication, registeredService, service);
+            return response != null ? response : InterruptResponse.none();
+        }
+        final var key = authentication.getPrincipal().getId() + '|' + (service != null ? service.getId() : StringUtils.EMPTY);
+        final var cached = this.responses.getIfPresent(key);
+        if (cached != null) {
+            LOGGER.trace("Using cached interrupt response for [{}]", key);
+            return cached;
+        }
+        final var response = inquireEndpoint(authentication, registeredService, service);
+        if (response == null) {
+            return InterruptResponse.none();
+        }
+        if (!response.isInterrupt()) {
+            this.responses.put(key, response);
+        }
+        return response;
+    }
+
+    private InterruptResponse inquireEndpoint(final Authentication authentication, final RegisteredService registeredService,
+                                              final Service service) {
         try {
             final Map<String, Object> parameters = new HashMap<>();
             parameters.put("username", authentication.getPrincipal().getId());
@@ -54,6 +97,6 @@ public class RestEndpointInterruptInquirer extends BaseInterruptInquirer {
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
-        return InterruptResponse.none();
+        return null;
     }
 }
@@ -8,6 +8,7 @@ import org.junit.Test;
 import org.springframework.core.io.FileSystemResource;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -41,5 +42,31 @@ public class JsonResourceInterruptInquirerTests {
         assertFalse(response.isBlock());
         assertTrue(response.isSsoEnabled());
         assertEquals(2, response.getLinks().size());
+        q.destroy();
+    }
+
+    @Test
+    public void verifyInterruptsReloadedWhenFileChanges() throws Exception {
+        final var folder = Files.createTempDirectory("interrupt").toFile();
+        final var f = new File(folder, "interrupt.json");
+        MAPPER.writer().writeValue(f, CollectionUtils.wrap("casuser", new InterruptResponse("Message")));
+
+        final var q = new JsonResourceInterruptInquirer(new FileSystemResource(f));
+        try {
+            final var authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+            assertTrue(q.inquire(authentication, CoreAuthenticationTestUtils.getRegisteredService(),
+                CoreAuthenticationTestUtils.getService(), CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword()).isInterrupt());
+
+            MAPPER.writer().writeValue(f, CollectionUtils.wrap("someone", new InterruptResponse("Message")));
+            var interrupted = true;
+            for (var i = 0; i < 100 && interrupted; i++) {
+                Thread.sleep(100);
+                interrupted = q.inquire(authentication, CoreAuthenticationTestUtils.getRegisteredService(),
+                    CoreAuthenticationTestUtils.getService(), CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword()).isInterrupt();
+            }
+            assertFalse(interrupted);
+        } finally {
+            q.destroy();
+        }
     }
 }
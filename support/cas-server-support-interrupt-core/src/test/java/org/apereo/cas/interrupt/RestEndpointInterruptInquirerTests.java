@@ -8,6 +8,7 @@ import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.configuration.model.support.interrupt.InterruptProperties;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.MockWebServer;
+import org.junit.After;
 import org.junit.Test;
 import org.junit.Before;
 import org.springframework.core.io.ByteArrayResource;
@@ -24,6 +25,12 @@ import static org.junit.Assert.*;
  * @since 5.3.0
  */
 public class RestEndpointInterruptInquirerTests {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .findAndRegisterModules()
+        .configure(DeserializationFeature.READ_ENUMS_USING_TO_STRING, false)
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
     private MockWebServer webServer;
 
     @Before
@@ -36,18 +43,75 @@ public class RestEndpointInterruptInquirerTests {
         response.setMessage(getClass().getSimpleName());
         response.setLinks(CollectionUtils.wrap("text1", "link1", "text2", "link2"));
 
-        final var data = new ObjectMapper()
-            .findAndRegisterModules()
-            .configure(DeserializationFeature.READ_ENUMS_USING_TO_STRING, false)
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
-            .writeValueAsString(response);
+        final var data = MAPPER.writeValueAsString(response);
         this.webServer = new MockWebServer(8888,
             new ByteArrayResource(data.getBytes(StandardCharsets.UTF_8), "REST Output"),
             MediaType.APPLICATION_JSON_VALUE);
         this.webServer.start();
     }
 
+    @After
+    public void shutdown() {
+        this.webServer.stop();
+    }
+
+    @Test
+    public void verifyInterruptingResponseIsNotCached() {
+        final var restProps = new InterruptProperties.Rest();
+        restProps.setUrl("http://localhost:8888");
+
+        final var q = new RestEndpointInterruptInquirer(restProps);
+        final var authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        assertTrue(q.inquire(authentication, CoreAuthenticationTestUtils.getRegisteredService(),
+            CoreAuthenticationTestUtils.getService(), CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword()).isInterrupt());
+
+        this.webServer.stop();
+        assertFalse(q.inquire(authentication, CoreAuthenticationTestUtils.getRegisteredService(),
+            CoreAuthenticationTestUtils.getService(), CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword()).isInterrupt());
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyNonInterruptingResponseIsCachedPerPrincipalAndService() {
+        final var data = MAPPER.writeValueAsString(InterruptResponse.none());
+        try (var server = new MockWebServer(8889,
+            new ByteArrayResource(data.getBytes(StandardCharsets.UTF_8), "REST Output"),
+            MediaType.APPLICATION_JSON_VALUE)) {
+            server.start();
+            final var restProps = new InterruptProperties.Rest();
+            restProps.setUrl("http://localhost:8889");
+
+            final var q = new RestEndpointInterruptInquirer(restProps);
+            final var authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+            final var response = q.inquire(authentication, CoreAuthenticationTestUtils.getRegisteredService(),
+                CoreAuthenticationTestUtils.getService(), CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword());
+            assertFalse(response.isInterrupt());
+
+            server.stop();
+            assertSame(response, q.inquire(authentication, CoreAuthenticationTestUtils.getRegisteredService(),
+                CoreAuthenticationTestUtils.getService(), CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword()));
+            assertNotSame(response, q.inquire(CoreAuthenticationTestUtils.getAuthentication("someone"),
+                CoreAuthenticationTestUtils.getRegisteredService(),
+                CoreAuthenticationTestUtils.getService(), CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword()));
+        }
+    }
+
+    @Test
+    public void verifyResponseIsNotCachedWithoutExpiration() {
+        final var restProps = new InterruptProperties.Rest();
+        restProps.setUrl("http://localhost:8888");
+        restProps.setCacheExpiration("PT0S");
+
+        final var q = new RestEndpointInterruptInquirer(restProps);
+        final var authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        assertTrue(q.inquire(authentication, CoreAuthenticationTestUtils.getRegisteredService(),
+            CoreAuthenticationTestUtils.getService(), CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword()).isInterrupt());
+
+        this.webServer.stop();
+        assertFalse(q.inquire(authentication, CoreAuthenticationTestUtils.getRegisteredService(),
+            CoreAuthenticationTestUtils.getService(), CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword()).isInterrupt());
+    }
+
     @Test
     public void verifyResponseCanBeFoundFromRest() {
         final var restProps = new InterruptProperties.Rest();
@@ -1,14 +1,18 @@
 package org.apereo.cas.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.StringBean;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.ticket.registry.JmsTicketRegistry;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryReceiver;
+import org.apereo.cas.ticket.registry.JmsTicketRegistrySnapshotReceiver;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +23,7 @@ import org.springframework.jms.config.JmsListenerContainerFactory;
 import org.springframework.jms.core.JmsTemplate;
 
 import javax.jms.ConnectionFactory;
+import java.time.Duration;
 
 /**
  * This is {@link JmsTicketRegistryConfiguration}.
@@ -46,12 +51,24 @@ public class JmsTicketRegistryConfiguration {
         return new JmsTicketRegistryReceiver(ticketRegistry(), messageQueueTicketRegistryIdentifier());
     }
 
+    @ConditionalOnProperty(prefix = "cas.ticket.registry.jms", name = "snapshotEnabled", havingValue = "true")
+    @Bean
+    public JmsTicketRegistrySnapshotReceiver messageQueueTicketRegistrySnapshotReceiver() {
+        return new JmsTicketRegistrySnapshotReceiver(ticketRegistry());
+    }
+
     @Lazy
     @Bean
     public TicketRegistry ticketRegistry() {
         final var jms = casProperties.getTicket().getRegistry().getJms();
         final var cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(jms.getCrypto(), "jms");
-        return new JmsTicketRegistry(this.jmsTemplate.getIfAvailable(), messageQueueTicketRegistryIdentifier(), cipher);
+        final var batchInterval = StringUtils.isNotBlank(jms.getBatchInterval())
+            ? Beans.newDuration(jms.getBatchInterval())
+            : Duration.ZERO;
+        final var registry = new JmsTicketRegistry(this.jmsTemplate.getIfAvailable(), messageQueueTicketRegistryIdentifier(), cipher,
+            batchInterval, jms.getBatchSize());
+        registry.setSnapshotTimeout(Beans.newDuration(jms.getSnapshotTimeout()));
+        return registry;
     }
 
     @Autowired
@@ -62,4 +79,15 @@ public class JmsTicketRegistryConfiguration {
         configurer.configure(factory, connectionFactory);
         return factory;
     }
+
+    @ConditionalOnProperty(prefix = "cas.ticket.registry.jms", name = "snapshotEnabled", havingValue = "true")
+    @Autowired
+    @Bean
+    public JmsListenerContainerFactory<?> messageQueueTicketRegistrySnapshotFactory(final ConnectionFactory connectionFactory,
+                                                                                    final DefaultJmsListenerContainerFactoryConfigurer configurer) {
+        final var factory = new DefaultJmsListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setPubSubDomain(false);
+        return factory;
+    }
 }
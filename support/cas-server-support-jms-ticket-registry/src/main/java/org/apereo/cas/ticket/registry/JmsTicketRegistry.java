@@ -1,70 +1,346 @@
 package org.apereo.cas.ticket.registry;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.StringBean;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BatchMessageQueueCommand;
 import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.queue.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.SnapshotRequestMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.SnapshotTicketsMessageQueueCommand;
 import org.apereo.cas.ticket.registry.queue.UpdateTicketMessageQueueCommand;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.JmsUtils;
+
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link JmsTicketRegistry}.
+ * <p>Ticket operations are published to other nodes as they happen, unless a batch interval is defined.
+ * In that case, operations are collected for the duration of the interval and published together
+ * as a single compressed message. Operations on the same ticket within the interval are coalesced
+ * so that only the most recent one is published. Operations received from other nodes are applied
+ * to this registry without being published again.</p>
+ * <p>A node may ask for a snapshot of the tickets held by its peers when it starts. The request is sent to
+ * the {@link #SNAPSHOT_DESTINATION} queue, so that the broker hands it to a single peer, and carries
+ * a temporary reply queue to which that peer sends the tickets in chunks. Tickets deleted while the snapshot
+ * is in flight are remembered and left out of the snapshot, so they are not brought back.</p>
+ * <p>Batches are drained and published under a single lock, so they reach peers in the order
+ * in which the operations they carry took place.</p>
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
 @Slf4j
-public class JmsTicketRegistry extends DefaultTicketRegistry {
+public class JmsTicketRegistry extends DefaultTicketRegistry implements DisposableBean {
     /**
      * Queue destination name.
      */
     public static final String QUEUE_DESTINATION = "CasJmsTicketRegistry";
 
+    /**
+     * Queue destination name for snapshot requests.
+     */
+    public static final String SNAPSHOT_DESTINATION = "CasJmsTicketRegistrySnapshot";
+
+    /**
+     * Message property that carries the id of the ticket registry requesting a snapshot.
+     */
+    public static final String REGISTRY_ID_PROPERTY = "ticketRegistryId";
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
     private final JmsTemplate jmsTemplate;
     private final StringBean id;
+    private final int batchSize;
+    private final Map<String, BaseMessageQueueCommand> pendingCommands = new LinkedHashMap<>();
+    private final ThreadLocal<Boolean> executingInboundCommand = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private final ScheduledExecutorService batchScheduler;
+    private final Object flushLock = new Object();
+    private final Set<String> ticketsDeletedDuringSnapshot = ConcurrentHashMap.newKeySet();
+    private volatile boolean snapshotInProgress;
+    private volatile boolean allTicketsDeletedDuringSnapshot;
+
+    /**
+     * How long to wait for the next chunk of a requested snapshot.
+     */
+    @Setter
+    private Duration snapshotTimeout = Duration.ofSeconds(30);
 
     public JmsTicketRegistry(final JmsTemplate jmsTemplate, final StringBean id) {
         this(jmsTemplate, id, CipherExecutor.noOp());
     }
-    
+
     public JmsTicketRegistry(final JmsTemplate jmsTemplate, final StringBean id, final CipherExecutor cipherExecutor) {
+        this(jmsTemplate, id, cipherExecutor, Duration.ZERO, DEFAULT_BATCH_SIZE);
+    }
+
+    public JmsTicketRegistry(final JmsTemplate jmsTemplate, final StringBean id, final CipherExecutor cipherExecutor,
+                             final Duration batchInterval, final int batchSize) {
         super(cipherExecutor);
         this.jmsTemplate = jmsTemplate;
         this.id = id;
+        this.batchSize = Math.max(1, batchSize);
+        if (batchInterval.isZero() || batchInterval.isNegative()) {
+            this.batchScheduler = null;
+        } else {
+            LOGGER.debug("Ticket operations are published in batches every [{}]", batchInterval);
+            this.batchScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                final var thread = new Thread(r, getClass().getSimpleName() + "-batch");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final var interval = batchInterval.toMillis();
+            this.batchScheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     public void addTicket(final Ticket ticket) {
         super.addTicket(ticket);
-        publishMessageToQueue(new AddTicketMessageQueueCommand(id, ticket));
+        publishMessageToQueue(ticket.getId(), new AddTicketMessageQueueCommand(id, ticket));
     }
 
     @Override
     public boolean deleteSingleTicket(final String ticketId) {
         final var result = super.deleteSingleTicket(ticketId);
-        publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, ticketId));
+        if (this.snapshotInProgress) {
+            this.ticketsDeletedDuringSnapshot.add(ticketId);
+        }
+        publishMessageToQueue(ticketId, new DeleteTicketMessageQueueCommand(id, ticketId));
         return result;
     }
 
     @Override
     public long deleteAll() {
         final var result = super.deleteAll();
-        publishMessageToQueue(new DeleteTicketsMessageQueueCommand(id));
+        if (this.snapshotInProgress) {
+            this.allTicketsDeletedDuringSnapshot = true;
+        }
+        if (!isExecutingInboundCommand()) {
+            synchronized (this.flushLock) {
+                synchronized (this.pendingCommands) {
+                    this.pendingCommands.clear();
+                }
+                sendMessageToQueue(new DeleteTicketsMessageQueueCommand(id));
+            }
+        }
         return result;
     }
 
     @Override
     public Ticket updateTicket(final Ticket ticket) {
         final var result = super.updateTicket(ticket);
-        publishMessageToQueue(new UpdateTicketMessageQueueCommand(id, ticket));
+        publishMessageToQueue(ticket.getId(), new UpdateTicketMessageQueueCommand(id, ticket));
         return result;
     }
 
-    private void publishMessageToQueue(final BaseMessageQueueCommand cmd) {
+    /**
+     * Execute a command received from another node against this registry.
+     * Ticket operations carried out by the command are not published again.
+     *
+     * @param command the command
+     */
+    public void executeInboundCommand(final BaseMessageQueueCommand command) {
+        this.executingInboundCommand.set(Boolean.TRUE);
+        try {
+            command.execute(this);
+        } finally {
+            this.executingInboundCommand.remove();
+        }
+    }
+
+    /**
+     * Ask a peer to send the tickets it holds, so that this registry starts out with
+     * the tickets that are already active in the cluster. The request is handed to a single peer,
+     * which replies on a temporary queue; this blocks until the last chunk of the snapshot is received,
+     * or no chunk is received within the snapshot timeout.
+     */
+    public void requestSnapshot() {
+        LOGGER.debug("Requesting ticket snapshot for ticket registry id [{}]", id.getId());
+        this.ticketsDeletedDuringSnapshot.clear();
+        this.allTicketsDeletedDuringSnapshot = false;
+        this.snapshotInProgress = true;
+        try {
+            exchangeSnapshot();
+        } finally {
+            this.snapshotInProgress = false;
+            this.ticketsDeletedDuringSnapshot.clear();
+            this.allTicketsDeletedDuringSnapshot = false;
+        }
+    }
+
+    /**
+     * Ask a peer for the tickets it holds on a thread of its own, so the caller does not wait for the snapshot.
+     *
+     * @return the future that completes once the snapshot is received or the request times out
+     */
+    public CompletableFuture<Void> requestSnapshotAsynchronously() {
+        return CompletableFuture.runAsync(this::requestSnapshot, task -> {
+            final var thread = new Thread(task, getClass().getSimpleName() + "-snapshot");
+            thread.setDaemon(true);
+            thread.start();
+        }).exceptionally(e -> {
+            LOGGER.error("Unable to receive ticket snapshot for ticket registry id [{}]: [{}]", id.getId(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            return null;
+        });
+    }
+
+    private void exchangeSnapshot() {
+        this.jmsTemplate.execute(session -> {
+            final var replyTo = session.createTemporaryQueue();
+            final var consumer = session.createConsumer(replyTo);
+            final var producer = session.createProducer(session.createQueue(SNAPSHOT_DESTINATION));
+            try {
+                final var request = this.jmsTemplate.getMessageConverter().toMessage(new SnapshotRequestMessageQueueCommand(id), session);
+                request.setStringProperty(REGISTRY_ID_PROPERTY, id.getId());
+                request.setJMSReplyTo(replyTo);
+                producer.setTimeToLive(this.snapshotTimeout.toMillis());
+                producer.send(request);
+                receiveSnapshot(consumer);
+            } finally {
+                JmsUtils.closeMessageProducer(producer);
+                JmsUtils.closeMessageConsumer(consumer);
+                replyTo.delete();
+            }
+            return null;
+        }, true);
+    }
+
+    /**
+     * Send the tickets held by this registry to the reply destination of a snapshot request.
+     *
+     * @param replyTo the destination to which the snapshot is sent
+     */
+    public void publishSnapshot(final Destination replyTo) {
+        final List<Ticket> tickets = getTickets().stream().filter(ticket -> !ticket.isExpired()).collect(Collectors.toList());
+        final var chunks = partition(tickets);
+        LOGGER.debug("Publishing snapshot of [{}] ticket(s) in [{}] chunk(s) to [{}]", tickets.size(), chunks.size(), replyTo);
+        if (chunks.isEmpty()) {
+            chunks.add(new ArrayList<>(0));
+        }
+        for (var i = 0; i < chunks.size(); i++) {
+            final var command = new SnapshotTicketsMessageQueueCommand(id, chunks.get(i), i == chunks.size() - 1);
+            this.jmsTemplate.convertAndSend(replyTo, command);
+        }
+    }
+
+    /**
+     * Publish pending ticket operations as batches.
+     */
+    public void flush() {
+        synchronized (this.flushLock) {
+            final List<BaseMessageQueueCommand> commands;
+            synchronized (this.pendingCommands) {
+                if (this.pendingCommands.isEmpty()) {
+                    return;
+                }
+                commands = new ArrayList<>(this.pendingCommands.values());
+                this.pendingCommands.clear();
+            }
+            try {
+                LOGGER.trace("Publishing [{}] pending ticket operation(s)", commands.size());
+                partition(commands).forEach(chunk -> sendMessageToQueue(new BatchMessageQueueCommand(id, chunk)));
+            } catch (final Exception e) {
+                LOGGER.error("Unable to publish [{}] pending ticket operation(s): [{}]", commands.size(), e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.batchScheduler != null) {
+            this.batchScheduler.shutdown();
+            flush();
+        }
+    }
+
+    private boolean isExecutingInboundCommand() {
+        return this.executingInboundCommand.get();
+    }
+
+    private void publishMessageToQueue(final String ticketId, final BaseMessageQueueCommand cmd) {
+        if (isExecutingInboundCommand()) {
+            LOGGER.trace("Skipped publishing inbound command [{}] for ticket [{}]", cmd.getClass().getSimpleName(), ticketId);
+            return;
+        }
+        if (this.batchScheduler == null) {
+            sendMessageToQueue(cmd);
+            return;
+        }
+        final boolean batchIsFull;
+        synchronized (this.pendingCommands) {
+            this.pendingCommands.remove(ticketId);
+            this.pendingCommands.put(ticketId, cmd);
+            batchIsFull = this.pendingCommands.size() >= this.batchSize;
+        }
+        if (batchIsFull) {
+            flush();
+        }
+    }
+
+    private void receiveSnapshot(final MessageConsumer consumer) throws JMSException {
+        while (true) {
+            final var reply = consumer.receive(this.snapshotTimeout.toMillis());
+            if (reply == null) {
+                LOGGER.warn("No ticket snapshot was received within [{}]; ticket registry id [{}] starts with the tickets it has",
+                    this.snapshotTimeout, id.getId());
+                return;
+            }
+            final var command = (SnapshotTicketsMessageQueueCommand) this.jmsTemplate.getMessageConverter().fromMessage(reply);
+            applySnapshot(command);
+            if (command.isLast()) {
+                LOGGER.debug("Received the last chunk of the ticket snapshot from ticket registry id [{}]", command.getId().getId());
+                return;
+            }
+        }
+    }
+
+    private void applySnapshot(final SnapshotTicketsMessageQueueCommand command) {
+        this.executingInboundCommand.set(Boolean.TRUE);
+        try {
+            command.execute(this, ticket -> {
+                if (this.allTicketsDeletedDuringSnapshot || this.ticketsDeletedDuringSnapshot.contains(ticket.getId())) {
+                    LOGGER.debug("Skipping ticket [{}] of the snapshot, since it was deleted while the snapshot was in flight", ticket.getId());
+                    return false;
+                }
+                return true;
+            });
+        } finally {
+            this.executingInboundCommand.remove();
+        }
+    }
+
+    private <T> List<List<T>> partition(final List<T> items) {
+        final List<List<T>> chunks = new ArrayList<>();
+        for (var i = 0; i < items.size(); i += this.batchSize) {
+            chunks.add(new ArrayList<>(items.subList(i, Math.min(items.size(), i + this.batchSize))));
+        }
+        return chunks;
+    }
+
+    private void sendMessageToQueue(final BaseMessageQueueCommand cmd) {
         jmsTemplate.convertAndSend(QUEUE_DESTINATION, cmd,
             message -> {
                 LOGGER.trace("Sending message [{}] from ticket registry id [{}]", message, cmd.getId());
@@ -25,10 +25,14 @@ public class JmsTicketRegistryReceiver {
      */
     @JmsListener(destination = JmsTicketRegistry.QUEUE_DESTINATION, containerFactory = "messageQueueTicketRegistryFactory")
     public void receive(final BaseMessageQueueCommand command) {
-        if (!command.getId().equals(this.ticketRegistryId)) {
+        if (command.isExecutableBy(this.ticketRegistryId)) {
             LOGGER.debug("Received message from ticket registry id [{}]. Executing command [{}]",
                 command.getId(), command.getClass().getSimpleName());
-            command.execute(this.ticketRegistry);
+            if (this.ticketRegistry instanceof JmsTicketRegistry) {
+                JmsTicketRegistry.class.cast(this.ticketRegistry).executeInboundCommand(command);
+            } else {
+                command.execute(this.ticketRegistry);
+            }
         } else {
             LOGGER.trace("Ignoring inbound command on ticket registry with id [{}]", this.ticketRegistryId);
         }
@@ -0,0 +1,57 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jms.annotation.JmsListener;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+/**
+ * This is {@link JmsTicketRegistrySnapshotReceiver} that asks a peer for a snapshot of its tickets
+ * once the application is ready, and answers snapshot requests of other nodes.
+ * Requests are consumed from a queue, excluding the ones sent by this node, so each request
+ * is answered by a single peer.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JmsTicketRegistrySnapshotReceiver {
+    private final TicketRegistry ticketRegistry;
+
+    /**
+     * Receive a snapshot request, and send the tickets held by this node to its reply destination.
+     *
+     * @param message the request
+     * @throws JMSException the exception
+     */
+    @JmsListener(destination = JmsTicketRegistry.SNAPSHOT_DESTINATION,
+        containerFactory = "messageQueueTicketRegistrySnapshotFactory",
+        selector = JmsTicketRegistry.REGISTRY_ID_PROPERTY + " <> '#{@messageQueueTicketRegistryIdentifier.id}'")
+    public void receive(final Message message) throws JMSException {
+        final var requester = message.getStringProperty(JmsTicketRegistry.REGISTRY_ID_PROPERTY);
+        if (message.getJMSReplyTo() == null || !(this.ticketRegistry instanceof JmsTicketRegistry)) {
+            LOGGER.debug("Ignoring ticket snapshot request from ticket registry id [{}]", requester);
+            return;
+        }
+        LOGGER.debug("Received ticket snapshot request from ticket registry id [{}]", requester);
+        JmsTicketRegistry.class.cast(this.ticketRegistry).publishSnapshot(message.getJMSReplyTo());
+    }
+
+    /**
+     * Once the application is ready to receive messages, ask a peer for the tickets it holds.
+     * The snapshot is received in the background, so startup does not wait when there is no peer to answer.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleApplicationReadyEvent(final ApplicationReadyEvent event) {
+        if (this.ticketRegistry instanceof JmsTicketRegistry) {
+            JmsTicketRegistry.class.cast(this.ticketRegistry).requestSnapshotAsynchronously();
+        }
+    }
+}
@@ -3,12 +3,18 @@ package org.apereo.cas.ticket.registry.queue;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.StringBean;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.serialization.SerializationUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Serializable;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * This is {@link BaseMessageQueueCommand}.
@@ -34,4 +40,41 @@ public abstract class BaseMessageQueueCommand implements Serializable {
      */
     public void execute(final TicketRegistry registry) {
     }
+
+    /**
+     * Determine whether this command should be executed by the ticket registry with the given id.
+     * By default, commands are executed by every ticket registry other than the one that published them.
+     *
+     * @param ticketRegistryId the ticket registry id
+     * @return true/false
+     */
+    public boolean isExecutableBy(final StringBean ticketRegistryId) {
+        return !this.id.equals(ticketRegistryId);
+    }
+
+    /**
+     * Serialize and compress the given object to be carried by a command.
+     *
+     * @param object the object
+     * @return the compressed bytes
+     */
+    @SneakyThrows
+    protected static byte[] compress(final Serializable object) {
+        final var bytes = new ByteArrayOutputStream();
+        SerializationUtils.serialize(object, new GZIPOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decompress and deserialize an object carried by a command.
+     *
+     * @param <T>   the type parameter
+     * @param bytes the compressed bytes
+     * @param clazz the clazz
+     * @return the object
+     */
+    @SneakyThrows
+    protected static <T> T decompress(final byte[] bytes, final Class<T> clazz) {
+        return SerializationUtils.deserialize(new GZIPInputStream(new ByteArrayInputStream(bytes)), clazz);
+    }
 }
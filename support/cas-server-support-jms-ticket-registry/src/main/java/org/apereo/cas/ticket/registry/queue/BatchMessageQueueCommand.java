@@ -0,0 +1,58 @@
+package org.apereo.cas.ticket.registry.queue;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.StringBean;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * This is {@link BatchMessageQueueCommand}, which carries a sequence of commands
+ * published by a ticket registry as a single compressed message.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+public class BatchMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = 2410384745466915382L;
+
+    @JsonProperty
+    private byte[] payload;
+
+    @JsonCreator
+    public BatchMessageQueueCommand(@JsonProperty("id") final StringBean id, @JsonProperty("payload") final byte[] payload) {
+        super(id);
+        this.payload = payload;
+    }
+
+    public BatchMessageQueueCommand(final StringBean id, final Collection<BaseMessageQueueCommand> commands) {
+        this(id, compress(new ArrayList<>(commands)));
+    }
+
+    /**
+     * Gets the commands carried by this batch, in the order they should be executed.
+     *
+     * @return the commands
+     */
+    @JsonIgnore
+    public List<BaseMessageQueueCommand> getCommands() {
+        return decompress(this.payload, ArrayList.class);
+    }
+
+    @Override
+    public void execute(final TicketRegistry registry) {
+        final var commands = getCommands();
+        LOGGER.debug("Executing [{}] queue command(s) in batch on ticket registry id [{}]", commands.size(), getId().getId());
+        commands.forEach(command -> command.execute(registry));
+    }
+}
@@ -0,0 +1,27 @@
+package org.apereo.cas.ticket.registry.queue;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.StringBean;
+
+/**
+ * This is {@link SnapshotRequestMessageQueueCommand}, sent by a ticket registry that
+ * has just started and asks a peer to send the tickets it currently holds.
+ * It is sent to the snapshot queue rather than the shared destination, and answered
+ * by the peer that receives it on the reply destination of the message.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+public class SnapshotRequestMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = -3870398256386113529L;
+
+    @JsonCreator
+    public SnapshotRequestMessageQueueCommand(@JsonProperty("id") final StringBean id) {
+        super(id);
+    }
+}
@@ -0,0 +1,86 @@
+package org.apereo.cas.ticket.registry.queue;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.StringBean;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * This is {@link SnapshotTicketsMessageQueueCommand}, which carries a compressed portion of
+ * the tickets held by a ticket registry in response to a {@link SnapshotRequestMessageQueueCommand}.
+ * The command is sent to the reply destination of the request, so it is only received by the ticket registry
+ * that requested the snapshot. Tickets already known to that registry are left untouched, and the registry
+ * may exclude tickets it has seen deleted while the snapshot was in flight.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+public class SnapshotTicketsMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = 6179553128734416452L;
+
+    @JsonProperty
+    private byte[] payload;
+
+    /**
+     * Whether this is the last portion of the snapshot.
+     */
+    @JsonProperty
+    private boolean last;
+
+    @JsonCreator
+    public SnapshotTicketsMessageQueueCommand(@JsonProperty("id") final StringBean id,
+                                              @JsonProperty("payload") final byte[] payload,
+                                              @JsonProperty("last") final boolean last) {
+        super(id);
+        this.payload = payload;
+        this.last = last;
+    }
+
+    public SnapshotTicketsMessageQueueCommand(final StringBean id, final Collection<Ticket> tickets, final boolean last) {
+        this(id, compress(new ArrayList<>(tickets)), last);
+    }
+
+    /**
+     * Gets the tickets carried by this snapshot.
+     *
+     * @return the tickets
+     */
+    @JsonIgnore
+    public List<Ticket> getTickets() {
+        return decompress(this.payload, ArrayList.class);
+    }
+
+    @Override
+    public void execute(final TicketRegistry registry) {
+        execute(registry, ticket -> true);
+    }
+
+    /**
+     * Add the unexpired tickets of this snapshot that are missing from the registry and accepted by the filter.
+     *
+     * @param registry the registry
+     * @param filter   the filter that decides which tickets may be added
+     */
+    public void execute(final TicketRegistry registry, final Predicate<Ticket> filter) {
+        final var tickets = getTickets();
+        LOGGER.debug("Received snapshot of [{}] ticket(s) from ticket registry id [{}]", tickets.size(), getId().getId());
+        tickets.stream()
+            .filter(ticket -> !ticket.isExpired())
+            .filter(filter)
+            .filter(ticket -> registry.getTicket(ticket.getId()) == null)
+            .forEach(registry::addTicket);
+    }
+}
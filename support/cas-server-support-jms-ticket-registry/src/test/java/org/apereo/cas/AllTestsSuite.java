@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommandTests;
 import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommandTests;
 import org.apereo.cas.ticket.registry.queue.DeleteTicketsMessageQueueCommandTests;
+import org.apereo.cas.ticket.registry.queue.SnapshotTicketsMessageQueueCommandTests;
 import org.apereo.cas.ticket.registry.queue.UpdateTicketMessageQueueCommandTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -18,7 +19,8 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({AddTicketMessageQueueCommandTests.class,
         DeleteTicketsMessageQueueCommandTests.class,
         DeleteTicketMessageQueueCommandTests.class,
-        UpdateTicketMessageQueueCommandTests.class})
+        UpdateTicketMessageQueueCommandTests.class,
+        SnapshotTicketsMessageQueueCommandTests.class})
 @Slf4j
 public class AllTestsSuite {
 }
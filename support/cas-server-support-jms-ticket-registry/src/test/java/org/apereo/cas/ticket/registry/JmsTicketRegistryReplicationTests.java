@@ -0,0 +1,163 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.StringBean;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.registry.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.SnapshotRequestMessageQueueCommand;
+import org.apereo.cas.ticket.registry.queue.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link JmsTicketRegistryReplicationTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class JmsTicketRegistryReplicationTests {
+    private static final long RECEIVE_TIMEOUT = 2_000;
+
+    private JmsTemplate jmsTemplate;
+
+    @Before
+    public void initialize() {
+        final var connectionFactory = new ActiveMQConnectionFactory("vm://jms-replication-tests?broker.persistent=false");
+        connectionFactory.setTrustAllPackages(true);
+        this.jmsTemplate = new JmsTemplate(new CachingConnectionFactory(connectionFactory));
+        this.jmsTemplate.setReceiveTimeout(RECEIVE_TIMEOUT);
+        while (this.jmsTemplate.receiveAndConvert(JmsTicketRegistry.QUEUE_DESTINATION) != null) {
+            LOGGER.debug("Discarded leftover message from the queue");
+        }
+    }
+
+    @Test
+    public void verifyOperationsCoalescedIntoBatch() {
+        final var registry = newTicketRegistry(Duration.ofHours(1), 100);
+        final var ticket = newTicket("TGT-1");
+        registry.addTicket(ticket);
+        registry.updateTicket(ticket);
+        registry.addTicket(newTicket("TGT-2"));
+        registry.deleteSingleTicket("TGT-2");
+        registry.flush();
+
+        final var command = receiveCommand();
+        assertTrue(command instanceof BatchMessageQueueCommand);
+        final var commands = BatchMessageQueueCommand.class.cast(command).getCommands();
+        assertEquals(2, commands.size());
+        assertTrue(commands.get(0) instanceof UpdateTicketMessageQueueCommand);
+        assertTrue(commands.get(1) instanceof DeleteTicketMessageQueueCommand);
+
+        final var peer = newTicketRegistry(Duration.ZERO, 100);
+        assertTrue(command.isExecutableBy(new StringBean()));
+        peer.executeInboundCommand(command);
+        assertNotNull(peer.getTicket("TGT-1"));
+        assertNull(peer.getTicket("TGT-2"));
+        assertNull(this.jmsTemplate.receiveAndConvert(JmsTicketRegistry.QUEUE_DESTINATION));
+    }
+
+    @Test
+    public void verifyBatchPublishedOnceFull() {
+        final var registry = newTicketRegistry(Duration.ofHours(1), 2);
+        registry.addTicket(newTicket("TGT-1"));
+        registry.addTicket(newTicket("TGT-2"));
+
+        final var command = receiveCommand();
+        assertTrue(command instanceof BatchMessageQueueCommand);
+        assertEquals(2, BatchMessageQueueCommand.class.cast(command).getCommands().size());
+    }
+
+    @Test
+    public void verifySnapshotTransferredToNewNode() throws Exception {
+        final var registry = newTicketRegistry(Duration.ZERO, 1);
+        registry.addTicket(newTicket("TGT-1"));
+        registry.addTicket(newTicket("TGT-2"));
+        receiveCommand();
+        receiveCommand();
+
+        final var newNode = newTicketRegistry(Duration.ZERO, 1);
+        final var requested = CompletableFuture.runAsync(newNode::requestSnapshot);
+        final var request = this.jmsTemplate.receive(JmsTicketRegistry.SNAPSHOT_DESTINATION);
+        assertNotNull(request);
+        assertTrue(this.jmsTemplate.getMessageConverter().fromMessage(request) instanceof SnapshotRequestMessageQueueCommand);
+        assertNotNull(request.getStringProperty(JmsTicketRegistry.REGISTRY_ID_PROPERTY));
+        registry.publishSnapshot(request.getJMSReplyTo());
+        requested.get(RECEIVE_TIMEOUT, TimeUnit.MILLISECONDS);
+
+        assertNotNull(newNode.getTicket("TGT-1"));
+        assertNotNull(newNode.getTicket("TGT-2"));
+        assertNull(this.jmsTemplate.receiveAndConvert(JmsTicketRegistry.QUEUE_DESTINATION));
+    }
+
+    @Test
+    public void verifyTicketsDeletedDuringSnapshotNotRestored() throws Exception {
+        final var registry = newTicketRegistry(Duration.ZERO, 1);
+        registry.addTicket(newTicket("TGT-1"));
+        registry.addTicket(newTicket("TGT-2"));
+        receiveCommand();
+        receiveCommand();
+
+        final var newNode = newTicketRegistry(Duration.ZERO, 1);
+        final var requested = CompletableFuture.runAsync(newNode::requestSnapshot);
+        final var request = this.jmsTemplate.receive(JmsTicketRegistry.SNAPSHOT_DESTINATION);
+        assertNotNull(request);
+        newNode.executeInboundCommand(new DeleteTicketMessageQueueCommand(new StringBean(), "TGT-2"));
+        registry.publishSnapshot(request.getJMSReplyTo());
+        requested.get(RECEIVE_TIMEOUT, TimeUnit.MILLISECONDS);
+
+        assertNotNull(newNode.getTicket("TGT-1"));
+        assertNull(newNode.getTicket("TGT-2"));
+    }
+
+    @Test
+    public void verifySnapshotRequestedAsynchronously() throws Exception {
+        final var newNode = newTicketRegistry(Duration.ZERO, 1);
+        newNode.setSnapshotTimeout(Duration.ofSeconds(1));
+        final var start = System.currentTimeMillis();
+        final var requested = newNode.requestSnapshotAsynchronously();
+        assertTrue(System.currentTimeMillis() - start < 1_000);
+        requested.get(RECEIVE_TIMEOUT * 2, TimeUnit.MILLISECONDS);
+        assertTrue(newNode.getTickets().isEmpty());
+        Thread.sleep(1_100);
+        assertNull(this.jmsTemplate.receive(JmsTicketRegistry.SNAPSHOT_DESTINATION));
+    }
+
+    @Test
+    public void verifySnapshotRequestTimesOut() throws Exception {
+        final var newNode = newTicketRegistry(Duration.ZERO, 1);
+        newNode.setSnapshotTimeout(Duration.ofMillis(200));
+        newNode.requestSnapshot();
+        assertTrue(newNode.getTickets().isEmpty());
+        Thread.sleep(300);
+        assertNull(this.jmsTemplate.receive(JmsTicketRegistry.SNAPSHOT_DESTINATION));
+    }
+
+    private BaseMessageQueueCommand receiveCommand() {
+        final var message = this.jmsTemplate.receiveAndConvert(JmsTicketRegistry.QUEUE_DESTINATION);
+        assertNotNull(message);
+        return (BaseMessageQueueCommand) message;
+    }
+
+    private JmsTicketRegistry newTicketRegistry(final Duration batchInterval, final int batchSize) {
+        return new JmsTicketRegistry(this.jmsTemplate, new StringBean(), CipherExecutor.noOp(), batchInterval, batchSize);
+    }
+
+    private static TicketGrantingTicketImpl newTicket(final String id) {
+        return new TicketGrantingTicketImpl(id, CoreAuthenticationTestUtils.getAuthentication(), new NeverExpiresExpirationPolicy());
+    }
+}
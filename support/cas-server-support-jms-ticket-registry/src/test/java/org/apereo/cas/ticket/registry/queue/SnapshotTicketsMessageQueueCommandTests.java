@@ -0,0 +1,48 @@
+package org.apereo.cas.ticket.registry.queue;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.StringBean;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TicketState;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link SnapshotTicketsMessageQueueCommandTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class SnapshotTicketsMessageQueueCommandTests extends AbstractTicketMessageQueueCommandTests {
+
+    @Test
+    public void verifySnapshotAddsMissingTickets() {
+        final var existing = new TicketGrantingTicketImpl("TGT-EXISTING", CoreAuthenticationTestUtils.getAuthentication(),
+            new NeverExpiresExpirationPolicy());
+        ticketRegistry.addTicket(existing);
+
+        final var snapshotOfExisting = new TicketGrantingTicketImpl("TGT-EXISTING", CoreAuthenticationTestUtils.getAuthentication(),
+            new NeverExpiresExpirationPolicy());
+        snapshotOfExisting.update();
+        final var missing = new TicketGrantingTicketImpl("TGT-MISSING", CoreAuthenticationTestUtils.getAuthentication(),
+            new NeverExpiresExpirationPolicy());
+
+        final var cmd = new SnapshotTicketsMessageQueueCommand(new StringBean(),
+            Arrays.<Ticket>asList(snapshotOfExisting, missing), true);
+        assertTrue(cmd.isLast());
+        assertEquals(2, cmd.getTickets().size());
+
+        cmd.execute(ticketRegistry);
+        assertNotNull(ticketRegistry.getTicket("TGT-MISSING", TicketGrantingTicket.class));
+        final var state = (TicketState) ticketRegistry.getTicket("TGT-EXISTING", TicketGrantingTicket.class);
+        assertEquals(0, state.getCountOfUses());
+    }
+}
@@ -62,7 +62,16 @@ public class JpaServiceRegistry extends AbstractServiceRegistry {
 
     @Override
     public RegisteredService findServiceById(final String id) {
-        return load().stream().filter(r -> r.matches(id)).findFirst().orElse(null);
+        final var key = RegisteredServiceMatchingKeys.getLookupKey(id);
+        if (key == null) {
+            return null;
+        }
+        final var query = String.format("select r from %s r where r.matchingKey = :key or r.matchingKey is null", ENTITY_NAME);
+        final var candidates = this.entityManager.createQuery(query, RegisteredService.class)
+            .setParameter("key", key)
+            .getResultList();
+        LOGGER.trace("Evaluating [{}] candidate service(s) for [{}]", candidates.size(), id);
+        return RegisteredServiceMatchingKeys.findMatchingService(candidates, id);
     }
 
     @Override
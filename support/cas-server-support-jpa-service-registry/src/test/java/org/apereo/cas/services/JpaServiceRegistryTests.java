@@ -8,6 +8,7 @@ import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.util.junit.ConditionalParameterizedRunner;
 import org.apereo.cas.ws.idp.services.WSFederationRegisteredService;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +21,8 @@ import org.springframework.test.annotation.DirtiesContext;
 import java.util.Arrays;
 import java.util.Collection;
 
+import static org.junit.Assert.*;
+
 /**
  * Handles tests for {@link JpaServiceRegistry}
  *
@@ -59,4 +62,24 @@ public class JpaServiceRegistryTests extends AbstractServiceRegistryTests {
     public ServiceRegistry getNewServiceRegistry() {
         return this.serviceRegistry;
     }
+
+    @Test
+    public void verifyServiceFoundByMatchingKey() {
+        final var keyed = RegisteredServiceTestUtils.getRegisteredService("^https://app\\.example\\.org/.*", getRegisteredServiceClass());
+        keyed.setEvaluationOrder(10);
+        final var unkeyed = RegisteredServiceTestUtils.getRegisteredService("^https?://.*", getRegisteredServiceClass());
+        unkeyed.setEvaluationOrder(100);
+        final var saved = this.serviceRegistry.save(keyed);
+        this.serviceRegistry.save(unkeyed);
+
+        assertEquals(keyed.getServiceId(), this.serviceRegistry.findServiceById("https://APP.example.org/cas").getServiceId());
+        assertEquals(unkeyed.getServiceId(), this.serviceRegistry.findServiceById("https://other.example.org/cas").getServiceId());
+        assertNull(this.serviceRegistry.findServiceById("imaps://app.example.org"));
+
+        final var updated = (AbstractRegisteredService) this.serviceRegistry.findServiceById(saved.getId());
+        updated.setServiceId("^https://app\\.example\\.net/.*");
+        this.serviceRegistry.save(updated);
+        assertEquals(updated.getServiceId(), this.serviceRegistry.findServiceById("https://app.example.net/cas").getServiceId());
+        assertEquals(unkeyed.getServiceId(), this.serviceRegistry.findServiceById("https://app.example.org/cas").getServiceId());
+    }
 }
@@ -0,0 +1,276 @@
+package org.apereo.cas.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
+import org.ldaptive.pool.ConnectionPool;
+import org.ldaptive.pool.PooledConnectionFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link LdapConnectionPoolRegistry}, a process-wide registry of pooled LDAP connection factories.
+ * Factories are keyed by the normalized connection settings (URLs, bind credentials, TLS and pool options),
+ * so that components configured against the same directory with the same settings share a single pool
+ * rather than each opening their own. Shared factories are reference-counted; the underlying pool
+ * is only closed once every component that acquired it has released it.
+ * Pools whose connections are rebound as end users (i.e. by bind authentication handlers) are keyed
+ * by their {@link ConnectionUsage} and are never shared with pools used to search the directory.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class LdapConnectionPoolRegistry {
+
+    private static final LdapConnectionPoolRegistry INSTANCE = new LdapConnectionPoolRegistry();
+
+    private final Map<String, SharedConnectionPool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the process-wide registry instance.
+     *
+     * @return the instance
+     */
+    public static LdapConnectionPoolRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * How connections of a pool are used.
+     */
+    public enum ConnectionUsage {
+        /**
+         * Connections stay bound as the configured bind dn, and may be shared by searches,
+         * compare operations and other components.
+         */
+        SHARED,
+        /**
+         * Connections are rebound as the end user being authenticated, and may only be shared
+         * by bind authentication handlers.
+         */
+        BIND
+    }
+
+    /**
+     * Build the registry key from the normalized ldap settings.
+     * Bind credentials are digested so the key can be safely logged or reported.
+     *
+     * @param l the ldap settings
+     * @return the key
+     */
+    public static String buildKey(final AbstractLdapProperties l) {
+        final var urls = Arrays.stream(StringUtils.defaultString(l.getLdapUrl()).split("[,\\s]+"))
+            .map(String::trim)
+            .filter(StringUtils::isNotBlank)
+            .map(u -> StringUtils.removeEnd(u.toLowerCase(), "/"))
+            .collect(Collectors.joining(" "));
+        final var validator = l.getValidator();
+        final var credential = StringUtils.isBlank(l.getBindCredential()) ? StringUtils.EMPTY : DigestUtils.sha256(l.getBindCredential());
+        return String.join("|",
+            urls,
+            StringUtils.defaultString(l.getBindDn()).trim().toLowerCase(),
+            credential,
+            String.valueOf(l.isUseSsl()),
+            String.valueOf(l.isUseStartTls()),
+            StringUtils.defaultString(l.getTrustCertificates()),
+            StringUtils.defaultString(l.getKeystore()),
+            StringUtils.isBlank(l.getKeystorePassword()) ? StringUtils.EMPTY : DigestUtils.sha256(l.getKeystorePassword()),
+            StringUtils.defaultString(l.getKeystoreType()),
+            StringUtils.defaultString(l.getConnectionStrategy()),
+            StringUtils.defaultString(l.getProviderClass()),
+            StringUtils.defaultString(l.getConnectTimeout()),
+            StringUtils.defaultString(l.getResponseTimeout()),
+            StringUtils.defaultString(l.getSaslMechanism()),
+            StringUtils.defaultString(l.getSaslRealm()),
+            StringUtils.defaultString(l.getSaslAuthorizationId()),
+            StringUtils.defaultString(l.getSaslSecurityStrength()),
+            StringUtils.defaultString(l.getSaslQualityOfProtection()),
+            String.valueOf(l.getSaslMutualAuth()),
+            String.valueOf(l.getMinPoolSize()),
+            String.valueOf(l.getMaxPoolSize()),
+            String.valueOf(l.isValidateOnCheckout()),
+            String.valueOf(l.isValidatePeriodically()),
+            StringUtils.defaultString(l.getValidatePeriod()),
+            StringUtils.defaultString(l.getValidateTimeout()),
+            String.valueOf(l.isFailFast()),
+            StringUtils.defaultString(l.getIdleTime()),
+            StringUtils.defaultString(l.getPrunePeriod()),
+            StringUtils.defaultString(l.getBlockWaitTime()),
+            StringUtils.defaultString(l.getPoolPassivator()).toUpperCase(),
+            validator == null ? StringUtils.EMPTY : String.join(";",
+                StringUtils.defaultString(validator.getType()).trim().toLowerCase(),
+                StringUtils.defaultString(validator.getBaseDn()),
+                StringUtils.defaultString(validator.getSearchFilter()),
+                StringUtils.defaultString(validator.getScope()),
+                StringUtils.defaultString(validator.getDn()),
+                StringUtils.defaultString(validator.getAttributeName()),
+                String.valueOf(validator.getAttributeValues())));
+    }
+
+    /**
+     * Acquire a shared pooled connection factory for the given settings,
+     * creating and initializing the pool if none is registered yet.
+     *
+     * @param l           the ldap settings
+     * @param poolBuilder the pool builder invoked when no pool is registered
+     * @return the pooled connection factory
+     */
+    public PooledConnectionFactory acquire(final AbstractLdapProperties l,
+                                           final Function<AbstractLdapProperties, ConnectionPool> poolBuilder) {
+        return acquire(l, ConnectionUsage.SHARED, poolBuilder);
+    }
+
+    /**
+     * Acquire a pooled connection factory for the given settings and usage,
+     * creating and initializing the pool if none is registered yet.
+     * Each acquisition must eventually be matched by a call to {@link #release(PooledConnectionFactory)},
+     * typically when the component that acquired the factory is destroyed, so the pool can be closed.
+     *
+     * @param l           the ldap settings
+     * @param usage       how connections of the pool are used
+     * @param poolBuilder the pool builder invoked when no pool is registered
+     * @return the pooled connection factory
+     */
+    public PooledConnectionFactory acquire(final AbstractLdapProperties l,
+                                           final ConnectionUsage usage,
+                                           final Function<AbstractLdapProperties, ConnectionPool> poolBuilder) {
+        final var key = usage.name() + '|' + buildKey(l);
+        final var shared = pools.compute(key, (k, current) -> {
+            if (current != null) {
+                if (current.getFactory().getConnectionPool().isInitialized()) {
+                    current.retain();
+                    return current;
+                }
+                LOGGER.debug("Closing shared LDAP connection pool for [{}] that is no longer initialized", current.getLdapUrl());
+                close(current);
+            }
+            LOGGER.debug("Creating shared [{}] LDAP connection pool for [{}] and bindDn [{}]", usage, l.getLdapUrl(), l.getBindDn());
+            final var entry = new SharedConnectionPool(k, l.getLdapUrl(), l.getBindDn(), l.getMaxPoolSize(),
+                new PooledConnectionFactory(poolBuilder.apply(l)));
+            entry.retain();
+            return entry;
+        });
+        LOGGER.trace("Acquired shared LDAP connection pool for [{}] with [{}] reference(s)", l.getLdapUrl(), shared.getReferences());
+        return shared.getFactory();
+    }
+
+    /**
+     * Release a previously-acquired factory. The underlying pool is closed
+     * and removed from the registry once it is no longer referenced.
+     *
+     * @param factory the factory
+     * @return true if the pool was closed as a result of this release.
+     */
+    public boolean release(final PooledConnectionFactory factory) {
+        final var found = pools.values()
+            .stream()
+            .filter(p -> p.getFactory() == factory)
+            .findFirst();
+        if (found.isEmpty()) {
+            LOGGER.debug("LDAP connection factory [{}] is not managed by the registry", factory);
+            return false;
+        }
+        final var shared = found.get();
+        final var result = pools.computeIfPresent(shared.getKey(), (k, current) -> current.release() > 0 ? current : null);
+        if (result == null) {
+            LOGGER.debug("Closing shared LDAP connection pool for [{}]", shared.getLdapUrl());
+            close(shared);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets metrics for all registered pools.
+     *
+     * @return the pool metrics
+     */
+    public Collection<PoolMetrics> getPoolMetrics() {
+        return pools.values()
+            .stream()
+            .map(SharedConnectionPool::toMetrics)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Number of distinct pools registered.
+     *
+     * @return the count
+     */
+    public int size() {
+        return pools.size();
+    }
+
+    /**
+     * Close all registered pools, regardless of their reference counts.
+     */
+    public void clear() {
+        pools.values().forEach(LdapConnectionPoolRegistry::close);
+        pools.clear();
+    }
+
+    private static void close(final SharedConnectionPool pool) {
+        try {
+            pool.getFactory().getConnectionPool().close();
+        } catch (final Exception e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @ToString
+    private static class SharedConnectionPool {
+        private final String key;
+        private final String ldapUrl;
+        private final String bindDn;
+        private final int maxPoolSize;
+        private final PooledConnectionFactory factory;
+        private int references;
+
+        int retain() {
+            return ++references;
+        }
+
+        int release() {
+            return --references;
+        }
+
+        PoolMetrics toMetrics() {
+            final var pool = factory.getConnectionPool();
+            final var initialized = pool.isInitialized();
+            return new PoolMetrics(ldapUrl, bindDn, references, maxPoolSize,
+                initialized ? pool.activeCount() : 0,
+                initialized ? pool.availableCount() : 0);
+        }
+    }
+
+    /**
+     * Point-in-time metrics of a shared connection pool.
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class PoolMetrics {
+        private final String ldapUrl;
+        private final String bindDn;
+        private final int references;
+        private final int maxPoolSize;
+        private final int activeCount;
+        private final int availableCount;
+
+        public int getSize() {
+            return activeCount + availableCount;
+        }
+    }
+}
@@ -71,6 +71,7 @@ import org.ldaptive.pool.ConnectionPool;
 import org.ldaptive.pool.IdlePruneStrategy;
 import org.ldaptive.pool.PoolConfig;
 import org.ldaptive.pool.PooledConnectionFactory;
+import org.ldaptive.pool.PooledConnectionFactoryManager;
 import org.ldaptive.pool.SearchValidator;
 import org.ldaptive.provider.Provider;
 import org.ldaptive.referral.DeleteReferralHandler;
@@ -99,6 +100,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Utilities related to LDAP functions.
@@ -669,7 +671,7 @@ public class LdapUtils {
 
         final Authenticator auth;
         if (StringUtils.isBlank(l.getPrincipalAttributePassword())) {
-            auth = new Authenticator(resolver, getPooledBindAuthenticationHandler(l, newLdaptivePooledConnectionFactory(l)));
+            auth = new Authenticator(resolver, getPooledBindAuthenticationHandler(l, newLdaptivePooledBindConnectionFactory(l)));
         } else {
             auth = new Authenticator(resolver, getPooledCompareAuthenticationHandler(l, newLdaptivePooledConnectionFactory(l)));
         }
@@ -685,7 +687,7 @@ public class LdapUtils {
             throw new IllegalArgumentException("Dn format cannot be empty/blank for direct bind authentication");
         }
         final var resolver = new FormatDnResolver(l.getDnFormat());
-        final var authenticator = new Authenticator(resolver, getPooledBindAuthenticationHandler(l, newLdaptivePooledConnectionFactory(l)));
+        final var authenticator = new Authenticator(resolver, getPooledBindAuthenticationHandler(l, newLdaptivePooledBindConnectionFactory(l)));
 
         if (l.isEnhanceWithEntryResolver()) {
             authenticator.setEntryResolver(newLdaptiveSearchEntryResolver(l, newLdaptivePooledConnectionFactory(l)));
@@ -698,7 +700,7 @@ public class LdapUtils {
             throw new IllegalArgumentException("Dn format cannot be empty/blank for active directory authentication");
         }
         final var resolver = new FormatDnResolver(l.getDnFormat());
-        final var authn = new Authenticator(resolver, getPooledBindAuthenticationHandler(l, newLdaptivePooledConnectionFactory(l)));
+        final var authn = new Authenticator(resolver, getPooledBindAuthenticationHandler(l, newLdaptivePooledBindConnectionFactory(l)));
 
         if (l.isEnhanceWithEntryResolver()) {
             authn.setEntryResolver(newLdaptiveSearchEntryResolver(l, newLdaptivePooledConnectionFactory(l)));
@@ -722,13 +724,51 @@ public class LdapUtils {
 
     /**
      * New pooled connection factory pooled connection factory.
+     * Factories are obtained from the {@link LdapConnectionPoolRegistry} and are shared
+     * with all other components configured with the same connection and pool settings.
      *
      * @param l the ldap properties
      * @return the pooled connection factory
      */
     public static PooledConnectionFactory newLdaptivePooledConnectionFactory(final AbstractLdapProperties l) {
-        final var cp = newLdaptiveBlockingConnectionPool(l);
-        return new PooledConnectionFactory(cp);
+        return LdapConnectionPoolRegistry.getInstance().acquire(l, LdapUtils::newLdaptiveBlockingConnectionPool);
+    }
+
+    /**
+     * New pooled connection factory for bind authentication handlers, whose connections are rebound as end users.
+     * Such factories are only shared with other bind authentication handlers configured with the same settings.
+     *
+     * @param l the ldap properties
+     * @return the pooled connection factory
+     */
+    public static PooledConnectionFactory newLdaptivePooledBindConnectionFactory(final AbstractLdapProperties l) {
+        return LdapConnectionPoolRegistry.getInstance().acquire(l,
+            LdapConnectionPoolRegistry.ConnectionUsage.BIND, LdapUtils::newLdaptiveBlockingConnectionPool);
+    }
+
+    /**
+     * Release a connection factory obtained from {@link #newLdaptivePooledConnectionFactory(AbstractLdapProperties)}.
+     * The underlying pool is closed once no other component uses it.
+     *
+     * @param factory the factory
+     */
+    public static void releaseLdaptiveConnectionFactory(final ConnectionFactory factory) {
+        if (factory instanceof PooledConnectionFactory) {
+            LdapConnectionPoolRegistry.getInstance().release((PooledConnectionFactory) factory);
+        }
+    }
+
+    /**
+     * Release the connection factories of the dn resolver, authentication handler
+     * and entry resolver of an authenticator obtained from {@link #newLdaptiveAuthenticator(AbstractLdapAuthenticationProperties)}.
+     *
+     * @param authenticator the authenticator
+     */
+    public static void releaseLdaptiveAuthenticator(final Authenticator authenticator) {
+        Stream.of(authenticator.getDnResolver(), authenticator.getAuthenticationHandler(), authenticator.getEntryResolver())
+            .filter(PooledConnectionFactoryManager.class::isInstance)
+            .map(PooledConnectionFactoryManager.class::cast)
+            .forEach(manager -> releaseLdaptiveConnectionFactory(manager.getConnectionFactory()));
     }
 
     /**
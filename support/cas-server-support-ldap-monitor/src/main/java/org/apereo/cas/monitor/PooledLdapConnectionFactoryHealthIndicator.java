@@ -1,9 +1,11 @@
 package org.apereo.cas.monitor;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.util.LdapUtils;
 import org.ldaptive.Connection;
 import org.ldaptive.pool.PooledConnectionFactory;
 import org.ldaptive.pool.Validator;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.actuate.health.Health;
 
 import java.util.concurrent.ExecutorService;
@@ -15,7 +17,7 @@ import java.util.concurrent.ExecutorService;
  * @since 4.0.0
  */
 @Slf4j
-public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHealthIndicator {
+public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHealthIndicator implements DisposableBean {
 
     /**
      * Source of connections to validate.
@@ -36,6 +38,11 @@ public class PooledLdapConnectionFactoryHealthIndicator extends AbstractPoolHeal
         this.validator = validator;
     }
 
+    @Override
+    public void destroy() {
+        LdapUtils.releaseLdaptiveConnectionFactory(this.connectionFactory);
+    }
+
     @Override
     protected Health.Builder checkPool(final Health.Builder builder) throws Exception {
         if (this.connectionFactory != null && this.validator != null) {
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Objects;
 
 import lombok.ToString;
+import org.springframework.beans.factory.DisposableBean;
 
 /**
  * Implementation of the ServiceRegistry interface which stores the services in a LDAP Directory.
@@ -28,7 +29,7 @@ import lombok.ToString;
  */
 @Slf4j
 @ToString
-public class LdapServiceRegistry extends AbstractServiceRegistry {
+public class LdapServiceRegistry extends AbstractServiceRegistry implements DisposableBean {
 
     private final ConnectionFactory connectionFactory;
 
@@ -54,6 +55,11 @@ public class LdapServiceRegistry extends AbstractServiceRegistry {
         LOGGER.debug("Configured search filter to [{}] and load filter to [{}]", this.searchFilter, this.loadFilter);
     }
 
+    @Override
+    public void destroy() {
+        LdapUtils.releaseLdaptiveConnectionFactory(this.connectionFactory);
+    }
+
     @Override
     public RegisteredService save(final RegisteredService rs) {
         try {
@@ -33,6 +33,7 @@ import org.ldaptive.auth.ext.EDirectoryAuthenticationResponseHandler;
 import org.ldaptive.auth.ext.FreeIPAAuthenticationResponseHandler;
 import org.ldaptive.auth.ext.PasswordExpirationAuthenticationResponseHandler;
 import org.ldaptive.auth.ext.PasswordPolicyAuthenticationResponseHandler;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -60,7 +61,9 @@ import java.util.function.Predicate;
 @Configuration("ldapAuthenticationConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @Slf4j
-public class LdapAuthenticationConfiguration {
+public class LdapAuthenticationConfiguration implements DisposableBean {
+    private final List<Authenticator> ldapAuthenticators = new ArrayList<>();
+
     @Autowired
     private CasConfigurationProperties casProperties;
 
@@ -72,6 +75,11 @@ public class LdapAuthenticationConfiguration {
     @Qualifier("servicesManager")
     private ServicesManager servicesManager;
 
+    @Override
+    public void destroy() {
+        replaceLdapAuthenticators(List.of());
+    }
+
     @ConditionalOnMissingBean(name = "ldapPrincipalFactory")
     @Bean
     public PrincipalFactory ldapPrincipalFactory() {
@@ -81,6 +89,7 @@ public class LdapAuthenticationConfiguration {
     @Bean
     public Collection<AuthenticationHandler> ldapAuthenticationHandlers() {
         final Collection<AuthenticationHandler> handlers = new HashSet<>();
+        final List<Authenticator> authenticators = new ArrayList<>();
 
         casProperties.getAuthn().getLdap()
             .stream()
@@ -92,6 +101,7 @@ public class LdapAuthenticationConfiguration {
 
                 LOGGER.debug("Creating LDAP authenticator for [{}] and baseDn [{}]", l.getLdapUrl(), l.getBaseDn());
                 final var authenticator = LdapUtils.newLdaptiveAuthenticator(l);
+                authenticators.add(authenticator);
                 LOGGER.debug("Ldap authenticator configured with return attributes [{}] for [{}] and baseDn [{}]",
                     multiMapAttributes.keySet(), l.getLdapUrl(), l.getBaseDn());
 
@@ -143,9 +153,22 @@ public class LdapAuthenticationConfiguration {
                 handler.initialize();
                 handlers.add(handler);
             });
+        replaceLdapAuthenticators(authenticators);
         return handlers;
     }
 
+    /**
+     * Release the authenticators built for the previous set of handlers, and keep track of the given ones instead.
+     * The new authenticators are built first so that connection pools they share with the old ones stay open.
+     *
+     * @param authenticators the authenticators now in use
+     */
+    private synchronized void replaceLdapAuthenticators(final List<Authenticator> authenticators) {
+        ldapAuthenticators.forEach(LdapUtils::releaseLdaptiveAuthenticator);
+        ldapAuthenticators.clear();
+        ldapAuthenticators.addAll(authenticators);
+    }
+
 
     private static Predicate<LdapAuthenticationProperties> ldapInstanceConfigurationPredicate() {
         return l -> {
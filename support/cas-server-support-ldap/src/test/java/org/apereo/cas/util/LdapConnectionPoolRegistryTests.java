@@ -0,0 +1,138 @@
+package org.apereo.cas.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.adaptors.ldap.LdapIntegrationTestsOperations;
+import org.apereo.cas.configuration.model.support.ldap.LdapAuthenticationProperties;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.ldaptive.SearchFilter;
+import org.ldaptive.auth.PooledBindAuthenticationHandler;
+import org.ldaptive.auth.PooledSearchDnResolver;
+import org.ldaptive.pool.ConnectionPool;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link LdapConnectionPoolRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class LdapConnectionPoolRegistryTests {
+    private static final int LDAP_PORT = 1392;
+
+    @BeforeClass
+    public static void bootstrap() throws Exception {
+        LdapIntegrationTestsOperations.initDirectoryServer(LDAP_PORT);
+    }
+
+    @After
+    public void cleanup() {
+        LdapConnectionPoolRegistry.getInstance().clear();
+    }
+
+    private static LdapAuthenticationProperties getLdapProperties() {
+        final var ldap = new LdapAuthenticationProperties();
+        ldap.setLdapUrl("ldap://localhost:" + LDAP_PORT);
+        ldap.setUseSsl(false);
+        ldap.setBindDn("cn=Directory Manager,dc=example,dc=org");
+        ldap.setBindCredential("Password");
+        ldap.setBaseDn("dc=example,dc=org");
+        ldap.setSearchFilter("cn={user}");
+        ldap.setMinPoolSize(1);
+        ldap.setMaxPoolSize(2);
+        ldap.getValidator().setBaseDn("dc=example,dc=org");
+        return ldap;
+    }
+
+    @Test
+    public void verifySharedPoolForEquivalentSettings() throws Exception {
+        final var registry = LdapConnectionPoolRegistry.getInstance();
+        final var first = getLdapProperties();
+        final var second = getLdapProperties();
+        second.setLdapUrl("LDAP://localhost:" + LDAP_PORT + '/');
+        second.setBindDn("CN=Directory Manager,DC=example,DC=org ");
+
+        final var factory1 = LdapUtils.newLdaptivePooledConnectionFactory(first);
+        final var factory2 = LdapUtils.newLdaptivePooledConnectionFactory(second);
+        assertSame(factory1, factory2);
+        assertEquals(1, registry.size());
+
+        final var response = LdapUtils.executeSearchOperation(factory1, "dc=example,dc=org", new SearchFilter("(objectClass=*)"));
+        assertNotNull(response);
+
+        final var metrics = registry.getPoolMetrics().iterator().next();
+        assertEquals(2, metrics.getReferences());
+        assertTrue(metrics.getSize() >= 1);
+    }
+
+    @Test
+    public void verifySeparatePoolsForDifferentSettings() {
+        final var registry = LdapConnectionPoolRegistry.getInstance();
+        final var first = getLdapProperties();
+        final var second = getLdapProperties();
+        second.setMaxPoolSize(5);
+
+        final var factory1 = LdapUtils.newLdaptivePooledConnectionFactory(first);
+        final var factory2 = LdapUtils.newLdaptivePooledConnectionFactory(second);
+        assertNotSame(factory1, factory2);
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void verifyKeystorePasswordSeparatesPools() {
+        final var first = getLdapProperties();
+        final var second = getLdapProperties();
+        second.setKeystorePassword("changeit");
+        assertNotEquals(LdapConnectionPoolRegistry.buildKey(first), LdapConnectionPoolRegistry.buildKey(second));
+        assertFalse(LdapConnectionPoolRegistry.buildKey(second).contains("changeit"));
+    }
+
+    @Test
+    public void verifyAuthenticatorSharesPools() {
+        final var registry = LdapConnectionPoolRegistry.getInstance();
+        final var ldap = getLdapProperties();
+        ldap.setType(LdapAuthenticationProperties.AuthenticationTypes.AUTHENTICATED);
+        ldap.setEnhanceWithEntryResolver(true);
+        final var authenticator = LdapUtils.newLdaptiveAuthenticator(ldap);
+        assertNotNull(authenticator);
+        assertEquals(2, registry.size());
+        final var searchFactory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+        final var handler = (PooledBindAuthenticationHandler) authenticator.getAuthenticationHandler();
+        assertNotSame(searchFactory, handler.getConnectionFactory());
+        assertSame(searchFactory, ((PooledSearchDnResolver) authenticator.getDnResolver()).getConnectionFactory());
+
+        LdapUtils.releaseLdaptiveAuthenticator(authenticator);
+        assertEquals(1, registry.size());
+        assertEquals(1, registry.getPoolMetrics().iterator().next().getReferences());
+        assertFalse(handler.getConnectionFactory().getConnectionPool().isInitialized());
+        assertTrue(searchFactory.getConnectionPool().isInitialized());
+    }
+
+    @Test
+    public void verifyUninitializedPoolReplacedAndClosed() {
+        final var registry = LdapConnectionPoolRegistry.getInstance();
+        final var pool = mock(ConnectionPool.class);
+        when(pool.isInitialized()).thenReturn(false);
+        final var stale = registry.acquire(getLdapProperties(), l -> pool);
+        final var factory = LdapUtils.newLdaptivePooledConnectionFactory(getLdapProperties());
+        assertNotSame(stale, factory);
+        assertEquals(1, registry.size());
+        verify(pool).close();
+    }
+
+    @Test
+    public void verifyPoolClosedOnLastRelease() {
+        final var registry = LdapConnectionPoolRegistry.getInstance();
+        final var factory1 = LdapUtils.newLdaptivePooledConnectionFactory(getLdapProperties());
+        final var factory2 = LdapUtils.newLdaptivePooledConnectionFactory(getLdapProperties());
+        assertFalse(registry.release(factory1));
+        assertTrue(factory2.getConnectionPool().isInitialized());
+        assertTrue(registry.release(factory2));
+        assertEquals(0, registry.size());
+        assertFalse(registry.release(factory2));
+    }
+}
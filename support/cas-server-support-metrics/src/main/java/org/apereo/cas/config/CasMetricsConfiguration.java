@@ -2,15 +2,33 @@ package org.apereo.cas.config;
 
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.metrics.AuthenticationHandlerMetricsAspect;
+import org.apereo.cas.metrics.CaffeineCacheMetricsRegistrar;
+import org.apereo.cas.metrics.CipherExecutorMetricsAspect;
+import org.apereo.cas.metrics.ExecutorServiceMetricsRegistrar;
+import org.apereo.cas.metrics.PrincipalResolverMetricsAspect;
+import org.apereo.cas.metrics.SamlMetadataResolutionMetricsAspect;
+import org.apereo.cas.metrics.ServicesManagerMetricsAspect;
+import org.apereo.cas.metrics.TicketRegistryMetricsAspect;
+import org.apereo.cas.metrics.TicketRegistryMetricsBinder;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * This is {@link CasMetricsConfiguration} that attempts to create Spring-managed beans
- * backed by external configuration.
+ * backed by external configuration. Each instrumented subsystem may be turned off
+ * individually, in which case no aspect or meter is registered for it.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -19,8 +37,85 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @Slf4j
 public class CasMetricsConfiguration {
+    private static final String PREFIX = "cas.monitor.metrics";
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Autowired
+    @Qualifier("ticketRegistry")
+    private ObjectProvider<TicketRegistry> ticketRegistry;
+
     @Bean
     public TimedAspect timedAspect(final MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    @ConditionalOnMissingBean(name = "ticketRegistryMetricsAspect")
+    @ConditionalOnProperty(prefix = PREFIX, name = "ticketRegistry.enabled", havingValue = "true", matchIfMissing = true)
+    @Bean
+    public TicketRegistryMetricsAspect ticketRegistryMetricsAspect(final MeterRegistry registry) {
+        return new TicketRegistryMetricsAspect(registry, casProperties.getMonitor().getMetrics());
+    }
+
+    @ConditionalOnMissingBean(name = "ticketRegistryMetricsBinder")
+    @ConditionalOnProperty(prefix = PREFIX, name = {"ticketRegistry.enabled", "ticketRegistry.schedule.enabled"},
+        havingValue = "true", matchIfMissing = true)
+    @Bean
+    public MeterBinder ticketRegistryMetricsBinder() {
+        return new TicketRegistryMetricsBinder(this.ticketRegistry);
+    }
+
+    @ConditionalOnMissingBean(name = "authenticationHandlerMetricsAspect")
+    @ConditionalOnProperty(prefix = PREFIX, name = "authenticationHandlers.enabled", havingValue = "true", matchIfMissing = true)
+    @Bean
+    public AuthenticationHandlerMetricsAspect authenticationHandlerMetricsAspect(final MeterRegistry registry) {
+        return new AuthenticationHandlerMetricsAspect(registry, casProperties.getMonitor().getMetrics());
+    }
+
+    @ConditionalOnMissingBean(name = "principalResolverMetricsAspect")
+    @ConditionalOnProperty(prefix = PREFIX, name = "principalResolution.enabled", havingValue = "true", matchIfMissing = true)
+    @Bean
+    public PrincipalResolverMetricsAspect principalResolverMetricsAspect(final MeterRegistry registry) {
+        return new PrincipalResolverMetricsAspect(registry, casProperties.getMonitor().getMetrics());
+    }
+
+    @ConditionalOnMissingBean(name = "servicesManagerMetricsAspect")
+    @ConditionalOnProperty(prefix = PREFIX, name = "servicesManager.enabled", havingValue = "true", matchIfMissing = true)
+    @Bean
+    public ServicesManagerMetricsAspect servicesManagerMetricsAspect(final MeterRegistry registry) {
+        return new ServicesManagerMetricsAspect(registry, casProperties.getMonitor().getMetrics());
+    }
+
+    @ConditionalOnMissingBean(name = "cipherExecutorMetricsAspect")
+    @ConditionalOnProperty(prefix = PREFIX, name = "ciphers.enabled", havingValue = "true", matchIfMissing = true)
+    @Bean
+    public CipherExecutorMetricsAspect cipherExecutorMetricsAspect(final MeterRegistry registry) {
+        return new CipherExecutorMetricsAspect(registry, casProperties.getMonitor().getMetrics());
+    }
+
+    @ConditionalOnMissingBean(name = "samlMetadataResolutionMetricsAspect")
+    @ConditionalOnProperty(prefix = PREFIX, name = "samlMetadata.enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnClass(name = {
+        "org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCachingMetadataResolver",
+        "org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.SamlRegisteredServiceMetadataResolver"
+    })
+    @Bean
+    public SamlMetadataResolutionMetricsAspect samlMetadataResolutionMetricsAspect(final MeterRegistry registry) {
+        return new SamlMetadataResolutionMetricsAspect(registry, casProperties.getMonitor().getMetrics());
+    }
+
+    @ConditionalOnMissingBean(name = "caffeineCacheMetricsRegistrar")
+    @ConditionalOnProperty(prefix = PREFIX, name = "caches.enabled", havingValue = "true", matchIfMissing = true)
+    @Bean
+    public CaffeineCacheMetricsRegistrar caffeineCacheMetricsRegistrar(final MeterRegistry registry) {
+        return new CaffeineCacheMetricsRegistrar(registry);
+    }
+
+    @ConditionalOnMissingBean(name = "executorServiceMetricsRegistrar")
+    @ConditionalOnProperty(prefix = PREFIX, name = "executors.enabled", havingValue = "true", matchIfMissing = true)
+    @Bean
+    public ExecutorServiceMetricsRegistrar executorServiceMetricsRegistrar(final MeterRegistry registry) {
+        return new ExecutorServiceMetricsRegistrar(registry);
+    }
 }
@@ -0,0 +1,45 @@
+package org.apereo.cas.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apereo.cas.authentication.AuthenticationHandler;
+import org.apereo.cas.configuration.model.core.monitor.MonitorMetricsProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * This is {@link AuthenticationHandlerMetricsAspect} that times authentication attempts
+ * of each authentication handler, tagged by the handler name. Rejected credentials
+ * are reported as failures.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Aspect
+public class AuthenticationHandlerMetricsAspect extends AbstractMetricsAspect {
+    /**
+     * Meter name.
+     */
+    public static final String METER_NAME = "cas.authentication.handler";
+
+    public AuthenticationHandlerMetricsAspect(final MeterRegistry meterRegistry, final MonitorMetricsProperties properties) {
+        super(meterRegistry, properties);
+    }
+
+    /**
+     * Time authentication attempts.
+     *
+     * @param joinPoint the join point
+     * @return the result
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.authentication.AuthenticationHandler+.authenticate(..))")
+    public Object timeAuthentication(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, METER_NAME, getComponentName(joinPoint));
+    }
+
+    @Override
+    protected String getComponentName(final ProceedingJoinPoint joinPoint) {
+        return AuthenticationHandler.class.cast(joinPoint.getTarget()).getName();
+    }
+}
@@ -0,0 +1,43 @@
+package org.apereo.cas.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.web.support.CookieValueManager;
+import org.apereo.cas.web.support.EncryptedCookieValueManager;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link CaffeineCacheMetricsRegistrar} that publishes size, hit, miss and eviction
+ * statistics of the in-memory caches that record them, such as the cache of decoded
+ * ticket-granting cookie values. Caches are looked up once the application is ready.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CaffeineCacheMetricsRegistrar {
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Bind cache metrics once the application is ready.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleApplicationReadyEvent(final ApplicationReadyEvent event) {
+        event.getApplicationContext().getBeansOfType(CookieValueManager.class, false, false)
+            .forEach((name, manager) -> {
+                if (manager instanceof EncryptedCookieValueManager) {
+                    final var cache = EncryptedCookieValueManager.class.cast(manager).getDecodedCookieValues();
+                    if (cache != null) {
+                        LOGGER.debug("Binding metrics for cache of [{}]", name);
+                        CaffeineCacheMetrics.monitor(this.meterRegistry, cache, name);
+                    }
+                }
+            });
+    }
+}
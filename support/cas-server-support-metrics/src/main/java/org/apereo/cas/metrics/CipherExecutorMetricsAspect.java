@@ -0,0 +1,46 @@
+package org.apereo.cas.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.configuration.model.core.monitor.MonitorMetricsProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * This is {@link CipherExecutorMetricsAspect} that times encoding and decoding operations
+ * of cipher executors, tagged by the cipher name. Only cipher executors that are
+ * registered as beans are intercepted.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Aspect
+public class CipherExecutorMetricsAspect extends AbstractMetricsAspect {
+    /**
+     * Meter name.
+     */
+    public static final String METER_NAME = "cas.cipher";
+
+    public CipherExecutorMetricsAspect(final MeterRegistry meterRegistry, final MonitorMetricsProperties properties) {
+        super(meterRegistry, properties);
+    }
+
+    /**
+     * Time cipher operations.
+     *
+     * @param joinPoint the join point
+     * @return the result
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.CipherExecutor+.encode(..))"
+        + " || execution(* org.apereo.cas.CipherExecutor+.decode(..))")
+    public Object timeCipherOperation(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, METER_NAME, getComponentName(joinPoint));
+    }
+
+    @Override
+    protected String getComponentName(final ProceedingJoinPoint joinPoint) {
+        return CipherExecutor.class.cast(joinPoint.getTarget()).getName();
+    }
+}
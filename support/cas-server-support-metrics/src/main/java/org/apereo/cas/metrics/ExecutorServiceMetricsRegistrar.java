@@ -0,0 +1,47 @@
+package org.apereo.cas.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * This is {@link ExecutorServiceMetricsRegistrar} that publishes pool sizes, active thread counts
+ * and queue depths of all executors registered as beans. Executors are looked up once the
+ * application is ready, so that binding does not force early initialization of any bean.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ExecutorServiceMetricsRegistrar {
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Bind executor metrics once the application is ready.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleApplicationReadyEvent(final ApplicationReadyEvent event) {
+        final var context = event.getApplicationContext();
+        context.getBeansOfType(ExecutorService.class, false, false).forEach(this::bind);
+        context.getBeansOfType(ThreadPoolTaskExecutor.class, false, false)
+            .forEach((name, executor) -> bind(name, executor.getThreadPoolExecutor()));
+        context.getBeansOfType(ThreadPoolTaskScheduler.class, false, false)
+            .forEach((name, executor) -> bind(name, executor.getScheduledThreadPoolExecutor()));
+    }
+
+    private void bind(final String name, final ExecutorService executor) {
+        LOGGER.debug("Binding metrics for executor [{}]", name);
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(this.meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package org.apereo.cas.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apereo.cas.configuration.model.core.monitor.MonitorMetricsProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * This is {@link PrincipalResolverMetricsAspect} that times principal resolution,
+ * which includes fetching person attributes from the configured attribute repositories.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Aspect
+public class PrincipalResolverMetricsAspect extends AbstractMetricsAspect {
+    /**
+     * Meter name.
+     */
+    public static final String METER_NAME = "cas.principal.resolution";
+
+    public PrincipalResolverMetricsAspect(final MeterRegistry meterRegistry, final MonitorMetricsProperties properties) {
+        super(meterRegistry, properties);
+    }
+
+    /**
+     * Time principal resolution.
+     *
+     * @param joinPoint the join point
+     * @return the result
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.authentication.principal.PrincipalResolver+.resolve(..))")
+    public Object timePrincipalResolution(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, METER_NAME, getComponentName(joinPoint));
+    }
+}
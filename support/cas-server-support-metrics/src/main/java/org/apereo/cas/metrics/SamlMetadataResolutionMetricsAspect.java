@@ -0,0 +1,41 @@
+package org.apereo.cas.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apereo.cas.configuration.model.core.monitor.MonitorMetricsProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * This is {@link SamlMetadataResolutionMetricsAspect} that times resolution of SAML2
+ * service provider metadata, both from the metadata cache and from the underlying
+ * metadata sources. The pointcut names the SAML2 types by pattern so that this module
+ * does not depend on SAML2 support; the aspect is only registered when it is present.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Aspect
+public class SamlMetadataResolutionMetricsAspect extends AbstractMetricsAspect {
+    /**
+     * Meter name.
+     */
+    public static final String METER_NAME = "cas.saml.metadata.resolution";
+
+    public SamlMetadataResolutionMetricsAspect(final MeterRegistry meterRegistry, final MonitorMetricsProperties properties) {
+        super(meterRegistry, properties);
+    }
+
+    /**
+     * Time metadata resolution.
+     *
+     * @param joinPoint the join point
+     * @return the result
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCachingMetadataResolver+.resolve(..))"
+        + " || execution(* org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.SamlRegisteredServiceMetadataResolver+.resolve(..))")
+    public Object timeMetadataResolution(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, METER_NAME, getComponentName(joinPoint));
+    }
+}
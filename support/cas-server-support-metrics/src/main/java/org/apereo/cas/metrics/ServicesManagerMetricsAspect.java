@@ -0,0 +1,49 @@
+package org.apereo.cas.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apereo.cas.configuration.model.core.monitor.MonitorMetricsProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * This is {@link ServicesManagerMetricsAspect} that times registered service lookups.
+ * Lookups that match no registered service are tagged separately.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Aspect
+public class ServicesManagerMetricsAspect extends AbstractMetricsAspect {
+    /**
+     * Meter name.
+     */
+    public static final String METER_NAME = "cas.services.manager";
+
+    /**
+     * Tag value for lookups that matched no registered service.
+     */
+    public static final String OUTCOME_NOT_FOUND = "notfound";
+
+    public ServicesManagerMetricsAspect(final MeterRegistry meterRegistry, final MonitorMetricsProperties properties) {
+        super(meterRegistry, properties);
+    }
+
+    /**
+     * Time registered service lookups.
+     *
+     * @param joinPoint the join point
+     * @return the result
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.services.ServicesManager+.findServiceBy(..))"
+        + " || execution(* org.apereo.cas.services.ServicesManager+.matchesExistingService(..))")
+    public Object timeServiceLookup(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, METER_NAME, getComponentName(joinPoint));
+    }
+
+    @Override
+    protected String determineOutcome(final ProceedingJoinPoint joinPoint, final Object result) {
+        return result == null || Boolean.FALSE.equals(result) ? OUTCOME_NOT_FOUND : OUTCOME_SUCCESS;
+    }
+}
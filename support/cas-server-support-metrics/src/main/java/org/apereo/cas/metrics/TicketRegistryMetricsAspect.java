@@ -0,0 +1,57 @@
+package org.apereo.cas.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apereo.cas.configuration.model.core.monitor.MonitorMetricsProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * This is {@link TicketRegistryMetricsAspect} that times add, get, update and delete
+ * operations of ticket registries. Lookups via {@code getTicket} that find no ticket are tagged
+ * separately so that misses do not skew the latency of successful reads.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Aspect
+public class TicketRegistryMetricsAspect extends AbstractMetricsAspect {
+    /**
+     * Meter name.
+     */
+    public static final String METER_NAME = "cas.ticket.registry";
+
+    /**
+     * Tag value for lookups that found no ticket.
+     */
+    public static final String OUTCOME_NOT_FOUND = "notfound";
+
+    private static final String OPERATION_GET_TICKET = "getTicket";
+
+    public TicketRegistryMetricsAspect(final MeterRegistry meterRegistry, final MonitorMetricsProperties properties) {
+        super(meterRegistry, properties);
+    }
+
+    /**
+     * Time ticket registry operations.
+     *
+     * @param joinPoint the join point
+     * @return the result
+     * @throws Throwable the throwable
+     */
+    @Around("execution(* org.apereo.cas.ticket.registry.TicketRegistry+.addTicket(..))"
+        + " || execution(* org.apereo.cas.ticket.registry.TicketRegistry+.getTicket(..))"
+        + " || execution(* org.apereo.cas.ticket.registry.TicketRegistry+.updateTicket(..))"
+        + " || execution(* org.apereo.cas.ticket.registry.TicketRegistry+.deleteTicket(..))")
+    public Object timeTicketRegistryOperation(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, METER_NAME, getComponentName(joinPoint));
+    }
+
+    @Override
+    protected String determineOutcome(final ProceedingJoinPoint joinPoint, final Object result) {
+        if (result == null && OPERATION_GET_TICKET.equals(joinPoint.getSignature().getName())) {
+            return OUTCOME_NOT_FOUND;
+        }
+        return OUTCOME_SUCCESS;
+    }
+}
@@ -0,0 +1,76 @@
+package org.apereo.cas.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * This is {@link TicketRegistryMetricsBinder} that publishes the number of single sign-on sessions
+ * and service tickets held by the ticket registry. Counting may require the registry to examine every ticket,
+ * so the counts are refreshed on a schedule and gauges report the last known values when metrics are collected.
+ * Counts that the registry is unable to compute are reported as {@link Double#NaN}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TicketRegistryMetricsBinder implements MeterBinder, Runnable {
+    /**
+     * Meter name.
+     */
+    public static final String METER_NAME = "cas.ticket.registry.size";
+
+    private final ObjectProvider<TicketRegistry> ticketRegistry;
+
+    private volatile double sessionCount = Double.NaN;
+
+    private volatile double serviceTicketCount = Double.NaN;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        register(registry, "ticketGrantingTicket", binder -> binder.sessionCount);
+        register(registry, "serviceTicket", binder -> binder.serviceTicketCount);
+    }
+
+    /**
+     * Refresh the ticket counts reported by the gauges.
+     */
+    @Scheduled(initialDelayString = "${cas.monitor.metrics.ticketRegistry.schedule.startDelay:PT15S}",
+        fixedDelayString = "${cas.monitor.metrics.ticketRegistry.schedule.repeatInterval:PT1M}")
+    @Override
+    public void run() {
+        final var registry = this.ticketRegistry.getIfAvailable();
+        this.sessionCount = count(registry, "ticketGrantingTicket", TicketRegistry::sessionCount);
+        this.serviceTicketCount = count(registry, "serviceTicket", TicketRegistry::serviceTicketCount);
+        LOGGER.trace("Ticket registry holds [{}] ticket-granting tickets and [{}] service tickets", this.sessionCount, this.serviceTicketCount);
+    }
+
+    private void register(final MeterRegistry registry, final String type, final ToDoubleFunction<TicketRegistryMetricsBinder> count) {
+        Gauge.builder(METER_NAME, this, count)
+            .tag("type", type)
+            .description("Number of tickets held by the ticket registry, as of the last scheduled count")
+            .register(registry);
+    }
+
+    private static double count(final TicketRegistry registry, final String type, final ToLongFunction<TicketRegistry> count) {
+        if (registry == null) {
+            return Double.NaN;
+        }
+        try {
+            final var result = count.applyAsLong(registry);
+            return result < 0 ? Double.NaN : result;
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to count tickets of type [{}]: [{}]", type, e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
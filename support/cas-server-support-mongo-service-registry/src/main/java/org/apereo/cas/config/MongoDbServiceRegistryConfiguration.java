@@ -12,7 +12,9 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 
 /**
  * This is {@link MongoDbServiceRegistryConfiguration}.
@@ -36,6 +38,8 @@ public class MongoDbServiceRegistryConfiguration implements ServiceRegistryExecu
 
         final var mongoTemplate = factory.buildMongoTemplate(mongo);
         factory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        mongoTemplate.indexOps(mongo.getCollection())
+            .ensureIndex(new Index().on(MongoDbServiceRegistry.FIELD_NAME_MATCHING_KEY, Sort.Direction.ASC));
         return mongoTemplate;
     }
     
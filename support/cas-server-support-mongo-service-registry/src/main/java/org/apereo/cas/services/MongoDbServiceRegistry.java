@@ -7,9 +7,9 @@ import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * <p>Implementation of {@code ServiceRegistry} that uses a MongoDb repository as the backend
@@ -17,6 +17,8 @@ import java.util.regex.Pattern;
  * <p>The class will automatically create a default collection to use with services. The name
  * of the collection may be specified.
  * It also presents the ability to drop an existing collection and start afresh.
+ * Each document also carries the matching key of the service, so that looking up the service
+ * for a service url only reads the documents that may match it.
  *
  * @author Misagh Moayyed
  * @since 4.1
@@ -25,6 +27,10 @@ import java.util.regex.Pattern;
 @ToString
 @RequiredArgsConstructor
 public class MongoDbServiceRegistry extends AbstractServiceRegistry {
+    /**
+     * Document field that holds the matching key of the service.
+     */
+    public static final String FIELD_NAME_MATCHING_KEY = "matchingKey";
 
     private final MongoOperations mongoTemplate;
     private final String collectionName;
@@ -46,8 +52,16 @@ public class MongoDbServiceRegistry extends AbstractServiceRegistry {
 
     @Override
     public RegisteredService findServiceById(final String id) {
-        final var pattern = Pattern.compile(id, Pattern.CASE_INSENSITIVE);
-        return this.mongoTemplate.findOne(new Query(Criteria.where("serviceId").regex(pattern)), RegisteredService.class, this.collectionName);
+        final var key = RegisteredServiceMatchingKeys.getLookupKey(id);
+        if (key == null) {
+            return null;
+        }
+        final var query = new Query(new Criteria().orOperator(
+            Criteria.where(FIELD_NAME_MATCHING_KEY).is(key),
+            Criteria.where(FIELD_NAME_MATCHING_KEY).is(null)));
+        final var candidates = this.mongoTemplate.find(query, RegisteredService.class, this.collectionName);
+        LOGGER.trace("Evaluating [{}] candidate service(s) for [{}]", candidates.size(), id);
+        return RegisteredServiceMatchingKeys.findMatchingService(candidates, id);
     }
 
     @Override
@@ -63,6 +77,9 @@ public class MongoDbServiceRegistry extends AbstractServiceRegistry {
             svc.setId(svc.hashCode());
         }
         this.mongoTemplate.save(svc, this.collectionName);
+        this.mongoTemplate.updateFirst(new Query(Criteria.where("id").is(svc.getId())),
+            Update.update(FIELD_NAME_MATCHING_KEY, RegisteredServiceMatchingKeys.getMatchingKey(svc)),
+            RegisteredService.class, this.collectionName);
         LOGGER.debug("Saved registered service: [{}]", svc);
         return this.findServiceById(svc.getId());
     }
@@ -1,7 +1,9 @@
 package org.apereo.cas.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlan;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.audit.AuditableExecution;
@@ -71,6 +73,9 @@ import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.DefaultAccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenCipherExecutor;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenDenyList;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.accesstoken.OAuthAccessTokenExpirationPolicy;
 import org.apereo.cas.ticket.code.DefaultOAuthCodeFactory;
 import org.apereo.cas.ticket.code.OAuthCodeExpirationPolicy;
@@ -317,7 +322,43 @@ public class CasOAuthConfiguration implements AuditTrailRecordResolutionPlanConf
     @Bean
     @RefreshScope
     public OAuth20TokenGenerator oauthTokenGenerator() {
-        return new OAuth20DefaultTokenGenerator(defaultAccessTokenFactory(), defaultRefreshTokenFactory(), ticketRegistry);
+        final var generator = new OAuth20DefaultTokenGenerator(defaultAccessTokenFactory(), defaultRefreshTokenFactory(), ticketRegistry);
+        generator.setJwtAccessTokenEncoder(oauthJwtAccessTokenEncoder());
+        return generator;
+    }
+
+    @ConditionalOnMissingBean(name = "oauthJwtAccessTokenCipherExecutor")
+    @Bean
+    @RefreshScope
+    public CipherExecutor oauthJwtAccessTokenCipherExecutor() {
+        final var crypto = casProperties.getAuthn().getOauth().getAccessToken().getCrypto();
+        return new OAuth20JwtAccessTokenCipherExecutor(crypto.getEncryption().getKey(),
+            crypto.getSigning().getKey(),
+            crypto.getAlg(),
+            crypto.isEncryptionEnabled());
+    }
+
+    @ConditionalOnMissingBean(name = "oauthJwtAccessTokenDenyList")
+    @Bean
+    public OAuth20JwtAccessTokenDenyList oauthJwtAccessTokenDenyList() {
+        return new OAuth20JwtAccessTokenDenyList(ticketRegistry,
+            webApplicationServiceFactory.createService(casProperties.getServer().getPrefix()));
+    }
+
+    @ConditionalOnMissingBean(name = "oauthJwtAccessTokenEncoder")
+    @Bean
+    public OAuth20JwtAccessTokenEncoder oauthJwtAccessTokenEncoder() {
+        final var accessToken = casProperties.getAuthn().getOauth().getAccessToken();
+        final var crypto = accessToken.getCrypto();
+        final var encrypted = crypto.isEncryptionEnabled() || StringUtils.isNotBlank(crypto.getEncryption().getKey());
+        return new OAuth20JwtAccessTokenEncoder(oauthJwtAccessTokenCipherExecutor(),
+            oauthPrincipalFactory(),
+            webApplicationServiceFactory,
+            servicesManager,
+            oauthJwtAccessTokenDenyList(),
+            casProperties.getServer().getPrefix(),
+            Beans.newDuration(accessToken.getMaxTimeToLiveInSeconds()).getSeconds(),
+            encrypted);
     }
 
     @Bean
@@ -382,7 +423,7 @@ public class CasOAuthConfiguration implements AuditTrailRecordResolutionPlanConf
     @ConditionalOnMissingBean(name = "profileController")
     @Bean
     public OAuth20UserProfileEndpointController profileController() {
-        return new OAuth20UserProfileEndpointController(servicesManager,
+        final var controller = new OAuth20UserProfileEndpointController(servicesManager,
             ticketRegistry,
             defaultAccessTokenFactory(),
             oauthPrincipalFactory(),
@@ -392,6 +433,8 @@ public class CasOAuthConfiguration implements AuditTrailRecordResolutionPlanConf
             ticketGrantingTicketCookieGenerator.getIfAvailable(),
             oauthUserProfileViewRenderer(),
             oAuth2UserProfileDataCreator());
+        controller.setJwtAccessTokenEncoder(oauthJwtAccessTokenEncoder());
+        return controller;
     }
 
     @ConditionalOnMissingBean(name = "oauthAuthorizationResponseBuilders")
@@ -1,6 +1,7 @@
 package org.apereo.cas.support.oauth.web.endpoints;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.ServiceFactory;
@@ -8,7 +9,9 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
+import org.apereo.cas.ticket.accesstoken.AccessToken;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.web.support.CookieRetrievingCookieGenerator;
 import org.springframework.stereotype.Controller;
@@ -21,7 +24,7 @@ import org.springframework.stereotype.Controller;
  */
 @Controller
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 public abstract class BaseOAuth20Controller {
 
     /**
@@ -64,4 +67,33 @@ public abstract class BaseOAuth20Controller {
      */
     protected final CookieRetrievingCookieGenerator ticketGrantingTicketCookieGenerator;
 
+    /**
+     * Encoder for self-contained JWT access tokens.
+     */
+    @Setter
+    protected OAuth20JwtAccessTokenEncoder jwtAccessTokenEncoder;
+
+    /**
+     * Locate the access token. JWT access tokens are decoded and verified
+     * without consulting the ticket registry.
+     *
+     * @param accessTokenId the access token id
+     * @return the access token, or null if it cannot be found or is invalid
+     */
+    protected AccessToken getAccessToken(final String accessTokenId) {
+        if (isJwtAccessToken(accessTokenId)) {
+            return this.jwtAccessTokenEncoder.decode(accessTokenId);
+        }
+        return this.ticketRegistry.getTicket(accessTokenId, AccessToken.class);
+    }
+
+    /**
+     * Whether the access token is a self-contained JWT access token.
+     *
+     * @param accessTokenId the access token id
+     * @return true if the access token is a JWT
+     */
+    protected boolean isJwtAccessToken(final String accessTokenId) {
+        return this.jwtAccessTokenEncoder != null && OAuth20JwtAccessTokenEncoder.isJwtAccessToken(accessTokenId);
+    }
 }
@@ -86,27 +86,31 @@ public class OAuth20UserProfileEndpointController extends BaseOAuth20Controller
             return buildUnauthorizedResponseEntity(OAuth20Constants.MISSING_ACCESS_TOKEN);
         }
 
-        final var accessTokenTicket = this.ticketRegistry.getTicket(accessToken, AccessToken.class);
+        final var accessTokenTicket = getAccessToken(accessToken);
 
         if (accessTokenTicket == null) {
             LOGGER.error("Access token [{}] cannot be found in the ticket registry.", accessToken);
             return expiredAccessTokenResponseEntity;
         }
-        if (accessTokenTicket.isExpired()) {
-            LOGGER.error("Access token [{}] has expired and will be removed from the ticket registry", accessToken);
-            this.ticketRegistry.deleteTicket(accessToken);
-            return expiredAccessTokenResponseEntity;
-        }
-
-        if (casProperties.getLogout().isRemoveDescendantTickets()) {
-            final var ticketGrantingTicket = accessTokenTicket.getTicketGrantingTicket();
-            if (ticketGrantingTicket == null || ticketGrantingTicket.isExpired()) {
-                LOGGER.error("Ticket granting ticket [{}] parenting access token [{}] has expired or is not found", ticketGrantingTicket, accessTokenTicket);
+        if (isJwtAccessToken(accessToken)) {
+            LOGGER.debug("Access token is a JWT whose signature and expiration are already verified");
+        } else {
+            if (accessTokenTicket.isExpired()) {
+                LOGGER.error("Access token [{}] has expired and will be removed from the ticket registry", accessToken);
                 this.ticketRegistry.deleteTicket(accessToken);
                 return expiredAccessTokenResponseEntity;
             }
+
+            if (casProperties.getLogout().isRemoveDescendantTickets()) {
+                final var ticketGrantingTicket = accessTokenTicket.getTicketGrantingTicket();
+                if (ticketGrantingTicket == null || ticketGrantingTicket.isExpired()) {
+                    LOGGER.error("Ticket granting ticket [{}] parenting access token [{}] has expired or is not found", ticketGrantingTicket, accessTokenTicket);
+                    this.ticketRegistry.deleteTicket(accessToken);
+                    return expiredAccessTokenResponseEntity;
+                }
+            }
+            updateAccessTokenUsage(accessTokenTicket);
         }
-        updateAccessTokenUsage(accessTokenTicket);
 
         final var map = this.userProfileDataCreator.createFrom(accessTokenTicket, context);
         final var value = this.userProfileViewRenderer.render(map, accessTokenTicket);
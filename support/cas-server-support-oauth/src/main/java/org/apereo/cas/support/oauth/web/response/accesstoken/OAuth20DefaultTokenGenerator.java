@@ -1,6 +1,7 @@
 package org.apereo.cas.support.oauth.web.response.accesstoken;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
@@ -11,6 +12,7 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketState;
 import org.apereo.cas.ticket.accesstoken.AccessToken;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.code.OAuthCode;
 import org.apereo.cas.ticket.refreshtoken.RefreshToken;
 import org.apereo.cas.ticket.refreshtoken.RefreshTokenFactory;
@@ -23,7 +25,7 @@ import org.apereo.cas.ticket.registry.TicketRegistry;
  * @since 5.2.0
  */
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
 
 
@@ -42,6 +44,12 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
      */
     protected final TicketRegistry ticketRegistry;
 
+    /**
+     * Encoder for self-contained JWT access tokens; if undefined, access tokens are always tracked by the ticket registry.
+     */
+    @Setter
+    protected OAuth20JwtAccessTokenEncoder jwtAccessTokenEncoder;
+
     @Override
     public Pair<AccessToken, RefreshToken> generate(final AccessTokenRequestDataHolder holder) {
         LOGGER.debug("Creating refresh token for [{}]", holder.getService());
@@ -51,12 +59,19 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
             .build();
 
         LOGGER.debug("Creating access token for [{}]", holder);
-        final var accessToken = this.accessTokenFactory.create(holder.getService(),
-            authn, holder.getTicketGrantingTicket(), holder.getScopes());
-
-        LOGGER.debug("Created access token [{}]", accessToken);
-        addTicketToRegistry(accessToken, holder.getTicketGrantingTicket());
-        LOGGER.debug("Added access token [{}] to registry", accessToken);
+        final AccessToken accessToken;
+        if (isJwtAccessTokenRequested(holder)) {
+            final var ticket = this.accessTokenFactory.create(holder.getService(), authn,
+                holder.getTicketGrantingTicket(), holder.getScopes());
+            accessToken = this.jwtAccessTokenEncoder.encode(ticket, holder.getRegisteredService());
+            LOGGER.debug("Created JWT access token [{}]; it is not tracked by the registry", ticket.getId());
+        } else {
+            accessToken = this.accessTokenFactory.create(holder.getService(),
+                authn, holder.getTicketGrantingTicket(), holder.getScopes());
+            LOGGER.debug("Created access token [{}]", accessToken);
+            addTicketToRegistry(accessToken, holder.getTicketGrantingTicket());
+            LOGGER.debug("Added access token [{}] to registry", accessToken);
+        }
 
         if (holder.getToken() instanceof OAuthCode) {
             final var codeState = TicketState.class.cast(holder.getToken());
@@ -82,6 +97,18 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
     }
 
 
+    /**
+     * Whether the access token should be issued as a self-contained JWT.
+     *
+     * @param holder the holder
+     * @return true if a JWT access token should be issued
+     */
+    protected boolean isJwtAccessTokenRequested(final AccessTokenRequestDataHolder holder) {
+        return this.jwtAccessTokenEncoder != null
+            && holder.getRegisteredService() != null
+            && holder.getRegisteredService().isJwtAccessToken();
+    }
+
     /**
      * Add ticket to registry.
      *
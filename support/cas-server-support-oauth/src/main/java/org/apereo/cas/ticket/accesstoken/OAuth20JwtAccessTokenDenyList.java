@@ -0,0 +1,93 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketImpl;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.support.HardTimeoutExpirationPolicy;
+import org.apereo.cas.util.DigestUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link OAuth20JwtAccessTokenDenyList}, which records the identifiers of revoked JWT access tokens,
+ * or of the single sign-on sessions whose JWT access tokens are revoked.
+ * Revocations are checked against a local set, keyed by a digest of the identifier, whose entries
+ * expire when the tokens they refer to would have expired anyway. Each revocation is also stored in the ticket
+ * registry as a transient session ticket with the same lifetime, and the local set is periodically refreshed
+ * from the registry so that revocations made by other CAS nodes sharing the registry are picked up
+ * without consulting the registry when tokens are validated.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OAuth20JwtAccessTokenDenyList {
+    private static final String TICKET_ID_PREFIX = TransientSessionTicket.PREFIX + "-JWT-";
+
+    private final Map<String, Long> revocations = new ConcurrentHashMap<>();
+
+    private final TicketRegistry ticketRegistry;
+    private final Service service;
+
+    /**
+     * Revoke the token identified by the given id.
+     *
+     * @param tokenId    the token id
+     * @param expiration the expiration of the token, in seconds since the epoch
+     */
+    public void revoke(final String tokenId, final long expiration) {
+        final var remaining = expiration - Instant.now().getEpochSecond();
+        if (remaining <= 0) {
+            LOGGER.debug("JWT access token [{}] has already expired and need not be revoked", tokenId);
+            return;
+        }
+        LOGGER.debug("Revoking JWT access token [{}] until [{}]", tokenId, expiration);
+        final var key = DigestUtils.sha256(tokenId);
+        this.revocations.merge(key, expiration, Math::max);
+        final var ticket = new TransientSessionTicketImpl(TICKET_ID_PREFIX + key,
+            new HardTimeoutExpirationPolicy(remaining), this.service);
+        this.ticketRegistry.addTicket(ticket);
+    }
+
+    /**
+     * Whether the token identified by the given id is revoked.
+     *
+     * @param tokenId the token id
+     * @return true if revoked
+     */
+    public boolean isRevoked(final String tokenId) {
+        final var expiration = this.revocations.get(DigestUtils.sha256(tokenId));
+        return expiration != null && expiration > Instant.now().getEpochSecond();
+    }
+
+    /**
+     * Merge the revocations recorded in the ticket registry by any CAS node into the local set,
+     * and drop the local entries whose tokens have expired.
+     */
+    @Scheduled(initialDelayString = "${cas.authn.oauth.accessToken.denyList.startDelay:PT5S}",
+        fixedDelayString = "${cas.authn.oauth.accessToken.denyList.repeatInterval:PT15S}")
+    public void refresh() {
+        final var now = Instant.now().getEpochSecond();
+        try {
+            this.ticketRegistry.getTickets(ticket -> ticket.getId().startsWith(TICKET_ID_PREFIX) && !ticket.isExpired())
+                .forEach(ticket -> {
+                    final var timeToLive = Optional.ofNullable(ticket.getExpirationPolicy().getTimeToLive()).orElse(0L);
+                    final var expiration = ticket.getCreationTime().toEpochSecond() + timeToLive;
+                    this.revocations.merge(ticket.getId().substring(TICKET_ID_PREFIX.length()), expiration, Math::max);
+                });
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to refresh revoked JWT access tokens from the ticket registry: [{}]", e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+        this.revocations.values().removeIf(expiration -> expiration <= now);
+        LOGGER.trace("[{}] JWT access token revocation(s) are in effect", this.revocations.size());
+    }
+}
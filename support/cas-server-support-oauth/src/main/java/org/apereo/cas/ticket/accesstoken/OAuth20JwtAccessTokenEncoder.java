@@ -0,0 +1,278 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.authentication.principal.PrincipalFactory;
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.ticket.accesstoken.OAuthAccessTokenExpirationPolicy.OAuthAccessTokenSovereignExpirationPolicy;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.DigestUtils;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.NumericDate;
+import org.springframework.context.event.EventListener;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link OAuth20JwtAccessTokenEncoder}, which turns access tokens into signed
+ * (and optionally encrypted) JWTs that carry everything needed to validate them,
+ * and turns such JWTs back into access tokens without consulting the ticket registry.
+ * The access token id is kept as the {@code jti} claim, and a digest of the ticket-granting ticket
+ * the token was issued for is kept as the {@code sid} claim; both are keys of the in-memory deny-list
+ * that records tokens revoked before they expire, or whose single sign-on session has ended.
+ * Principal and authentication attributes are only carried by tokens that are encrypted.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Getter
+public class OAuth20JwtAccessTokenEncoder {
+    private static final String CLAIM_SCOPE = "scope";
+    private static final String CLAIM_SERVICE = "service";
+    private static final String CLAIM_PRINCIPAL_ATTRIBUTES = "attributes";
+    private static final String CLAIM_AUTHENTICATION_ATTRIBUTES = "authenticationAttributes";
+    private static final String CLAIM_AUTHENTICATION_DATE = "auth_time";
+    private static final String CLAIM_SESSION_ID = "sid";
+    private static final String JWT_HEADER_PREFIX = "eyJ";
+    private static final int JWS_SEPARATORS = 2;
+    private static final int JWE_SEPARATORS = 4;
+
+    private final CipherExecutor<Serializable, String> cipherExecutor;
+    private final PrincipalFactory principalFactory;
+    private final ServiceFactory<WebApplicationService> webApplicationServiceFactory;
+    private final ServicesManager servicesManager;
+    private final OAuth20JwtAccessTokenDenyList denyList;
+    private final String issuer;
+    private final long maxTimeToLiveInSeconds;
+    private final boolean attributesIncluded;
+
+    /**
+     * Whether the given token looks like a compact JWT rather than a ticket id.
+     *
+     * @param token the token
+     * @return true if the token is a JWT access token
+     */
+    public static boolean isJwtAccessToken(final String token) {
+        if (StringUtils.isBlank(token) || !token.startsWith(JWT_HEADER_PREFIX)) {
+            return false;
+        }
+        final var separators = StringUtils.countMatches(token, '.');
+        return separators == JWS_SEPARATORS || separators == JWE_SEPARATORS;
+    }
+
+    /**
+     * Encode the access token as a JWT.
+     *
+     * @param accessToken       the access token
+     * @param registeredService the registered service
+     * @return the access token whose id is the encoded JWT
+     */
+    public AccessToken encode(final AccessToken accessToken, final OAuthRegisteredService registeredService) {
+        final var authentication = accessToken.getAuthentication();
+        final var issuedAt = accessToken.getCreationTime().toEpochSecond();
+        final var timeToLive = Optional.ofNullable(accessToken.getExpirationPolicy().getTimeToLive()).orElse(0L);
+
+        final var claims = new JwtClaims();
+        claims.setJwtId(accessToken.getId());
+        claims.setIssuer(this.issuer);
+        claims.setAudience(registeredService.getClientId());
+        claims.setSubject(authentication.getPrincipal().getId());
+        claims.setIssuedAt(NumericDate.fromSeconds(issuedAt));
+        claims.setExpirationTime(NumericDate.fromSeconds(issuedAt + timeToLive));
+        claims.setStringListClaim(CLAIM_SCOPE, new ArrayList<>(accessToken.getScopes()));
+        claims.setStringClaim(CLAIM_SERVICE, accessToken.getService().getId());
+        claims.setClaim(CLAIM_AUTHENTICATION_DATE, authentication.getAuthenticationDate().toEpochSecond());
+        final var ticketGrantingTicket = accessToken.getTicketGrantingTicket();
+        if (ticketGrantingTicket != null) {
+            claims.setStringClaim(CLAIM_SESSION_ID, getSessionId(ticketGrantingTicket.getId()));
+        }
+        if (this.attributesIncluded) {
+            claims.setClaim(CLAIM_PRINCIPAL_ATTRIBUTES, toJsonAttributes(authentication.getPrincipal().getAttributes()));
+            claims.setClaim(CLAIM_AUTHENTICATION_ATTRIBUTES, toJsonAttributes(authentication.getAttributes()));
+        }
+
+        final var jwt = this.cipherExecutor.encode(claims.toJson());
+        LOGGER.debug("Encoded access token [{}] for service [{}] as a JWT", accessToken.getId(), registeredService.getServiceId());
+        return new AccessTokenImpl(jwt, accessToken.getService(), authentication,
+            accessToken.getExpirationPolicy(), ticketGrantingTicket, accessToken.getScopes());
+    }
+
+    /**
+     * Decode the JWT access token. The signature, issuer, audience, expiration
+     * and revocation status of the token are verified.
+     *
+     * @param token the token
+     * @return the access token, or null if the token is invalid, expired or revoked
+     */
+    public AccessToken decode(final String token) {
+        return decode(token, null);
+    }
+
+    /**
+     * Decode the JWT access token, and verify that it was issued to the given client.
+     *
+     * @param token    the token
+     * @param clientId the client id expected as the audience of the token, or null if any registered client is acceptable
+     * @return the access token, or null if the token is invalid, expired, revoked or issued to another client
+     */
+    public AccessToken decode(final String token, final String clientId) {
+        try {
+            final var claims = verify(token, clientId);
+            if (claims == null) {
+                return null;
+            }
+            final var jwtId = claims.getJwtId();
+            final var sessionId = claims.getStringClaimValue(CLAIM_SESSION_ID);
+            if (this.denyList.isRevoked(jwtId) || (sessionId != null && this.denyList.isRevoked(sessionId))) {
+                LOGGER.debug("JWT access token [{}] has been revoked", jwtId);
+                return null;
+            }
+
+            final var now = NumericDate.now();
+            final var expiration = claims.getExpirationTime();
+            final var principal = this.principalFactory.createPrincipal(claims.getSubject(),
+                getAttributes(claims, CLAIM_PRINCIPAL_ATTRIBUTES));
+            final var authnDate = claims.getClaimValue(CLAIM_AUTHENTICATION_DATE, Long.class);
+            final var authentication = DefaultAuthenticationBuilder.newInstance()
+                .setPrincipal(principal)
+                .setAttributes(getAttributes(claims, CLAIM_AUTHENTICATION_ATTRIBUTES))
+                .setAuthenticationDate(DateTimeUtils.zonedDateTimeOf(authnDate * 1000))
+                .build();
+            final var service = this.webApplicationServiceFactory.createService(claims.getStringClaimValue(CLAIM_SERVICE));
+            final var remaining = expiration.getValue() - now.getValue();
+            final var scopes = claims.getStringListClaimValue(CLAIM_SCOPE);
+            return new AccessTokenImpl(token, service, authentication,
+                new OAuthAccessTokenSovereignExpirationPolicy(remaining, remaining), null, scopes);
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to decode JWT access token: [{}]", e.getMessage());
+            LOGGER.trace(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Revoke the JWT access token, if it is valid and was issued to the given client.
+     *
+     * @param token    the token
+     * @param clientId the client id expected as the audience of the token
+     * @return true if the token was valid and is now revoked
+     */
+    public boolean revoke(final String token, final String clientId) {
+        try {
+            final var claims = verify(token, clientId);
+            if (claims != null) {
+                this.denyList.revoke(claims.getJwtId(), claims.getExpirationTime().getValue());
+                return true;
+            }
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to revoke JWT access token: [{}]", e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Handle ticket granting ticket destroyed event,
+     * and revoke the JWT access tokens issued as part of the destroyed single sign-on session.
+     * Such tokens cannot outlive the maximum lifetime of access tokens, which is how long the session stays revoked.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleTicketGrantingTicketDestroyedEvent(final CasTicketGrantingTicketDestroyedEvent event) {
+        final var ticketGrantingTicket = event.getTicketGrantingTicket();
+        if (ticketGrantingTicket != null) {
+            final var expiration = NumericDate.now();
+            expiration.addSeconds(this.maxTimeToLiveInSeconds);
+            this.denyList.revoke(getSessionId(ticketGrantingTicket.getId()), expiration.getValue());
+        }
+    }
+
+    /**
+     * Verify the signature, issuer, audience and expiration of the token.
+     *
+     * @param token    the token
+     * @param clientId the expected audience, or null if any registered client that accepts JWT access tokens is acceptable
+     * @return the claims, or null if the token cannot be verified
+     * @throws Exception the exception
+     */
+    private JwtClaims verify(final String token, final String clientId) throws Exception {
+        final var json = this.cipherExecutor.decode(token);
+        if (StringUtils.isBlank(json)) {
+            LOGGER.debug("JWT access token cannot be verified");
+            return null;
+        }
+        final var claims = JwtClaims.parse(json);
+        if (!StringUtils.equals(this.issuer, claims.getIssuer())) {
+            LOGGER.debug("JWT access token issuer [{}] does not match [{}]", claims.getIssuer(), this.issuer);
+            return null;
+        }
+        final var audience = claims.getAudience();
+        if (audience == null || audience.size() != 1 || (clientId != null && !clientId.equals(audience.get(0)))) {
+            LOGGER.debug("JWT access token audience [{}] does not match [{}]", audience, clientId);
+            return null;
+        }
+        final var registeredService = OAuth20Utils.getRegisteredOAuthServiceByClientId(this.servicesManager, audience.get(0));
+        if (registeredService == null || !registeredService.isJwtAccessToken()) {
+            LOGGER.debug("JWT access token audience [{}] is not a registered client that accepts JWT access tokens", audience);
+            return null;
+        }
+        final var expiration = claims.getExpirationTime();
+        if (expiration == null || NumericDate.now().isOnOrAfter(expiration)) {
+            LOGGER.debug("JWT access token [{}] has expired", claims.getJwtId());
+            return null;
+        }
+        return claims;
+    }
+
+    private static String getSessionId(final String ticketGrantingTicketId) {
+        return DigestUtils.sha256(ticketGrantingTicketId);
+    }
+
+    private static Map<String, Object> getAttributes(final JwtClaims claims, final String name) throws Exception {
+        final Map<String, Object> attributes = new LinkedHashMap<>();
+        final Map<?, ?> values = claims.getClaimValue(name, Map.class);
+        if (values != null) {
+            values.forEach((k, v) -> attributes.put(k.toString(), v));
+        }
+        return attributes;
+    }
+
+    private static Map<String, Object> toJsonAttributes(final Map<String, Object> attributes) {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        attributes.forEach((k, v) -> values.put(k, toJsonValue(v)));
+        return values;
+    }
+
+    private static Object toJsonValue(final Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Collection || value instanceof Object[]) {
+            final List<Object> values = CollectionUtils.toCollection(value)
+                .stream()
+                .map(OAuth20JwtAccessTokenEncoder::toJsonValue)
+                .collect(Collectors.toList());
+            return values;
+        }
+        return value.toString();
+    }
+}
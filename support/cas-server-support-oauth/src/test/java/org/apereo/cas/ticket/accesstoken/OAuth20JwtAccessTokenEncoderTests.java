@@ -0,0 +1,154 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.DefaultPrincipalFactory;
+import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketDestroyedEvent;
+import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.accesstoken.OAuthAccessTokenExpirationPolicy.OAuthAccessTokenSovereignExpirationPolicy;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.CollectionUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link OAuth20JwtAccessTokenEncoderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class OAuth20JwtAccessTokenEncoderTests {
+    private static final String ISSUER = "https://sso.example.org/cas";
+
+    private OAuth20JwtAccessTokenEncoder encoder;
+
+    private OAuthRegisteredService registeredService;
+
+    private ServicesManager servicesManager;
+
+    private TicketRegistry ticketRegistry;
+
+    private TicketGrantingTicket ticketGrantingTicket;
+
+    @Before
+    public void setup() {
+        this.registeredService = new OAuthRegisteredService();
+        this.registeredService.setClientId("clientid");
+        this.registeredService.setServiceId("https://app.example.org/.*");
+        this.registeredService.setJwtAccessToken(true);
+        this.servicesManager = mock(ServicesManager.class);
+        when(this.servicesManager.getAllServices()).thenReturn(List.of(this.registeredService));
+        this.ticketRegistry = new DefaultTicketRegistry();
+        this.ticketGrantingTicket = new TicketGrantingTicketImpl("TGT-1",
+            CoreAuthenticationTestUtils.getAuthentication(), new NeverExpiresExpirationPolicy());
+        this.encoder = newEncoder(new OAuth20JwtAccessTokenCipherExecutor(null, null, null, false), false);
+    }
+
+    private OAuth20JwtAccessTokenEncoder newEncoder(final CipherExecutor cipher, final boolean attributesIncluded) {
+        final var denyList = new OAuth20JwtAccessTokenDenyList(this.ticketRegistry,
+            CoreAuthenticationTestUtils.getService(ISSUER));
+        return new OAuth20JwtAccessTokenEncoder(cipher, new DefaultPrincipalFactory(),
+            new WebApplicationServiceFactory(), this.servicesManager, denyList, ISSUER, 60, attributesIncluded);
+    }
+
+    private AccessToken newAccessToken(final long timeToLive) {
+        final var principal = CoreAuthenticationTestUtils.getPrincipal("casuser",
+            CollectionUtils.wrap("email", "casuser@example.org", "memberOf", List.of("faculty", "staff")));
+        final var authentication = CoreAuthenticationTestUtils.getAuthentication(principal);
+        return new AccessTokenImpl("AT-1-abcdefg", CoreAuthenticationTestUtils.getService("https://app.example.org/callback"),
+            authentication, new OAuthAccessTokenSovereignExpirationPolicy(timeToLive, timeToLive),
+            this.ticketGrantingTicket, CollectionUtils.wrapSet("openid", "profile"));
+    }
+
+    @Test
+    public void verifyEncodeAndDecode() {
+        final var token = encoder.encode(newAccessToken(60), registeredService);
+        assertTrue(OAuth20JwtAccessTokenEncoder.isJwtAccessToken(token.getId()));
+        assertFalse(OAuth20JwtAccessTokenEncoder.isJwtAccessToken("AT-1-abcdefg"));
+        assertFalse(OAuth20JwtAccessTokenEncoder.isJwtAccessToken("RT-1-abcdefg-cas.example.org"));
+        assertSame(ticketGrantingTicket, token.getTicketGrantingTicket());
+
+        final var decoded = encoder.decode(token.getId());
+        assertNotNull(decoded);
+        assertEquals(token.getId(), decoded.getId());
+        assertEquals("casuser", decoded.getAuthentication().getPrincipal().getId());
+        assertEquals("https://app.example.org/callback", decoded.getService().getId());
+        assertTrue(decoded.getScopes().containsAll(List.of("openid", "profile")));
+        assertTrue(decoded.getAuthentication().getPrincipal().getAttributes().isEmpty());
+        assertFalse(decoded.isExpired());
+    }
+
+    @Test
+    public void verifyEncryptedTokenCarriesAttributes() {
+        final var cipher = new OAuth20JwtAccessTokenCipherExecutor(null, null,
+            CipherExecutor.DEFAULT_CONTENT_ENCRYPTION_ALGORITHM, true);
+        final var encrypted = newEncoder(cipher, true);
+        final var token = encrypted.encode(newAccessToken(60), registeredService);
+        final var decoded = encrypted.decode(token.getId());
+        assertNotNull(decoded);
+        final var attributes = decoded.getAuthentication().getPrincipal().getAttributes();
+        assertEquals("casuser@example.org", attributes.get("email"));
+        assertEquals(List.of("faculty", "staff"), attributes.get("memberOf"));
+    }
+
+    @Test
+    public void verifyAudienceChecked() {
+        final var token = encoder.encode(newAccessToken(60), registeredService).getId();
+        assertNotNull(encoder.decode(token, "clientid"));
+        assertNull(encoder.decode(token, "otherclient"));
+        assertFalse(encoder.revoke(token, "otherclient"));
+
+        registeredService.setJwtAccessToken(false);
+        assertNull(encoder.decode(token));
+    }
+
+    @Test
+    public void verifyRevokedTokenRejected() {
+        final var token = encoder.encode(newAccessToken(60), registeredService);
+        assertTrue(encoder.revoke(token.getId(), "clientid"));
+        assertNull(encoder.decode(token.getId()));
+        assertTrue(encoder.getDenyList().isRevoked("AT-1-abcdefg"));
+
+        final var other = newEncoder(new OAuth20JwtAccessTokenCipherExecutor(null, null, null, false), false);
+        assertFalse(other.getDenyList().isRevoked("AT-1-abcdefg"));
+        other.getDenyList().refresh();
+        assertTrue(other.getDenyList().isRevoked("AT-1-abcdefg"));
+        assertNull(other.decode(token.getId()));
+    }
+
+    @Test
+    public void verifyTokenRevokedOnLogout() {
+        final var token = encoder.encode(newAccessToken(60), registeredService).getId();
+        assertNotNull(encoder.decode(token));
+        encoder.handleTicketGrantingTicketDestroyedEvent(new CasTicketGrantingTicketDestroyedEvent(this, ticketGrantingTicket));
+        assertNull(encoder.decode(token));
+    }
+
+    @Test
+    public void verifyExpiredTokenRejected() {
+        final var token = encoder.encode(newAccessToken(0), registeredService);
+        assertNull(encoder.decode(token.getId()));
+    }
+
+    @Test
+    public void verifyTamperedTokenRejected() {
+        final var token = encoder.encode(newAccessToken(60), registeredService).getId();
+        final var tampered = token.substring(0, token.length() - 4) + "AAAA";
+        assertNull(encoder.decode(tampered));
+        assertFalse(encoder.revoke(tampered, "clientid"));
+
+        final var other = newEncoder(new OAuth20JwtAccessTokenCipherExecutor(null, null, null, false), false);
+        assertNull(other.decode(token));
+    }
+}
@@ -40,6 +40,9 @@ public class OidcRegisteredService extends OAuthRegisteredService {
     @Column
     private boolean signIdToken = true;
 
+    @Column
+    private String idTokenSigningAlg;
+
     @Column
     private boolean encryptIdToken;
 
@@ -70,6 +70,7 @@ import org.apereo.cas.support.oauth.web.views.OAuth20CallbackAuthorizeViewResolv
 import org.apereo.cas.support.oauth.web.views.OAuth20UserProfileViewRenderer;
 import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.code.OAuthCodeFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
@@ -82,7 +83,7 @@ import org.apereo.cas.web.flow.CasWebflowExecutionPlanConfigurer;
 import org.apereo.cas.web.flow.resolver.CasDelegatingWebflowEventResolver;
 import org.apereo.cas.web.flow.resolver.CasWebflowEventResolver;
 import org.apereo.cas.web.support.CookieRetrievingCookieGenerator;
-import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jwk.PublicJsonWebKey;
 import org.pac4j.cas.client.CasClient;
 import org.pac4j.core.config.Config;
 import org.pac4j.springframework.web.SecurityInterceptor;
@@ -144,6 +145,10 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
     @Qualifier("oauthTokenGenerator")
     private OAuth20TokenGenerator oauthTokenGenerator;
 
+    @Autowired
+    @Qualifier("oauthJwtAccessTokenEncoder")
+    private OAuth20JwtAccessTokenEncoder oauthJwtAccessTokenEncoder;
+
     @Autowired
     @Qualifier("oauthAuthorizationResponseBuilders")
     private Set<OAuth20AuthorizationResponseBuilder> oauthAuthorizationResponseBuilders;
@@ -329,7 +334,7 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
     @RefreshScope
     @Bean
     public OidcIntrospectionEndpointController oidcIntrospectionEndpointController() {
-        return new OidcIntrospectionEndpointController(
+        final var controller = new OidcIntrospectionEndpointController(
             servicesManager,
             ticketRegistry,
             defaultAccessTokenFactory,
@@ -340,12 +345,14 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
             ticketGrantingTicketCookieGenerator.getIfAvailable(),
             centralAuthenticationService,
             registeredServiceAccessStrategyEnforcer);
+        controller.setJwtAccessTokenEncoder(oauthJwtAccessTokenEncoder);
+        return controller;
     }
 
     @RefreshScope
     @Bean
     public OidcRevocationEndpointController oidcRevocationEndpointController() {
-        return new OidcRevocationEndpointController(
+        final var controller = new OidcRevocationEndpointController(
             servicesManager,
             ticketRegistry,
             defaultAccessTokenFactory,
@@ -355,6 +362,8 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
             casProperties,
             ticketGrantingTicketCookieGenerator.getIfAvailable(),
             registeredServiceAccessStrategyEnforcer);
+        controller.setJwtAccessTokenEncoder(oauthJwtAccessTokenEncoder);
+        return controller;
     }
 
     @RefreshScope
@@ -421,13 +430,15 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
     @RefreshScope
     @Bean
     public OidcUserProfileEndpointController oidcProfileController() {
-        return new OidcUserProfileEndpointController(servicesManager, ticketRegistry,
+        final var controller = new OidcUserProfileEndpointController(servicesManager, ticketRegistry,
             defaultAccessTokenFactory,
             oidcPrincipalFactory(), webApplicationServiceFactory,
             profileScopeToAttributesFilter(),
             casProperties,
             ticketGrantingTicketCookieGenerator.getIfAvailable(),
             oauthUserProfileViewRenderer, oidcUserProfileDataCreator());
+        controller.setJwtAccessTokenEncoder(oauthJwtAccessTokenEncoder);
+        return controller;
     }
 
     @Bean
@@ -495,7 +506,7 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
     }
 
     @Bean
-    public LoadingCache<OidcRegisteredService, Optional<RsaJsonWebKey>> oidcServiceJsonWebKeystoreCache() {
+    public LoadingCache<OidcRegisteredService, Optional<PublicJsonWebKey>> oidcServiceJsonWebKeystoreCache() {
         final var oidc = casProperties.getAuthn().getOidc();
         final var cache =
             Caffeine.newBuilder().maximumSize(1)
@@ -505,7 +516,7 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
     }
 
     @Bean
-    public LoadingCache<String, Optional<RsaJsonWebKey>> oidcDefaultJsonWebKeystoreCache() {
+    public LoadingCache<String, Optional<PublicJsonWebKey>> oidcDefaultJsonWebKeystoreCache() {
         final var oidc = casProperties.getAuthn().getOidc();
         final var cache =
             Caffeine.newBuilder().maximumSize(1)
@@ -520,14 +531,15 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
     }
 
     @Bean
-    public CacheLoader<OidcRegisteredService, Optional<RsaJsonWebKey>> oidcServiceJsonWebKeystoreCacheLoader() {
+    public CacheLoader<OidcRegisteredService, Optional<PublicJsonWebKey>> oidcServiceJsonWebKeystoreCacheLoader() {
         return new OidcServiceJsonWebKeystoreCacheLoader(resourceLoader);
     }
 
     @Bean
     @ConditionalOnMissingBean(name = "oidcServerDiscoverySettingsFactory")
     public FactoryBean<OidcServerDiscoverySettings> oidcServerDiscoverySettingsFactory() {
-        return new OidcServerDiscoverySettingsFactory(casProperties);
+        oidcJsonWebKeystoreGeneratorService().generate();
+        return new OidcServerDiscoverySettingsFactory(casProperties, oidcTokenSigningAndEncryptionService());
     }
 
     @Bean
@@ -565,7 +577,8 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
 
     @Bean
     public OidcRegisteredServicePreProcessorEventListener oidcRegisteredServicePreProcessorEventListener() {
-        return new OidcRegisteredServicePreProcessorEventListener(profileScopeToAttributesFilter());
+        return new OidcRegisteredServicePreProcessorEventListener(profileScopeToAttributesFilter(),
+            oidcTokenSigningAndEncryptionService());
     }
 
     @Bean
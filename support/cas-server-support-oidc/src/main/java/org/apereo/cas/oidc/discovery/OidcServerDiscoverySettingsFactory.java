@@ -3,9 +3,11 @@ package org.apereo.cas.oidc.discovery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.oidc.token.OidcIdTokenSigningAndEncryptionService;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
 import org.apereo.cas.util.CollectionUtils;
+import org.jose4j.jws.AlgorithmIdentifiers;
 import org.springframework.beans.factory.FactoryBean;
 
 import java.util.ArrayList;
@@ -13,6 +15,7 @@ import java.util.List;
 
 /**
  * This is {@link OidcServerDiscoverySettingsFactory}.
+ * The id token signing algorithms are those supported by the signing key in the default keystore.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -21,6 +24,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OidcServerDiscoverySettingsFactory implements FactoryBean<OidcServerDiscoverySettings> {
     private final CasConfigurationProperties casProperties;
+    private final OidcIdTokenSigningAndEncryptionService signingService;
 
     @Override
     public OidcServerDiscoverySettings getObject() {
@@ -48,7 +52,11 @@ public class OidcServerDiscoverySettingsFactory implements FactoryBean<OidcServe
                 OAuth20GrantTypes.CLIENT_CREDENTIALS.getType(),
                 OAuth20GrantTypes.REFRESH_TOKEN.getType()));
 
-        discoveryProperties.setIdTokenSigningAlgValuesSupported(CollectionUtils.wrapList("none", "RS256"));
+        final List<String> signingAlgorithms = new ArrayList<>();
+        signingAlgorithms.add(AlgorithmIdentifiers.NONE);
+        signingAlgorithms.addAll(signingService.getSupportedSigningAlgorithms());
+        LOGGER.debug("Id tokens may be signed with [{}]", signingAlgorithms);
+        discoveryProperties.setIdTokenSigningAlgValuesSupported(signingAlgorithms);
         return discoveryProperties;
     }
 
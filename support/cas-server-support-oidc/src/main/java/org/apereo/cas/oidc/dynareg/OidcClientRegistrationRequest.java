@@ -57,6 +57,9 @@ public class OidcClientRegistrationRequest implements Serializable {
     @JsonProperty("request_object_signing_alg")
     private String requestObjectSigningAlg;
 
+    @JsonProperty("id_token_signed_response_alg")
+    private String idTokenSignedResponseAlg;
+
     @JsonIgnore
     public Collection<String> getScopes() {
         return CollectionUtils.wrapList(getScope().split(" "));
@@ -6,7 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jose4j.jwk.JsonWebKeySet;
-import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jwk.PublicJsonWebKey;
 import org.springframework.core.io.Resource;
 
 import java.nio.charset.StandardCharsets;
@@ -21,11 +21,11 @@ import java.util.Optional;
  */
 @Slf4j
 @RequiredArgsConstructor
-public class OidcDefaultJsonWebKeystoreCacheLoader implements CacheLoader<String, Optional<RsaJsonWebKey>> {
+public class OidcDefaultJsonWebKeystoreCacheLoader implements CacheLoader<String, Optional<PublicJsonWebKey>> {
     private final Resource jwksFile;
 
     @Override
-    public Optional<RsaJsonWebKey> load(final String issuer) {
+    public Optional<PublicJsonWebKey> load(final String issuer) {
         final var jwks = buildJsonWebKeySet();
         if (!jwks.isPresent() || jwks.get().getJsonWebKeys().isEmpty()) {
             return Optional.empty();
@@ -37,13 +37,18 @@ public class OidcDefaultJsonWebKeystoreCacheLoader implements CacheLoader<String
         return Optional.of(key);
     }
 
-    private static RsaJsonWebKey getJsonSigningWebKeyFromJwks(final JsonWebKeySet jwks) {
+    private static PublicJsonWebKey getJsonSigningWebKeyFromJwks(final JsonWebKeySet jwks) {
         if (jwks.getJsonWebKeys().isEmpty()) {
             LOGGER.warn("No JSON web keys are available in the keystore");
             return null;
         }
 
-        final var key = (RsaJsonWebKey) jwks.getJsonWebKeys().get(0);
+        final var webKey = jwks.getJsonWebKeys().get(0);
+        if (!(webKey instanceof PublicJsonWebKey)) {
+            LOGGER.warn("Located JSON web key [{}] of type [{}] is not a public/private key pair", webKey, webKey.getKeyType());
+            return null;
+        }
+        final var key = (PublicJsonWebKey) webKey;
         if (StringUtils.isBlank(key.getAlgorithm())) {
             LOGGER.warn("Located JSON web key [{}] has no algorithm defined", key);
         }
@@ -6,9 +6,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apereo.cas.configuration.model.support.oidc.OidcProperties;
 import org.apereo.cas.util.ResourceUtils;
+import org.jose4j.jwk.EcJwkGenerator;
+import org.jose4j.jwk.EllipticCurveJsonWebKey;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jwk.PublicJsonWebKey;
+import org.jose4j.jwk.RsaJsonWebKey;
 import org.jose4j.jwk.RsaJwkGenerator;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.keys.EllipticCurves;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 
@@ -24,7 +30,10 @@ import java.nio.charset.StandardCharsets;
 @Slf4j
 @RequiredArgsConstructor
 public class OidcJsonWebKeystoreGeneratorService {
-    private static final int DEFAULT_KEYSTORE_BITS = 2048;
+    private static final int DEFAULT_EC_KEYSTORE_BITS = 256;
+    private static final int EC_P384_CURVE_BITS = 384;
+    private static final int EC_P521_CURVE_BITS = 521;
+    private static final int DEFAULT_RSA_KEYSTORE_BITS = 2048;
     private static final File DEFAULT_JWKS_LOCATION = new File("/etc/cas/config/oidc-keystore.jwks");
 
     private final OidcProperties oidcProperties;
@@ -34,7 +43,7 @@ public class OidcJsonWebKeystoreGeneratorService {
      */
     @SneakyThrows
     public void generate() {
-        generate(oidcProperties.getJwksFile(), DEFAULT_KEYSTORE_BITS);
+        generate(oidcProperties.getJwksFile());
     }
 
     /**
@@ -43,7 +52,7 @@ public class OidcJsonWebKeystoreGeneratorService {
      * @param file the file
      */
     public void generate(final Resource file) {
-        generate(file, DEFAULT_KEYSTORE_BITS);
+        generate(file, oidcProperties.getJwksType(), oidcProperties.getJwksKeySize());
     }
 
     /**
@@ -52,11 +61,22 @@ public class OidcJsonWebKeystoreGeneratorService {
      * @param file the file
      * @param bits the bits
      */
-    @SneakyThrows
     protected void generate(final Resource file, final int bits) {
+        generate(file, RsaJsonWebKey.KEY_TYPE, bits);
+    }
+
+    /**
+     * Generate.
+     *
+     * @param file the file
+     * @param type the key type, {@code RSA} or {@code EC}
+     * @param bits the key size, or the curve size for elliptic-curve keys; the default for the key type if not positive
+     */
+    @SneakyThrows
+    protected void generate(final Resource file, final String type, final int bits) {
         if (!ResourceUtils.doesResourceExist(file)) {
-            final var rsaJsonWebKey = RsaJwkGenerator.generateJwk(bits);
-            final var jsonWebKeySet = new JsonWebKeySet(rsaJsonWebKey);
+            final var jsonWebKey = generateJsonWebKey(type, bits);
+            final var jsonWebKeySet = new JsonWebKeySet(jsonWebKey);
             final var data = jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.INCLUDE_PRIVATE);
             final File location;
             if (file instanceof FileSystemResource) {
@@ -70,4 +90,32 @@ public class OidcJsonWebKeystoreGeneratorService {
             LOGGER.debug("Located JSON web keystore at [{}]", file);
         }
     }
+
+    private static PublicJsonWebKey generateJsonWebKey(final String type, final int bits) throws Exception {
+        if (EllipticCurveJsonWebKey.KEY_TYPE.equalsIgnoreCase(type)) {
+            final PublicJsonWebKey key;
+            switch (bits) {
+                case EC_P384_CURVE_BITS:
+                    key = EcJwkGenerator.generateJwk(EllipticCurves.P384);
+                    key.setAlgorithm(AlgorithmIdentifiers.ECDSA_USING_P384_CURVE_AND_SHA384);
+                    break;
+                case EC_P521_CURVE_BITS:
+                    key = EcJwkGenerator.generateJwk(EllipticCurves.P521);
+                    key.setAlgorithm(AlgorithmIdentifiers.ECDSA_USING_P521_CURVE_AND_SHA512);
+                    break;
+                default:
+                    if (bits > 0 && bits != DEFAULT_EC_KEYSTORE_BITS) {
+                        LOGGER.warn("[{}] is not a supported curve size; generating a key on curve [{}] instead", bits, EllipticCurves.P256);
+                    }
+                    key = EcJwkGenerator.generateJwk(EllipticCurves.P256);
+                    key.setAlgorithm(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256);
+                    break;
+            }
+            LOGGER.debug("Generating elliptic-curve JSON web key with algorithm [{}]", key.getAlgorithm());
+            return key;
+        }
+        final var keySize = bits > 0 ? bits : DEFAULT_RSA_KEYSTORE_BITS;
+        LOGGER.debug("Generating RSA JSON web key with [{}] bits", keySize);
+        return RsaJwkGenerator.generateJwk(keySize);
+    }
 }
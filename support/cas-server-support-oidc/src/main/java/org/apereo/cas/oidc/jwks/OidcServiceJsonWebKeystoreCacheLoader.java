@@ -7,7 +7,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.services.OidcRegisteredService;
 import org.jose4j.jwk.JsonWebKeySet;
-import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jwk.PublicJsonWebKey;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 
@@ -22,12 +22,12 @@ import java.util.Optional;
  */
 @Slf4j
 @RequiredArgsConstructor
-public class OidcServiceJsonWebKeystoreCacheLoader implements CacheLoader<OidcRegisteredService, Optional<RsaJsonWebKey>> {
+public class OidcServiceJsonWebKeystoreCacheLoader implements CacheLoader<OidcRegisteredService, Optional<PublicJsonWebKey>> {
 
     private final ResourceLoader resourceLoader;
 
     @Override
-    public Optional<RsaJsonWebKey> load(final OidcRegisteredService svc) {
+    public Optional<PublicJsonWebKey> load(final OidcRegisteredService svc) {
         final var jwks = buildJsonWebKeySet(svc);
         if (!jwks.isPresent() || jwks.get().getJsonWebKeys().isEmpty()) {
             return Optional.empty();
@@ -39,13 +39,18 @@ public class OidcServiceJsonWebKeystoreCacheLoader implements CacheLoader<OidcRe
         return Optional.of(key);
     }
 
-    private static RsaJsonWebKey getJsonWebKeyFromJwks(final JsonWebKeySet jwks) {
+    private static PublicJsonWebKey getJsonWebKeyFromJwks(final JsonWebKeySet jwks) {
         if (jwks.getJsonWebKeys().isEmpty()) {
             LOGGER.warn("No JSON web keys are available in the keystore");
             return null;
         }
 
-        final var key = (RsaJsonWebKey) jwks.getJsonWebKeys().get(0);
+        final var webKey = jwks.getJsonWebKeys().get(0);
+        if (!(webKey instanceof PublicJsonWebKey)) {
+            LOGGER.warn("Located JSON web key [{}] of type [{}] is not a public/private key pair", webKey, webKey.getKeyType());
+            return null;
+        }
+        final var key = (PublicJsonWebKey) webKey;
         if (StringUtils.isBlank(key.getAlgorithm())) {
             LOGGER.warn("Located JSON web key [{}] has no algorithm defined", key);
         }
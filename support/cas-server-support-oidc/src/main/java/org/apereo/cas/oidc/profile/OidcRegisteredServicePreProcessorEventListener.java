@@ -2,7 +2,9 @@ package org.apereo.cas.oidc.profile;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.oidc.token.OidcIdTokenSigningAndEncryptionService;
 import org.apereo.cas.services.OidcRegisteredService;
+import org.apereo.cas.support.events.service.CasRegisteredServicePreSaveEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
 import org.springframework.context.event.EventListener;
@@ -11,6 +13,8 @@ import org.springframework.context.event.EventListener;
  * This is {@link OidcRegisteredServicePreProcessorEventListener}.
  * Tries to reconcile scopes into attribute release policies
  * for OIDC services when and as services are loaded.
+ * The id token signing algorithm of each service is validated against the signing key
+ * as services are loaded, and services with an unsupported algorithm are refused when saved.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -21,6 +25,8 @@ public class OidcRegisteredServicePreProcessorEventListener {
 
     private final OAuth20ProfileScopeToAttributesFilter scopeToAttributesFilter;
 
+    private final OidcIdTokenSigningAndEncryptionService signingService;
+
     /**
      * Handle registered service loaded event.
      *
@@ -35,6 +41,25 @@ public class OidcRegisteredServicePreProcessorEventListener {
                     LOGGER.debug("Attempting to reconcile scopes and attributes for service [{}] of type [{}]",
                             s.getServiceId(), s.getClass().getSimpleName());
                     this.scopeToAttributesFilter.reconcile(s);
+                    try {
+                        this.signingService.validateSigningAlgorithm((OidcRegisteredService) s);
+                    } catch (final IllegalArgumentException e) {
+                        LOGGER.error("Service [{}] will fail to issue id tokens: [{}]", s.getName(), e.getMessage());
+                    }
                 });
     }
+
+    /**
+     * Handle registered service pre-save event,
+     * refusing to save services whose id token signing algorithm is not supported by the signing key.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServicePreSaveEvent(final CasRegisteredServicePreSaveEvent event) {
+        final var service = event.getRegisteredService();
+        if (service instanceof OidcRegisteredService) {
+            this.signingService.validateSigningAlgorithm((OidcRegisteredService) service);
+        }
+    }
 }
@@ -1,22 +1,38 @@
 package org.apereo.cas.oidc.token;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.services.OidcRegisteredService;
 import org.jose4j.jwa.AlgorithmConstraints;
+import org.jose4j.jwa.AlgorithmFactoryFactory;
 import org.jose4j.jwe.JsonWebEncryption;
-import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jwk.EllipticCurveJsonWebKey;
+import org.jose4j.jwk.PublicJsonWebKey;
 import org.jose4j.jws.AlgorithmIdentifiers;
 import org.jose4j.jws.JsonWebSignature;
 import org.jose4j.jwt.JwtClaims;
+import org.jose4j.keys.EllipticCurves;
+import org.jose4j.lang.InvalidKeyException;
 
+import java.security.PrivateKey;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link OidcIdTokenSigningAndEncryptionService}.
+ * Signing keys may be RSA or elliptic-curve keys. The algorithm used to sign id tokens
+ * is selected per service, and otherwise derived from the signing key. Once a key is validated
+ * against an algorithm, the resulting signing context is reused for as long as the key stays in the keystore cache.
+ * The algorithms supported for signing are those the signing key validates against.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -24,8 +40,21 @@ import java.util.Optional;
 @Slf4j
 @RequiredArgsConstructor
 public class OidcIdTokenSigningAndEncryptionService {
-    private final LoadingCache<String, Optional<RsaJsonWebKey>> defaultJsonWebKeystoreCache;
-    private final LoadingCache<OidcRegisteredService, Optional<RsaJsonWebKey>> serviceJsonWebKeystoreCache;
+    private static final List<String> SIGNING_ALGORITHMS = List.of(
+        AlgorithmIdentifiers.RSA_USING_SHA256,
+        AlgorithmIdentifiers.RSA_USING_SHA384,
+        AlgorithmIdentifiers.RSA_USING_SHA512,
+        AlgorithmIdentifiers.RSA_PSS_USING_SHA256,
+        AlgorithmIdentifiers.RSA_PSS_USING_SHA384,
+        AlgorithmIdentifiers.RSA_PSS_USING_SHA512,
+        AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256,
+        AlgorithmIdentifiers.ECDSA_USING_P384_CURVE_AND_SHA384,
+        AlgorithmIdentifiers.ECDSA_USING_P521_CURVE_AND_SHA512);
+
+    private final Cache<PublicJsonWebKey, Map<String, SigningContext>> signingContexts = Caffeine.newBuilder().weakKeys().build();
+
+    private final LoadingCache<String, Optional<PublicJsonWebKey>> defaultJsonWebKeystoreCache;
+    private final LoadingCache<OidcRegisteredService, Optional<PublicJsonWebKey>> serviceJsonWebKeystoreCache;
     private final String issuer;
 
     /**
@@ -80,13 +109,7 @@ public class OidcIdTokenSigningAndEncryptionService {
     }
 
     private String signIdToken(final OidcRegisteredService svc, final JsonWebSignature jws) throws Exception {
-        final var jwks = defaultJsonWebKeystoreCache.get(this.issuer);
-        if (!jwks.isPresent()) {
-            throw new IllegalArgumentException("Service " + svc.getServiceId()
-                + " with client id " + svc.getClientId()
-                + " is configured to sign id tokens, yet no JSON web key is available");
-        }
-        final var jsonWebKey = jwks.get();
+        final var jsonWebKey = getSigningKey(svc);
         LOGGER.debug("Found JSON web key to sign the id token: [{}]", jsonWebKey);
         if (jsonWebKey.getPrivateKey() == null) {
             throw new IllegalArgumentException("JSON web key used to sign the id token has no associated private key");
@@ -95,22 +118,149 @@ public class OidcIdTokenSigningAndEncryptionService {
         return jws.getCompactSerialization();
     }
 
+    private PublicJsonWebKey getSigningKey(final OidcRegisteredService svc) {
+        final var jwks = defaultJsonWebKeystoreCache.get(this.issuer);
+        if (!jwks.isPresent()) {
+            throw new IllegalArgumentException("Service " + svc.getServiceId()
+                + " with client id " + svc.getClientId()
+                + " is configured to sign id tokens, yet no JSON web key is available");
+        }
+        return jwks.get();
+    }
+
     private void prepareJsonWebSignatureForIdTokenSigning(final OidcRegisteredService svc, final JsonWebSignature jws,
-                                                          final RsaJsonWebKey jsonWebKey) {
+                                                          final PublicJsonWebKey jsonWebKey) {
         LOGGER.debug("Service [{}] is set to sign id tokens", svc);
+        final var algorithm = getJsonWebKeySigningAlgorithm(svc, jsonWebKey);
+        final var context = getSigningContext(jsonWebKey, algorithm);
 
-        jws.setKey(jsonWebKey.getPrivateKey());
+        jws.setKey(context.getPrivateKey());
+        jws.setDoKeyValidation(false);
         jws.setAlgorithmConstraints(AlgorithmConstraints.DISALLOW_NONE);
-        if (StringUtils.isNotBlank(jsonWebKey.getKeyId())) {
-            jws.setKeyIdHeaderValue(jsonWebKey.getKeyId());
+        if (StringUtils.isNotBlank(context.getKeyId())) {
+            jws.setKeyIdHeaderValue(context.getKeyId());
         }
         LOGGER.debug("Signing id token with key id header value [{}]", jws.getKeyIdHeaderValue());
-        jws.setAlgorithmHeaderValue(getJsonWebKeySigningAlgorithm());
+        jws.setAlgorithmHeaderValue(context.getAlgorithm());
 
         LOGGER.debug("Signing id token with algorithm [{}]", jws.getAlgorithmHeaderValue());
     }
 
-    public String getJsonWebKeySigningAlgorithm() {
+    private SigningContext getSigningContext(final PublicJsonWebKey jsonWebKey, final String algorithm) {
+        final var contexts = this.signingContexts.get(jsonWebKey, k -> new ConcurrentHashMap<>());
+        return contexts.computeIfAbsent(algorithm, alg -> SigningContext.from(jsonWebKey, alg));
+    }
+
+    /**
+     * Gets the algorithms that the signing key in the default keystore can sign id tokens with.
+     *
+     * @return the signing algorithms, or an empty list if no signing key is available
+     */
+    public List<String> getSupportedSigningAlgorithms() {
+        final var jwks = defaultJsonWebKeystoreCache.get(this.issuer);
+        return jwks.map(key -> SIGNING_ALGORITHMS.stream()
+            .filter(algorithm -> isSigningAlgorithmSupported(key, algorithm))
+            .collect(Collectors.toList()))
+            .orElseGet(List::of);
+    }
+
+    /**
+     * Validate the algorithm the given service signs id tokens with against the signing key in the default keystore.
+     *
+     * @param svc the service
+     * @throws IllegalArgumentException if the service signs id tokens with an algorithm the signing key does not support
+     */
+    public void validateSigningAlgorithm(final OidcRegisteredService svc) {
+        if (!svc.isSignIdToken() || StringUtils.isBlank(svc.getIdTokenSigningAlg())) {
+            return;
+        }
+        final var supported = getSupportedSigningAlgorithms();
+        if (!supported.contains(svc.getIdTokenSigningAlg())) {
+            throw new IllegalArgumentException("Service " + svc.getServiceId()
+                + " with client id " + svc.getClientId()
+                + " signs id tokens with " + svc.getIdTokenSigningAlg()
+                + ", yet the signing key in the keystore only supports " + supported);
+        }
+    }
+
+    private boolean isSigningAlgorithmSupported(final PublicJsonWebKey jsonWebKey, final String algorithm) {
+        try {
+            getSigningContext(jsonWebKey, algorithm);
+            return true;
+        } catch (final Exception e) {
+            LOGGER.trace("JSON web key [{}] cannot sign with algorithm [{}]: [{}]", jsonWebKey.getKeyId(), algorithm, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Gets the algorithm used to sign id tokens for the given service.
+     *
+     * @param svc the service
+     * @return the signing algorithm
+     */
+    public String getJsonWebKeySigningAlgorithm(final OidcRegisteredService svc) {
+        if (!svc.isSignIdToken()) {
+            return AlgorithmIdentifiers.NONE;
+        }
+        final var jwks = defaultJsonWebKeystoreCache.get(this.issuer);
+        return jwks.map(key -> getJsonWebKeySigningAlgorithm(svc, key)).orElse(AlgorithmIdentifiers.RSA_USING_SHA256);
+    }
+
+    /**
+     * Gets the algorithm used to sign id tokens for the given service with the given key.
+     * The algorithm defined by the service takes precedence, followed by the algorithm
+     * defined by the key. Otherwise, the algorithm is derived from the key type.
+     *
+     * @param svc        the service
+     * @param jsonWebKey the json web key
+     * @return the signing algorithm
+     */
+    protected String getJsonWebKeySigningAlgorithm(final OidcRegisteredService svc, final PublicJsonWebKey jsonWebKey) {
+        if (StringUtils.isNotBlank(svc.getIdTokenSigningAlg())) {
+            return svc.getIdTokenSigningAlg();
+        }
+        if (StringUtils.isNotBlank(jsonWebKey.getAlgorithm())) {
+            return jsonWebKey.getAlgorithm();
+        }
+        if (jsonWebKey instanceof EllipticCurveJsonWebKey) {
+            final var curve = ((EllipticCurveJsonWebKey) jsonWebKey).getCurveName();
+            if (EllipticCurves.P384.equals(curve)) {
+                return AlgorithmIdentifiers.ECDSA_USING_P384_CURVE_AND_SHA384;
+            }
+            if (EllipticCurves.P521.equals(curve)) {
+                return AlgorithmIdentifiers.ECDSA_USING_P521_CURVE_AND_SHA512;
+            }
+            return AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256;
+        }
         return AlgorithmIdentifiers.RSA_USING_SHA256;
     }
+
+    /**
+     * The signing state for a key and algorithm, validated once
+     * so that signing an id token only pays for the signature itself.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class SigningContext {
+        private final String algorithm;
+        private final PrivateKey privateKey;
+        private final String keyId;
+
+        @SneakyThrows
+        static SigningContext from(final PublicJsonWebKey jsonWebKey, final String algorithm) {
+            if (AlgorithmIdentifiers.NONE.equalsIgnoreCase(algorithm)) {
+                throw new IllegalArgumentException("Signing algorithm " + algorithm + " cannot be used to sign id tokens");
+            }
+            final var signatureAlgorithm = AlgorithmFactoryFactory.getInstance().getJwsAlgorithmFactory().getAlgorithm(algorithm);
+            try {
+                signatureAlgorithm.validateSigningKey(jsonWebKey.getPrivateKey());
+            } catch (final InvalidKeyException e) {
+                throw new IllegalArgumentException("JSON web key " + jsonWebKey.getKeyId()
+                    + " cannot sign id tokens with algorithm " + algorithm + ": " + e.getMessage(), e);
+            }
+            LOGGER.debug("Validated JSON web key [{}] for signing with algorithm [{}]", jsonWebKey.getKeyId(), algorithm);
+            return new SigningContext(algorithm, jsonWebKey.getPrivateKey(), jsonWebKey.getKeyId());
+        }
+    }
 }
@@ -108,6 +108,9 @@ public class OidcDynamicClientRegistrationEndpointController extends BaseOAuth20
                 registeredService.setJwks(registrationRequest.getJwksUri());
                 registeredService.setSignIdToken(true);
             }
+            if (StringUtils.isNotBlank(registrationRequest.getIdTokenSignedResponseAlg())) {
+                registeredService.setIdTokenSigningAlg(registrationRequest.getIdTokenSignedResponseAlg());
+            }
             final var uri = registrationRequest.getRedirectUris().stream().findFirst().get();
             registeredService.setServiceId(uri);
 
@@ -106,7 +106,9 @@ public class OidcIntrospectionEndpointController extends BaseOAuth20Controller {
                     request.getParameter(OAuth20Constants.TOKEN));
 
                 LOGGER.debug("Located access token [{}] in the request", accessToken);
-                final var ticket = this.centralAuthenticationService.getTicket(accessToken, AccessToken.class);
+                final var ticket = isJwtAccessToken(accessToken)
+                    ? this.jwtAccessTokenEncoder.decode(accessToken)
+                    : this.centralAuthenticationService.getTicket(accessToken, AccessToken.class);
                 if (ticket != null) {
                     return createIntrospectionResponse(service, ticket);
                 }
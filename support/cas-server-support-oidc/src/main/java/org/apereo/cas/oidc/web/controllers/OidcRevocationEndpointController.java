@@ -83,7 +83,11 @@ public class OidcRevocationEndpointController extends BaseOAuth20Controller {
                 && OAuth20Utils.checkClientSecret(registeredService, credentials.getPassword())) {
                 final var token = request.getParameter(OidcConstants.TOKEN);
                 LOGGER.debug("Located token [{}] in the revocation request", token);
-                this.ticketRegistry.deleteTicket(token);
+                if (isJwtAccessToken(token)) {
+                    this.jwtAccessTokenEncoder.revoke(token, registeredService.getClientId());
+                } else {
+                    this.ticketRegistry.deleteTicket(token);
+                }
             }
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -20,7 +20,9 @@ public class OidcServerDiscoverySettingsFactoryTests extends AbstractOidcTests {
         assertFalse(oidcServerDiscoverySettings.getClaimTypesSupported().isEmpty());
         assertFalse(oidcServerDiscoverySettings.getGrantTypesSupported().isEmpty());
         assertFalse(oidcServerDiscoverySettings.getIntrospectionSupportedAuthenticationMethods().isEmpty());
-        assertFalse(oidcServerDiscoverySettings.getIdTokenSigningAlgValuesSupported().isEmpty());
+        assertTrue(oidcServerDiscoverySettings.getIdTokenSigningAlgValuesSupported()
+            .containsAll(oidcTokenSigningAndEncryptionService.getSupportedSigningAlgorithms()));
+        assertTrue(oidcServerDiscoverySettings.getIdTokenSigningAlgValuesSupported().contains("none"));
         assertFalse(oidcServerDiscoverySettings.getSubjectTypesSupported().isEmpty());
 
         assertFalse(oidcServerDiscoverySettings.getResponseTypesSupported().isEmpty());
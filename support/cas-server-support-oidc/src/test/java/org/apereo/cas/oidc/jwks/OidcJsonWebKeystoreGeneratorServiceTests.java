@@ -1,11 +1,17 @@
 package org.apereo.cas.oidc.jwks;
 
 import org.apache.commons.io.FileUtils;
+import org.apereo.cas.configuration.model.support.oidc.OidcProperties;
 import org.apereo.cas.oidc.AbstractOidcTests;
+import org.jose4j.jwk.EllipticCurveJsonWebKey;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.keys.EllipticCurves;
 import org.junit.Test;
 import org.springframework.core.io.FileSystemResource;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.Assert.*;
 
@@ -23,4 +29,36 @@ public class OidcJsonWebKeystoreGeneratorServiceTests extends AbstractOidcTests
         oidcJsonWebKeystoreGeneratorService.generate(new FileSystemResource(file));
         assertTrue(file.exists());
     }
+
+    @Test
+    public void verifyEllipticCurveKeystore() throws Exception {
+        final var file = new File(FileUtils.getTempDirectoryPath(), "something-ec.jwks");
+        file.delete();
+        final var properties = new OidcProperties();
+        properties.setJwksType("EC");
+        properties.setJwksKeySize(256);
+        new OidcJsonWebKeystoreGeneratorService(properties).generate(new FileSystemResource(file));
+
+        final var jwks = new JsonWebKeySet(FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+        final var key = (EllipticCurveJsonWebKey) jwks.getJsonWebKeys().get(0);
+        assertEquals(EllipticCurves.P256, key.getCurveName());
+        assertEquals(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256, key.getAlgorithm());
+        assertNotNull(key.getPrivateKey());
+
+        final var loader = new OidcDefaultJsonWebKeystoreCacheLoader(new FileSystemResource(file));
+        assertTrue(loader.load("https://sso.example.org/cas/oidc").isPresent());
+    }
+
+    @Test
+    public void verifyEllipticCurveKeystoreDefaultsToP256() throws Exception {
+        final var file = new File(FileUtils.getTempDirectoryPath(), "something-ec-default.jwks");
+        file.delete();
+        final var properties = new OidcProperties();
+        properties.setJwksType("EC");
+        new OidcJsonWebKeystoreGeneratorService(properties).generate(new FileSystemResource(file));
+
+        final var jwks = new JsonWebKeySet(FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+        final var key = (EllipticCurveJsonWebKey) jwks.getJsonWebKeys().get(0);
+        assertEquals(EllipticCurves.P256, key.getCurveName());
+    }
 }
@@ -3,16 +3,22 @@ package org.apereo.cas.oidc.token;
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
 import org.apereo.cas.oidc.AbstractOidcTests;
+import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.support.oauth.web.response.accesstoken.OAuth20TokenGenerator;
+import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenRequestDataHolder;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.accesstoken.AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.util.CollectionUtils;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.pac4j.core.context.Pac4jConstants;
 import org.pac4j.core.profile.CommonProfile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
@@ -29,6 +35,14 @@ public class OidcIdTokenGeneratorServiceTests extends AbstractOidcTests {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Autowired
+    @Qualifier("oauthTokenGenerator")
+    private OAuth20TokenGenerator oauthTokenGenerator;
+
+    @Autowired
+    @Qualifier("oauthJwtAccessTokenEncoder")
+    private OAuth20JwtAccessTokenEncoder oauthJwtAccessTokenEncoder;
+
     @Test
     public void verifyTokenGeneration() {
         final var request = new MockHttpServletRequest();
@@ -54,6 +68,43 @@ public class OidcIdTokenGeneratorServiceTests extends AbstractOidcTests {
         assertNotNull(idToken);
     }
 
+    @Test
+    public void verifyTokenGenerationWithJwtAccessToken() {
+        final var request = new MockHttpServletRequest();
+        final var profile = new CommonProfile();
+        profile.setClientName("OIDC");
+        profile.setId("casuser");
+        request.setAttribute(Pac4jConstants.USER_PROFILES, profile);
+
+        final var response = new MockHttpServletResponse();
+
+        final var tgt = mock(TicketGrantingTicket.class);
+        final var callback = new WebApplicationServiceFactory().createService(oidcIdTokenGenerator.getOAuthCallbackUrl());
+        when(tgt.getId()).thenReturn("TGT-1");
+        when(tgt.getServices()).thenReturn(CollectionUtils.wrap("service", callback));
+        when(tgt.getAuthentication()).thenReturn(CoreAuthenticationTestUtils.getAuthentication());
+
+        final var registeredService = getOidcRegisteredService();
+        registeredService.setClientId("jwtclientid");
+        registeredService.setServiceId("https://jwt\\.example\\.org.*");
+        registeredService.setJwtAccessToken(true);
+        servicesManager.save(registeredService);
+
+        final var holder = new AccessTokenRequestDataHolder(
+            new WebApplicationServiceFactory().createService("https://jwt.example.org/callback"),
+            CoreAuthenticationTestUtils.getAuthentication("casuser"), registeredService, tgt,
+            OAuth20GrantTypes.AUTHORIZATION_CODE, CollectionUtils.wrapSet("openid"));
+        final var accessToken = oauthTokenGenerator.generate(holder).getKey();
+        assertTrue(OAuth20JwtAccessTokenEncoder.isJwtAccessToken(accessToken.getId()));
+        assertSame(tgt, accessToken.getTicketGrantingTicket());
+
+        final var idToken = oidcIdTokenGenerator.generate(request, response, accessToken, 30,
+            OAuth20ResponseTypes.CODE, registeredService);
+        assertNotNull(idToken);
+        assertNotNull(oauthJwtAccessTokenEncoder.decode(accessToken.getId(), "jwtclientid"));
+        assertNull(oauthJwtAccessTokenEncoder.decode(accessToken.getId(), "clientid"));
+    }
+
     @Test
     public void verifyTokenGenerationFailsWithoutProfile() {
         thrown.expect(IllegalArgumentException.class);
@@ -1,7 +1,21 @@
 package org.apereo.cas.oidc.token;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.SneakyThrows;
 import org.apereo.cas.oidc.AbstractOidcTests;
+import org.apereo.cas.services.OidcRegisteredService;
+import org.jose4j.jwk.EcJwkGenerator;
+import org.jose4j.jwk.PublicJsonWebKey;
+import org.jose4j.jwk.RsaJwkGenerator;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.keys.EllipticCurves;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.Assert.*;
 
@@ -12,10 +26,95 @@ import static org.junit.Assert.*;
  * @since 5.3.0
  */
 public class OidcIdTokenSigningAndEncryptionServiceTests extends AbstractOidcTests {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static OidcIdTokenSigningAndEncryptionService getSigningService(final PublicJsonWebKey key) {
+        return new OidcIdTokenSigningAndEncryptionService(
+            Caffeine.newBuilder().build(issuer -> Optional.of(key)),
+            Caffeine.newBuilder().build(svc -> Optional.empty()),
+            "https://sso.example.org/cas/oidc");
+    }
+
+    private OidcRegisteredService getSigningOnlyService(final String algorithm) {
+        final var svc = getOidcRegisteredService();
+        svc.setEncryptIdToken(false);
+        svc.setIdTokenSigningAlg(algorithm);
+        return svc;
+    }
+
+    @SneakyThrows
+    private static JsonWebSignature verify(final String token, final PublicJsonWebKey key) {
+        final var jws = new JsonWebSignature();
+        jws.setCompactSerialization(token);
+        jws.setKey(key.getPublicKey());
+        assertTrue(jws.verifySignature());
+        return jws;
+    }
+
     @Test
     public void verifyOperation() {
         final var claims = getClaims();
         final var result = oidcTokenSigningAndEncryptionService.encode(getOidcRegisteredService(), claims);
         assertNotNull(result);
     }
+
+    @Test
+    public void verifyEllipticCurveKeySigning() throws Exception {
+        final var key = EcJwkGenerator.generateJwk(EllipticCurves.P384);
+        final var service = getSigningService(key);
+        final var svc = getSigningOnlyService(null);
+        assertEquals(AlgorithmIdentifiers.ECDSA_USING_P384_CURVE_AND_SHA384, service.getJsonWebKeySigningAlgorithm(svc));
+
+        for (var i = 0; i < 3; i++) {
+            final var jws = verify(service.encode(svc, getClaims()), key);
+            assertEquals(AlgorithmIdentifiers.ECDSA_USING_P384_CURVE_AND_SHA384, jws.getAlgorithmHeaderValue());
+        }
+    }
+
+    @Test
+    public void verifyServiceSigningAlgorithm() throws Exception {
+        final var key = RsaJwkGenerator.generateJwk(2048);
+        key.setKeyId("cas-rsa");
+        final var service = getSigningService(key);
+        final var jws = verify(service.encode(getSigningOnlyService(AlgorithmIdentifiers.RSA_USING_SHA384), getClaims()), key);
+        assertEquals(AlgorithmIdentifiers.RSA_USING_SHA384, jws.getAlgorithmHeaderValue());
+        assertEquals("cas-rsa", jws.getKeyIdHeaderValue());
+
+        final var defaultJws = verify(service.encode(getSigningOnlyService(null), getClaims()), key);
+        assertEquals(AlgorithmIdentifiers.RSA_USING_SHA256, defaultJws.getAlgorithmHeaderValue());
+    }
+
+    @Test
+    public void verifyMismatchedSigningAlgorithm() throws Exception {
+        final var service = getSigningService(RsaJwkGenerator.generateJwk(2048));
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("cannot sign id tokens with algorithm " + AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256);
+        service.encode(getSigningOnlyService(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256), getClaims());
+    }
+
+    @Test
+    public void verifySupportedSigningAlgorithmsFromKey() throws Exception {
+        final var ecService = getSigningService(EcJwkGenerator.generateJwk(EllipticCurves.P384));
+        assertEquals(List.of(AlgorithmIdentifiers.ECDSA_USING_P384_CURVE_AND_SHA384), ecService.getSupportedSigningAlgorithms());
+
+        final var rsaService = getSigningService(RsaJwkGenerator.generateJwk(2048));
+        final var algorithms = rsaService.getSupportedSigningAlgorithms();
+        assertTrue(algorithms.containsAll(List.of(AlgorithmIdentifiers.RSA_USING_SHA256,
+            AlgorithmIdentifiers.RSA_USING_SHA384, AlgorithmIdentifiers.RSA_USING_SHA512)));
+        assertFalse(algorithms.contains(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256));
+    }
+
+    @Test
+    public void verifySigningAlgorithmValidatedAgainstKey() throws Exception {
+        final var service = getSigningService(EcJwkGenerator.generateJwk(EllipticCurves.P256));
+        service.validateSigningAlgorithm(getSigningOnlyService(null));
+        service.validateSigningAlgorithm(getSigningOnlyService(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256));
+        try {
+            service.validateSigningAlgorithm(getSigningOnlyService(AlgorithmIdentifiers.ECDSA_USING_P384_CURVE_AND_SHA384));
+            fail("Expected the signing algorithm to be refused");
+        } catch (final IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256));
+        }
+    }
 }
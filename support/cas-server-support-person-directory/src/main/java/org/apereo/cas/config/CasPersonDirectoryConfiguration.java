@@ -32,6 +32,8 @@ import org.apereo.services.persondir.support.merger.MultivaluedAttributeMerger;
 import org.apereo.services.persondir.support.merger.NoncollidingAttributeAdder;
 import org.apereo.services.persondir.support.merger.ReplacingAttributeAdder;
 import org.jooq.lambda.Unchecked;
+import org.ldaptive.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -47,6 +49,7 @@ import javax.naming.directory.SearchControls;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -58,7 +61,9 @@ import java.util.concurrent.TimeUnit;
 @Configuration("casPersonDirectoryConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @Slf4j
-public class CasPersonDirectoryConfiguration implements PersonDirectoryAttributeRepositoryPlanConfigurer {
+public class CasPersonDirectoryConfiguration implements PersonDirectoryAttributeRepositoryPlanConfigurer, DisposableBean {
+    private final List<ConnectionFactory> ldapConnectionFactories = new CopyOnWriteArrayList<>();
+
     @Autowired
     private ApplicationContext applicationContext;
 
@@ -68,6 +73,12 @@ public class CasPersonDirectoryConfiguration implements PersonDirectoryAttribute
     @Autowired
     private ObjectProvider<List<PersonDirectoryAttributeRepositoryPlanConfigurer>> attributeRepositoryConfigurers;
 
+    @Override
+    public void destroy() {
+        ldapConnectionFactories.forEach(LdapUtils::releaseLdaptiveConnectionFactory);
+        ldapConnectionFactories.clear();
+    }
+
     @ConditionalOnMissingBean(name = "attributeRepositories")
     @Bean
     @RefreshScope
@@ -220,7 +231,9 @@ public class CasPersonDirectoryConfiguration implements PersonDirectoryAttribute
                 final var ldapDao = new LdaptivePersonAttributeDao();
 
                 LOGGER.debug("Configured LDAP attribute source for [{}] and baseDn [{}]", ldap.getLdapUrl(), ldap.getBaseDn());
-                ldapDao.setConnectionFactory(LdapUtils.newLdaptivePooledConnectionFactory(ldap));
+                final var connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+                ldapConnectionFactories.add(connectionFactory);
+                ldapDao.setConnectionFactory(connectionFactory);
                 ldapDao.setBaseDN(ldap.getBaseDn());
 
                 LOGGER.debug("LDAP attributes are fetched from [{}] via filter [{}]", ldap.getLdapUrl(), ldap.getSearchFilter());
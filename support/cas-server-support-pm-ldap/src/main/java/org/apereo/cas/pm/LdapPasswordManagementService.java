@@ -11,6 +11,7 @@ import org.apereo.cas.configuration.model.support.pm.PasswordManagementPropertie
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LdapUtils;
 import org.ldaptive.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.io.Serializable;
 import java.util.LinkedHashMap;
@@ -23,13 +24,23 @@ import java.util.Map;
  * @since 5.0.0
  */
 @Slf4j
-public class LdapPasswordManagementService extends BasePasswordManagementService {
+public class LdapPasswordManagementService extends BasePasswordManagementService implements DisposableBean {
+    private ConnectionFactory connectionFactory;
+
     public LdapPasswordManagementService(final CipherExecutor<Serializable, String> cipherExecutor,
                                          final String issuer,
                                          final PasswordManagementProperties passwordManagementProperties) {
         super(passwordManagementProperties, cipherExecutor, issuer);
     }
 
+    @Override
+    public synchronized void destroy() {
+        if (this.connectionFactory != null) {
+            LdapUtils.releaseLdaptiveConnectionFactory(this.connectionFactory);
+            this.connectionFactory = null;
+        }
+    }
+
     @Override
     public String findEmail(final String username) {
         try {
@@ -39,7 +50,7 @@ public class LdapPasswordManagementService extends BasePasswordManagementService
                 CollectionUtils.wrap(username));
             LOGGER.debug("Constructed LDAP filter [{}] to locate account email", filter);
 
-            final ConnectionFactory factory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+            final var factory = getConnectionFactory();
             final var response = LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter);
             LOGGER.debug("LDAP response to locate account email is [{}]", response);
 
@@ -81,7 +92,7 @@ public class LdapPasswordManagementService extends BasePasswordManagementService
                 CollectionUtils.wrap(c.getId()));
             LOGGER.debug("Constructed LDAP filter [{}] to update account password", filter);
 
-            final ConnectionFactory factory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+            final var factory = getConnectionFactory();
             final var response = LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter);
             LOGGER.debug("LDAP response to update password is [{}]", response);
 
@@ -113,7 +124,7 @@ public class LdapPasswordManagementService extends BasePasswordManagementService
                 CollectionUtils.wrap(username));
             LOGGER.debug("Constructed LDAP filter [{}] to locate security questions", filter);
 
-            final ConnectionFactory factory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+            final var factory = getConnectionFactory();
             final var response = LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter);
             LOGGER.debug("LDAP response for security questions [{}]", response);
 
@@ -140,4 +151,11 @@ public class LdapPasswordManagementService extends BasePasswordManagementService
         }
         return set;
     }
+
+    private synchronized ConnectionFactory getConnectionFactory() {
+        if (this.connectionFactory == null) {
+            this.connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(properties.getLdap());
+        }
+        return this.connectionFactory;
+    }
 }
@@ -5,13 +5,13 @@ import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.pm.PasswordManagementService;
 import org.apereo.cas.pm.rest.RestPasswordManagementService;
+import org.apereo.cas.util.http.SharedHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * This is {@link RestPasswordManagementConfiguration}.
@@ -35,7 +35,7 @@ public class RestPasswordManagementConfiguration {
     public PasswordManagementService passwordChangeService() {
         return new RestPasswordManagementService(passwordManagementCipherExecutor,
                 casProperties.getServer().getPrefix(),
-                new RestTemplate(),
+                SharedHttpClient.newRestTemplate(),
                 casProperties.getAuthn().getPm());
     }
 }
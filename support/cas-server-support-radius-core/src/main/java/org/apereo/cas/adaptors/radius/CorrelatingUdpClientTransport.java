@@ -0,0 +1,37 @@
+package org.apereo.cas.adaptors.radius;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jradius.client.UDPClientTransport;
+import net.jradius.packet.RadiusRequest;
+import net.jradius.packet.RadiusResponse;
+
+import java.net.SocketException;
+
+/**
+ * This is {@link CorrelatingUdpClientTransport}, a UDP transport whose socket may be reused
+ * across requests. Responses are correlated with the outstanding request by their identifier,
+ * so that late or duplicate replies to an earlier request on the same socket are discarded
+ * instead of being mistaken for the current response.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class CorrelatingUdpClientTransport extends UDPClientTransport {
+
+    public CorrelatingUdpClientTransport() throws SocketException {
+        super();
+    }
+
+    @Override
+    protected RadiusResponse receive(final RadiusRequest request) throws Exception {
+        while (true) {
+            final var response = super.receive(request);
+            if (response.getIdentifier() == request.getIdentifier()) {
+                return response;
+            }
+            LOGGER.debug("Discarding RADIUS response with identifier [{}] while waiting for [{}]",
+                response.getIdentifier(), request.getIdentifier());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.apereo.cas.adaptors.radius;
+
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link HealthAwareRadiusServer}, which tracks the health of a RADIUS server.
+ * <p>
+ * After a number of consecutive failures the server is considered unavailable and
+ * is skipped by {@link RadiusUtils}. Once the retry interval elapses, a single request is
+ * let through to probe the server; success marks it available again, while failure keeps it
+ * unavailable for another interval. Rejected credentials count as a healthy response.
+ * The average response time is tracked as an exponentially-weighted moving average.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@ToString(of = {"server", "consecutiveFailures"})
+public class HealthAwareRadiusServer implements RadiusServer, DisposableBean {
+
+    private static final long serialVersionUID = 2694720981765133740L;
+
+    private static final double RESPONSE_TIME_WEIGHT = 0.2;
+
+    @Getter
+    private final RadiusServer server;
+
+    private final int failureThreshold;
+
+    private final long retryIntervalMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private final AtomicLong nextProbeTime = new AtomicLong();
+
+    private volatile double averageResponseTime = -1;
+
+    public HealthAwareRadiusServer(final RadiusServer server, final int failureThreshold, final long retryIntervalMillis) {
+        this.server = server;
+        this.failureThreshold = failureThreshold;
+        this.retryIntervalMillis = retryIntervalMillis;
+    }
+
+    @Override
+    public RadiusResponse authenticate(final String username, final String password) throws Exception {
+        final var start = System.nanoTime();
+        try {
+            final var response = this.server.authenticate(username, password);
+            recordSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return response;
+        } catch (final Exception e) {
+            recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * Whether the server should be tried. An unavailable server
+     * is allowed one probe request per retry interval.
+     *
+     * @return true/false
+     */
+    public boolean isAvailable() {
+        if (this.failureThreshold <= 0 || this.consecutiveFailures.get() < this.failureThreshold) {
+            return true;
+        }
+        final var now = System.currentTimeMillis();
+        final var next = this.nextProbeTime.get();
+        if (now >= next && this.nextProbeTime.compareAndSet(next, now + this.retryIntervalMillis)) {
+            LOGGER.debug("Probing unavailable RADIUS server [{}]", this.server);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.server instanceof DisposableBean) {
+            DisposableBean.class.cast(this.server).destroy();
+        }
+    }
+
+    /**
+     * Average response time in milliseconds.
+     *
+     * @return the average response time, or a negative value if no response was recorded yet.
+     */
+    public double getAverageResponseTime() {
+        return this.averageResponseTime;
+    }
+
+    private synchronized void recordSuccess(final long responseTime) {
+        if (this.consecutiveFailures.getAndSet(0) >= this.failureThreshold && this.failureThreshold > 0) {
+            LOGGER.info("RADIUS server [{}] is available again", this.server);
+        }
+        this.averageResponseTime = this.averageResponseTime < 0
+            ? responseTime
+            : RESPONSE_TIME_WEIGHT * responseTime + (1 - RESPONSE_TIME_WEIGHT) * this.averageResponseTime;
+    }
+
+    private void recordFailure() {
+        final var failures = this.consecutiveFailures.incrementAndGet();
+        if (this.failureThreshold > 0 && failures >= this.failureThreshold) {
+            this.nextProbeTime.set(System.currentTimeMillis() + this.retryIntervalMillis);
+            if (failures == this.failureThreshold) {
+                LOGGER.warn("RADIUS server [{}] failed [{}] consecutive times and is marked unavailable", this.server, failures);
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ import net.jradius.packet.attribute.AttributeFactory;
 import net.jradius.packet.attribute.AttributeList;
 import org.apache.commons.lang3.StringUtils;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.springframework.beans.factory.DisposableBean;
 import java.security.Security;
 
 import lombok.ToString;
@@ -35,7 +36,7 @@ import lombok.Setter;
 @Slf4j
 @ToString
 @Setter
-public class JRadiusServerImpl implements RadiusServer {
+public class JRadiusServerImpl implements RadiusServer, DisposableBean {
 
     /**
      * Default retry count, {@value}.
@@ -136,23 +137,31 @@ public class JRadiusServerImpl implements RadiusServer {
         if (this.nasPortType != -1) {
             attributeList.add(new Attr_NASPortType(this.nasPortType));
         }
-        RadiusClient client = null;
+        final var client = this.radiusClientFactory.borrow();
+        var reusable = false;
+        final RadiusPacket response;
         try {
-            client = this.radiusClientFactory.newInstance();
             final var request = new AccessRequest(client, attributeList);
-            final RadiusPacket response = client.authenticate(request, RadiusClient.getAuthProtocol(this.protocol.getName()), this.retries);
+            response = client.authenticate(request, RadiusClient.getAuthProtocol(this.protocol.getName()), this.retries);
+            reusable = true;
             LOGGER.debug("RADIUS response from [{}]: [{}]", client.getRemoteInetAddress().getCanonicalHostName(), response.getClass().getName());
-            if (response instanceof AccessAccept) {
-                final var attributes = response.getAttributes().getAttributeList();
-                LOGGER.debug("Radius response code [{}] accepted with attributes [{}] and identifier [{}]", response.getCode(), attributes, response.getIdentifier());
-                return new RadiusResponse(response.getCode(), response.getIdentifier(), attributes);
-            }
-            LOGGER.debug("Response is not recognized");
         } finally {
-            if (client != null) {
-                client.close();
-            }
+            this.radiusClientFactory.release(client, reusable);
         }
+        if (response instanceof AccessAccept) {
+            final var attributes = response.getAttributes().getAttributeList();
+            LOGGER.debug("Radius response code [{}] accepted with attributes [{}] and identifier [{}]", response.getCode(), attributes, response.getIdentifier());
+            return new RadiusResponse(response.getCode(), response.getIdentifier(), attributes);
+        }
+        LOGGER.debug("Response is not recognized");
         return null;
     }
+
+    /**
+     * Close the pooled clients of this server.
+     */
+    @Override
+    public void destroy() {
+        this.radiusClientFactory.destroy();
+    }
 }
@@ -1,13 +1,17 @@
 package org.apereo.cas.adaptors.radius;
 
-import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import net.jradius.client.RadiusClient;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.io.Serializable;
 import java.net.InetAddress;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 /**
  * Factory for creating RADIUS client instances.
@@ -16,11 +20,13 @@ import java.net.InetAddress;
  * @since 4.0.0
  */
 @Slf4j
-@ToString
-@AllArgsConstructor
-public class RadiusClientFactory implements Serializable {
+@ToString(exclude = "pool")
+public class RadiusClientFactory implements Serializable, DisposableBean {
 
     private static final int DEFAULT_SOCKET_TIMEOUT = 60;
+
+    private static final int DEFAULT_MAX_POOLED_CLIENTS = 8;
+
     private static final long serialVersionUID = 8226097527127614276L;
 
     /**
@@ -48,6 +54,24 @@ public class RadiusClientFactory implements Serializable {
      */
     private final String sharedSecret;
 
+    /**
+     * Maximum number of idle clients kept open for reuse.
+     */
+    @Getter
+    @Setter
+    private int maxPooledClients = DEFAULT_MAX_POOLED_CLIENTS;
+
+    private transient Deque<RadiusClient> pool = new ConcurrentLinkedDeque<>();
+
+    public RadiusClientFactory(final int accountingPort, final int authenticationPort, final int socketTimeout,
+                               final String inetAddress, final String sharedSecret) {
+        this.accountingPort = accountingPort;
+        this.authenticationPort = authenticationPort;
+        this.socketTimeout = socketTimeout;
+        this.inetAddress = inetAddress;
+        this.sharedSecret = sharedSecret;
+    }
+
     public RadiusClientFactory(final int accountingPort, final int authenticationPort,
                                final String inetAddress, final String sharedSecret) {
         this(accountingPort, authenticationPort, DEFAULT_SOCKET_TIMEOUT, inetAddress, sharedSecret);
@@ -66,7 +90,67 @@ public class RadiusClientFactory implements Serializable {
      */
     @SneakyThrows
     public RadiusClient newInstance() {
-        return new RadiusClient(InetAddress.getByName(this.inetAddress), this.sharedSecret,
-            this.authenticationPort, this.accountingPort, this.socketTimeout);
+        final var transport = new CorrelatingUdpClientTransport();
+        transport.setRemoteInetAddress(InetAddress.getByName(this.inetAddress));
+        transport.setSharedSecret(this.sharedSecret);
+        transport.setAuthPort(this.authenticationPort);
+        transport.setAcctPort(this.accountingPort);
+        transport.setSocketTimeout(this.socketTimeout);
+        return new RadiusClient(transport);
+    }
+
+    /**
+     * Obtain a client, reusing an idle pooled client and its socket if one is available.
+     * The client must be handed back via {@link #release(RadiusClient, boolean)}.
+     *
+     * @return the radius client
+     */
+    public RadiusClient borrow() {
+        final var client = getPool().pollFirst();
+        if (client != null) {
+            LOGGER.trace("Reusing pooled RADIUS client for [{}]", this.inetAddress);
+            return client;
+        }
+        return newInstance();
+    }
+
+    /**
+     * Hand back a client obtained from {@link #borrow()}. The client is kept for reuse if it is
+     * reusable and the pool has room; otherwise it is closed. Clients whose last exchange failed
+     * should not be reused, since they may still receive replies to the failed request.
+     *
+     * @param client   the client
+     * @param reusable whether the client may be reused
+     */
+    public void release(final RadiusClient client, final boolean reusable) {
+        if (client == null) {
+            return;
+        }
+        final var pool = getPool();
+        if (reusable && this.maxPooledClients > 0 && pool.size() < this.maxPooledClients) {
+            pool.offerFirst(client);
+            return;
+        }
+        client.close();
+    }
+
+    /**
+     * Close all idle pooled clients.
+     */
+    @Override
+    public void destroy() {
+        final var pool = getPool();
+        var client = pool.pollFirst();
+        while (client != null) {
+            client.close();
+            client = pool.pollFirst();
+        }
+    }
+
+    private synchronized Deque<RadiusClient> getPool() {
+        if (this.pool == null) {
+            this.pool = new ConcurrentLinkedDeque<>();
+        }
+        return this.pool;
     }
 }
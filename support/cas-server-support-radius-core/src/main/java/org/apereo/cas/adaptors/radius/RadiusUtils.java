@@ -3,8 +3,11 @@ package org.apereo.cas.adaptors.radius;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.DisposableBean;
 
 import javax.security.auth.login.FailedLoginException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,27 +38,125 @@ public class RadiusUtils {
                                                                             final List<RadiusServer> servers,
                                                                             final boolean failoverOnAuthenticationFailure,
                                                                             final boolean failoverOnException) throws Exception {
-        for (final var radiusServer : servers) {
-            LOGGER.debug("Attempting to authenticate [{}] at [{}]", username, radiusServer);
-            try {
-                final var response = radiusServer.authenticate(username, password);
-                if (response != null) {
-                    final Map<String, Object> attributes = new HashMap<>();
-                    response.getAttributes().forEach(attribute -> attributes.put(attribute.getAttributeName(), attribute.getValue().toString()));
-                    return Pair.of(Boolean.TRUE, Optional.of(attributes));
-                }
+        return authenticate(username, password, servers, failoverOnAuthenticationFailure, failoverOnException, false);
+    }
 
-                if (!failoverOnAuthenticationFailure) {
-                    throw new FailedLoginException("Radius authentication failed for user " + username);
-                }
-                LOGGER.debug("failoverOnAuthenticationFailure enabled -- trying next server");
-            } catch (final Exception e) {
-                if (!failoverOnException) {
-                    throw e;
+    /**
+     * Authenticate pair. Servers known to be unavailable are skipped,
+     * unless no server is available at all.
+     *
+     * @param username                        the username
+     * @param password                        the password
+     * @param servers                         the servers
+     * @param failoverOnAuthenticationFailure the failover on authentication failure
+     * @param failoverOnException             the failover on exception
+     * @param preferFastestServer             try available servers in order of their average response time
+     * @return the pair
+     * @throws Exception the exception
+     */
+    public static Pair<Boolean, Optional<Map<String, Object>>> authenticate(final String username, final String password,
+                                                                            final List<RadiusServer> servers,
+                                                                            final boolean failoverOnAuthenticationFailure,
+                                                                            final boolean failoverOnException,
+                                                                            final boolean preferFastestServer) throws Exception {
+        final List<RadiusServer> skipped = new ArrayList<>();
+        for (final var radiusServer : getOrderedServers(servers, preferFastestServer)) {
+            if (!isAvailable(radiusServer)) {
+                LOGGER.debug("Skipping unavailable RADIUS server [{}]", radiusServer);
+                skipped.add(radiusServer);
+                continue;
+            }
+            final var result = authenticate(username, password, radiusServer, failoverOnAuthenticationFailure, failoverOnException);
+            if (result != null) {
+                return result;
+            }
+        }
+        if (!skipped.isEmpty() && skipped.size() == servers.size()) {
+            LOGGER.warn("No RADIUS server is known to be available; trying all configured servers");
+            for (final var radiusServer : skipped) {
+                final var result = authenticate(username, password, radiusServer, failoverOnAuthenticationFailure, failoverOnException);
+                if (result != null) {
+                    return result;
                 }
-                LOGGER.warn("failoverOnException enabled -- trying next server.", e);
             }
         }
         return Pair.of(Boolean.FALSE, Optional.empty());
     }
+
+    /**
+     * Determine the order in which servers are tried. Whether a server is available is only checked
+     * right before it is tried, so servers that are never reached do not use up their probe requests.
+     *
+     * @param servers             the servers
+     * @param preferFastestServer try servers in order of their average response time
+     * @return the servers
+     */
+    public static List<RadiusServer> getOrderedServers(final List<RadiusServer> servers, final boolean preferFastestServer) {
+        if (!preferFastestServer) {
+            return servers;
+        }
+        final List<RadiusServer> ordered = new ArrayList<>(servers);
+        ordered.sort(Comparator.comparingDouble(RadiusUtils::getAverageResponseTime));
+        return ordered;
+    }
+
+    /**
+     * Close the pooled clients of the given servers.
+     *
+     * @param servers the servers
+     */
+    public static void destroy(final List<RadiusServer> servers) {
+        servers.stream()
+            .filter(DisposableBean.class::isInstance)
+            .map(DisposableBean.class::cast)
+            .forEach(server -> {
+                try {
+                    server.destroy();
+                } catch (final Exception e) {
+                    LOGGER.debug("Unable to close RADIUS server [{}]: [{}]", server, e.getMessage());
+                }
+            });
+    }
+
+    /**
+     * Authenticate at a single server.
+     *
+     * @return the result, or null if the next server should be tried
+     */
+    private static Pair<Boolean, Optional<Map<String, Object>>> authenticate(final String username, final String password,
+                                                                             final RadiusServer radiusServer,
+                                                                             final boolean failoverOnAuthenticationFailure,
+                                                                             final boolean failoverOnException) throws Exception {
+        LOGGER.debug("Attempting to authenticate [{}] at [{}]", username, radiusServer);
+        try {
+            final var response = radiusServer.authenticate(username, password);
+            if (response != null) {
+                final Map<String, Object> attributes = new HashMap<>();
+                response.getAttributes().forEach(attribute -> attributes.put(attribute.getAttributeName(), attribute.getValue().toString()));
+                return Pair.of(Boolean.TRUE, Optional.of(attributes));
+            }
+
+            if (!failoverOnAuthenticationFailure) {
+                throw new FailedLoginException("Radius authentication failed for user " + username);
+            }
+            LOGGER.debug("failoverOnAuthenticationFailure enabled -- trying next server");
+        } catch (final Exception e) {
+            if (!failoverOnException) {
+                throw e;
+            }
+            LOGGER.warn("failoverOnException enabled -- trying next server.", e);
+        }
+        return null;
+    }
+
+    private static boolean isAvailable(final RadiusServer server) {
+        return !(server instanceof HealthAwareRadiusServer) || HealthAwareRadiusServer.class.cast(server).isAvailable();
+    }
+
+    private static double getAverageResponseTime(final RadiusServer server) {
+        if (server instanceof HealthAwareRadiusServer) {
+            return Math.max(0, HealthAwareRadiusServer.class.cast(server).getAverageResponseTime());
+        }
+        return 0;
+    }
 }
@@ -0,0 +1,127 @@
+package org.apereo.cas.adaptors.radius;
+
+import net.jradius.exception.TimeoutException;
+import org.apereo.cas.util.CollectionUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link HealthAwareRadiusServerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class HealthAwareRadiusServerTests {
+    private static final long ONE_HOUR = 3_600_000;
+
+    private static RadiusResponse getResponse() {
+        return new RadiusResponse(2, 1, new ArrayList<>());
+    }
+
+    @Test
+    public void verifyUnavailableServerSkipped() throws Exception {
+        final var failing = mock(RadiusServer.class);
+        when(failing.authenticate(anyString(), anyString())).thenThrow(new TimeoutException("timeout"));
+        final var healthy = mock(RadiusServer.class);
+        when(healthy.authenticate(anyString(), anyString())).thenReturn(getResponse());
+
+        final var servers = CollectionUtils.<RadiusServer>wrapList(
+            new HealthAwareRadiusServer(failing, 1, ONE_HOUR),
+            new HealthAwareRadiusServer(healthy, 1, ONE_HOUR));
+        for (var i = 0; i < 3; i++) {
+            assertTrue(RadiusUtils.authenticate("casuser", "Mellon", servers, false, true).getKey());
+        }
+        verify(failing, times(1)).authenticate(anyString(), anyString());
+        verify(healthy, times(3)).authenticate(anyString(), anyString());
+    }
+
+    @Test
+    public void verifyUnavailableServerProbed() throws Exception {
+        final var server = mock(RadiusServer.class);
+        when(server.authenticate(anyString(), anyString()))
+            .thenThrow(new TimeoutException("timeout"))
+            .thenThrow(new TimeoutException("timeout"))
+            .thenReturn(getResponse());
+        final var health = new HealthAwareRadiusServer(server, 2, 50);
+        for (var i = 0; i < 2; i++) {
+            try {
+                health.authenticate("casuser", "Mellon");
+                fail("Expected a timeout");
+            } catch (final TimeoutException e) {
+                assertNotNull(e);
+            }
+        }
+        assertFalse(health.isAvailable());
+        Thread.sleep(100);
+        assertTrue(health.isAvailable());
+        assertFalse(health.isAvailable());
+        assertNotNull(health.authenticate("casuser", "Mellon"));
+        assertTrue(health.isAvailable());
+        assertTrue(health.getAverageResponseTime() >= 0);
+    }
+
+    @Test
+    public void verifyAllServersTriedWhenNoneAvailable() throws Exception {
+        final var server = mock(RadiusServer.class);
+        when(server.authenticate(anyString(), anyString()))
+            .thenThrow(new TimeoutException("timeout"))
+            .thenReturn(getResponse());
+        final var servers = CollectionUtils.<RadiusServer>wrapList(new HealthAwareRadiusServer(server, 1, ONE_HOUR));
+        assertFalse(RadiusUtils.authenticate("casuser", "Mellon", servers, false, true).getKey());
+        assertTrue(RadiusUtils.authenticate("casuser", "Mellon", servers, false, true).getKey());
+    }
+
+    @Test
+    public void verifyFastestServerFirst() throws Exception {
+        final var slow = mock(RadiusServer.class);
+        when(slow.authenticate(anyString(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return getResponse();
+        });
+        final var fast = mock(RadiusServer.class);
+        when(fast.authenticate(anyString(), anyString())).thenReturn(getResponse());
+
+        final var slowServer = new HealthAwareRadiusServer(slow, 1, ONE_HOUR);
+        final var fastServer = new HealthAwareRadiusServer(fast, 1, ONE_HOUR);
+        slowServer.authenticate("casuser", "Mellon");
+        fastServer.authenticate("casuser", "Mellon");
+        final var servers = CollectionUtils.<RadiusServer>wrapList(slowServer, fastServer);
+
+        assertTrue(RadiusUtils.authenticate("casuser", "Mellon", servers, false, false, true).getKey());
+        verify(slow, times(1)).authenticate(anyString(), anyString());
+        verify(fast, times(2)).authenticate(anyString(), anyString());
+
+        assertTrue(RadiusUtils.authenticate("casuser", "Mellon", servers, false, false, false).getKey());
+        verify(slow, times(2)).authenticate(anyString(), anyString());
+    }
+
+    @Test
+    public void verifyProbeNotUsedWhenEarlierServerSucceeds() throws Exception {
+        final var healthy = mock(RadiusServer.class);
+        when(healthy.authenticate(anyString(), anyString())).thenReturn(getResponse());
+        final var failing = mock(RadiusServer.class);
+        when(failing.authenticate(anyString(), anyString())).thenThrow(new TimeoutException("timeout"));
+        final var failingServer = new HealthAwareRadiusServer(failing, 1, 50);
+        try {
+            failingServer.authenticate("casuser", "Mellon");
+            fail("Expected a timeout");
+        } catch (final TimeoutException e) {
+            assertNotNull(e);
+        }
+        Thread.sleep(100);
+        final var servers = CollectionUtils.<RadiusServer>wrapList(new HealthAwareRadiusServer(healthy, 1, ONE_HOUR), failingServer);
+        assertTrue(RadiusUtils.authenticate("casuser", "Mellon", servers, false, true).getKey());
+        assertTrue(failingServer.isAvailable());
+    }
+
+    @Test
+    public void verifyServersDestroyed() throws Exception {
+        final var server = mock(JRadiusServerImpl.class);
+        RadiusUtils.destroy(CollectionUtils.wrapList(new HealthAwareRadiusServer(server, 1, ONE_HOUR)));
+        verify(server).destroy();
+    }
+}
@@ -0,0 +1,152 @@
+package org.apereo.cas.adaptors.radius;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link RadiusClientFactoryTests}, which runs against an in-process RADIUS responder
+ * that accepts {@code casuser} and rejects everyone else.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class RadiusClientFactoryTests {
+    private static final String SECRET = "testing123";
+
+    private static final int HEADER_LENGTH = 20;
+
+    private static final int CODE_ACCESS_ACCEPT = 2;
+
+    private static final int CODE_ACCESS_REJECT = 3;
+
+    private static final int ATTRIBUTE_USER_NAME = 1;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private DatagramSocket responder;
+
+    private volatile boolean replayPreviousResponse;
+
+    @Before
+    public void setup() throws Exception {
+        this.responder = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+        final var thread = new Thread(this::respond, "radius-responder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @After
+    public void shutdown() {
+        this.responder.close();
+    }
+
+    private RadiusClientFactory getClientFactory() {
+        return new RadiusClientFactory(this.responder.getLocalPort() + 1, this.responder.getLocalPort(), 1,
+            InetAddress.getLoopbackAddress().getHostAddress(), SECRET);
+    }
+
+    @Test
+    public void verifySocketsReused() throws Exception {
+        final var server = new JRadiusServerImpl(RadiusProtocol.PAP, getClientFactory());
+        for (var i = 0; i < 5; i++) {
+            final var response = server.authenticate("casuser", "Mellon");
+            assertNotNull(response);
+            assertEquals(CODE_ACCESS_ACCEPT, response.getCode());
+        }
+        assertNull(server.authenticate("baduser", "Mellon"));
+        assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    public void verifyPoolingDisabled() throws Exception {
+        final var factory = getClientFactory();
+        factory.setMaxPooledClients(0);
+        final var server = new JRadiusServerImpl(RadiusProtocol.PAP, factory);
+        for (var i = 0; i < 3; i++) {
+            assertNotNull(server.authenticate("casuser", "Mellon"));
+        }
+        assertEquals(3, clientPorts.size());
+    }
+
+    @Test
+    public void verifyStaleResponsesDiscarded() throws Exception {
+        this.replayPreviousResponse = true;
+        final var server = new JRadiusServerImpl(RadiusProtocol.PAP, getClientFactory());
+        for (var i = 0; i < 3; i++) {
+            final var response = server.authenticate("casuser", "Mellon");
+            assertNotNull(response);
+            assertEquals(CODE_ACCESS_ACCEPT, response.getCode());
+        }
+        assertEquals(1, clientPorts.size());
+    }
+
+    @SneakyThrows
+    private void respond() {
+        DatagramPacket previous = null;
+        while (!this.responder.isClosed()) {
+            final var buffer = new byte[4096];
+            final var packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                this.responder.receive(packet);
+            } catch (final Exception e) {
+                LOGGER.trace(e.getMessage(), e);
+                return;
+            }
+            clientPorts.add(packet.getPort());
+            final var request = Arrays.copyOf(packet.getData(), packet.getLength());
+            final var code = "casuser".equals(getUserName(request)) ? CODE_ACCESS_ACCEPT : CODE_ACCESS_REJECT;
+            final var reply = buildResponse(code, request);
+            if (this.replayPreviousResponse && previous != null && previous.getPort() == packet.getPort()) {
+                this.responder.send(previous);
+            }
+            previous = new DatagramPacket(reply, reply.length, packet.getSocketAddress());
+            this.responder.send(previous);
+        }
+    }
+
+    private static String getUserName(final byte[] request) {
+        var position = HEADER_LENGTH;
+        while (position + 2 <= request.length) {
+            final var type = request[position] & 0xFF;
+            final var length = request[position + 1] & 0xFF;
+            if (length < 2) {
+                break;
+            }
+            if (type == ATTRIBUTE_USER_NAME) {
+                return new String(request, position + 2, length - 2, StandardCharsets.UTF_8);
+            }
+            position += length;
+        }
+        return null;
+    }
+
+    @SneakyThrows
+    private static byte[] buildResponse(final int code, final byte[] request) {
+        final var response = new byte[HEADER_LENGTH];
+        response[0] = (byte) code;
+        response[1] = request[1];
+        response[2] = 0;
+        response[3] = HEADER_LENGTH;
+        final var md5 = MessageDigest.getInstance("MD5");
+        md5.update(response, 0, 4);
+        md5.update(request, 4, 16);
+        md5.update(SECRET.getBytes(StandardCharsets.UTF_8));
+        System.arraycopy(md5.digest(), 0, response, 4, 16);
+        return response;
+    }
+}
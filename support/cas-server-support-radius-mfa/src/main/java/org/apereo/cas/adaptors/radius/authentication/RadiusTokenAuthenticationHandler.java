@@ -1,5 +1,6 @@
 package org.apereo.cas.adaptors.radius.authentication;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.adaptors.radius.RadiusServer;
 import org.apereo.cas.adaptors.radius.RadiusUtils;
@@ -8,6 +9,7 @@ import org.apereo.cas.authentication.Credential;
 import org.apereo.cas.authentication.handler.support.AbstractPreAndPostProcessingAuthenticationHandler;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.services.ServicesManager;
+import org.springframework.beans.factory.DisposableBean;
 import org.apereo.cas.web.support.WebUtils;
 
 import javax.security.auth.login.FailedLoginException;
@@ -22,13 +24,16 @@ import java.util.List;
  * @since 5.0.0
  */
 @Slf4j
-public class RadiusTokenAuthenticationHandler extends AbstractPreAndPostProcessingAuthenticationHandler {
+public class RadiusTokenAuthenticationHandler extends AbstractPreAndPostProcessingAuthenticationHandler implements DisposableBean {
 
 
     private final List<RadiusServer> servers;
     private final boolean failoverOnException;
     private final boolean failoverOnAuthenticationFailure;
 
+    @Setter
+    private boolean preferFastestServer;
+
     public RadiusTokenAuthenticationHandler(final String name, final ServicesManager servicesManager,
                                             final PrincipalFactory principalFactory,
                                             final List<RadiusServer> servers,
@@ -62,7 +67,7 @@ public class RadiusTokenAuthenticationHandler extends AbstractPreAndPostProcessi
 
             final var result =
                 RadiusUtils.authenticate(username, password, this.servers,
-                    this.failoverOnAuthenticationFailure, this.failoverOnException);
+                    this.failoverOnAuthenticationFailure, this.failoverOnException, this.preferFastestServer);
             if (result.getKey()) {
                 final var finalPrincipal = this.principalFactory.createPrincipal(username, result.getValue().get());
                 return createHandlerResult(credential, finalPrincipal, new ArrayList<>());
@@ -72,4 +77,9 @@ public class RadiusTokenAuthenticationHandler extends AbstractPreAndPostProcessi
             throw new FailedLoginException("Radius authentication failed " + e.getMessage());
         }
     }
+
+    @Override
+    public void destroy() {
+        RadiusUtils.destroy(this.servers);
+    }
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.config.support.authentication;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.adaptors.radius.HealthAwareRadiusServer;
 import org.apereo.cas.adaptors.radius.JRadiusServerImpl;
 import org.apereo.cas.adaptors.radius.RadiusClientFactory;
 import org.apereo.cas.adaptors.radius.RadiusProtocol;
@@ -17,6 +18,7 @@ import org.apereo.cas.authentication.metadata.AuthenticationContextAttributeMeta
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.MultifactorAuthenticationProvider;
 import org.apereo.cas.services.ServicesManager;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -75,13 +77,15 @@ public class RadiusTokenAuthenticationEventExecutionPlanConfiguration {
 
         final var factory = new RadiusClientFactory(client.getAccountingPort(), client.getAuthenticationPort(), client.getSocketTimeout(),
                 client.getInetAddress(), client.getSharedSecret());
+        factory.setMaxPooledClients(client.getMaxPooledClients());
 
         final var protocol = RadiusProtocol.valueOf(server.getProtocol());
         final var impl = new JRadiusServerImpl(protocol, factory, server.getRetries(),
                 server.getNasIpAddress(), server.getNasIpv6Address(),
                 server.getNasPort(), server.getNasPortId(), server.getNasIdentifier(), server.getNasRealPort());
 
-        list.add(impl);
+        list.add(new HealthAwareRadiusServer(impl, client.getFailureThreshold(),
+                Beans.newDuration(client.getFailureRetryInterval()).toMillis()));
         return list;
     }
 
@@ -95,8 +99,10 @@ public class RadiusTokenAuthenticationEventExecutionPlanConfiguration {
     @Bean
     public RadiusTokenAuthenticationHandler radiusTokenAuthenticationHandler() {
         final var radius = casProperties.getAuthn().getMfa().getRadius();
-        return new RadiusTokenAuthenticationHandler(radius.getName(), servicesManager, radiusTokenPrincipalFactory(), radiusTokenServers(),
+        final var handler = new RadiusTokenAuthenticationHandler(radius.getName(), servicesManager, radiusTokenPrincipalFactory(), radiusTokenServers(),
                 radius.isFailoverOnException(), radius.isFailoverOnAuthenticationFailure());
+        handler.setPreferFastestServer(radius.getClient().isPreferFastestServer());
+        return handler;
     }
 
     @Bean
@@ -1,5 +1,6 @@
 package org.apereo.cas.adaptors.radius.authentication.handler.support;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.adaptors.radius.RadiusServer;
 import org.apereo.cas.adaptors.radius.RadiusUtils;
@@ -8,6 +9,7 @@ import org.apereo.cas.authentication.UsernamePasswordCredential;
 import org.apereo.cas.authentication.handler.support.AbstractUsernamePasswordAuthenticationHandler;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.services.ServicesManager;
+import org.springframework.beans.factory.DisposableBean;
 
 import javax.security.auth.login.FailedLoginException;
 import java.security.GeneralSecurityException;
@@ -21,7 +23,7 @@ import java.util.List;
  * @since 3.0.0
  */
 @Slf4j
-public class RadiusAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler {
+public class RadiusAuthenticationHandler extends AbstractUsernamePasswordAuthenticationHandler implements DisposableBean {
 
 
     /**
@@ -41,6 +43,13 @@ public class RadiusAuthenticationHandler extends AbstractUsernamePasswordAuthent
      */
     private final boolean failoverOnAuthenticationFailure;
 
+    /**
+     * Determines whether the available RadiusServer with the lowest
+     * average response time should be tried first.
+     */
+    @Setter
+    private boolean preferFastestServer;
+
     /**
      * Instantiates a new Radius authentication handler.
      *
@@ -69,7 +78,7 @@ public class RadiusAuthenticationHandler extends AbstractUsernamePasswordAuthent
             final var username = credential.getUsername();
             final var result =
                 RadiusUtils.authenticate(username, credential.getPassword(), this.servers,
-                    this.failoverOnAuthenticationFailure, this.failoverOnException);
+                    this.failoverOnAuthenticationFailure, this.failoverOnException, this.preferFastestServer);
             if (result.getKey()) {
                 return createHandlerResult(credential,
                     this.principalFactory.createPrincipal(username, result.getValue().get()),
@@ -80,4 +89,9 @@ public class RadiusAuthenticationHandler extends AbstractUsernamePasswordAuthent
             throw new FailedLoginException("Radius authentication failed " + e.getMessage());
         }
     }
+
+    @Override
+    public void destroy() {
+        RadiusUtils.destroy(this.servers);
+    }
 }
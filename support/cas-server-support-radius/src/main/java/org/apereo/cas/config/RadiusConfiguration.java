@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.adaptors.radius.HealthAwareRadiusServer;
 import org.apereo.cas.adaptors.radius.JRadiusServerImpl;
 import org.apereo.cas.adaptors.radius.RadiusClientFactory;
 import org.apereo.cas.adaptors.radius.RadiusProtocol;
@@ -16,6 +17,7 @@ import org.apereo.cas.authentication.support.password.PasswordPolicyConfiguratio
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.radius.RadiusClientProperties;
 import org.apereo.cas.configuration.model.support.radius.RadiusServerProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -77,6 +79,7 @@ public class RadiusConfiguration {
     private JRadiusServerImpl getSingleRadiusServer(final RadiusClientProperties client, final RadiusServerProperties server, final String clientInetAddress) {
         final var factory = new RadiusClientFactory(client.getAccountingPort(), client.getAuthenticationPort(), client.getSocketTimeout(),
             clientInetAddress, client.getSharedSecret());
+        factory.setMaxPooledClients(client.getMaxPooledClients());
 
         final var protocol = RadiusProtocol.valueOf(server.getProtocol());
 
@@ -99,7 +102,10 @@ public class RadiusConfiguration {
         final var server = casProperties.getAuthn().getRadius().getServer();
 
         final var ips = getClientIps(casProperties.getAuthn().getRadius().getClient());
-        return ips.stream().map(ip -> getSingleRadiusServer(client, server, ip)).collect(Collectors.toList());
+        final var retryInterval = Beans.newDuration(client.getFailureRetryInterval()).toMillis();
+        return ips.stream()
+            .map(ip -> new HealthAwareRadiusServer(getSingleRadiusServer(client, server, ip), client.getFailureThreshold(), retryInterval))
+            .collect(Collectors.toList());
     }
 
     @Bean
@@ -111,6 +117,7 @@ public class RadiusConfiguration {
         h.setPasswordEncoder(PasswordEncoderUtils.newPasswordEncoder(radius.getPasswordEncoder()));
         h.setPrincipalNameTransformer(PrincipalNameTransformerUtils.newPrincipalNameTransformer(radius.getPrincipalTransformation()));
         h.setPasswordPolicyConfiguration(radiusPasswordPolicyConfiguration());
+        h.setPreferFastestServer(radius.getClient().isPreferFastestServer());
         return h;
     }
 
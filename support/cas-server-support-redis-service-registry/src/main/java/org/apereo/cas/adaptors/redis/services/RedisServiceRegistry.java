@@ -1,11 +1,15 @@
 package org.apereo.cas.adaptors.redis.services;
 
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.services.AbstractServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceMatchingKeys;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,24 +18,45 @@ import java.util.stream.Collectors;
 
 /**
  * Implementation of the service registry interface which stores the services in a redis instance.
+ * The ids of services are also indexed in sets by their matching key, so that looking up the service
+ * for a service url only reads the services that may match it. A service and its index entry are written
+ * in the same transaction. Lookups that find no service in the index fall back to examining every service,
+ * so services saved before the index existed are still found, and are indexed once found.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
 @Slf4j
 @ToString
-@RequiredArgsConstructor
 public class RedisServiceRegistry extends AbstractServiceRegistry {
 
     private static final String CAS_SERVICE_PREFIX = RegisteredService.class.getSimpleName() + ':';
 
+    private static final String CAS_SERVICE_INDEX_PREFIX = RegisteredService.class.getSimpleName() + "MatchingKeyIds:";
+
+    private static final String CAS_SERVICE_UNKEYED_INDEX = RegisteredService.class.getSimpleName() + "UnkeyedIds";
+
     private final RedisTemplate<String, RegisteredService> template;
 
+    private final StringRedisTemplate indexTemplate;
+
+    public RedisServiceRegistry(final RedisTemplate<String, RegisteredService> template) {
+        this.template = template;
+        this.indexTemplate = new StringRedisTemplate(template.getConnectionFactory());
+    }
+
     @Override
     public RegisteredService save(final RegisteredService rs) {
         try {
             final var redisKey = getRegisteredServiceRedisKey(rs);
-            this.template.boundValueOps(redisKey).set(rs);
+            final var existing = this.template.boundValueOps(redisKey).get();
+            executeInTransaction(() -> {
+                if (existing != null) {
+                    removeFromIndex(existing);
+                }
+                this.template.boundValueOps(redisKey).set(rs);
+                addToIndex(rs);
+            });
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -42,7 +67,14 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
     public boolean delete(final RegisteredService registeredService) {
         try {
             final var redisKey = getRegisteredServiceRedisKey(registeredService);
-            this.template.delete(redisKey);
+            final var existing = this.template.boundValueOps(redisKey).get();
+            executeInTransaction(() -> {
+                if (existing != null) {
+                    removeFromIndex(existing);
+                }
+                removeFromIndex(registeredService);
+                this.template.delete(redisKey);
+            });
             return true;
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -63,9 +95,12 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
     @Override
     public List<RegisteredService> load() {
         try {
-            return this.template.keys(getPatternRegisteredServiceRedisKey())
+            final var keys = this.template.keys(getPatternRegisteredServiceRedisKey());
+            if (keys.isEmpty()) {
+                return new ArrayList<>();
+            }
+            return this.template.opsForValue().multiGet(keys)
                 .stream()
-                .map(redisKey -> this.template.boundValueOps(redisKey).get())
                 .filter(Objects::nonNull).collect(Collectors.toList());
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -86,7 +121,64 @@ public class RedisServiceRegistry extends AbstractServiceRegistry {
 
     @Override
     public RegisteredService findServiceById(final String id) {
-        return load().stream().filter(r -> r.matches(id)).findFirst().orElse(null);
+        try {
+            final var key = RegisteredServiceMatchingKeys.getLookupKey(id);
+            if (key == null) {
+                return null;
+            }
+            final var ids = this.indexTemplate.opsForSet().union(CAS_SERVICE_INDEX_PREFIX + key, CAS_SERVICE_UNKEYED_INDEX);
+            if (ids != null && !ids.isEmpty()) {
+                final var keys = ids.stream().map(CAS_SERVICE_PREFIX::concat).collect(Collectors.toList());
+                final var candidates = this.template.opsForValue().multiGet(keys)
+                    .stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+                LOGGER.trace("Evaluating [{}] candidate service(s) for [{}]", candidates.size(), id);
+                final var match = RegisteredServiceMatchingKeys.findMatchingService(candidates, id);
+                if (match != null) {
+                    return match;
+                }
+            }
+            LOGGER.trace("No indexed service matches [{}]; examining all services", id);
+            final var match = RegisteredServiceMatchingKeys.findMatchingService(load(), id);
+            if (match != null) {
+                addToIndex(match);
+            }
+            return match;
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Run the given operations in a single MULTI/EXEC transaction. The index template shares
+     * the connection factory of the service template, so its commands join the same transaction.
+     *
+     * @param operations the operations
+     */
+    private void executeInTransaction(final Runnable operations) {
+        this.template.execute(new SessionCallback<List<Object>>() {
+            @Override
+            public <K, V> List<Object> execute(final RedisOperations<K, V> redisOperations) throws DataAccessException {
+                redisOperations.multi();
+                operations.run();
+                return redisOperations.exec();
+            }
+        });
+    }
+
+    private void addToIndex(final RegisteredService registeredService) {
+        this.indexTemplate.opsForSet().add(getMatchingKeyIndexRedisKey(registeredService), String.valueOf(registeredService.getId()));
+    }
+
+    private void removeFromIndex(final RegisteredService registeredService) {
+        this.indexTemplate.opsForSet().remove(getMatchingKeyIndexRedisKey(registeredService), String.valueOf(registeredService.getId()));
+    }
+
+    private static String getMatchingKeyIndexRedisKey(final RegisteredService registeredService) {
+        final var key = RegisteredServiceMatchingKeys.getMatchingKey(registeredService);
+        return key != null ? CAS_SERVICE_INDEX_PREFIX + key : CAS_SERVICE_UNKEYED_INDEX;
     }
 
     private static String getRegisteredServiceRedisKey(final RegisteredService registeredService) {
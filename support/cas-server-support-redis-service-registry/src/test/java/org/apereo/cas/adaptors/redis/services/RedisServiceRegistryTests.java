@@ -9,6 +9,7 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServiceRegistry;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +17,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.test.context.TestPropertySource;
 import redis.embedded.RedisServer;
@@ -23,6 +25,8 @@ import redis.embedded.RedisServer;
 import java.util.Arrays;
 import java.util.Collection;
 
+import static org.junit.Assert.*;
+
 /**
  * Unit test for {@link RedisServiceRegistry} class.
  *
@@ -42,6 +46,10 @@ public class RedisServiceRegistryTests extends AbstractServiceRegistryTests {
     @Qualifier("redisServiceRegistry")
     private ServiceRegistry dao;
 
+    @Autowired
+    @Qualifier("registeredServiceRedisTemplate")
+    private RedisTemplate<String, RegisteredService> registeredServiceRedisTemplate;
+
     public RedisServiceRegistryTests(final Class<? extends RegisteredService> registeredServiceClass) {
         super(registeredServiceClass);
     }
@@ -62,6 +70,22 @@ public class RedisServiceRegistryTests extends AbstractServiceRegistryTests {
         REDIS_SERVER.stop();
     }
 
+    @Test
+    public void verifyServiceMissingFromIndexIsFound() {
+        final var service = new RegexRegisteredService();
+        service.setId(9001);
+        service.setName("Unindexed");
+        service.setServiceId("^https://unindexed.example.org/.*");
+        this.registeredServiceRedisTemplate.boundValueOps("RegisteredService:" + service.getId()).set(service);
+
+        final var found = this.dao.findServiceById("https://unindexed.example.org/app");
+        assertNotNull(found);
+        assertEquals(service.getId(), found.getId());
+        assertNotNull(this.dao.findServiceById("https://unindexed.example.org/other"));
+        assertTrue(this.dao.delete(service));
+        assertNull(this.dao.findServiceById("https://unindexed.example.org/app"));
+    }
+
     @Parameterized.Parameters
     public static Collection<Object> getTestParameters() {
         return Arrays.asList(RegexRegisteredService.class);
@@ -13,6 +13,7 @@ import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.support.password.PasswordEncoderUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.http.SharedHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -49,7 +50,7 @@ public class CasRestAuthenticationConfiguration {
     @RefreshScope
     @SneakyThrows
     public RestTemplate restAuthenticationTemplate() {
-        return new RestTemplate();
+        return SharedHttpClient.newRestTemplate();
     }
 
     @ConditionalOnMissingBean(name = "restAuthenticationPrincipalFactory")
@@ -9,6 +9,7 @@ import org.apereo.cas.services.ServiceRegistry;
 import org.apereo.cas.services.ServiceRegistryExecutionPlan;
 import org.apereo.cas.services.ServiceRegistryExecutionPlanConfigurer;
 import org.apereo.cas.util.HttpUtils;
+import org.apereo.cas.util.http.SharedHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -17,7 +18,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * This is {@link RestServiceRegistryConfiguration}.
@@ -38,7 +38,7 @@ public class RestServiceRegistryConfiguration implements ServiceRegistryExecutio
     @ConditionalOnProperty(name = "cas.serviceRegistry.rest.url")
     public ServiceRegistry restfulServiceRegistry() {
         final var registry = casProperties.getServiceRegistry().getRest();
-        final var restTemplate = new RestTemplate();
+        final var restTemplate = SharedHttpClient.newRestTemplate();
         final MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
 
         if (StringUtils.isNotBlank(registry.getBasicAuthUsername())
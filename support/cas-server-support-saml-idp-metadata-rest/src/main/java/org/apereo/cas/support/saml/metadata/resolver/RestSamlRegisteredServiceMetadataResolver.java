@@ -33,11 +33,13 @@ public class RestSamlRegisteredServiceMetadataResolver extends BaseSamlRegistere
     @Override
     public Collection<MetadataResolver> resolve(final SamlRegisteredService service) {
         try {
-            final var rest = samlIdPProperties.getMetadata().getRest();
+            final var metadata = samlIdPProperties.getMetadata();
+            final var rest = metadata.getRest();
             final var response = HttpUtils.execute(rest.getUrl(), rest.getMethod(),
                 rest.getBasicAuthUsername(), rest.getBasicAuthPassword(),
                 CollectionUtils.wrap("entityId", service.getServiceId()),
-                CollectionUtils.wrap("Content-Type", MediaType.APPLICATION_XML_VALUE));
+                CollectionUtils.wrap("Content-Type", MediaType.APPLICATION_XML_VALUE), null,
+                HttpUtils.UNLIMITED_RESPONSE_SIZE, metadata.getFetchTimeout());
             if (response != null && response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
                 final var doc = MAPPER.readValue(response.getEntity().getContent(), SamlMetadataDocument.class);
                 final MetadataResolver resolver = buildMetadataResolverFrom(service, doc);
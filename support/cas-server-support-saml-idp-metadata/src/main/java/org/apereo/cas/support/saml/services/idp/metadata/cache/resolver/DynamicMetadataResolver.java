@@ -10,6 +10,7 @@ import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.HttpUtils;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 
 import java.io.ByteArrayInputStream;
@@ -43,8 +44,9 @@ public class DynamicMetadataResolver extends UrlResourceMetadataResolver {
         final Map headers = new LinkedHashMap();
         headers.put("Content-Type", metadata.getSupportedContentTypes());
         headers.put("Accept", "*/*");
-        return HttpUtils.executeGet(metadataLocation, metadata.getBasicAuthnUsername(),
-            samlIdPProperties.getMetadata().getBasicAuthnPassword(), new LinkedHashMap<>(), headers);
+        return HttpUtils.execute(metadataLocation, HttpMethod.GET.name(), metadata.getBasicAuthnUsername(),
+            metadata.getBasicAuthnPassword(), new LinkedHashMap<>(), headers, null,
+            HttpUtils.UNLIMITED_RESPONSE_SIZE, metadata.getFetchTimeout());
     }
 
     /**
@@ -24,6 +24,7 @@ import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 
 import java.io.File;
@@ -124,7 +125,9 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
      */
     protected HttpResponse fetchMetadata(final String metadataLocation) {
         LOGGER.debug("Fetching metadata from [{}]", metadataLocation);
-        return HttpUtils.executeGet(metadataLocation, new LinkedHashMap<>());
+        return HttpUtils.execute(metadataLocation, HttpMethod.GET.name(), null, null,
+            new LinkedHashMap<>(), new LinkedHashMap<>(), null,
+            HttpUtils.UNLIMITED_RESPONSE_SIZE, samlIdPProperties.getMetadata().getFetchTimeout());
     }
 
     /**
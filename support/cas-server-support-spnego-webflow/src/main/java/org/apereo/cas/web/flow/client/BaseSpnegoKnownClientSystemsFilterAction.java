@@ -1,10 +1,8 @@
 package org.apereo.cas.web.flow.client;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.apereo.cas.support.spnego.util.ReverseDNSRunnable;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.web.support.WebUtils;
 import org.springframework.webflow.action.AbstractAction;
@@ -27,10 +25,9 @@ import lombok.Setter;
  * @since 4.1
  */
 @Slf4j
-@ToString
+@ToString(exclude = "reverseDnsResolver")
 @Setter
 @Getter
-@AllArgsConstructor
 public class BaseSpnegoKnownClientSystemsFilterAction extends AbstractAction {
 
     /** Pattern of ip addresses to check. **/
@@ -45,6 +42,18 @@ public class BaseSpnegoKnownClientSystemsFilterAction extends AbstractAction {
      */
     private long timeout;
 
+    /**
+     * Resolves and caches the host names of client systems.
+     */
+    private ReverseDNSResolver reverseDnsResolver;
+
+    public BaseSpnegoKnownClientSystemsFilterAction(final Pattern ipsToCheckPattern, final String alternativeRemoteHostAttribute,
+                                                    final long timeout) {
+        this.ipsToCheckPattern = ipsToCheckPattern;
+        this.alternativeRemoteHostAttribute = alternativeRemoteHostAttribute;
+        this.timeout = timeout;
+    }
+
     /**
      * Instantiates a new Base.
      *
@@ -134,23 +143,27 @@ public class BaseSpnegoKnownClientSystemsFilterAction extends AbstractAction {
     }
 
     /**
-     * Convenience method to perform a reverse DNS lookup. Threads the request
-     * through a custom Runnable class in order to prevent inordinately long
-     * user waits while performing reverse lookup.
+     * Convenience method to perform a reverse DNS lookup. Lookups run on the bounded
+     * pool of the {@link ReverseDNSResolver}, in order to prevent inordinately long
+     * user waits while performing reverse lookup, and their outcome is cached.
      * @param remoteIp the remote ip
      * @return the remote host name
      */
     protected String getRemoteHostName(final String remoteIp) {
-        final var revDNS = new ReverseDNSRunnable(remoteIp);
-        final var t = new Thread(revDNS);
-        t.start();
-        try {
-            t.join(this.timeout);
-        } catch (final InterruptedException e) {
-            LOGGER.debug("Threaded lookup failed.  Defaulting to IP [{}].", remoteIp, e);
-        }
-        final var remoteHostName = revDNS.getHostName();
+        final var remoteHostName = getReverseDnsResolver().resolve(remoteIp, this.timeout);
         LOGGER.debug("Found remote host name [{}].", remoteHostName);
         return StringUtils.isNotBlank(remoteHostName) ? remoteHostName : remoteIp;
     }
+
+    /**
+     * Gets the reverse DNS resolver, creating a default one if none is set.
+     *
+     * @return the reverse dns resolver
+     */
+    public synchronized ReverseDNSResolver getReverseDnsResolver() {
+        if (this.reverseDnsResolver == null) {
+            this.reverseDnsResolver = new ReverseDNSResolver();
+        }
+        return this.reverseDnsResolver;
+    }
 }
@@ -3,6 +3,7 @@ package org.apereo.cas.web.flow.client;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.util.LdapUtils;
 import org.ldaptive.Connection;
 import org.ldaptive.ConnectionFactory;
 import org.ldaptive.LdapAttribute;
@@ -13,6 +14,7 @@ import org.ldaptive.SearchOperation;
 import org.ldaptive.SearchRequest;
 import org.ldaptive.SearchResult;
 import org.ldaptive.Operation;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.util.regex.Pattern;
 
@@ -25,7 +27,7 @@ import java.util.regex.Pattern;
  * @since 4.1
  */
 @Slf4j
-public class LdapSpnegoKnownClientSystemsFilterAction extends BaseSpnegoKnownClientSystemsFilterAction {
+public class LdapSpnegoKnownClientSystemsFilterAction extends BaseSpnegoKnownClientSystemsFilterAction implements DisposableBean {
     
     /**
      * The must-have attribute name.
@@ -55,6 +57,11 @@ public class LdapSpnegoKnownClientSystemsFilterAction extends BaseSpnegoKnownCli
         this.searchRequest = searchRequest;
     }
 
+    @Override
+    public void destroy() {
+        LdapUtils.releaseLdaptiveConnectionFactory(this.connectionFactory);
+    }
+
     /**
      * Create and open a connection to ldap
      * via the given config and provider.
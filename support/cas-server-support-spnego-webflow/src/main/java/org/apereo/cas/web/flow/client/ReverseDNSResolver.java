@@ -0,0 +1,157 @@
+package org.apereo.cas.web.flow.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.support.spnego.util.ReverseDNSRunnable;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is {@link ReverseDNSResolver}, which performs reverse DNS lookups on a bounded pool
+ * of threads and caches the outcome. Addresses that resolve to a host name are cached for
+ * the positive time-to-live; addresses without a PTR record are cached for the negative
+ * time-to-live. Concurrent lookups of the same address share a single DNS query.
+ * <p>
+ * When a lookup does not complete within the requested timeout, the address itself is returned.
+ * The lookup keeps running in the background, and its outcome is cached for subsequent requests.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class ReverseDNSResolver implements Closeable {
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private static final int DEFAULT_QUEUE_SIZE = 100;
+
+    private static final long DEFAULT_TIME_TO_LIVE_SECONDS = 600;
+
+    private static final long DEFAULT_NEGATIVE_TIME_TO_LIVE_SECONDS = 60;
+
+    private static final long MAXIMUM_CACHE_SIZE = 10_000;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Cache<String, String> resolved;
+
+    private final Cache<String, Boolean> unresolved;
+
+    private final Map<String, CompletableFuture<String>> pendingLookups = new ConcurrentHashMap<>();
+
+    public ReverseDNSResolver() {
+        this(DEFAULT_POOL_SIZE, DEFAULT_QUEUE_SIZE, DEFAULT_TIME_TO_LIVE_SECONDS, DEFAULT_NEGATIVE_TIME_TO_LIVE_SECONDS);
+    }
+
+    public ReverseDNSResolver(final int poolSize, final int queueSize,
+                              final long timeToLiveSeconds, final long negativeTimeToLiveSeconds) {
+        final var threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 1, TimeUnit.MINUTES,
+            new ArrayBlockingQueue<>(queueSize), r -> {
+                final var thread = new Thread(r, "cas-spnego-reverse-dns-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.resolved = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_CACHE_SIZE)
+            .expireAfterWrite(timeToLiveSeconds, TimeUnit.SECONDS)
+            .build();
+        this.unresolved = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_CACHE_SIZE)
+            .expireAfterWrite(negativeTimeToLiveSeconds, TimeUnit.SECONDS)
+            .build();
+    }
+
+    /**
+     * Resolve the host name of the given address.
+     *
+     * @param remoteIp the remote ip
+     * @param timeout  milliseconds to wait for the lookup; zero or less waits until the lookup completes
+     * @return the host name, or the remote ip if it cannot be resolved in time
+     */
+    public String resolve(final String remoteIp, final long timeout) {
+        final var hostName = this.resolved.getIfPresent(remoteIp);
+        if (hostName != null) {
+            LOGGER.trace("Found cached host name [{}] for [{}]", hostName, remoteIp);
+            return hostName;
+        }
+        if (this.unresolved.getIfPresent(remoteIp) != null) {
+            LOGGER.trace("[{}] is known to have no host name", remoteIp);
+            return remoteIp;
+        }
+        try {
+            final var lookup = lookup(remoteIp);
+            final var result = timeout > 0 ? lookup.get(timeout, TimeUnit.MILLISECONDS) : lookup.get();
+            return StringUtils.defaultIfBlank(result, remoteIp);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Lookup interrupted. Defaulting to IP [{}].", remoteIp, e);
+        } catch (final Exception e) {
+            LOGGER.debug("Lookup failed or timed out. Defaulting to IP [{}].", remoteIp, e);
+        }
+        return remoteIp;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Perform the reverse DNS lookup.
+     *
+     * @param remoteIp the remote ip
+     * @return the host name, or the remote ip if none is found
+     */
+    protected String lookupHostName(final String remoteIp) {
+        final var runnable = new ReverseDNSRunnable(remoteIp);
+        runnable.run();
+        return runnable.getHostName();
+    }
+
+    private CompletableFuture<String> lookup(final String remoteIp) {
+        final var pending = this.pendingLookups.get(remoteIp);
+        if (pending != null) {
+            return pending;
+        }
+        final var lookup = new CompletableFuture<String>();
+        final var existing = this.pendingLookups.putIfAbsent(remoteIp, lookup);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            this.executor.execute(() -> {
+                var hostName = remoteIp;
+                try {
+                    hostName = lookupHostName(remoteIp);
+                    if (StringUtils.isNotBlank(hostName) && !hostName.equals(remoteIp)) {
+                        this.resolved.put(remoteIp, hostName);
+                    } else {
+                        this.unresolved.put(remoteIp, Boolean.TRUE);
+                    }
+                } catch (final Exception e) {
+                    LOGGER.debug("Reverse DNS lookup of [{}] failed: [{}]", remoteIp, e.getMessage());
+                    hostName = remoteIp;
+                } finally {
+                    this.pendingLookups.remove(remoteIp, lookup);
+                    lookup.complete(hostName);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            LOGGER.warn("Reverse DNS lookup of [{}] is skipped; too many lookups are in progress", remoteIp);
+            this.pendingLookups.remove(remoteIp, lookup);
+            lookup.complete(remoteIp);
+        }
+        return lookup;
+    }
+}
@@ -11,11 +11,13 @@ import org.apereo.cas.web.flow.SpnegoNegotiateCredentialsAction;
 import org.apereo.cas.web.flow.client.BaseSpnegoKnownClientSystemsFilterAction;
 import org.apereo.cas.web.flow.client.HostNameSpnegoKnownClientSystemsFilterAction;
 import org.apereo.cas.web.flow.client.LdapSpnegoKnownClientSystemsFilterAction;
+import org.apereo.cas.web.flow.client.ReverseDNSResolver;
 import org.apereo.cas.web.flow.resolver.CasDelegatingWebflowEventResolver;
 import org.apereo.cas.web.flow.resolver.CasWebflowEventResolver;
 import org.ldaptive.ConnectionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
@@ -81,14 +83,26 @@ public class SpnegoWebflowActionsConfiguration {
             Beans.newDuration(spnegoProperties.getDnsTimeout()).toMillis());
     }
 
+    @ConditionalOnMissingBean(name = "spnegoReverseDnsResolver")
+    @Bean
+    public ReverseDNSResolver spnegoReverseDnsResolver() {
+        final var spnegoProperties = casProperties.getAuthn().getSpnego();
+        return new ReverseDNSResolver(spnegoProperties.getDnsResolverPoolSize(),
+            spnegoProperties.getDnsResolverQueueSize(),
+            Beans.newDuration(spnegoProperties.getDnsCacheTimeToLive()).getSeconds(),
+            Beans.newDuration(spnegoProperties.getDnsNegativeCacheTimeToLive()).getSeconds());
+    }
+
     @Bean
     @RefreshScope
     public Action hostnameSpnegoClientAction() {
         final var spnegoProperties = casProperties.getAuthn().getSpnego();
-        return new HostNameSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
+        final var action = new HostNameSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
             spnegoProperties.getAlternativeRemoteHostAttribute(),
             Beans.newDuration(spnegoProperties.getDnsTimeout()).toMillis(),
             spnegoProperties.getHostNamePatternString());
+        action.setReverseDnsResolver(spnegoReverseDnsResolver());
+        return action;
     }
 
     @Lazy
@@ -101,11 +115,13 @@ public class SpnegoWebflowActionsConfiguration {
             "host", new ArrayList<>(0));
 
         final var searchRequest = LdapUtils.newLdaptiveSearchRequest(spnegoProperties.getLdap().getBaseDn(), filter);
-        return new LdapSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
+        final var action = new LdapSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
             spnegoProperties.getAlternativeRemoteHostAttribute(),
             Beans.newDuration(spnegoProperties.getDnsTimeout()).toMillis(),
             connectionFactory,
             searchRequest,
             spnegoProperties.getSpnegoAttributeName());
+        action.setReverseDnsResolver(spnegoReverseDnsResolver());
+        return action;
     }
 }
@@ -0,0 +1,113 @@
+package org.apereo.cas.web.flow.client;
+
+import lombok.SneakyThrows;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link ReverseDNSResolverTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class ReverseDNSResolverTests {
+
+    @Test
+    public void verifyPositiveAndNegativeResultsCached() {
+        final var hostNames = Map.of("10.0.0.1", "workstation.example.org");
+        final var resolver = new CountingReverseDNSResolver(hostNames, null);
+        for (var i = 0; i < 5; i++) {
+            assertEquals("workstation.example.org", resolver.resolve("10.0.0.1", 1000));
+            assertEquals("10.0.0.2", resolver.resolve("10.0.0.2", 1000));
+        }
+        assertEquals(1, resolver.getLookups("10.0.0.1"));
+        assertEquals(1, resolver.getLookups("10.0.0.2"));
+        resolver.close();
+    }
+
+    @Test
+    public void verifySlowLookupFallsBackAndIsCached() throws Exception {
+        final var release = new CountDownLatch(1);
+        final var resolver = new CountingReverseDNSResolver(Map.of("10.0.0.1", "workstation.example.org"), release);
+        assertEquals("10.0.0.1", resolver.resolve("10.0.0.1", 50));
+        assertEquals("10.0.0.1", resolver.resolve("10.0.0.1", 50));
+        release.countDown();
+        resolver.awaitLookups(1);
+        assertEquals("workstation.example.org", resolver.resolve("10.0.0.1", 50));
+        assertEquals(1, resolver.getLookups("10.0.0.1"));
+        resolver.close();
+    }
+
+    @Test
+    public void verifyFailedLookupCompletesAndIsRetried() {
+        final var resolver = new CountingReverseDNSResolver(Map.of(), null) {
+            @Override
+            protected String lookupHostName(final String remoteIp) {
+                super.lookupHostName(remoteIp);
+                throw new IllegalStateException("Lookup failed");
+            }
+        };
+        assertEquals("10.0.0.3", resolver.resolve("10.0.0.3", 0));
+        assertEquals("10.0.0.3", resolver.resolve("10.0.0.3", 0));
+        assertEquals(2, resolver.getLookups("10.0.0.3"));
+        resolver.close();
+    }
+
+    @Test
+    public void verifyFilterActionUsesResolver() {
+        final var resolver = new CountingReverseDNSResolver(Map.of("10.0.0.1", "workstation.example.org"), null);
+        final var action = new HostNameSpnegoKnownClientSystemsFilterAction(null, "", 1000, ".+\\.example\\.org");
+        action.setReverseDnsResolver(resolver);
+        assertTrue(action.shouldDoSpnego("10.0.0.1"));
+        assertTrue(action.shouldDoSpnego("10.0.0.1"));
+        assertFalse(action.shouldDoSpnego("10.0.0.2"));
+        assertEquals(1, resolver.getLookups("10.0.0.1"));
+        resolver.close();
+    }
+
+    private static class CountingReverseDNSResolver extends ReverseDNSResolver {
+        private final Map<String, String> hostNames;
+
+        private final CountDownLatch release;
+
+        private final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+
+        private final AtomicInteger completed = new AtomicInteger();
+
+        CountingReverseDNSResolver(final Map<String, String> hostNames, final CountDownLatch release) {
+            this.hostNames = hostNames;
+            this.release = release;
+        }
+
+        @Override
+        @SneakyThrows
+        protected String lookupHostName(final String remoteIp) {
+            lookups.computeIfAbsent(remoteIp, k -> new AtomicInteger()).incrementAndGet();
+            if (release != null) {
+                release.await(10, TimeUnit.SECONDS);
+            }
+            final var hostName = hostNames.getOrDefault(remoteIp, remoteIp);
+            completed.incrementAndGet();
+            return hostName;
+        }
+
+        int getLookups(final String remoteIp) {
+            return lookups.getOrDefault(remoteIp, new AtomicInteger()).get();
+        }
+
+        @SneakyThrows
+        void awaitLookups(final int count) {
+            while (completed.get() < count) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.surrogate.CachingSurrogateAuthenticationService;
 import org.apereo.cas.authentication.surrogate.SurrogateAuthenticationService;
 import org.apereo.cas.authentication.surrogate.SurrogateJdbcAuthenticationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
@@ -36,10 +37,11 @@ public class SurrogateJdbcAuthenticationConfiguration {
     @Bean
     public SurrogateAuthenticationService surrogateAuthenticationService() {
         final var su = casProperties.getAuthn().getSurrogate();
-        return new SurrogateJdbcAuthenticationService(su.getJdbc().getSurrogateSearchQuery(),
+        final var service = new SurrogateJdbcAuthenticationService(su.getJdbc().getSurrogateSearchQuery(),
             surrogateAuthenticationJdbcDataSource(),
             su.getJdbc().getSurrogateAccountQuery(),
             servicesManager);
+        return CachingSurrogateAuthenticationService.decorate(service, su.getCache());
     }
 
     @Bean
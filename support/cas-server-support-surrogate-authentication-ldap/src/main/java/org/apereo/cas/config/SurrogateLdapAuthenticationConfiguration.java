@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.surrogate.CachingSurrogateAuthenticationService;
 import org.apereo.cas.authentication.surrogate.SurrogateLdapAuthenticationService;
 import org.apereo.cas.authentication.surrogate.SurrogateAuthenticationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
@@ -41,6 +42,7 @@ public class SurrogateLdapAuthenticationConfiguration {
         LOGGER.debug("Using LDAP [{}] with baseDn [{}] to locate surrogate accounts",
                 su.getLdap().getLdapUrl(), su.getLdap().getBaseDn());
         final ConnectionFactory factory = LdapUtils.newLdaptivePooledConnectionFactory(su.getLdap());
-        return new SurrogateLdapAuthenticationService(factory, su.getLdap(), servicesManager);
+        final var service = new SurrogateLdapAuthenticationService(factory, su.getLdap(), servicesManager);
+        return CachingSurrogateAuthenticationService.decorate(service, su.getCache());
     }
 }
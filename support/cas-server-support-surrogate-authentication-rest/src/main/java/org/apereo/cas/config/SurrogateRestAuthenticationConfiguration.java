@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.surrogate.CachingSurrogateAuthenticationService;
 import org.apereo.cas.authentication.surrogate.SurrogateAuthenticationService;
 import org.apereo.cas.authentication.surrogate.SurrogateRestAuthenticationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
@@ -37,6 +38,7 @@ public class SurrogateRestAuthenticationConfiguration {
         final var su = casProperties.getAuthn().getSurrogate();
         LOGGER.debug("Using REST endpoint [{}] with method [{}] to locate surrogate accounts",
                 su.getRest().getUrl(), su.getRest().getMethod());
-        return new SurrogateRestAuthenticationService(su.getRest(), servicesManager);
+        final var service = new SurrogateRestAuthenticationService(su.getRest(), servicesManager);
+        return CachingSurrogateAuthenticationService.decorate(service, su.getCache());
     }
 }
@@ -0,0 +1,164 @@
+package org.apereo.cas.authentication.surrogate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.configuration.model.support.surrogate.SurrogateAuthenticationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * This is {@link CachingSurrogateAuthenticationService}, which decorates another
+ * {@link SurrogateAuthenticationService} and remembers its answers for a while.
+ * The list of eligible accounts is cached per principal, and eligibility decisions are cached per principal,
+ * surrogate and service. Negative answers (no eligible accounts, or a refused surrogate) are cached for
+ * a separate and typically shorter period so that newly granted privileges take effect quickly.
+ * All cached answers are dropped when registered services are reloaded, since eligibility may depend on service definitions,
+ * and when the service is destroyed, which is the case when the account store is reloaded along with the CAS configuration.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class CachingSurrogateAuthenticationService implements SurrogateAuthenticationService, DisposableBean {
+    @Getter
+    private final SurrogateAuthenticationService surrogateAuthenticationService;
+
+    private final Cache<String, List<String>> eligibleAccounts;
+
+    private final Cache<EligibilityDecision, Boolean> eligibilityDecisions;
+
+    public CachingSurrogateAuthenticationService(final SurrogateAuthenticationService surrogateAuthenticationService,
+                                                 final Duration expiration, final Duration negativeExpiration,
+                                                 final long maximumSize) {
+        this.surrogateAuthenticationService = surrogateAuthenticationService;
+        this.eligibleAccounts = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new EligibilityExpirationPolicy<String, List<String>>(expiration, negativeExpiration, accounts -> !accounts.isEmpty()))
+            .build();
+        this.eligibilityDecisions = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new EligibilityExpirationPolicy<EligibilityDecision, Boolean>(expiration, negativeExpiration, Boolean::booleanValue))
+            .build();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        invalidateAll();
+        if (this.surrogateAuthenticationService instanceof DisposableBean) {
+            DisposableBean.class.cast(this.surrogateAuthenticationService).destroy();
+        }
+    }
+
+    /**
+     * Decorate the given service with a cache, if caching is enabled in the given settings.
+     *
+     * @param service    the service
+     * @param properties the cache settings
+     * @return the caching service, or the given service if caching is disabled
+     */
+    public static SurrogateAuthenticationService decorate(final SurrogateAuthenticationService service,
+                                                          final SurrogateAuthenticationProperties.Cache properties) {
+        final var expiration = Beans.newDuration(properties.getExpiration());
+        if (expiration.isZero() || expiration.isNegative()) {
+            LOGGER.debug("Caching of surrogate eligibility lookups is disabled");
+            return service;
+        }
+        final var negativeExpiration = Beans.newDuration(properties.getNegativeExpiration());
+        LOGGER.debug("Caching surrogate eligibility lookups for [{}] and refusals for [{}]", expiration, negativeExpiration);
+        return new CachingSurrogateAuthenticationService(service, expiration, negativeExpiration, properties.getMaximumSize());
+    }
+
+    @Override
+    public boolean canAuthenticateAs(final String surrogate, final Principal principal, final Service service) {
+        final var key = new EligibilityDecision(principal.getId(), surrogate, service != null ? service.getId() : null);
+        return this.eligibilityDecisions.get(key, k -> {
+            LOGGER.trace("Eligibility of [{}] to authenticate as [{}] is not cached", k.getPrincipal(), k.getSurrogate());
+            return this.surrogateAuthenticationService.canAuthenticateAs(surrogate, principal, service);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Callers are free to modify the returned list; the cached list is not exposed.
+     */
+    @Override
+    public List<String> getEligibleAccountsForSurrogateToProxy(final String username) {
+        final var accounts = this.eligibleAccounts.get(username, k -> {
+            LOGGER.trace("Eligible accounts for [{}] are not cached", k);
+            final var results = this.surrogateAuthenticationService.getEligibleAccountsForSurrogateToProxy(k);
+            return results != null ? Collections.unmodifiableList(new ArrayList<>(results)) : Collections.<String>emptyList();
+        });
+        return new ArrayList<>(accounts);
+    }
+
+    /**
+     * Drop all cached answers.
+     */
+    public void invalidateAll() {
+        LOGGER.debug("Invalidating all cached surrogate eligibility lookups");
+        this.eligibleAccounts.invalidateAll();
+        this.eligibilityDecisions.invalidateAll();
+    }
+
+    /**
+     * Handle registered services loaded event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        LOGGER.trace("Registered services are loaded; discarding cached surrogate eligibility lookups");
+        invalidateAll();
+    }
+
+    @Value
+    private static class EligibilityDecision {
+        private final String principal;
+        private final String surrogate;
+        private final String service;
+    }
+
+    /**
+     * Expire positive answers after the configured expiration, and negative ones after the negative expiration.
+     * Reads do not extend the lifetime of an entry.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    @Value
+    private static class EligibilityExpirationPolicy<K, V> implements Expiry<K, V> {
+        private final Duration expiration;
+        private final Duration negativeExpiration;
+        private final Predicate<V> positive;
+
+        @Override
+        public long expireAfterCreate(final K key, final V value, final long currentTime) {
+            return (this.positive.test(value) ? this.expiration : this.negativeExpiration).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final K key, final V value, final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final K key, final V value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.apereo.cas.authentication;
+
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.authentication.surrogate.CachingSurrogateAuthenticationService;
+import org.apereo.cas.authentication.surrogate.SurrogateAuthenticationService;
+import org.apereo.cas.configuration.model.support.surrogate.SurrogateAuthenticationProperties;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.util.CollectionUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingSurrogateAuthenticationServiceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class CachingSurrogateAuthenticationServiceTests {
+    private SurrogateAuthenticationService delegate;
+
+    @Before
+    public void initialize() {
+        this.delegate = mock(SurrogateAuthenticationService.class);
+        when(this.delegate.getEligibleAccountsForSurrogateToProxy("casuser"))
+            .thenAnswer(invocation -> new ArrayList<>(CollectionUtils.wrapList("banderson")));
+        when(this.delegate.canAuthenticateAs(eq("banderson"), any(Principal.class), any(Service.class))).thenReturn(true);
+    }
+
+    @Test
+    public void verifyEligibleAccountsCached() {
+        final var service = new CachingSurrogateAuthenticationService(this.delegate, Duration.ofMinutes(1), Duration.ofMinutes(1), 100);
+        final var accounts = service.getEligibleAccountsForSurrogateToProxy("casuser");
+        accounts.add(0, "casuser");
+        assertEquals(CollectionUtils.wrapList("banderson"), service.getEligibleAccountsForSurrogateToProxy("casuser"));
+        verify(this.delegate, times(1)).getEligibleAccountsForSurrogateToProxy("casuser");
+
+        assertTrue(service.getEligibleAccountsForSurrogateToProxy("unknown").isEmpty());
+        assertTrue(service.getEligibleAccountsForSurrogateToProxy("unknown").isEmpty());
+        verify(this.delegate, times(1)).getEligibleAccountsForSurrogateToProxy("unknown");
+    }
+
+    @Test
+    public void verifyDecisionsCached() {
+        final var service = new CachingSurrogateAuthenticationService(this.delegate, Duration.ofMinutes(1), Duration.ofMinutes(1), 100);
+        final var principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        final var registeredService = CoreAuthenticationTestUtils.getService();
+        assertTrue(service.canAuthenticateAs("banderson", principal, registeredService));
+        assertTrue(service.canAuthenticateAs("banderson", principal, registeredService));
+        assertFalse(service.canAuthenticateAs("jsmith", principal, registeredService));
+        assertFalse(service.canAuthenticateAs("jsmith", principal, registeredService));
+        verify(this.delegate, times(1)).canAuthenticateAs("banderson", principal, registeredService);
+        verify(this.delegate, times(1)).canAuthenticateAs("jsmith", principal, registeredService);
+    }
+
+    @Test
+    public void verifyNegativeAnswersExpireSeparately() {
+        final var service = new CachingSurrogateAuthenticationService(this.delegate, Duration.ofMinutes(1), Duration.ZERO, 100);
+        final var principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        final var registeredService = CoreAuthenticationTestUtils.getService();
+        assertTrue(service.canAuthenticateAs("banderson", principal, registeredService));
+        assertTrue(service.canAuthenticateAs("banderson", principal, registeredService));
+        assertFalse(service.canAuthenticateAs("jsmith", principal, registeredService));
+        assertFalse(service.canAuthenticateAs("jsmith", principal, registeredService));
+        verify(this.delegate, times(1)).canAuthenticateAs("banderson", principal, registeredService);
+        verify(this.delegate, times(2)).canAuthenticateAs("jsmith", principal, registeredService);
+    }
+
+    @Test
+    public void verifyInvalidationWhenServicesAreLoaded() {
+        final var service = new CachingSurrogateAuthenticationService(this.delegate, Duration.ofMinutes(1), Duration.ofMinutes(1), 100);
+        final var principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        final var registeredService = CoreAuthenticationTestUtils.getService();
+        service.getEligibleAccountsForSurrogateToProxy("casuser");
+        service.canAuthenticateAs("banderson", principal, registeredService);
+        service.handleRegisteredServicesLoadedEvent(new CasRegisteredServicesLoadedEvent(this, new ArrayList<>()));
+        service.getEligibleAccountsForSurrogateToProxy("casuser");
+        service.canAuthenticateAs("banderson", principal, registeredService);
+        verify(this.delegate, times(2)).getEligibleAccountsForSurrogateToProxy("casuser");
+        verify(this.delegate, times(2)).canAuthenticateAs("banderson", principal, registeredService);
+    }
+
+    @Test
+    public void verifyCachingDisabled() {
+        final var properties = new SurrogateAuthenticationProperties.Cache();
+        assertTrue(CachingSurrogateAuthenticationService.decorate(this.delegate, properties) instanceof CachingSurrogateAuthenticationService);
+        properties.setExpiration("PT0S");
+        assertSame(this.delegate, CachingSurrogateAuthenticationService.decorate(this.delegate, properties));
+    }
+}
@@ -4,10 +4,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.token.JWTTokenTicketBuilder;
 import org.apereo.cas.token.TokenTicketBuilder;
+import org.apereo.cas.token.cipher.RegisteredServiceTokenTicketCipherExecutor;
 import org.apereo.cas.token.cipher.TokenTicketCipherExecutor;
 import org.jasig.cas.client.validation.AbstractUrlBasedTicketValidator;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -79,6 +81,13 @@ public class TokenCoreConfiguration {
             casProperties.getServer().getPrefix(),
             tokenCipherExecutor(),
             grantingTicketExpirationPolicy,
-            this.servicesManager);
+            this.servicesManager,
+            tokenTicketRegisteredServiceCipherExecutor());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "tokenTicketRegisteredServiceCipherExecutor")
+    public RegisteredServiceCipherExecutor tokenTicketRegisteredServiceCipherExecutor() {
+        return new RegisteredServiceTokenTicketCipherExecutor();
     }
 }
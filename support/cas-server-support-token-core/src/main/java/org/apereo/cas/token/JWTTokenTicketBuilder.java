@@ -15,7 +15,6 @@ import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.TicketGrantingTicket;
-import org.apereo.cas.token.cipher.RegisteredServiceTokenTicketCipherExecutor;
 import org.apereo.cas.util.DateTimeUtils;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
@@ -42,6 +41,7 @@ public class JWTTokenTicketBuilder implements TokenTicketBuilder {
     private final CipherExecutor<String, String> defaultTokenCipherExecutor;
     private final ExpirationPolicy expirationPolicy;
     private final ServicesManager servicesManager;
+    private final RegisteredServiceCipherExecutor registeredServiceCipherExecutor;
 
     @Override
     @SneakyThrows
@@ -106,10 +106,9 @@ public class JWTTokenTicketBuilder implements TokenTicketBuilder {
         RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(registeredService);
 
         LOGGER.debug("Locating service specific signing and encryption keys for [{}] in service registry", serviceAudience);
-        final RegisteredServiceCipherExecutor serviceCipher = new RegisteredServiceTokenTicketCipherExecutor();
-        if (serviceCipher.supports(registeredService)) {
+        if (registeredServiceCipherExecutor.supports(registeredService)) {
             LOGGER.debug("Encoding JWT based on keys provided by service [{}]", registeredService.getServiceId());
-            return serviceCipher.encode(jwtJson, Optional.of(registeredService));
+            return registeredServiceCipherExecutor.encode(jwtJson, Optional.of(registeredService));
         }
 
         if (defaultTokenCipherExecutor.isEnabled()) {
@@ -1,23 +1,44 @@
 package org.apereo.cas.token.cipher;
 
-import lombok.NoArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.services.RegisteredServiceProperty.RegisteredServiceProperties;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.springframework.context.event.EventListener;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link RegisteredServiceTokenTicketCipherExecutor}.
+ * Cipher executors built from service-specific keys are cached per service and key values,
+ * and are discarded once the services manager reloads the registry.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
  */
 @Slf4j
-@NoArgsConstructor
 public class RegisteredServiceTokenTicketCipherExecutor extends TokenTicketCipherExecutor implements RegisteredServiceCipherExecutor {
+    private static final long DEFAULT_MAXIMUM_CACHE_SIZE = 1_000;
+
+    private static final long DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES = 60;
+
+    private final Cache<String, TokenTicketCipherExecutor> cipherExecutors;
+
+    public RegisteredServiceTokenTicketCipherExecutor() {
+        this(DEFAULT_MAXIMUM_CACHE_SIZE);
+    }
+
+    public RegisteredServiceTokenTicketCipherExecutor(final long maximumCacheSize) {
+        this.cipherExecutors = Caffeine.newBuilder()
+            .maximumSize(maximumCacheSize)
+            .expireAfterAccess(DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+            .build();
+    }
 
     @Override
     public String decode(final String data, final Optional<RegisteredService> service) {
@@ -25,10 +46,7 @@ public class RegisteredServiceTokenTicketCipherExecutor extends TokenTicketCiphe
             final var registeredService = service.get();
             if (supports(registeredService)) {
                 LOGGER.debug("Found signing and/or encryption keys for [{}] in service registry to decode", registeredService.getServiceId());
-                final var encryptionKey = getEncryptionKey(registeredService).get();
-                final var signingKey = getSigningKey(registeredService).get();
-                final var cipher = new TokenTicketCipherExecutor(encryptionKey, signingKey,
-                    StringUtils.isNotBlank(encryptionKey), StringUtils.isNotBlank(signingKey));
+                final var cipher = getTokenTicketCipherExecutor(registeredService);
                 if (cipher.isEnabled()) {
                     return cipher.decode(data);
                 }
@@ -43,10 +61,7 @@ public class RegisteredServiceTokenTicketCipherExecutor extends TokenTicketCiphe
             final var registeredService = service.get();
             if (supports(registeredService)) {
                 LOGGER.debug("Found signing and/or encryption keys for [{}] in service registry to encode", registeredService.getServiceId());
-                final var encryptionKey = getEncryptionKey(registeredService).get();
-                final var signingKey = getSigningKey(registeredService).get();
-                final var cipher = new TokenTicketCipherExecutor(encryptionKey, signingKey,
-                    StringUtils.isNotBlank(encryptionKey), StringUtils.isNotBlank(signingKey));
+                final var cipher = getTokenTicketCipherExecutor(registeredService);
                 if (cipher.isEnabled()) {
                     return cipher.encode(data);
                 }
@@ -87,4 +102,41 @@ public class RegisteredServiceTokenTicketCipherExecutor extends TokenTicketCiphe
         }
         return Optional.empty();
     }
+
+    /**
+     * Gets the cipher executor built from the keys of the registered service,
+     * reusing a previously built instance if the keys have not changed.
+     *
+     * @param registeredService the registered service
+     * @return the token ticket cipher executor
+     */
+    public TokenTicketCipherExecutor getTokenTicketCipherExecutor(final RegisteredService registeredService) {
+        final var encryptionKey = getEncryptionKey(registeredService).orElse(StringUtils.EMPTY);
+        final var signingKey = getSigningKey(registeredService).orElse(StringUtils.EMPTY);
+        final var cacheKey = registeredService.getId() + "|" + registeredService.getServiceId() + "|" + encryptionKey + "|" + signingKey;
+        return this.cipherExecutors.get(cacheKey, k -> {
+            LOGGER.debug("Building token cipher executor for service [{}]", registeredService.getServiceId());
+            return new TokenTicketCipherExecutor(encryptionKey, signingKey,
+                StringUtils.isNotBlank(encryptionKey), StringUtils.isNotBlank(signingKey));
+        });
+    }
+
+    /**
+     * Discard all cached cipher executors.
+     */
+    public void clear() {
+        this.cipherExecutors.invalidateAll();
+    }
+
+    /**
+     * Handle registered services loaded event, discarding cipher executors
+     * whose keys may have changed or whose services may have been removed.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        LOGGER.trace("Registered services are loaded; discarding cached token cipher executors");
+        clear();
+    }
 }
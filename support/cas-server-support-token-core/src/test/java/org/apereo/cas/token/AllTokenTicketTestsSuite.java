@@ -1,5 +1,6 @@
 package org.apereo.cas.token;
 
+import org.apereo.cas.token.cipher.RegisteredServiceTokenTicketCipherExecutorTests;
 import org.apereo.cas.token.cipher.TokenTicketCipherExecutorTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -13,6 +14,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     TokenTicketCipherExecutorTests.class,
+    RegisteredServiceTokenTicketCipherExecutorTests.class,
     JWTTokenTicketBuilderTests.class,
     JWTTokenTicketBuilderWithoutCryptoTests.class,
     JWTTokenTicketBuilderWithoutEncryptionTests.class
@@ -0,0 +1,72 @@
+package org.apereo.cas.token.cipher;
+
+import org.apereo.cas.services.DefaultRegisteredServiceProperty;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceProperty;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link RegisteredServiceTokenTicketCipherExecutorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class RegisteredServiceTokenTicketCipherExecutorTests {
+    private static final String SIGNING_KEY = "pR3Vizkn5FSY5xCg84cIS4m-b6jomamZD68C8ash-TlNmgGPcoLgbgquxHPoi24tRmGpqHgM4mEykctcQzZ-Xg";
+
+    private static final String ENCRYPTION_KEY = "0KVXaN-nlXafRUwgsr3H_l6hkufY7lzoTy7OVI5pN0E";
+
+    private static void setKey(final RegisteredService service,
+                               final RegisteredServiceProperty.RegisteredServiceProperties property,
+                               final String value) {
+        final var key = new DefaultRegisteredServiceProperty();
+        key.addValue(value);
+        service.getProperties().put(property.getPropertyName(), key);
+    }
+
+    private static RegisteredService getRegisteredService() {
+        final var service = RegisteredServiceTestUtils.getRegisteredService("https://jwt.example.org/cas.*");
+        setKey(service, RegisteredServiceProperty.RegisteredServiceProperties.TOKEN_AS_SERVICE_TICKET_SIGNING_KEY, SIGNING_KEY);
+        setKey(service, RegisteredServiceProperty.RegisteredServiceProperties.TOKEN_AS_SERVICE_TICKET_ENCRYPTION_KEY, ENCRYPTION_KEY);
+        return service;
+    }
+
+    @Test
+    public void verifyCipherReusedForService() {
+        final var cipher = new RegisteredServiceTokenTicketCipherExecutor();
+        final var service = getRegisteredService();
+        final var executor = cipher.getTokenTicketCipherExecutor(service);
+        assertSame(executor, cipher.getTokenTicketCipherExecutor(service));
+
+        final var encoded = cipher.encode(TokenTicketCipherExecutorTests.ST, Optional.of(service));
+        assertEquals(TokenTicketCipherExecutorTests.ST, cipher.decode(encoded, Optional.of(service)));
+        assertSame(executor, cipher.getTokenTicketCipherExecutor(service));
+    }
+
+    @Test
+    public void verifyCipherRebuiltWhenKeysChange() {
+        final var cipher = new RegisteredServiceTokenTicketCipherExecutor();
+        final var service = getRegisteredService();
+        final var executor = cipher.getTokenTicketCipherExecutor(service);
+
+        setKey(service, RegisteredServiceProperty.RegisteredServiceProperties.TOKEN_AS_SERVICE_TICKET_SIGNING_KEY,
+            "qeALfMKRSME3mkHy0Qis6mhbGQFzps0ZiU-qyjsPOq_tYyR4fk2uAQR3wZfYTAlGGO3yhpJAMsq2JufeEC4fQg");
+        assertNotSame(executor, cipher.getTokenTicketCipherExecutor(service));
+    }
+
+    @Test
+    public void verifyCacheClearedWhenServicesLoaded() {
+        final var cipher = new RegisteredServiceTokenTicketCipherExecutor();
+        final var service = getRegisteredService();
+        final var executor = cipher.getTokenTicketCipherExecutor(service);
+        cipher.handleRegisteredServicesLoadedEvent(new CasRegisteredServicesLoadedEvent(this, List.of(service)));
+        assertNotSame(executor, cipher.getTokenTicketCipherExecutor(service));
+    }
+}
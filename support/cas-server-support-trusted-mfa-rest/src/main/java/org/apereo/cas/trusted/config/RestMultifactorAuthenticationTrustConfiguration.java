@@ -5,13 +5,13 @@ import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.RestMultifactorAuthenticationTrustStorage;
+import org.apereo.cas.util.http.SharedHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * This is {@link RestMultifactorAuthenticationTrustConfiguration}.
@@ -34,7 +34,7 @@ public class RestMultifactorAuthenticationTrustConfiguration {
     @RefreshScope
     @Bean
     public MultifactorAuthenticationTrustStorage mfaTrustEngine() {
-        final var m = new RestMultifactorAuthenticationTrustStorage(new RestTemplate(), casProperties);
+        final var m = new RestMultifactorAuthenticationTrustStorage(SharedHttpClient.newRestTemplate(), casProperties);
         m.setCipherExecutor(this.mfaTrustCipherExecutor);
         return m;
     }
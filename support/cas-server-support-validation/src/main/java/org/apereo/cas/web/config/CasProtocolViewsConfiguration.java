@@ -2,6 +2,7 @@ package org.apereo.cas.web.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.web.view.CasProtocolStreamingXmlView;
 import org.apereo.cas.web.view.CasProtocolView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -13,6 +14,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.http.MediaType;
+import org.springframework.web.servlet.View;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 
 /**
@@ -46,7 +48,10 @@ public class CasProtocolViewsConfiguration {
     public class CasProtocolViews {
         @Bean
         @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public CasProtocolView cas2SuccessView() {
+        public View cas2SuccessView() {
+            if (!casProperties.getView().isTemplatedProtocolResponses()) {
+                return new CasProtocolStreamingXmlView(CasProtocolStreamingXmlView.ResponseTypes.SERVICE_SUCCESS);
+            }
             return new CasProtocolView(casProperties.getView().getCas2().getSuccess(),
                 applicationContext,
                 springTemplateEngine, thymeleafProperties,
@@ -55,7 +60,10 @@ public class CasProtocolViewsConfiguration {
 
         @Bean
         @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public CasProtocolView cas2ServiceFailureView() {
+        public View cas2ServiceFailureView() {
+            if (!casProperties.getView().isTemplatedProtocolResponses()) {
+                return new CasProtocolStreamingXmlView(CasProtocolStreamingXmlView.ResponseTypes.SERVICE_FAILURE);
+            }
             return new CasProtocolView(casProperties.getView().getCas2().getFailure(), applicationContext,
                 springTemplateEngine, thymeleafProperties);
         }
@@ -63,7 +71,10 @@ public class CasProtocolViewsConfiguration {
         @ConditionalOnProperty(prefix = "cas.sso", name = "proxyAuthnEnabled", havingValue = "true", matchIfMissing = true)
         @Bean
         @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public CasProtocolView cas2ProxyFailureView() {
+        public View cas2ProxyFailureView() {
+            if (!casProperties.getView().isTemplatedProtocolResponses()) {
+                return new CasProtocolStreamingXmlView(CasProtocolStreamingXmlView.ResponseTypes.PROXY_FAILURE);
+            }
             return new CasProtocolView(casProperties.getView().getCas2().getProxy().getFailure(), applicationContext,
                 springTemplateEngine, thymeleafProperties,
                 MediaType.APPLICATION_XML_VALUE);
@@ -72,7 +83,10 @@ public class CasProtocolViewsConfiguration {
         @ConditionalOnProperty(prefix = "cas.sso", name = "proxyAuthnEnabled", havingValue = "true", matchIfMissing = true)
         @Bean
         @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public CasProtocolView cas2ProxySuccessView() {
+        public View cas2ProxySuccessView() {
+            if (!casProperties.getView().isTemplatedProtocolResponses()) {
+                return new CasProtocolStreamingXmlView(CasProtocolStreamingXmlView.ResponseTypes.PROXY_SUCCESS);
+            }
             return new CasProtocolView(casProperties.getView().getCas2().getProxy().getSuccess(),
                 applicationContext, springTemplateEngine, thymeleafProperties,
                 MediaType.APPLICATION_XML_VALUE);
@@ -80,7 +94,10 @@ public class CasProtocolViewsConfiguration {
 
         @Bean
         @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public CasProtocolView cas3SuccessView() {
+        public View cas3SuccessView() {
+            if (!casProperties.getView().isTemplatedProtocolResponses()) {
+                return new CasProtocolStreamingXmlView(CasProtocolStreamingXmlView.ResponseTypes.SERVICE_SUCCESS_WITH_ATTRIBUTES);
+            }
             return new CasProtocolView(casProperties.getView().getCas3().getSuccess(),
                 applicationContext, springTemplateEngine, thymeleafProperties);
         }
@@ -88,7 +105,10 @@ public class CasProtocolViewsConfiguration {
 
         @Bean
         @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public CasProtocolView cas3ServiceFailureView() {
+        public View cas3ServiceFailureView() {
+            if (!casProperties.getView().isTemplatedProtocolResponses()) {
+                return new CasProtocolStreamingXmlView(CasProtocolStreamingXmlView.ResponseTypes.SERVICE_FAILURE);
+            }
             return new CasProtocolView(casProperties.getView().getCas3().getFailure(),
                 applicationContext, springTemplateEngine, thymeleafProperties,
                 MediaType.APPLICATION_XML_VALUE);
@@ -0,0 +1,209 @@
+package org.apereo.cas.web.view;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.principal.Principal;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.View;
+import org.unbescape.html.HtmlEscape;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * This is {@link CasProtocolStreamingXmlView} that writes CAS protocol validation
+ * responses directly to the servlet response, without resolving and processing a template.
+ * The output is identical to that of the default protocol templates,
+ * which remain available for deployments that need customized responses.
+ * SAML1 responses produced by {@code /samlValidate} are not handled by this view.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class CasProtocolStreamingXmlView implements View {
+
+    private static final String RESPONSE_START = "<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>";
+    private static final String RESPONSE_END = "</cas:serviceResponse>";
+
+    private static final String INDENT_1 = "\n    ";
+    private static final String INDENT_2 = "\n        ";
+    private static final String INDENT_3 = "\n            ";
+    private static final String INDENT_4 = "\n                ";
+
+    private final ResponseTypes responseType;
+
+    @Override
+    public String getContentType() {
+        return MediaType.APPLICATION_XML_VALUE;
+    }
+
+    @Override
+    public void render(final Map<String, ?> model, final HttpServletRequest request,
+                       final HttpServletResponse response) throws Exception {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (response.getContentType() == null) {
+            response.setContentType(getContentType() + ";charset=" + StandardCharsets.UTF_8.name());
+        }
+        final var writer = response.getWriter();
+        write(model, writer);
+        writer.flush();
+    }
+
+    /**
+     * Write the response document for the given model.
+     *
+     * @param model  the model
+     * @param writer the writer
+     * @throws IOException the exception
+     */
+    public void write(final Map<String, ?> model, final Writer writer) throws IOException {
+        writer.write(RESPONSE_START);
+        switch (responseType) {
+            case SERVICE_SUCCESS:
+                writeAuthenticationSuccess(model, writer, false);
+                break;
+            case SERVICE_SUCCESS_WITH_ATTRIBUTES:
+                writeAuthenticationSuccess(model, writer, true);
+                break;
+            case PROXY_SUCCESS:
+                writer.write(INDENT_1);
+                writer.write("<cas:proxySuccess>");
+                writeElement(writer, INDENT_2, "cas:proxyTicket", model.get(CasProtocolConstants.PARAMETER_TICKET));
+                writer.write(INDENT_1);
+                writer.write("</cas:proxySuccess>");
+                break;
+            case PROXY_FAILURE:
+                writeFailure(model, writer, "cas:proxyFailure");
+                break;
+            case SERVICE_FAILURE:
+            default:
+                writeFailure(model, writer, "cas:authenticationFailure");
+                break;
+        }
+        writer.write('\n');
+        writer.write(RESPONSE_END);
+        writer.write('\n');
+    }
+
+    private static void writeAuthenticationSuccess(final Map<String, ?> model, final Writer writer,
+                                                   final boolean includeAttributes) throws IOException {
+        writer.write(INDENT_1);
+        writer.write("<cas:authenticationSuccess>");
+
+        final var principal = (Principal) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL);
+        writeElement(writer, INDENT_2, "cas:user", principal.getId());
+
+        writer.write(INDENT_2);
+        final var pgtIou = model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU);
+        if (pgtIou != null && StringUtils.isNotBlank(pgtIou.toString())) {
+            writer.write("<cas:proxyGrantingTicket>");
+            writer.write(escape(pgtIou));
+            writer.write("</cas:proxyGrantingTicket>");
+        }
+
+        writer.write(INDENT_2);
+        final var chained = (Collection<Authentication>) model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS);
+        if (chained != null && !chained.isEmpty()) {
+            writer.write("<cas:proxies>");
+            for (final var proxy : chained) {
+                writeElement(writer, INDENT_3, "cas:proxy", proxy.getPrincipal().getId());
+            }
+            writer.write(INDENT_2);
+            writer.write("</cas:proxies>");
+        }
+
+        if (includeAttributes) {
+            writer.write(INDENT_2);
+            final var attributes = (Collection<String>) model.get(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES);
+            if (attributes != null && !attributes.isEmpty()) {
+                writer.write("<cas:attributes>");
+                for (final var attribute : attributes) {
+                    writer.write(INDENT_3);
+                    writer.write(INDENT_4);
+                    writer.write(attribute);
+                    writer.write(INDENT_3);
+                }
+                writer.write(INDENT_2);
+                writer.write("</cas:attributes>");
+            }
+        }
+        writer.write(INDENT_1);
+        writer.write("</cas:authenticationSuccess>");
+    }
+
+    private static void writeFailure(final Map<String, ?> model, final Writer writer, final String element) throws IOException {
+        writer.write(INDENT_1);
+        writer.write('<');
+        writer.write(element);
+        final var code = model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE);
+        if (code != null) {
+            writer.write(" code=\"");
+            writer.write(escape(code));
+            writer.write('"');
+        }
+        writer.write('>');
+        final var description = model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION);
+        if (description != null) {
+            writer.write(escape(description));
+        }
+        writer.write("</");
+        writer.write(element);
+        writer.write('>');
+    }
+
+    private static void writeElement(final Writer writer, final String indent, final String name, final Object value) throws IOException {
+        writer.write(indent);
+        writer.write('<');
+        writer.write(name);
+        writer.write('>');
+        if (value != null) {
+            writer.write(escape(value));
+        }
+        writer.write("</");
+        writer.write(name);
+        writer.write('>');
+    }
+
+    private static String escape(final Object value) {
+        return HtmlEscape.escapeHtml4Xml(value.toString());
+    }
+
+    /**
+     * The protocol response documents this view can produce.
+     */
+    public enum ResponseTypes {
+        /**
+         * CAS2 authentication success.
+         */
+        SERVICE_SUCCESS,
+        /**
+         * CAS3 authentication success with released attributes.
+         */
+        SERVICE_SUCCESS_WITH_ATTRIBUTES,
+        /**
+         * Authentication failure.
+         */
+        SERVICE_FAILURE,
+        /**
+         * Proxy ticket granted.
+         */
+        PROXY_SUCCESS,
+        /**
+         * Proxy ticket request failed.
+         */
+        PROXY_FAILURE
+    }
+}
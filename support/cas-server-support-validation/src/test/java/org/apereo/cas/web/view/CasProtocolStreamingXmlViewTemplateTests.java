@@ -0,0 +1,122 @@
+package org.apereo.cas.web.view;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.util.CollectionUtils;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.FileTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link CasProtocolStreamingXmlViewTemplateTests}, which verifies that the streamed responses
+ * are byte for byte identical to those rendered by the default protocol templates of the web application.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class CasProtocolStreamingXmlViewTemplateTests {
+    private static final String TEMPLATES_DIRECTORY = "webapp/resources/templates/";
+
+    private static SpringTemplateEngine templateEngine;
+
+    @BeforeClass
+    public static void initialize() {
+        var directory = Paths.get(StringUtils.EMPTY).toAbsolutePath();
+        while (directory != null && !Files.isDirectory(directory.resolve(TEMPLATES_DIRECTORY))) {
+            directory = directory.getParent();
+        }
+        Assume.assumeNotNull(directory);
+        final var resolver = new FileTemplateResolver();
+        resolver.setPrefix(directory.resolve(TEMPLATES_DIRECTORY).toString() + '/');
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(false);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+    }
+
+    private static Map<String, Object> getSuccessModel() {
+        final Map<String, Object> model = new HashMap<>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("cas&user's"));
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU, "PGTIOU-1-<abc>");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS,
+            CollectionUtils.wrapList(CoreAuthenticationTestUtils.getAuthentication("proxy1"),
+                CoreAuthenticationTestUtils.getAuthentication("proxy2")));
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES,
+            CollectionUtils.wrapList("<cas:mail>casuser@example.org</cas:mail>", "<cas:cn>CAS &amp; Co</cas:cn>"));
+        return model;
+    }
+
+    private static void verifyIdentical(final String template, final CasProtocolStreamingXmlView.ResponseTypes type,
+                                        final Map<String, Object> model) throws Exception {
+        final var expected = templateEngine.process(template, new Context(Locale.ENGLISH, model));
+        final var response = new MockHttpServletResponse();
+        new CasProtocolStreamingXmlView(type).render(model, new MockHttpServletRequest(), response);
+        assertArrayEquals(template, expected.getBytes(StandardCharsets.UTF_8), response.getContentAsByteArray());
+    }
+
+    @Test
+    public void verifyCas2Success() throws Exception {
+        verifyIdentical("protocol/2.0/casServiceValidationSuccess", CasProtocolStreamingXmlView.ResponseTypes.SERVICE_SUCCESS,
+            getSuccessModel());
+    }
+
+    @Test
+    public void verifyCas2SuccessWithoutProxies() throws Exception {
+        final var model = getSuccessModel();
+        model.remove(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU);
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS, CollectionUtils.wrapList());
+        verifyIdentical("protocol/2.0/casServiceValidationSuccess", CasProtocolStreamingXmlView.ResponseTypes.SERVICE_SUCCESS, model);
+    }
+
+    @Test
+    public void verifyCas3Success() throws Exception {
+        verifyIdentical("protocol/3.0/casServiceValidationSuccess",
+            CasProtocolStreamingXmlView.ResponseTypes.SERVICE_SUCCESS_WITH_ATTRIBUTES, getSuccessModel());
+    }
+
+    @Test
+    public void verifyCas3SuccessWithoutAttributes() throws Exception {
+        final var model = getSuccessModel();
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES, CollectionUtils.wrapList());
+        verifyIdentical("protocol/3.0/casServiceValidationSuccess",
+            CasProtocolStreamingXmlView.ResponseTypes.SERVICE_SUCCESS_WITH_ATTRIBUTES, model);
+    }
+
+    @Test
+    public void verifyProxySuccess() throws Exception {
+        final Map<String, Object> model = new HashMap<>();
+        model.put(CasProtocolConstants.PARAMETER_TICKET, "PT-1-<abc>");
+        verifyIdentical("protocol/2.0/casProxySuccessView", CasProtocolStreamingXmlView.ResponseTypes.PROXY_SUCCESS, model);
+    }
+
+    @Test
+    public void verifyFailures() throws Exception {
+        final Map<String, Object> model = new HashMap<>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "Ticket 'ST-1' & \"friends\" not recognized");
+        verifyIdentical("protocol/2.0/casServiceValidationFailure", CasProtocolStreamingXmlView.ResponseTypes.SERVICE_FAILURE, model);
+        verifyIdentical("protocol/3.0/casServiceValidationFailure", CasProtocolStreamingXmlView.ResponseTypes.SERVICE_FAILURE, model);
+        verifyIdentical("protocol/2.0/casProxyFailureView", CasProtocolStreamingXmlView.ResponseTypes.PROXY_FAILURE, model);
+    }
+}
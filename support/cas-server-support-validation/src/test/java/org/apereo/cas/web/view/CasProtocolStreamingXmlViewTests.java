@@ -0,0 +1,91 @@
+package org.apereo.cas.web.view;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.util.CollectionUtils;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link CasProtocolStreamingXmlViewTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class CasProtocolStreamingXmlViewTests {
+
+    private static Document parse(final String xml) throws Exception {
+        final var factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(false);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String render(final CasProtocolStreamingXmlView.ResponseTypes type, final Map<String, Object> model) throws Exception {
+        final var response = new MockHttpServletResponse();
+        new CasProtocolStreamingXmlView(type).render(model, new MockHttpServletRequest(), response);
+        return response.getContentAsString();
+    }
+
+    @Test
+    public void verifyCas3SuccessResponse() throws Exception {
+        final Map<String, Object> model = new HashMap<>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("cas<user>"));
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PROXY_GRANTING_TICKET_IOU, "PGTIOU-1");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_CHAINED_AUTHENTICATIONS,
+            CollectionUtils.wrapList(CoreAuthenticationTestUtils.getAuthentication("proxy1")));
+        model.put(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FORMATTED_ATTRIBUTES,
+            CollectionUtils.wrapList("<cas:mail>casuser@example.org</cas:mail>", "<cas:cn>CAS</cas:cn>"));
+
+        final var xml = render(CasProtocolStreamingXmlView.ResponseTypes.SERVICE_SUCCESS_WITH_ATTRIBUTES, model);
+        final var document = parse(xml);
+        assertEquals("cas<user>", document.getElementsByTagName("cas:user").item(0).getTextContent());
+        assertEquals("PGTIOU-1", document.getElementsByTagName("cas:proxyGrantingTicket").item(0).getTextContent());
+        assertEquals("proxy1", document.getElementsByTagName("cas:proxy").item(0).getTextContent());
+        assertEquals("casuser@example.org", document.getElementsByTagName("cas:mail").item(0).getTextContent());
+        assertEquals("CAS", document.getElementsByTagName("cas:cn").item(0).getTextContent());
+    }
+
+    @Test
+    public void verifyCas2SuccessResponseWithoutOptionalElements() throws Exception {
+        final Map<String, Object> model = new HashMap<>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_PRINCIPAL, CoreAuthenticationTestUtils.getPrincipal("casuser"));
+        final var xml = render(CasProtocolStreamingXmlView.ResponseTypes.SERVICE_SUCCESS, model);
+        final var document = parse(xml);
+        assertEquals(0, document.getElementsByTagName("cas:proxyGrantingTicket").getLength());
+        assertEquals(0, document.getElementsByTagName("cas:proxies").getLength());
+        assertEquals(0, document.getElementsByTagName("cas:attributes").getLength());
+        assertTrue(xml.startsWith("<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>"));
+    }
+
+    @Test
+    public void verifyFailureResponse() throws Exception {
+        final Map<String, Object> model = new HashMap<>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "Ticket 'ST-1' not recognized");
+        final var xml = render(CasProtocolStreamingXmlView.ResponseTypes.SERVICE_FAILURE, model);
+        final var element = parse(xml).getElementsByTagName("cas:authenticationFailure").item(0);
+        assertEquals("INVALID_TICKET", element.getAttributes().getNamedItem("code").getTextContent());
+        assertEquals("Ticket 'ST-1' not recognized", element.getTextContent());
+    }
+
+    @Test
+    public void verifyProxySuccessResponse() throws Exception {
+        final Map<String, Object> model = new HashMap<>();
+        model.put(CasProtocolConstants.PARAMETER_TICKET, "PT-1");
+        final var xml = render(CasProtocolStreamingXmlView.ResponseTypes.PROXY_SUCCESS, model);
+        assertEquals("PT-1", parse(xml).getElementsByTagName("cas:proxyTicket").item(0).getTextContent());
+    }
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.ws.idp.services;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
@@ -8,9 +9,11 @@ import org.apache.cxf.binding.soap.SoapFault;
 import org.apache.cxf.fediz.core.exception.ProcessingException;
 import org.apache.cxf.rt.security.SecurityConstants;
 import org.apache.cxf.staxutils.W3CDOMStreamWriter;
+import org.apache.cxf.ws.security.sts.provider.STSException;
 import org.apache.cxf.ws.security.tokenstore.SecurityToken;
 import org.apache.cxf.ws.security.trust.STSUtils;
 import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.authentication.EmbeddedSecurityTokenServiceIssuer;
 import org.apereo.cas.authentication.SecurityTokenServiceClient;
 import org.apereo.cas.authentication.SecurityTokenServiceClientBuilder;
 import org.apereo.cas.util.CollectionUtils;
@@ -40,14 +43,35 @@ public class DefaultRelyingPartyTokenProducer implements WSFederationRelyingPart
     private final SecurityTokenServiceClientBuilder clientBuilder;
     private final CipherExecutor<String, String> credentialCipherExecutor;
 
+    /**
+     * When defined, tokens are issued by the embedded STS without a SOAP round trip.
+     */
+    @Setter
+    private EmbeddedSecurityTokenServiceIssuer embeddedIssuer;
+
     @Override
     public String produce(final SecurityToken securityToken, final WSFederationRegisteredService service,
                           final WSFederationRequest fedRequest, final HttpServletRequest request,
                           final Assertion assertion) {
+        final var claims = buildRequestedClaims(assertion);
+        if (this.embeddedIssuer != null) {
+            try {
+                final var rpToken = this.embeddedIssuer.requestSecurityTokenResponse(securityToken, service,
+                    assertion.getPrincipal().getName(), claims);
+                return serializeRelyingPartyToken(rpToken);
+            } catch (final STSException e) {
+                LOGGER.error(e.getMessage(), e);
+                throw new IllegalArgumentException(new ProcessingException(ProcessingException.TYPE.BAD_REQUEST));
+            }
+        }
         final var sts = clientBuilder.buildClientForRelyingPartyTokenResponses(securityToken, service);
-        mapAttributesToRequestedClaims(service, sts, assertion);
-        final var rpToken = requestSecurityTokenResponse(service, sts, assertion);
-        return serializeRelyingPartyToken(rpToken);
+        try {
+            sts.setClaims(claims);
+            final var rpToken = requestSecurityTokenResponse(service, sts, assertion);
+            return serializeRelyingPartyToken(rpToken);
+        } finally {
+            clientBuilder.release(sts);
+        }
     }
 
     @SneakyThrows
@@ -59,8 +83,7 @@ public class DefaultRelyingPartyTokenProducer implements WSFederationRelyingPart
         return sw.toString();
     }
 
-    private static void mapAttributesToRequestedClaims(final WSFederationRegisteredService service, final SecurityTokenServiceClient sts,
-                                                       final Assertion assertion) {
+    private static Element buildRequestedClaims(final Assertion assertion) {
         try {
             final var writer = new W3CDOMStreamWriter();
             writer.writeStartElement("wst", "Claims", STSUtils.WST_NS_05_12);
@@ -95,11 +118,11 @@ public class DefaultRelyingPartyTokenProducer implements WSFederationRelyingPart
 
             writer.writeEndElement();
 
-            final var claims = writer.getDocument().getDocumentElement();
-            sts.setClaims(claims);
+            return writer.getDocument().getDocumentElement();
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
+        return null;
     }
 
     @SneakyThrows
@@ -0,0 +1,175 @@
+package org.apereo.cas.authentication;
+
+import org.apache.cxf.message.Message;
+import org.apache.cxf.ws.security.sts.provider.model.ObjectFactory;
+import org.apache.cxf.ws.security.sts.provider.model.RequestSecurityTokenType;
+import org.apache.cxf.ws.security.sts.provider.model.RequestedSecurityTokenType;
+import org.apache.cxf.ws.security.sts.provider.model.StatusType;
+import org.apache.cxf.ws.security.sts.provider.model.ValidateTargetType;
+import org.apache.cxf.ws.security.sts.provider.operation.IssueOperation;
+import org.apache.cxf.ws.security.sts.provider.operation.ValidateOperation;
+import org.apache.cxf.ws.security.tokenstore.SecurityToken;
+import org.apache.cxf.ws.security.trust.STSUtils;
+import org.apache.wss4j.common.principal.CustomTokenPrincipal;
+import org.apache.wss4j.dom.WSConstants;
+import org.apereo.cas.config.CasAuthenticationEventExecutionPlanTestConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationPrincipalConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationServiceSelectionStrategyConfiguration;
+import org.apereo.cas.config.CasCoreConfiguration;
+import org.apereo.cas.config.CasCoreHttpConfiguration;
+import org.apereo.cas.config.CasCoreServicesConfiguration;
+import org.apereo.cas.config.CasCoreTicketCatalogConfiguration;
+import org.apereo.cas.config.CasCoreTicketIdGeneratorsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsConfiguration;
+import org.apereo.cas.config.CasCoreUtilConfiguration;
+import org.apereo.cas.config.CasCoreWebConfiguration;
+import org.apereo.cas.config.CasDefaultServiceTicketIdGeneratorsConfiguration;
+import org.apereo.cas.config.CasPersonDirectoryTestConfiguration;
+import org.apereo.cas.config.CasRegisteredServicesTestConfiguration;
+import org.apereo.cas.config.CasWsSecurityTokenTicketCatalogConfiguration;
+import org.apereo.cas.config.CoreWsSecurityIdentityProviderConfiguration;
+import org.apereo.cas.config.CoreWsSecuritySecurityTokenServiceConfiguration;
+import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
+import org.apereo.cas.web.config.CasCookieConfiguration;
+import org.apereo.cas.ws.idp.WSFederationConstants;
+import org.apereo.cas.ws.idp.services.WSFederationRegisteredService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.w3c.dom.Element;
+
+import javax.xml.bind.JAXBElement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link EmbeddedSecurityTokenServiceIssuerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    CasWsSecurityTokenTicketCatalogConfiguration.class,
+    CoreWsSecuritySecurityTokenServiceConfiguration.class,
+    CoreWsSecurityIdentityProviderConfiguration.class,
+    CasCoreConfiguration.class,
+    CasCoreTicketsConfiguration.class,
+    CasCoreLogoutConfiguration.class,
+    CasCookieConfiguration.class,
+    CasCoreServicesConfiguration.class,
+    CasCoreTicketIdGeneratorsConfiguration.class,
+    CasCoreTicketCatalogConfiguration.class,
+    CasCoreAuthenticationServiceSelectionStrategyConfiguration.class,
+    CasCoreHttpConfiguration.class,
+    CasCoreWebConfiguration.class,
+    CasPersonDirectoryTestConfiguration.class,
+    CasCoreUtilConfiguration.class,
+    CasRegisteredServicesTestConfiguration.class,
+    CasWebApplicationServiceFactoryConfiguration.class,
+    CasAuthenticationEventExecutionPlanTestConfiguration.class,
+    CasDefaultServiceTicketIdGeneratorsConfiguration.class,
+    CasCoreAuthenticationPrincipalConfiguration.class
+})
+@TestPropertySource(locations = "classpath:ws-idp.properties", properties = "cas.authn.wsfedIdp.sts.encryptTokens=false")
+public class EmbeddedSecurityTokenServiceIssuerTests {
+    private static final String SAML2_NAMESPACE = "urn:oasis:names:tc:SAML:2.0:assertion";
+
+    private static final String PRINCIPAL = "casuser";
+
+    private final ObjectFactory objectFactory = new ObjectFactory();
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Autowired
+    @Qualifier("embeddedSecurityTokenServiceIssuer")
+    private EmbeddedSecurityTokenServiceIssuer issuer;
+
+    @Autowired
+    @Qualifier("transportIssueDelegate")
+    private IssueOperation issueOperation;
+
+    @Autowired
+    @Qualifier("transportValidateDelegate")
+    private ValidateOperation validateOperation;
+
+    @Test
+    public void verifyTokenIssuedAndValidated() {
+        final var realm = casProperties.getAuthn().getWsfedIdp().getIdp().getRealm();
+        final var registeredService = new WSFederationRegisteredService();
+        registeredService.setRealm(realm);
+        registeredService.setServiceId("http://app.example.org/wsfed-idp");
+        registeredService.setName("WSFED App");
+        registeredService.setId(100);
+        registeredService.setAppliesTo(realm);
+
+        final var securityToken = new SecurityToken("security-token");
+        securityToken.setToken(issueSecurityToken());
+
+        final var response = issuer.requestSecurityTokenResponse(securityToken, registeredService, PRINCIPAL, null);
+        final var assertions = response.getElementsByTagNameNS(SAML2_NAMESPACE, "Assertion");
+        assertEquals(1, assertions.getLength());
+        final var assertion = (Element) assertions.item(0);
+        assertTrue(assertion.getTextContent().contains(PRINCIPAL));
+        assertTrue(assertion.getTextContent().contains(realm));
+
+        final var request = new RequestSecurityTokenType();
+        request.getAny().add(objectFactory.createRequestType(STSUtils.WST_NS_05_12 + "/Validate"));
+        request.getAny().add(objectFactory.createTokenType(STSUtils.WST_NS_05_12 + "/RSTR/Status"));
+        final var target = new ValidateTargetType();
+        target.setAny(assertion);
+        request.getAny().add(objectFactory.createValidateTarget(target));
+
+        final var validation = validateOperation.validate(request, new CustomTokenPrincipal(PRINCIPAL), getMessageContext());
+        final var status = validation.getAny().stream()
+            .filter(JAXBElement.class::isInstance)
+            .map(e -> ((JAXBElement<?>) e).getValue())
+            .filter(StatusType.class::isInstance)
+            .map(StatusType.class::cast)
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("Validation response carries no status"));
+        assertEquals(STSUtils.WST_NS_05_12 + "/status/valid", status.getCode());
+    }
+
+    /**
+     * Issue the token for the authenticated principal that the relying party token is requested on behalf of.
+     *
+     * @return the security token element
+     */
+    private Element issueSecurityToken() {
+        final var request = new RequestSecurityTokenType();
+        request.getAny().add(objectFactory.createRequestType(STSUtils.WST_NS_05_12 + "/Issue"));
+        request.getAny().add(objectFactory.createTokenType(WSConstants.WSS_SAML2_TOKEN_TYPE));
+        request.getAny().add(objectFactory.createKeyType(WSFederationConstants.HTTP_DOCS_OASIS_OPEN_ORG_WS_SX_WS_TRUST_200512_BEARER));
+
+        final var response = issueOperation.issue(request, new CustomTokenPrincipal(PRINCIPAL), getMessageContext());
+        return response.getRequestSecurityTokenResponse().get(0).getAny().stream()
+            .filter(JAXBElement.class::isInstance)
+            .map(e -> ((JAXBElement<?>) e).getValue())
+            .filter(RequestedSecurityTokenType.class::isInstance)
+            .map(t -> (Element) ((RequestedSecurityTokenType) t).getAny())
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("Issue response carries no security token"));
+    }
+
+    private Map<String, Object> getMessageContext() {
+        final var realmName = casProperties.getAuthn().getWsfedIdp().getIdp().getRealmName();
+        final var messageContext = new HashMap<String, Object>();
+        messageContext.put(Message.REQUEST_URL, casProperties.getServer().getPrefix()
+            .concat(WSFederationConstants.ENDPOINT_STS)
+            .concat(realmName)
+            .concat("/STSServiceTransportUT"));
+        return messageContext;
+    }
+}
@@ -0,0 +1,80 @@
+package org.apereo.cas.authentication;
+
+import org.apache.cxf.rt.security.SecurityConstants;
+import org.apache.cxf.ws.security.tokenstore.SecurityToken;
+import org.apereo.cas.configuration.model.support.wsfed.WsFederationProperties;
+import org.apereo.cas.ws.idp.services.WSFederationRegisteredService;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link SecurityTokenServiceClientBuilderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class SecurityTokenServiceClientBuilderTests {
+    private WsFederationProperties properties;
+
+    private SecurityTokenServiceClientBuilder builder;
+
+    private static WSFederationRegisteredService getRegisteredService(final long id) {
+        final var service = new WSFederationRegisteredService();
+        service.setId(id);
+        service.setServiceId("http://app.example.org/wsfed-idp");
+        service.setName("WSFED App");
+        service.setAppliesTo("urn:org:apereo:cas:ws:idp:realm-CAS");
+        service.setWsdlLocation("classpath:wsdl/ws-trust-1.4-service.wsdl");
+        return service;
+    }
+
+    @Before
+    public void setup() {
+        this.properties = new WsFederationProperties();
+        this.builder = new SecurityTokenServiceClientBuilder(properties, "https://sso.example.org/cas");
+    }
+
+    @Test
+    public void verifyClientReusedOnceReleased() {
+        final var service = getRegisteredService(100);
+        final var sts = builder.buildClientForSecurityTokenRequests(service);
+        sts.getProperties().put(SecurityConstants.USERNAME, "casuser");
+        sts.getProperties().put(SecurityConstants.PASSWORD, "secret");
+
+        final var concurrent = builder.buildClientForSecurityTokenRequests(service);
+        assertNotSame(sts, concurrent);
+
+        builder.release(sts);
+        assertFalse(sts.getProperties().containsKey(SecurityConstants.USERNAME));
+        assertFalse(sts.getProperties().containsKey(SecurityConstants.PASSWORD));
+        assertSame(sts, builder.buildClientForSecurityTokenRequests(service));
+    }
+
+    @Test
+    public void verifyClientsPooledPerConfiguration() {
+        final var service = getRegisteredService(100);
+        final var sts = builder.buildClientForSecurityTokenRequests(service);
+        builder.release(sts);
+
+        assertNotSame(sts, builder.buildClientForSecurityTokenRequests(getRegisteredService(200)));
+
+        final var token = new SecurityToken("token-id");
+        final var rp = builder.buildClientForRelyingPartyTokenResponses(token, service);
+        assertNotSame(sts, rp);
+        builder.release(rp);
+
+        service.setWsdlLocation("https://sts.example.org/sts?wsdl");
+        assertNotSame(sts, builder.buildClientForSecurityTokenRequests(service));
+    }
+
+    @Test
+    public void verifyPoolingDisabled() {
+        properties.getSts().setClientPoolSize(0);
+        final var service = getRegisteredService(100);
+        final var sts = builder.buildClientForSecurityTokenRequests(service);
+        builder.release(sts);
+        assertNotSame(sts, builder.buildClientForSecurityTokenRequests(service));
+    }
+}
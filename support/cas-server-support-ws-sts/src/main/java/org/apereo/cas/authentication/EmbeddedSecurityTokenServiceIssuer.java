@@ -0,0 +1,112 @@
+package org.apereo.cas.authentication;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.staxutils.W3CDOMStreamWriter;
+import org.apache.cxf.ws.security.sts.provider.model.ObjectFactory;
+import org.apache.cxf.ws.security.sts.provider.model.OnBehalfOfType;
+import org.apache.cxf.ws.security.sts.provider.model.RequestSecurityTokenType;
+import org.apache.cxf.ws.security.sts.provider.operation.IssueOperation;
+import org.apache.cxf.ws.security.tokenstore.SecurityToken;
+import org.apache.cxf.ws.security.trust.STSUtils;
+import org.apache.wss4j.common.principal.CustomTokenPrincipal;
+import org.apache.wss4j.dom.WSConstants;
+import org.apereo.cas.ws.idp.WSFederationConstants;
+import org.apereo.cas.ws.idp.services.WSFederationRegisteredService;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.transform.dom.DOMResult;
+import java.util.HashMap;
+
+/**
+ * This is {@link EmbeddedSecurityTokenServiceIssuer}, which requests relying party tokens
+ * from the STS deployed in this CAS server by invoking its issue operation directly,
+ * without a SOAP round trip over HTTP. The caller is trusted to have authenticated the principal.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EmbeddedSecurityTokenServiceIssuer {
+    private static final String REQUEST_TYPE_ISSUE = STSUtils.WST_NS_05_12 + "/Issue";
+
+    private static final String WSP_NAMESPACE = "http://schemas.xmlsoap.org/ws/2004/09/policy";
+
+    private static final JAXBContext JAXB_CONTEXT = newJaxbContext();
+
+    private final ObjectFactory objectFactory = new ObjectFactory();
+
+    private final IssueOperation issueOperation;
+
+    private final String endpointUrl;
+
+    @SneakyThrows
+    private static JAXBContext newJaxbContext() {
+        return JAXBContext.newInstance(ObjectFactory.class);
+    }
+
+    /**
+     * Issue a token for the relying party on behalf of the given security token.
+     *
+     * @param securityToken the security token
+     * @param service       the service
+     * @param principal     the principal
+     * @param claims        the requested claims, may be null
+     * @return the request security token response element
+     */
+    @SneakyThrows
+    public Element requestSecurityTokenResponse(final SecurityToken securityToken,
+                                                final WSFederationRegisteredService service,
+                                                final String principal,
+                                                final Element claims) {
+        final var request = new RequestSecurityTokenType();
+        final var any = request.getAny();
+        any.add(objectFactory.createRequestType(REQUEST_TYPE_ISSUE));
+        any.add(objectFactory.createTokenType(StringUtils.defaultIfBlank(service.getTokenType(), WSConstants.WSS_SAML2_TOKEN_TYPE)));
+        any.add(objectFactory.createKeyType(WSFederationConstants.HTTP_DOCS_OASIS_OPEN_ORG_WS_SX_WS_TRUST_200512_BEARER));
+
+        final var onBehalfOf = new OnBehalfOfType();
+        onBehalfOf.setAny(securityToken.getToken());
+        any.add(objectFactory.createOnBehalfOf(onBehalfOf));
+
+        if (StringUtils.isNotBlank(service.getAppliesTo())) {
+            any.add(buildAppliesTo(service));
+        }
+        if (claims != null) {
+            any.add(claims);
+        }
+
+        final var messageContext = new HashMap<String, Object>();
+        messageContext.put(Message.REQUEST_URL, this.endpointUrl);
+        LOGGER.debug("Issuing token for [{}] to [{}] via the embedded security token service", principal, service.getAppliesTo());
+        final var response = issueOperation.issue(request, new CustomTokenPrincipal(principal), messageContext);
+        final var rstr = response.getRequestSecurityTokenResponse().get(0);
+
+        final var result = new DOMResult();
+        JAXB_CONTEXT.createMarshaller().marshal(objectFactory.createRequestSecurityTokenResponse(rstr), result);
+        return ((Document) result.getNode()).getDocumentElement();
+    }
+
+    @SneakyThrows
+    private static Element buildAppliesTo(final WSFederationRegisteredService service) {
+        final var addressing = StringUtils.defaultIfBlank(service.getAddressingNamespace(), WSFederationConstants.HTTP_WWW_W3_ORG_2005_08_ADDRESSING);
+        final var policy = StringUtils.defaultIfBlank(service.getPolicyNamespace(), WSP_NAMESPACE);
+        final var writer = new W3CDOMStreamWriter();
+        writer.writeStartElement("wsp", "AppliesTo", policy);
+        writer.writeNamespace("wsp", policy);
+        writer.writeStartElement("wsa", "EndpointReference", addressing);
+        writer.writeNamespace("wsa", addressing);
+        writer.writeStartElement("wsa", "Address", addressing);
+        writer.writeCharacters(service.getAppliesTo());
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writer.writeEndElement();
+        return writer.getDocument().getDocumentElement();
+    }
+}
@@ -80,7 +80,11 @@ public class SecurityTokenServiceAuthenticationMetaDataPopulator extends BaseAut
                 throw new UnauthorizedSsoServiceException();
             }
             final var sts = clientBuilder.buildClientForSecurityTokenRequests(rp);
-            invokeSecurityTokenServiceForToken(transaction, builder, rp, sts);
+            try {
+                invokeSecurityTokenServiceForToken(transaction, builder, rp, sts);
+            } finally {
+                clientBuilder.release(sts);
+            }
         }
     }
 
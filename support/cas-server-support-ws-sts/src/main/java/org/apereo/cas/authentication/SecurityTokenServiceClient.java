@@ -1,5 +1,8 @@
 package org.apereo.cas.authentication;
 
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.cxf.Bus;
 import org.apache.cxf.ws.security.tokenstore.SecurityToken;
@@ -14,6 +17,13 @@ import org.w3c.dom.Element;
  */
 @Slf4j
 public class SecurityTokenServiceClient extends STSClient {
+    /**
+     * Identifies the pool this client is returned to once released.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private String poolKey;
+
     public SecurityTokenServiceClient(final Bus b) {
         super(b);
     }
@@ -1,9 +1,11 @@
 package org.apereo.cas.authentication;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.BusFactory;
+import org.apache.cxf.rt.security.SecurityConstants;
 import org.apache.cxf.ws.security.tokenstore.SecurityToken;
 import org.apache.wss4j.dom.WSConstants;
 import org.apereo.cas.configuration.model.support.wsfed.WsFederationProperties;
@@ -11,20 +13,42 @@ import org.apereo.cas.ws.idp.WSFederationConstants;
 import org.apereo.cas.ws.idp.services.WSFederationRegisteredService;
 
 import javax.xml.namespace.QName;
-import java.util.HashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This is {@link SecurityTokenServiceClientBuilder}.
+ * <p>
+ * Clients are expensive to create, since the first request of each client parses the STS WSDL
+ * and builds its service model. Clients handed out by this builder are therefore pooled per
+ * relying party configuration: callers should {@link #release(SecurityTokenServiceClient)} a client
+ * once the token exchange is complete, so that it can be reused by subsequent requests.
+ * A client that is not released is simply not reused.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
 @Slf4j
-@RequiredArgsConstructor
 public class SecurityTokenServiceClientBuilder {
+    private static final int CACHE_IDLE_MINUTES = 30;
+
+    private static final int CACHE_MAX_SIZE = 1000;
+
     private final WsFederationProperties wsFederationProperties;
     private final String prefix;
 
+    private final Cache<String, ClientPool> clientPools = Caffeine.newBuilder()
+        .maximumSize(CACHE_MAX_SIZE)
+        .expireAfterAccess(CACHE_IDLE_MINUTES, TimeUnit.MINUTES)
+        .build();
+
+    public SecurityTokenServiceClientBuilder(final WsFederationProperties wsFederationProperties, final String prefix) {
+        this.wsFederationProperties = wsFederationProperties;
+        this.prefix = prefix;
+    }
+
     /**
      * Build client for security token requests.
      *
@@ -32,20 +56,23 @@ public class SecurityTokenServiceClientBuilder {
      * @return the security token service client
      */
     public SecurityTokenServiceClient buildClientForSecurityTokenRequests(final WSFederationRegisteredService service) {
-        final var cxfBus = BusFactory.getDefaultBus();
-        final var sts = new SecurityTokenServiceClient(cxfBus);
-        sts.setAddressingNamespace(StringUtils.defaultIfBlank(service.getAddressingNamespace(), WSFederationConstants.HTTP_WWW_W3_ORG_2005_08_ADDRESSING));
-        sts.setTokenType(StringUtils.defaultIfBlank(service.getTokenType(), WSConstants.WSS_SAML2_TOKEN_TYPE));
-        sts.setKeyType(WSFederationConstants.HTTP_DOCS_OASIS_OPEN_ORG_WS_SX_WS_TRUST_200512_BEARER);
-        sts.setWsdlLocation(prepareWsdlLocation(service));
+        final var key = buildPoolKey("token", service);
+        final var sts = borrow(key);
+        if (sts != null) {
+            return sts;
+        }
+        final var client = newSecurityTokenServiceClient();
+        client.setAddressingNamespace(StringUtils.defaultIfBlank(service.getAddressingNamespace(), WSFederationConstants.HTTP_WWW_W3_ORG_2005_08_ADDRESSING));
+        client.setTokenType(StringUtils.defaultIfBlank(service.getTokenType(), WSConstants.WSS_SAML2_TOKEN_TYPE));
+        client.setKeyType(WSFederationConstants.HTTP_DOCS_OASIS_OPEN_ORG_WS_SX_WS_TRUST_200512_BEARER);
+        client.setWsdlLocation(prepareWsdlLocation(service));
         if (StringUtils.isNotBlank(service.getPolicyNamespace())) {
-            sts.setWspNamespace(service.getPolicyNamespace());
+            client.setWspNamespace(service.getPolicyNamespace());
         }
         final var namespace = StringUtils.defaultIfBlank(service.getNamespace(), WSFederationConstants.HTTP_DOCS_OASIS_OPEN_ORG_WS_SX_WS_TRUST_200512);
-        sts.setServiceQName(new QName(namespace, StringUtils.defaultIfBlank(service.getWsdlService(), WSFederationConstants.SECURITY_TOKEN_SERVICE)));
-        sts.setEndpointQName(new QName(namespace, service.getWsdlEndpoint()));
-        sts.getProperties().putAll(new HashMap<>());
-        return sts;
+        client.setServiceQName(new QName(namespace, StringUtils.defaultIfBlank(service.getWsdlService(), WSFederationConstants.SECURITY_TOKEN_SERVICE)));
+        client.setEndpointQName(new QName(namespace, service.getWsdlEndpoint()));
+        return lease(key, client);
     }
 
     private String prepareWsdlLocation(final WSFederationRegisteredService service) {
@@ -66,22 +93,120 @@ public class SecurityTokenServiceClientBuilder {
      */
     public SecurityTokenServiceClient buildClientForRelyingPartyTokenResponses(final SecurityToken securityToken,
                                                                                final WSFederationRegisteredService service) {
-        final var cxfBus = BusFactory.getDefaultBus();
-        final var sts = new SecurityTokenServiceClient(cxfBus);
-        sts.setAddressingNamespace(StringUtils.defaultIfBlank(service.getAddressingNamespace(), WSFederationConstants.HTTP_WWW_W3_ORG_2005_08_ADDRESSING));
-        sts.setWsdlLocation(prepareWsdlLocation(service));
+        final var key = buildPoolKey("relyingparty", service);
+        final var sts = borrow(key);
+        if (sts != null) {
+            sts.setOnBehalfOf(securityToken.getToken());
+            return sts;
+        }
+        final var client = newSecurityTokenServiceClient();
+        client.setAddressingNamespace(StringUtils.defaultIfBlank(service.getAddressingNamespace(), WSFederationConstants.HTTP_WWW_W3_ORG_2005_08_ADDRESSING));
+        client.setWsdlLocation(prepareWsdlLocation(service));
         final var namespace = StringUtils.defaultIfBlank(service.getNamespace(), WSFederationConstants.HTTP_DOCS_OASIS_OPEN_ORG_WS_SX_WS_TRUST_200512);
-        sts.setServiceQName(new QName(namespace, service.getWsdlService()));
-        sts.setEndpointQName(new QName(namespace, service.getWsdlEndpoint()));
-        sts.setEnableAppliesTo(StringUtils.isNotBlank(service.getAppliesTo()));
-        sts.setOnBehalfOf(securityToken.getToken());
-        sts.setKeyType(WSFederationConstants.HTTP_DOCS_OASIS_OPEN_ORG_WS_SX_WS_TRUST_200512_BEARER);
-        sts.setTokenType(StringUtils.defaultIfBlank(service.getTokenType(), WSConstants.WSS_SAML2_TOKEN_TYPE));
+        client.setServiceQName(new QName(namespace, service.getWsdlService()));
+        client.setEndpointQName(new QName(namespace, service.getWsdlEndpoint()));
+        client.setEnableAppliesTo(StringUtils.isNotBlank(service.getAppliesTo()));
+        client.setOnBehalfOf(securityToken.getToken());
+        client.setKeyType(WSFederationConstants.HTTP_DOCS_OASIS_OPEN_ORG_WS_SX_WS_TRUST_200512_BEARER);
+        client.setTokenType(StringUtils.defaultIfBlank(service.getTokenType(), WSConstants.WSS_SAML2_TOKEN_TYPE));
 
         if (StringUtils.isNotBlank(service.getPolicyNamespace())) {
-            sts.setWspNamespace(service.getPolicyNamespace());
+            client.setWspNamespace(service.getPolicyNamespace());
         }
 
-        return sts;
+        return lease(key, client);
+    }
+
+    /**
+     * Return a client obtained from this builder so it may be reused.
+     * Per-request state, such as credentials, claims and delegated tokens, is cleared.
+     *
+     * @param client the client
+     */
+    public void release(final SecurityTokenServiceClient client) {
+        if (client == null) {
+            return;
+        }
+        final var key = client.getPoolKey();
+        if (key == null) {
+            return;
+        }
+        client.setPoolKey(null);
+        client.getProperties().remove(SecurityConstants.USERNAME);
+        client.getProperties().remove(SecurityConstants.PASSWORD);
+        client.setClaims(null);
+        client.setOnBehalfOf(null);
+
+        final var pool = this.clientPools.get(key, k -> new ClientPool());
+        if (pool.offer(client, getClientPoolSize())) {
+            LOGGER.trace("Returned security token service client to pool [{}]", key);
+        }
+    }
+
+    private SecurityTokenServiceClient borrow(final String key) {
+        if (getClientPoolSize() <= 0) {
+            return null;
+        }
+        final var pool = this.clientPools.getIfPresent(key);
+        final var client = pool != null ? pool.poll() : null;
+        if (client != null) {
+            LOGGER.trace("Reusing security token service client from pool [{}]", key);
+            client.setPoolKey(key);
+        }
+        return client;
+    }
+
+    private SecurityTokenServiceClient lease(final String key, final SecurityTokenServiceClient client) {
+        if (getClientPoolSize() > 0) {
+            client.setPoolKey(key);
+        }
+        return client;
+    }
+
+    private int getClientPoolSize() {
+        return wsFederationProperties.getSts().getClientPoolSize();
+    }
+
+    private static SecurityTokenServiceClient newSecurityTokenServiceClient() {
+        final var cxfBus = BusFactory.getDefaultBus();
+        return new SecurityTokenServiceClient(cxfBus);
+    }
+
+    private static String buildPoolKey(final String type, final WSFederationRegisteredService service) {
+        return String.join("|", type,
+            String.valueOf(service.getId()),
+            StringUtils.defaultString(service.getWsdlLocation()),
+            StringUtils.defaultString(service.getNamespace()),
+            StringUtils.defaultString(service.getWsdlService()),
+            StringUtils.defaultString(service.getWsdlEndpoint()),
+            StringUtils.defaultString(service.getAddressingNamespace()),
+            StringUtils.defaultString(service.getPolicyNamespace()),
+            StringUtils.defaultString(service.getTokenType()),
+            String.valueOf(StringUtils.isNotBlank(service.getAppliesTo())));
+    }
+
+    /**
+     * Idle clients built for a single relying party configuration.
+     */
+    private static class ClientPool {
+        private final Queue<SecurityTokenServiceClient> clients = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        SecurityTokenServiceClient poll() {
+            final var client = clients.poll();
+            if (client != null) {
+                size.decrementAndGet();
+            }
+            return client;
+        }
+
+        boolean offer(final SecurityTokenServiceClient client, final int maxSize) {
+            if (size.incrementAndGet() > maxSize) {
+                size.decrementAndGet();
+                return false;
+            }
+            return clients.offer(client);
+        }
     }
 }
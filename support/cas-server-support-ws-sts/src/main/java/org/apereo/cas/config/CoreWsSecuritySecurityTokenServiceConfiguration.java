@@ -31,6 +31,7 @@ import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
 import org.apereo.cas.authentication.AuthenticationMetaDataPopulator;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionStrategy;
+import org.apereo.cas.authentication.EmbeddedSecurityTokenServiceIssuer;
 import org.apereo.cas.authentication.SecurityTokenServiceAuthenticationMetaDataPopulator;
 import org.apereo.cas.authentication.SecurityTokenServiceClientBuilder;
 import org.apereo.cas.configuration.CasConfigurationProperties;
@@ -291,6 +292,18 @@ public class CoreWsSecuritySecurityTokenServiceConfiguration {
             casProperties.getServer().getPrefix());
     }
 
+    @ConditionalOnMissingBean(name = "embeddedSecurityTokenServiceIssuer")
+    @Bean
+    @RefreshScope
+    public EmbeddedSecurityTokenServiceIssuer embeddedSecurityTokenServiceIssuer() {
+        final var realmName = casProperties.getAuthn().getWsfedIdp().getIdp().getRealmName();
+        final var endpoint = casProperties.getServer().getPrefix()
+            .concat(WSFederationConstants.ENDPOINT_STS)
+            .concat(realmName)
+            .concat("/STSServiceTransportUT");
+        return new EmbeddedSecurityTokenServiceIssuer(transportIssueDelegate(), endpoint);
+    }
+
     @ConditionalOnMissingBean(name = "securityTokenServiceAuthenticationMetaDataPopulator")
     @Bean
     @RefreshScope
@@ -11,6 +11,7 @@ import org.apereo.cas.configuration.model.core.monitor.MonitorProperties;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.web.security.authentication.LdapAuthenticationProvider;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
@@ -30,10 +31,19 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @RequiredArgsConstructor
-public class CasWebSecurityConfigurerAdapter extends WebSecurityConfigurerAdapter {
+public class CasWebSecurityConfigurerAdapter extends WebSecurityConfigurerAdapter implements DisposableBean {
     private final CasConfigurationProperties casProperties;
     private final SecurityProperties securityProperties;
 
+    private LdapAuthenticationProvider ldapAuthenticationProvider;
+
+    @Override
+    public void destroy() {
+        if (this.ldapAuthenticationProvider != null) {
+            this.ldapAuthenticationProvider.destroy();
+        }
+    }
+
     @Override
     protected void configure(final HttpSecurity http) throws Exception {
         final var requests = http.authorizeRequests();
@@ -93,8 +103,8 @@ public class CasWebSecurityConfigurerAdapter extends WebSecurityConfigurerAdapte
      */
     protected void configureLdapAuthenticationProvider(final AuthenticationManagerBuilder auth, final MonitorProperties.Endpoints.LdapSecurity ldap) {
         if (isLdapAuthorizationActive()) {
-            final var p = new LdapAuthenticationProvider(ldap, securityProperties);
-            auth.authenticationProvider(p);
+            this.ldapAuthenticationProvider = new LdapAuthenticationProvider(ldap, securityProperties);
+            auth.authenticationProvider(this.ldapAuthenticationProvider);
         }
     }
 
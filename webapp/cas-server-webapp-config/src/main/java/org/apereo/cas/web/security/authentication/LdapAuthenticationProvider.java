@@ -13,9 +13,11 @@ import org.ldaptive.ConnectionFactory;
 import org.ldaptive.ReturnAttributes;
 import org.ldaptive.SearchExecutor;
 import org.ldaptive.auth.AuthenticationRequest;
+import org.ldaptive.auth.Authenticator;
 import org.pac4j.core.authorization.authorizer.RequireAnyRoleAuthorizer;
 import org.pac4j.core.authorization.generator.AuthorizationGenerator;
 import org.pac4j.core.profile.CommonProfile;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -32,16 +34,33 @@ import java.util.stream.Collectors;
 
 /**
  * This is {@link LdapAuthenticationProvider}.
+ * The LDAP authenticator and connection factory are created on first use and are
+ * released when the provider is destroyed.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
 @Slf4j
 @RequiredArgsConstructor
-public class LdapAuthenticationProvider implements AuthenticationProvider {
+public class LdapAuthenticationProvider implements AuthenticationProvider, DisposableBean {
     private final MonitorProperties.Endpoints.LdapSecurity ldapProperties;
     private final SecurityProperties securityProperties;
 
+    private Authenticator authenticator;
+    private ConnectionFactory connectionFactory;
+
+    @Override
+    public synchronized void destroy() {
+        if (this.authenticator != null) {
+            LdapUtils.releaseLdaptiveAuthenticator(this.authenticator);
+            this.authenticator = null;
+        }
+        if (this.connectionFactory != null) {
+            LdapUtils.releaseLdaptiveConnectionFactory(this.connectionFactory);
+            this.connectionFactory = null;
+        }
+    }
+
     @Override
     public Authentication authenticate(final Authentication authentication) throws AuthenticationException {
         try {
@@ -52,10 +71,9 @@ public class LdapAuthenticationProvider implements AuthenticationProvider {
             LOGGER.debug("Preparing LDAP authentication request for user [{}]", username);
             final var request = new AuthenticationRequest(username,
                 new org.ldaptive.Credential(password), ReturnAttributes.ALL.value());
-            final var authenticator = LdapUtils.newLdaptiveAuthenticator(ldapProperties);
             LOGGER.debug("Executing LDAP authentication request for user [{}]", username);
 
-            final var response = authenticator.authenticate(request);
+            final var response = getAuthenticator().authenticate(request);
             LOGGER.debug("LDAP response: [{}]", response);
 
             if (response.getResult()) {
@@ -101,7 +119,7 @@ public class LdapAuthenticationProvider implements AuthenticationProvider {
 
     private AuthorizationGenerator<CommonProfile> buildAuthorizationGenerator() {
         final var ldapAuthz = this.ldapProperties.getLdapAuthz();
-        final ConnectionFactory connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(this.ldapProperties);
+        final var connectionFactory = getConnectionFactory();
 
         if (isGroupBasedAuthorization()) {
             LOGGER.debug("Handling LDAP authorization based on groups");
@@ -120,6 +138,20 @@ public class LdapAuthenticationProvider implements AuthenticationProvider {
             ldapAuthz.getRolePrefix());
     }
 
+    private synchronized Authenticator getAuthenticator() {
+        if (this.authenticator == null) {
+            this.authenticator = LdapUtils.newLdaptiveAuthenticator(this.ldapProperties);
+        }
+        return this.authenticator;
+    }
+
+    private synchronized ConnectionFactory getConnectionFactory() {
+        if (this.connectionFactory == null) {
+            this.connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(this.ldapProperties);
+        }
+        return this.connectionFactory;
+    }
+
     private boolean isGroupBasedAuthorization() {
         final var ldapAuthz = this.ldapProperties.getLdapAuthz();
         return StringUtils.isNotBlank(ldapAuthz.getGroupFilter()) && StringUtils.isNotBlank(ldapAuthz.getGroupAttribute());